@@ -0,0 +1,89 @@
+package com.ecommerce.benchmark;
+
+import com.ecommerce.type.ProductStatus;
+import com.ecommerce.utils.BitmapFilterIndex;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 비트맵 필터 색인의 조건 조합 조회와 facet 계산, 같은 조건의 선형 탐색 비교
+ * 실행 : ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BitmapFilterBenchmark {
+
+  private static final BigDecimal[] PRICE_BOUNDARIES = {
+      BigDecimal.valueOf(10000), BigDecimal.valueOf(30000), BigDecimal.valueOf(50000),
+      BigDecimal.valueOf(100000), BigDecimal.valueOf(300000)
+  };
+  private static final ProductStatus[] STATUSES = {
+      ProductStatus.IN_STOCK, ProductStatus.NO_STOCK, ProductStatus.DISABLE
+  };
+
+  @Param({"100000", "1000000"})
+  private int productCount;
+
+  private BitmapFilterIndex index;
+  private int[][] products;
+  private BitmapFilterIndex.Condition condition;
+
+  @Setup
+  public void setUp() {
+    Random random = new Random(42);
+    index = new BitmapFilterIndex(PRICE_BOUNDARIES);
+    products = new int[productCount][];
+
+    for (int id = 1; id <= productCount; id++) {
+      ProductStatus status = STATUSES[random.nextInt(STATUSES.length)];
+      int seller = random.nextInt(1000);
+      int price = (random.nextInt(5000) + 1) * 100;
+      int rating = random.nextInt(6);
+
+      index.put(id, status, "seller" + seller, BigDecimal.valueOf(price),
+          BigDecimal.valueOf(rating));
+      products[id - 1] = new int[]{status.ordinal(), seller, price, rating};
+    }
+
+    condition = new BitmapFilterIndex.Condition(
+        List.of(ProductStatus.IN_STOCK), null, List.of(1, 2), List.of(3, 4)
+    );
+  }
+
+  @Benchmark
+  public int bitmapFilter() {
+    return index.filter(condition).getCardinality();
+  }
+
+  @Benchmark
+  public BitmapFilterIndex.Facets bitmapFacets() {
+    return index.facets(condition);
+  }
+
+  @Benchmark
+  public int linearScan() {
+    int count = 0;
+
+    for (int[] product : products) {
+      if (product[0] == ProductStatus.IN_STOCK.ordinal()
+          && product[2] >= 10000 && product[2] < 50000
+          && product[3] >= 3) {
+        count++;
+      }
+    }
+
+    return count;
+  }
+
+}
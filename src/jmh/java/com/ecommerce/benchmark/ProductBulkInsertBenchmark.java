@@ -0,0 +1,85 @@
+package com.ecommerce.benchmark;
+
+import com.ecommerce.dto.product.ProductDto;
+import com.ecommerce.repository.product.ProductBulkRepository;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+/**
+ * 배치 크기별 상품 JDBC insert 처리량 (rows/s)
+ * Flyway 가 적용된 MySQL 과 판매자(member) 1건이 필요함
+ * 실행 : ./gradlew jmh -Pjmh.jvmArgsAppend="-Dbenchmark.jdbc-url=jdbc:mysql://localhost:3306/ecommerce
+ * -Dbenchmark.username=... -Dbenchmark.password=... -Dbenchmark.member-id=1"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ProductBulkInsertBenchmark {
+
+  private static final int ROWS = 10_000;
+
+  @Param({"1", "100", "1000"})
+  private int batchSize;
+
+  private JdbcTemplate jdbcTemplate;
+  private ProductBulkRepository productBulkRepository;
+  private Long memberId;
+  private List<ProductDto.Request> requests;
+
+  @Setup
+  public void setUp() {
+    DriverManagerDataSource dataSource = new DriverManagerDataSource(
+        System.getProperty("benchmark.jdbc-url") + "?rewriteBatchedStatements=true",
+        System.getProperty("benchmark.username"),
+        System.getProperty("benchmark.password")
+    );
+
+    jdbcTemplate = new JdbcTemplate(dataSource);
+    productBulkRepository = new ProductBulkRepository(jdbcTemplate);
+    memberId = Long.getLong("benchmark.member-id", 1L);
+
+    requests = new ArrayList<>(ROWS);
+    for (int i = 0; i < ROWS; i++) {
+      requests.add(ProductDto.Request.builder()
+          .productName("benchmark-" + i)
+          .description("일괄 등록 벤치마크 상품")
+          .stockQuantity(10)
+          .price(BigDecimal.valueOf(1000))
+          .build());
+    }
+  }
+
+  @TearDown(Level.Iteration)
+  public void cleanUp() {
+    jdbcTemplate.update("DELETE FROM Product WHERE product_name LIKE 'benchmark-%'");
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(ROWS)
+  public int insert() {
+    int inserted = 0;
+
+    for (int from = 0; from < ROWS; from += batchSize) {
+      List<ProductDto.Request> batch = requests.subList(from, Math.min(from + batchSize, ROWS));
+      inserted += productBulkRepository.insertAll(memberId, batch).size();
+    }
+
+    return inserted;
+  }
+
+}
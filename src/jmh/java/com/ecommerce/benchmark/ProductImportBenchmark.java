@@ -0,0 +1,94 @@
+package com.ecommerce.benchmark;
+
+import com.ecommerce.dto.product.ProductDto;
+import com.ecommerce.utils.ProductImportReader;
+import com.ecommerce.utils.ProductImportReader.Row;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 상품 일괄 등록 본문 파싱 + 검증 처리량 (rows/s)
+ * 실행 : ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ProductImportBenchmark {
+
+  private static final int ROWS = 10_000;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private Validator validator;
+
+  private String ndjson;
+  private String csv;
+
+  @Setup
+  public void setUp() {
+    validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    Random random = new Random(42);
+    StringBuilder ndjsonBuilder = new StringBuilder();
+    StringBuilder csvBuilder = new StringBuilder("productName,description,stockQuantity,price\n");
+
+    for (int i = 0; i < ROWS; i++) {
+      String name = "상품" + i;
+      String description = "일괄 등록 상품 설명 " + random.nextInt(1000);
+      int stockQuantity = random.nextInt(100) + 1;
+      int price = (random.nextInt(1000) + 1) * 100;
+
+      ndjsonBuilder.append("{\"productName\":\"").append(name)
+          .append("\",\"description\":\"").append(description)
+          .append("\",\"stockQuantity\":").append(stockQuantity)
+          .append(",\"price\":").append(price).append("}\n");
+      csvBuilder.append(name).append(',').append(description).append(',')
+          .append(stockQuantity).append(',').append(price).append('\n');
+    }
+
+    ndjson = ndjsonBuilder.toString();
+    csv = csvBuilder.toString();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(ROWS)
+  public int ndjson() throws IOException {
+    return readAll(ProductImportReader.NDJSON, ndjson);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(ROWS)
+  public int csv() throws IOException {
+    return readAll(ProductImportReader.CSV, csv);
+  }
+
+  private int readAll(String contentType, String body) throws IOException {
+    int valid = 0;
+
+    try (ProductImportReader reader =
+        ProductImportReader.of(contentType, new StringReader(body), objectMapper)) {
+      Row row;
+      while ((row = reader.next()) != null) {
+        ProductDto.Request request = row.getRequest();
+        if (request != null && validator.validate(request).isEmpty()) {
+          valid++;
+        }
+      }
+    }
+
+    return valid;
+  }
+
+}
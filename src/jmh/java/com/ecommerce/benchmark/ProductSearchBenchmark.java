@@ -0,0 +1,91 @@
+package com.ecommerce.benchmark;
+
+import com.ecommerce.utils.NgramInvertedIndex;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 역색인 검색과 LIKE '%검색어%' 와 같은 선형 탐색 비교
+ * 실행 : ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProductSearchBenchmark {
+
+  private static final String[] WORDS = {
+      "무선", "블루투스", "이어폰", "노트북", "거치대", "기계식", "키보드", "마우스", "게이밍",
+      "모니터", "usb", "충전기", "케이블", "스피커", "가방", "셔츠", "운동화", "텀블러"
+  };
+
+  @Param({"10000", "100000"})
+  private int productCount;
+
+  @Param({"키보드", "무선 이어폰", "usb 충전기"})
+  private String query;
+
+  private NgramInvertedIndex index;
+  private List<String[]> products;
+
+  @Setup
+  public void setUp() {
+    Random random = new Random(42);
+    index = new NgramInvertedIndex();
+    products = new ArrayList<>(productCount);
+
+    for (long id = 1; id <= productCount; id++) {
+      String name = randomText(random, 3);
+      String description = randomText(random, 12);
+
+      index.put(id, name, description);
+      products.add(new String[]{name, description});
+    }
+  }
+
+  @Benchmark
+  public int invertedIndex() {
+    return index.search(query).size();
+  }
+
+  @Benchmark
+  public int linearScan() {
+    String[] terms = NgramInvertedIndex.normalize(query).split(" ");
+    int count = 0;
+
+    for (String[] product : products) {
+      String text = NgramInvertedIndex.normalize(product[0] + " " + product[1]);
+
+      boolean matched = true;
+      for (String term : terms) {
+        if (!text.contains(term)) {
+          matched = false;
+          break;
+        }
+      }
+      if (matched) {
+        count++;
+      }
+    }
+
+    return count;
+  }
+
+  private static String randomText(Random random, int wordCount) {
+    StringBuilder text = new StringBuilder();
+    for (int i = 0; i < wordCount; i++) {
+      text.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+    }
+    return text.toString().trim();
+  }
+
+}
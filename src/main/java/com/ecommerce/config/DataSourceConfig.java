@@ -0,0 +1,83 @@
+package com.ecommerce.config;
+
+import com.ecommerce.config.ReplicaDataSourceProperties.Replica;
+import com.zaxxer.hikari.HikariDataSource;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.boot.autoconfigure.flyway.FlywayDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+/**
+ * primary / 읽기 전용 복제본 DataSource 설정
+ * 애플리케이션은 LazyConnectionDataSourceProxy -> ReplicaRoutingDataSource 를 사용하고,
+ * Flyway 마이그레이션은 primary 에 직접 연결
+ */
+@Configuration
+public class DataSourceConfig {
+
+  @Bean
+  @FlywayDataSource
+  @ConfigurationProperties("spring.datasource.hikari")
+  public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+    HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+        .type(HikariDataSource.class)
+        .build();
+    dataSource.setPoolName("primary");
+    return dataSource;
+  }
+
+  @Bean
+  public ReplicaRoutingDataSource replicaRoutingDataSource(
+      HikariDataSource primaryDataSource, DataSourceProperties dataSourceProperties,
+      ReplicaDataSourceProperties replicaProperties
+  ) {
+    Map<String, DataSource> replicas = new LinkedHashMap<>();
+    List<Replica> configured = replicaProperties.getReplicas();
+    for (int i = 0; i < configured.size(); i++) {
+      Replica replica = configured.get(i);
+      String name = StringUtils.hasText(replica.getName()) ? replica.getName() : "replica-" + i;
+      replicas.put(name, replicaDataSource(name, replica, dataSourceProperties));
+    }
+
+    return new ReplicaRoutingDataSource(
+        primaryDataSource, replicas,
+        Duration.ofSeconds(replicaProperties.getReadYourWritesSeconds()),
+        replicaProperties.getReadYourWritesMaximumSize()
+    );
+  }
+
+  @Bean
+  @Primary
+  public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+    return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+  }
+
+  private static HikariDataSource replicaDataSource(
+      String name, Replica replica, DataSourceProperties dataSourceProperties
+  ) {
+    HikariDataSource dataSource = new HikariDataSource();
+    dataSource.setPoolName(name);
+    dataSource.setDriverClassName(dataSourceProperties.determineDriverClassName());
+    dataSource.setJdbcUrl(replica.getUrl());
+    dataSource.setUsername(StringUtils.hasText(replica.getUsername())
+        ? replica.getUsername() : dataSourceProperties.determineUsername());
+    dataSource.setPassword(StringUtils.hasText(replica.getPassword())
+        ? replica.getPassword() : dataSourceProperties.determinePassword());
+    dataSource.setMaximumPoolSize(replica.getMaximumPoolSize());
+    dataSource.setConnectionTimeout(replica.getConnectionTimeoutMs());
+    dataSource.setReadOnly(true);
+    // 복제본이 내려가 있어도 애플리케이션은 시작 (상태 확인에서 제외됨)
+    dataSource.setInitializationFailTimeout(-1);
+    return dataSource;
+  }
+
+}
@@ -0,0 +1,25 @@
+package com.ecommerce.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+@Configuration
+public class PasswordEncoderConfig {
+
+  /**
+   * 사용자 비밀번호 암호화를 위한 인코더 설정
+   * (strength 를 올리면 기존 비밀번호는 로그인 성공시 새 strength 로 다시 암호화)
+   *
+   * @param strength
+   * @return PasswordEncoder
+   */
+  @Bean
+  public PasswordEncoder passwordEncoder(
+      @Value("${app.security.bcrypt.strength}") int strength) {
+    return new BCryptPasswordEncoder(strength);
+  }
+
+}
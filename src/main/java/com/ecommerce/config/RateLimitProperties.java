@@ -0,0 +1,70 @@
+package com.ecommerce.config;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * 경로별 요청 제한 설정 (app.rate-limit)
+ * 충전 속도가 0 이하이면 버킷이 다시 차지 않거나 재시도 시간 계산이 0 으로 나뉘므로 기동시 검증
+ */
+@Getter
+@Setter
+@Component
+@Validated
+@ConfigurationProperties(prefix = "app.rate-limit")
+public class RateLimitProperties {
+
+  private boolean enabled = true;
+
+  // Redis 응답이 이 시간을 넘기면 노드 로컬 버킷으로 판단
+  @Positive
+  private long redisTimeoutMs = 50;
+
+  @Positive
+  private int redisThreads = 8;
+
+  @Positive
+  private int localMaximumSize = 100000;
+
+  // 사용자 ID 를 꺼내기 위해 미리 읽는 본문의 최대 크기, 넘으면 413
+  @Positive
+  private int maxBodyBytes = 4096;
+
+  private Map<String, @Valid Route> routes = new LinkedHashMap<>();
+
+  @Getter
+  @Setter
+  public static class Route {
+
+    @NotBlank
+    private String path;
+
+    @Valid
+    private Limit ip;
+
+    @Valid
+    private Limit member;
+
+  }
+
+  @Getter
+  @Setter
+  public static class Limit {
+
+    @Positive
+    private long capacity;
+
+    @Positive
+    private double refillPerSecond;
+
+  }
+
+}
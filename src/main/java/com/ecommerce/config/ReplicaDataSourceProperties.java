@@ -0,0 +1,51 @@
+package com.ecommerce.config;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 읽기 전용 복제본 설정 (app.datasource)
+ * 복제본이 없으면 모든 트랜잭션이 primary(spring.datasource) 사용
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.datasource")
+public class ReplicaDataSourceProperties {
+
+  private List<Replica> replicas = new ArrayList<>();
+
+  // 복제 지연이 이 시간을 넘으면 복제본을 제외하고 primary 사용
+  private long maxLagSeconds = 5;
+
+  private long healthCheckIntervalMs = 5000;
+
+  // 쓰기 트랜잭션 이후 같은 스레드/사용자의 읽기를 primary 로 보내는 시간
+  private long readYourWritesSeconds = 10;
+
+  private int readYourWritesMaximumSize = 100000;
+
+  @Getter
+  @Setter
+  public static class Replica {
+
+    private String name;
+
+    private String url;
+
+    private String username;
+
+    private String password;
+
+    private int maximumPoolSize = 10;
+
+    // 내려간 복제본 때문에 상태 확인이 오래 막히지 않도록 짧게 설정
+    private long connectionTimeoutMs = 3000;
+
+  }
+
+}
@@ -0,0 +1,105 @@
+package com.ecommerce.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 복제본 상태 확인
+ * 접속 실패, 복제 중단(지연 값 없음), 지연이 max-lag-seconds 초과면 비정상으로 표시하여 primary 로 대체
+ * 복제 정보가 없는 인스턴스(복제 설정 전의 로컬 인스턴스 등)는 지연 0 으로 판단
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReplicaHealthChecker {
+
+  private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+
+  private final ReplicaRoutingDataSource routingDataSource;
+
+  private final ReplicaDataSourceProperties properties;
+
+  private final MeterRegistry meterRegistry;
+
+  // 마지막으로 확인한 복제 지연 (초, 확인 실패시 -1)
+  private final Map<String, Long> lags = new ConcurrentHashMap<>();
+
+  @PostConstruct
+  public void init() {
+    routingDataSource.getReplicas().keySet().forEach(key -> {
+      lags.put(key, -1L);
+      Gauge.builder("datasource.replica.lag", lags, map -> map.getOrDefault(key, -1L))
+          .description("복제본 복제 지연 (확인 실패시 -1)")
+          .baseUnit("seconds")
+          .tag("replica", key)
+          .register(meterRegistry);
+      Gauge.builder("datasource.replica.healthy", routingDataSource,
+              dataSource -> dataSource.isHealthy(key) ? 1 : 0)
+          .description("복제본 사용 가능 여부")
+          .tag("replica", key)
+          .register(meterRegistry);
+    });
+  }
+
+  @Scheduled(fixedDelayString = "${app.datasource.health-check-interval-ms}")
+  public void check() {
+    routingDataSource.getReplicas().forEach((key, dataSource) -> {
+      long lag = lagSeconds(key, dataSource);
+      lags.put(key, lag);
+      routingDataSource.setHealthy(key, lag >= 0 && lag <= properties.getMaxLagSeconds());
+    });
+  }
+
+  /**
+   * 복제 지연 조회
+   *
+   * @param key
+   * @param dataSource
+   * @return long (접속 실패, 복제 중단이면 -1)
+   */
+  private long lagSeconds(String key, DataSource dataSource) {
+    try (Connection connection = dataSource.getConnection()) {
+      if (!connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+        return -1;
+      }
+
+      try (Statement statement = connection.createStatement()) {
+        statement.setQueryTimeout(VALIDATION_TIMEOUT_SECONDS);
+        try {
+          return lagSeconds(statement, "SHOW REPLICA STATUS", "Seconds_Behind_Source");
+        } catch (SQLException e) {
+          // MySQL 8.0.22 이전 버전
+          return lagSeconds(statement, "SHOW SLAVE STATUS", "Seconds_Behind_Master");
+        }
+      }
+    } catch (SQLException e) {
+      log.warn("Replica {} health check failed: {}", key, e.getMessage());
+      return -1;
+    }
+  }
+
+  private static long lagSeconds(Statement statement, String sql, String column)
+      throws SQLException {
+    try (ResultSet resultSet = statement.executeQuery(sql)) {
+      if (!resultSet.next()) {
+        return 0;
+      }
+
+      long lag = resultSet.getLong(column);
+      return resultSet.wasNull() ? -1 : lag;
+    }
+  }
+
+}
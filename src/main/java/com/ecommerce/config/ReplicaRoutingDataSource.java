@@ -0,0 +1,198 @@
+package com.ecommerce.config;
+
+import com.ecommerce.security.MemberPrincipal;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.zaxxer.hikari.HikariDataSource;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 읽기 전용 트랜잭션을 정상 상태의 복제본으로 보내는 라우팅 DataSource
+ * 쓰기 트랜잭션, 트랜잭션 밖의 조회, 정상 복제본이 없을 때, 최근에 쓰기를 한 스레드/사용자(read-your-writes)는 primary 사용
+ * 트랜잭션의 readOnly 여부가 정해진 뒤 커넥션을 얻도록 LazyConnectionDataSourceProxy 로 감싸서 사용
+ * 캐시를 채우는 조회는 onPrimary 로 감싸 복제 지연으로 이전 값이 새 버전의 캐시에 저장되지 않도록 함
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+  public static final String PRIMARY = "primary";
+
+  private final Map<String, DataSource> replicas;
+  private final List<String> replicaKeys;
+  private final Map<String, Boolean> healthy = new ConcurrentHashMap<>();
+  private final AtomicInteger counter = new AtomicInteger();
+
+  private final long readYourWritesMillis;
+
+  // 같은 요청에서 쓰기 이후 읽기를 primary 로 보내는 만료 시각
+  // 요청 스레드는 풀에서 재사용되므로 ReadYourWritesFilter 가 요청이 끝날 때 삭제
+  private final ThreadLocal<Long> pinnedUntil = new ThreadLocal<>();
+
+  // onPrimary 실행 중인 스레드 (쓰기가 아니므로 read-your-writes 고정은 남기지 않음)
+  private final ThreadLocal<Boolean> primaryScope = new ThreadLocal<>();
+
+  // 최근에 쓰기를 한 사용자 (노드 로컬, 다른 노드에서의 쓰기는 복제 지연 허용치 안에서 반영)
+  private final Cache<String, Boolean> recentWriters;
+
+  public ReplicaRoutingDataSource(
+      DataSource primary, Map<String, DataSource> replicas, Duration readYourWrites,
+      int readYourWritesMaximumSize
+  ) {
+    this.replicas = new LinkedHashMap<>(replicas);
+    this.replicaKeys = List.copyOf(replicas.keySet());
+    this.readYourWritesMillis = readYourWrites.toMillis();
+    this.recentWriters = Caffeine.newBuilder()
+        .maximumSize(readYourWritesMaximumSize)
+        .expireAfterWrite(readYourWrites)
+        .build();
+
+    Map<Object, Object> targets = new HashMap<>(replicas);
+    targets.put(PRIMARY, primary);
+    setTargetDataSources(targets);
+    setDefaultTargetDataSource(primary);
+
+    // 첫 상태 확인 전까지는 primary 사용
+    replicaKeys.forEach(key -> healthy.put(key, false));
+  }
+
+  @Override
+  protected Object determineCurrentLookupKey() {
+    if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+      return PRIMARY;
+    }
+
+    if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+      markWrite();
+      return PRIMARY;
+    }
+
+    if (replicaKeys.isEmpty() || primaryScope.get() != null || isPinnedToPrimary()) {
+      return PRIMARY;
+    }
+
+    return nextHealthyReplica();
+  }
+
+  /**
+   * 복제본 상태 변경
+   *
+   * @param key
+   * @param up
+   */
+  public void setHealthy(String key, boolean up) {
+    Boolean previous = healthy.put(key, up);
+    if (previous != null && previous != up) {
+      log.warn("Replica {} is now {}", key, up ? "UP" : "DOWN");
+    }
+  }
+
+  /**
+   * 읽기 전용 트랜잭션이라도 reader 안에서 얻는 커넥션은 primary 사용
+   * 캐시 버전을 읽은 뒤 채우는 조회가 지연된 복제본의 이전 값을 읽으면 버전 확인을 통과해 저장되므로
+   * 캐시를 채우는 조회에 사용 (LazyConnectionDataSourceProxy 로 첫 SQL 실행 시점에 라우팅되므로
+   * 트랜잭션이 reader 밖에서 시작되었어도 reader 안의 첫 조회부터 적용)
+   *
+   * @param reader
+   * @return T
+   */
+  public <T> T onPrimary(Supplier<T> reader) {
+    Boolean previous = primaryScope.get();
+    primaryScope.set(Boolean.TRUE);
+    try {
+      return reader.get();
+    } finally {
+      if (previous == null) {
+        primaryScope.remove();
+      }
+    }
+  }
+
+  /**
+   * 현재 스레드의 read-your-writes 고정 해제 (요청 종료시 호출, 사용자 단위 고정은 유지)
+   */
+  public void clearPin() {
+    pinnedUntil.remove();
+  }
+
+  public boolean isHealthy(String key) {
+    return healthy.getOrDefault(key, false);
+  }
+
+  public Map<String, DataSource> getReplicas() {
+    return replicas;
+  }
+
+  /**
+   * 복제본 커넥션 풀 종료 (primary 는 별도 빈으로 관리)
+   */
+  public void close() {
+    replicas.values().forEach(dataSource -> {
+      if (dataSource instanceof HikariDataSource hikariDataSource) {
+        hikariDataSource.close();
+      }
+    });
+  }
+
+  /**
+   * 정상 복제본을 라운드 로빈으로 선택 (모두 비정상이면 primary)
+   */
+  private String nextHealthyReplica() {
+    int start = Math.floorMod(counter.getAndIncrement(), replicaKeys.size());
+    for (int i = 0; i < replicaKeys.size(); i++) {
+      String key = replicaKeys.get((start + i) % replicaKeys.size());
+      if (isHealthy(key)) {
+        return key;
+      }
+    }
+    return PRIMARY;
+  }
+
+  private void markWrite() {
+    if (replicaKeys.isEmpty()) {
+      return;
+    }
+
+    pinnedUntil.set(System.currentTimeMillis() + readYourWritesMillis);
+
+    String memberId = currentMemberId();
+    if (memberId != null) {
+      recentWriters.put(memberId, Boolean.TRUE);
+    }
+  }
+
+  private boolean isPinnedToPrimary() {
+    Long until = pinnedUntil.get();
+    if (until != null) {
+      if (until > System.currentTimeMillis()) {
+        return true;
+      }
+      pinnedUntil.remove();
+    }
+
+    String memberId = currentMemberId();
+    return memberId != null && recentWriters.getIfPresent(memberId) != null;
+  }
+
+  private static String currentMemberId() {
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    if (authentication != null
+        && authentication.getPrincipal() instanceof MemberPrincipal principal) {
+      return principal.memberId();
+    }
+    return null;
+  }
+
+}
@@ -2,6 +2,7 @@ package com.ecommerce.config;
 
 import com.ecommerce.dto.ResponseDto;
 import com.ecommerce.filter.JwtAuthenticationFilter;
+import com.ecommerce.filter.RateLimitFilter;
 import com.ecommerce.type.ResponseCode;
 import com.ecommerce.utils.OAuth2SuccessHandler;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -20,8 +21,6 @@ import org.springframework.security.config.annotation.web.configurers.CsrfConfig
 import org.springframework.security.config.annotation.web.configurers.HttpBasicConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.AuthenticationException;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.oauth2.client.userinfo.DefaultOAuth2UserService;
 import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.security.web.SecurityFilterChain;
@@ -39,6 +38,7 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 public class SecurityConfig {
 
   private final JwtAuthenticationFilter jwtAuthenticationFilter;
+  private final RateLimitFilter rateLimitFilter;
   private final FailedAuthenticationEntryPoint failedAuthenticationEntryPoint;
   private final DefaultOAuth2UserService oAuth2UserService;
   private final OAuth2SuccessHandler oAuth2SuccessHandler;
@@ -67,9 +67,11 @@ public class SecurityConfig {
                 "/",
                 "/api/v1/auth/id-check",
                 "/api/v1/auth/email-certification",
+                "/api/v1/auth/email-certification/*",
                 "/api/v1/auth/check-certification",
                 "/api/v1/auth/sign-up",
                 "/api/v1/auth/sign-in",
+                "/api/v1/auth/refresh",
                 "/oauth2/**"
             )
             .permitAll()
@@ -84,7 +86,8 @@ public class SecurityConfig {
         .exceptionHandling(exceptionHandling -> exceptionHandling
             .authenticationEntryPoint(failedAuthenticationEntryPoint)
         )
-        .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+        .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+        .addFilterBefore(rateLimitFilter, JwtAuthenticationFilter.class);
 
     return httpSecurity.build();
 
@@ -109,16 +112,6 @@ public class SecurityConfig {
     return source;
   }
 
-  /**
-   * 사용자 비밀번호 암호화를 위한 인코더 설정
-   *
-   * @return PasswordEncoder
-   */
-  @Bean
-  public PasswordEncoder passwordEncoder() {
-    return new BCryptPasswordEncoder();
-  }
-
 }
 
 @Component
@@ -4,6 +4,7 @@ import com.ecommerce.dto.ResponseDto;
 import com.ecommerce.dto.auth.CheckCertificationDto;
 import com.ecommerce.dto.auth.EmailCertificationDto;
 import com.ecommerce.dto.auth.IdDuplicateCheckDto;
+import com.ecommerce.dto.auth.RefreshTokenDto;
 import com.ecommerce.dto.auth.SignInDto;
 import com.ecommerce.dto.auth.SignUpDto;
 import com.ecommerce.dto.member.MemberDto;
@@ -12,6 +13,7 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -54,6 +56,20 @@ public class AuthController {
         .body(authService.emailCertification(request));
   }
 
+  /**
+   * 이메일 인증 전송 상태 조회
+   *
+   * @param memberId
+   * @return ResponseEntity<ResponseDto>
+   */
+  @GetMapping("/email-certification/{memberId}")
+  public ResponseEntity<ResponseDto> emailCertificationStatus(
+      @PathVariable String memberId
+  ) {
+    return ResponseEntity.status(HttpStatus.OK)
+        .body(authService.getEmailCertificationStatus(memberId));
+  }
+
   /**
    * 인증번호 확인
    *
@@ -95,6 +111,19 @@ public class AuthController {
     return ResponseEntity.status(HttpStatus.OK).body(authService.signIn(requestBody));
   }
 
+  /**
+   * 액세스 토큰 재발급
+   *
+   * @param request
+   * @return ResponseEntity<SignInDto.Response>
+   */
+  @PostMapping("/refresh")
+  public ResponseEntity<SignInDto.Response> refresh(
+      @RequestBody @Valid RefreshTokenDto.Request request
+  ) {
+    return ResponseEntity.status(HttpStatus.OK).body(authService.refresh(request));
+  }
+
   /**
    * 로그아웃
    *
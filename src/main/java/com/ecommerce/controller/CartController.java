@@ -62,6 +62,7 @@ public class CartController {
 
   /**
    * 장바구니 상품 수량 수정
+   * (app.cart.store = REDIS 이면 cartItemId 자리에 상품 id 사용)
    *
    * @param memberId
    * @param cartItemId
@@ -81,6 +82,7 @@ public class CartController {
 
   /**
    * 장바구니 상품 삭제
+   * (app.cart.store = REDIS 이면 cartItemId 자리에 상품 id 사용)
    *
    * @param memberId
    * @param cartItemId
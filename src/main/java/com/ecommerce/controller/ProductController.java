@@ -1,17 +1,33 @@
 package com.ecommerce.controller;
 
+import com.ecommerce.dto.CursorPageDto;
 import com.ecommerce.dto.ResponseDto;
+import com.ecommerce.dto.SliceDto;
+import com.ecommerce.dto.product.BulkUpdateProductDto;
 import com.ecommerce.dto.product.ProductDto;
+import com.ecommerce.dto.product.ProductFilterDto;
+import com.ecommerce.dto.product.ProductImportDto;
 import com.ecommerce.dto.product.UpdateProductDto;
+import com.ecommerce.service.product.ProductExportService;
+import com.ecommerce.service.product.ProductImportService;
 import com.ecommerce.service.product.ProductService;
+import com.ecommerce.type.ExportFormat;
 import com.ecommerce.type.ProductStatus;
 import com.ecommerce.type.SortType;
+import com.ecommerce.utils.ProductImportReader;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
@@ -20,6 +36,7 @@ import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/v1/products")
@@ -27,6 +44,8 @@ import org.springframework.web.bind.annotation.RestController;
 public class ProductController {
 
   private final ProductService productService;
+  private final ProductImportService productImportService;
+  private final ProductExportService productExportService;
 
   @PreAuthorize("hasRole('ROLE_SELLER')")
   @PostMapping("/seller/{memberId}")
@@ -40,15 +59,67 @@ public class ProductController {
 
   }
 
+  @PreAuthorize("hasRole('ROLE_SELLER')")
+  @PostMapping(
+      value = "/seller/{memberId}/import",
+      consumes = {ProductImportReader.NDJSON, ProductImportReader.CSV}
+  )
+  public ProductImportDto.Response importProducts(
+      @PathVariable String memberId,
+      @RequestHeader("Authorization") String token,
+      @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+      HttpServletRequest request
+  ) throws IOException {
+
+    return productImportService
+        .importProducts(memberId, token, contentType, request.getInputStream());
+
+  }
+
+  @PreAuthorize("hasRole('ROLE_SELLER')")
+  @GetMapping("/seller/{memberId}/export")
+  public ResponseEntity<StreamingResponseBody> exportProducts(
+      @PathVariable String memberId,
+      @RequestHeader("Authorization") String token,
+      @RequestParam(required = false, defaultValue = "CSV") ExportFormat format
+  ) {
+
+    StreamingResponseBody body = productExportService.exportProducts(memberId, token, format);
+
+    return ResponseEntity.ok()
+        .contentType(MediaType.parseMediaType(format.getContentType()))
+        .header(HttpHeaders.CONTENT_DISPOSITION,
+            "attachment; filename=\"products-" + memberId + "." + format.getExtension() + "\"")
+        .body(body);
+
+  }
+
   @GetMapping
-  public Page<ProductDto.Response> getProductList(
+  public ResponseEntity<byte[]> getProductList(
       @RequestParam(required = false, defaultValue = "1") Integer page,
       @RequestParam(required = false, defaultValue = "") String search,
       @RequestParam(required = false, defaultValue = "NONE") ProductStatus status,
       @RequestParam(required = false, defaultValue = "LATEST") SortType sortType
   ) {
 
-    return productService.getProductList(page, search, status, sortType);
+    return ResponseEntity.ok()
+        .contentType(MediaType.APPLICATION_JSON)
+        .body(productService.getProductListJson(page, search, status, sortType));
+
+  }
+
+  @GetMapping("/filter")
+  public ProductFilterDto.Response getProductListByFilter(
+      @RequestParam(required = false, defaultValue = "1") Integer page,
+      @RequestParam(required = false) List<ProductStatus> status,
+      @RequestParam(required = false) String seller,
+      @RequestParam(required = false) List<Integer> priceBand,
+      @RequestParam(required = false) List<Integer> ratingBand,
+      @RequestParam(required = false, defaultValue = "LATEST") SortType sortType
+  ) {
+
+    return productService
+        .getProductListByFilter(page, status, seller, priceBand, ratingBand, sortType);
 
   }
 
@@ -65,6 +136,60 @@ public class ProductController {
 
   }
 
+  @GetMapping("/slice")
+  public SliceDto<ProductDto.Response> getProductSlice(
+      @RequestParam(required = false, defaultValue = "1") Integer page,
+      @RequestParam(required = false, defaultValue = "") String search,
+      @RequestParam(required = false, defaultValue = "NONE") ProductStatus status,
+      @RequestParam(required = false, defaultValue = "LATEST") SortType sortType,
+      @RequestParam(required = false, defaultValue = "false") boolean withTotal
+  ) {
+
+    return productService.getProductSlice(page, search, status, sortType, withTotal);
+
+  }
+
+  @GetMapping("/seller/{memberId}/slice")
+  public SliceDto<ProductDto.Response> getProductSliceByMemberId(
+      @PathVariable String memberId,
+      @RequestParam(required = false, defaultValue = "1") Integer page,
+      @RequestParam(required = false, defaultValue = "") String search,
+      @RequestParam(required = false, defaultValue = "NONE") ProductStatus status,
+      @RequestParam(required = false, defaultValue = "LATEST") SortType sortType,
+      @RequestParam(required = false, defaultValue = "false") boolean withTotal
+  ) {
+
+    return productService
+        .getProductSliceByMemberId(memberId, page, search, status, sortType, withTotal);
+
+  }
+
+  @GetMapping("/cursor")
+  public CursorPageDto<ProductDto.Response> getProductListByCursor(
+      @RequestParam(required = false) String cursor,
+      @RequestParam(required = false, defaultValue = "") String search,
+      @RequestParam(required = false, defaultValue = "NONE") ProductStatus status,
+      @RequestParam(required = false, defaultValue = "LATEST") SortType sortType
+  ) {
+
+    return productService.getProductListByCursor(cursor, search, status, sortType);
+
+  }
+
+  @GetMapping("/seller/{memberId}/cursor")
+  public CursorPageDto<ProductDto.Response> getProductListByMemberIdAndCursor(
+      @PathVariable String memberId,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(required = false, defaultValue = "") String search,
+      @RequestParam(required = false, defaultValue = "NONE") ProductStatus status,
+      @RequestParam(required = false, defaultValue = "LATEST") SortType sortType
+  ) {
+
+    return productService
+        .getProductListByMemberIdAndCursor(memberId, cursor, search, status, sortType);
+
+  }
+
   @GetMapping("/{productId}")
   public ProductDto.Response getProductDetails(@PathVariable Long productId) {
 
@@ -84,6 +209,18 @@ public class ProductController {
 
   }
 
+  @PreAuthorize("hasRole('ROLE_SELLER')")
+  @PatchMapping("/seller/{memberId}/bulk")
+  public BulkUpdateProductDto.Response updateProducts(
+      @PathVariable String memberId,
+      @RequestHeader("Authorization") String token,
+      @RequestBody @Valid BulkUpdateProductDto.Request request
+  ) {
+
+    return productService.updateProducts(memberId, token, request);
+
+  }
+
   @PreAuthorize("hasRole('ROLE_SELLER')")
   @DeleteMapping("/{productId}")
   public ResponseDto deleteProduct(
@@ -1,5 +1,6 @@
 package com.ecommerce.controller;
 
+import com.ecommerce.dto.CursorPageDto;
 import com.ecommerce.dto.ResponseDto;
 import com.ecommerce.dto.review.ReviewDto;
 import com.ecommerce.dto.review.UpdateReviewDto;
@@ -116,6 +117,23 @@ public class ReviewController {
     return reviewService.getReviewsByProduct(productId, page, sortType);
   }
 
+  /**
+   * 특정 상품에 대한 리뷰 목록 커서 기반 조회
+   *
+   * @param productId
+   * @param cursor
+   * @param sortType
+   * @return CursorPageDto<ReviewDto.Response>
+   */
+  @GetMapping("/products/{productId}/cursor")
+  public CursorPageDto<ReviewDto.Response> getReviewsByProductAndCursor(
+      @PathVariable Long productId,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(required = false, defaultValue = "LATEST") SortType sortType
+  ) {
+    return reviewService.getReviewsByProductAndCursor(productId, cursor, sortType);
+  }
+
   /**
    * 특정 회원이 작성한 리뷰 목록 조회
    *
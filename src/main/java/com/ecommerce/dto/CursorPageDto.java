@@ -0,0 +1,21 @@
+package com.ecommerce.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 커서 기반 페이지 응답 (다음 페이지는 nextCursor 로 요청, 전체 개수는 조회하지 않음)
+ */
+@Getter
+@AllArgsConstructor
+@Builder
+public class CursorPageDto<T> {
+
+  private List<T> content;
+  private int size;
+  private boolean hasNext;
+  private String nextCursor;
+
+}
@@ -0,0 +1,23 @@
+package com.ecommerce.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * COUNT 쿼리 없는 페이지 응답 (size + 1 건을 조회하여 다음 페이지 존재 여부 확인)
+ * totalElements 는 요청한 경우에만 캐시된 근사치로 채움
+ */
+@Getter
+@AllArgsConstructor
+@Builder
+public class SliceDto<T> {
+
+  private List<T> content;
+  private int page;
+  private int size;
+  private boolean hasNext;
+  private Long totalElements;
+
+}
@@ -33,6 +33,8 @@ public class SignInDto {
 
     private String token;
 
+    private String refreshToken;
+
   }
 
 }
@@ -1,5 +1,6 @@
 package com.ecommerce.dto.cart;
 
+import com.ecommerce.dto.product.ProductDto;
 import com.ecommerce.entity.CartItem;
 import com.ecommerce.type.ProductStatus;
 import jakarta.validation.constraints.Min;
@@ -64,6 +65,24 @@ public class CartItemDto {
           .build();
     }
 
+    /**
+     * Redis 장바구니 상품 응답 (장바구니 상품 id 대신 상품 id 사용)
+     *
+     * @param product
+     * @param quantity
+     * @return Response
+     */
+    public static Response fromProduct(ProductDto.Response product, int quantity) {
+      return Response.builder()
+          .id(product.getId())
+          .productId(product.getId())
+          .productName(product.getProductName())
+          .quantity(quantity)
+          .price(BigDecimal.valueOf(quantity).multiply(product.getPrice()))
+          .status(product.getStatus())
+          .build();
+    }
+
   }
 
 }
@@ -0,0 +1,19 @@
+package com.ecommerce.dto.cart;
+
+import java.math.BigDecimal;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 장바구니 한 줄 (상품 id, 수량, 담을 때의 가격)
+ * Redis 장바구니 해시와 CartItem 사이의 변환용
+ */
+@Getter
+@AllArgsConstructor
+public class CartLineDto {
+
+  private final Long productId;
+  private final Integer quantity;
+  private final BigDecimal price;
+
+}
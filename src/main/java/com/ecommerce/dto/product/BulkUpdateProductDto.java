@@ -0,0 +1,64 @@
+package com.ecommerce.dto.product;
+
+import com.ecommerce.type.ProductStatus;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.math.BigDecimal;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+public class BulkUpdateProductDto {
+
+  @Getter
+  @Setter
+  @NoArgsConstructor
+  @AllArgsConstructor
+  @Builder
+  public static class Request {
+
+    @NotEmpty
+    @Size(max = 1000)
+    private List<@Valid Item> items;
+
+  }
+
+  /**
+   * 변경할 상품 (값이 없는 항목은 기존 값 유지)
+   */
+  @Getter
+  @Setter
+  @NoArgsConstructor
+  @AllArgsConstructor
+  @Builder
+  public static class Item {
+
+    @NotNull
+    private Long productId;
+
+    @DecimalMin(value = "0.0", inclusive = false)
+    private BigDecimal price;
+
+    @Min(value = 0)
+    private Integer stockQuantity;
+
+    private ProductStatus status;
+
+  }
+
+  @Getter
+  @AllArgsConstructor
+  public static class Response {
+
+    private int updatedCount;
+
+  }
+
+}
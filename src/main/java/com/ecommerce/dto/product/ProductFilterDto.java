@@ -0,0 +1,54 @@
+package com.ecommerce.dto.product;
+
+import com.ecommerce.type.ProductStatus;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+public class ProductFilterDto {
+
+  @Getter
+  @AllArgsConstructor
+  @Builder
+  public static class Response {
+
+    private List<ProductDto.Response> content;
+    private int page;
+    private int size;
+    private long totalElements;
+    private boolean hasNext;
+    private Facets facets;
+
+  }
+
+  /**
+   * 조건별 상품 수 (각 조건의 개수는 나머지 조건만 적용한 기준)
+   */
+  @Getter
+  @AllArgsConstructor
+  public static class Facets {
+
+    private Map<ProductStatus, Long> status;
+    private List<Bucket> priceBands;
+    private List<Bucket> ratingBands;
+
+  }
+
+  /**
+   * 구간 [from, to) 의 상품 수 (to 가 null 이면 상한 없음)
+   */
+  @Getter
+  @AllArgsConstructor
+  public static class Bucket {
+
+    private int band;
+    private BigDecimal from;
+    private BigDecimal to;
+    private long count;
+
+  }
+
+}
@@ -0,0 +1,33 @@
+package com.ecommerce.dto.product;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+public class ProductImportDto {
+
+  @Getter
+  @AllArgsConstructor
+  @Builder
+  public static class Response {
+
+    private long totalRows;
+    private long importedRows;
+    private long failedRows;
+    private long elapsedMillis;
+    private long rowsPerSecond;
+    private List<RowError> errors;
+
+  }
+
+  @Getter
+  @AllArgsConstructor
+  public static class RowError {
+
+    private long line;
+    private String message;
+
+  }
+
+}
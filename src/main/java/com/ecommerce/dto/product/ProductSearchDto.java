@@ -0,0 +1,25 @@
+package com.ecommerce.dto.product;
+
+import com.ecommerce.type.ProductStatus;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 상품 검색 색인에 필요한 상품 정보 (검색어 일치 확인 및 필터/정렬용)
+ */
+@Getter
+@AllArgsConstructor
+public class ProductSearchDto {
+
+  private Long id;
+  private String productName;
+  private String description;
+  private ProductStatus status;
+  private String seller;
+  private BigDecimal price;
+  private BigDecimal rating;
+  private LocalDateTime createdAt;
+
+}
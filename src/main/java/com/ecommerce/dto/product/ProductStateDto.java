@@ -0,0 +1,19 @@
+package com.ecommerce.dto.product;
+
+import com.ecommerce.type.ProductStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 상품 일괄 수정시 소유자 확인 및 상태 재계산에 필요한 상품 정보
+ */
+@Getter
+@AllArgsConstructor
+public class ProductStateDto {
+
+  private Long id;
+  private Long memberId;
+  private Integer stockQuantity;
+  private ProductStatus status;
+
+}
@@ -2,9 +2,12 @@ package com.ecommerce.entity;
 
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import java.util.ArrayList;
 import java.util.List;
 import lombok.AllArgsConstructor;
@@ -19,9 +22,12 @@ import lombok.Setter;
 @AllArgsConstructor
 @Builder
 @Entity
+@Table(uniqueConstraints = {
+    @UniqueConstraint(name = "uk_cart_member_id", columnNames = "member_id")
+})
 public class Cart extends BaseEntity {
 
-  @ManyToOne
+  @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "member_id", nullable = false)
   private Member member;
 
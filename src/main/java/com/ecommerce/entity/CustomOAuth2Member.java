@@ -15,6 +15,9 @@ public class CustomOAuth2Member implements OAuth2User {
   // memberId 값 만 받아서 사용
   private String memberId;
 
+  // 토큰 발급시 사용할 사용자의 현재 토큰 버전
+  private long tokenVersion;
+
   @Override
   public Map<String, Object> getAttributes() {
     return null;
@@ -30,4 +33,8 @@ public class CustomOAuth2Member implements OAuth2User {
     return this.memberId;
   }
 
+  public long getTokenVersion() {
+    return this.tokenVersion;
+  }
+
 }
@@ -0,0 +1,57 @@
+package com.ecommerce.entity;
+
+import com.ecommerce.type.EmailStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(indexes = {
+    @Index(name = "idx_email_outbox_status_next_attempt_at",
+        columnList = "status, next_attempt_at"),
+    @Index(name = "idx_email_outbox_member_id", columnList = "member_id"),
+    @Index(name = "idx_email_outbox_status_updated_at", columnList = "status, updated_at")
+})
+public class EmailOutbox extends BaseEntity {
+
+  @Column(name = "member_id", nullable = false)
+  private String memberId;
+
+  @Column(nullable = false)
+  private String email;
+
+  @Column(nullable = false)
+  private String subject;
+
+  @Column(nullable = false, length = 2000)
+  private String content;
+
+  @Column(nullable = false)
+  @Enumerated(EnumType.STRING)
+  private EmailStatus status;
+
+  @Column(nullable = false)
+  private Integer attempts;
+
+  // PENDING 은 다음 전송 시각, SENDING 은 선점 만료 시각 (만료되면 다른 노드가 다시 선점)
+  @Column(name = "next_attempt_at", nullable = false)
+  private LocalDateTime nextAttemptAt;
+
+  @Column(name = "last_error", length = 500)
+  private String lastError;
+
+}
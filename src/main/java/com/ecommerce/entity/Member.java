@@ -6,6 +6,8 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import java.util.Collection;
 import java.util.List;
 import lombok.AllArgsConstructor;
@@ -13,6 +15,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -23,6 +26,9 @@ import org.springframework.security.core.userdetails.UserDetails;
 @AllArgsConstructor
 @Builder
 @Entity
+@Table(uniqueConstraints = {
+    @UniqueConstraint(name = "uk_member_member_id", columnNames = "member_id")
+})
 public class Member extends BaseEntity implements UserDetails {
 
   @Column(name = "member_id", nullable = false)
@@ -49,6 +55,12 @@ public class Member extends BaseEntity implements UserDetails {
   @Enumerated(EnumType.STRING)
   private LoginType loginType;
 
+  // 로그아웃시 증가, 이전 버전으로 발급된 토큰은 폐기 (TOKEN_VERSION 검증 모드)
+  @Column(name = "token_version", nullable = false)
+  @ColumnDefault("0")
+  @Builder.Default
+  private Long tokenVersion = 0L;
+
   @Override
   public Collection<? extends GrantedAuthority> getAuthorities() {
     return List.of(new SimpleGrantedAuthority("ROLE_" + this.role.name()));
@@ -5,8 +5,13 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.Table;
 import java.math.BigDecimal;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -20,6 +25,19 @@ import lombok.Setter;
 @AllArgsConstructor
 @Builder
 @Entity
+@NamedEntityGraph(
+    name = "Product.withMember",
+    attributeNodes = @NamedAttributeNode("member")
+)
+@Table(indexes = {
+    @Index(name = "idx_product_status_created_at", columnList = "status, created_at"),
+    @Index(name = "idx_product_status_price", columnList = "status, price"),
+    @Index(name = "idx_product_status_rating", columnList = "status, rating"),
+    @Index(name = "idx_product_created_at", columnList = "created_at"),
+    @Index(name = "idx_product_price", columnList = "price"),
+    @Index(name = "idx_product_rating", columnList = "rating"),
+    @Index(name = "idx_product_member_created_at", columnList = "member_id, created_at")
+})
 public class Product extends BaseEntity {
 
   @Column(name = "product_name", nullable = false)
@@ -37,7 +55,7 @@ public class Product extends BaseEntity {
 
   private BigDecimal rating;
 
-  @ManyToOne
+  @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "member_id", nullable = false)
   private Member member;
 
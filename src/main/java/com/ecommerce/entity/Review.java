@@ -2,8 +2,14 @@ package com.ecommerce.entity;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import jakarta.validation.constraints.DecimalMin;
 import java.math.BigDecimal;
 import lombok.AllArgsConstructor;
@@ -18,13 +24,28 @@ import lombok.Setter;
 @AllArgsConstructor
 @Builder
 @Entity
+@NamedEntityGraph(name = "Review.withMemberAndProduct", attributeNodes = {
+    @NamedAttributeNode("member"),
+    @NamedAttributeNode("product")
+})
+@Table(
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_review_member_product",
+            columnNames = {"member_id", "product_id"})
+    },
+    indexes = {
+        @Index(name = "idx_review_product_created_at", columnList = "product_id, created_at"),
+        @Index(name = "idx_review_product_rating", columnList = "product_id, rating"),
+        @Index(name = "idx_review_member_created_at", columnList = "member_id, created_at")
+    }
+)
 public class Review extends BaseEntity {
 
-  @ManyToOne
+  @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "member_id", nullable = false)
   private Member member;
 
-  @ManyToOne
+  @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "product_id", nullable = false)
   private Product product;
 
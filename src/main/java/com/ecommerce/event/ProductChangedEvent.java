@@ -0,0 +1,15 @@
+package com.ecommerce.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 상품 등록/수정/삭제, 평점 변경 이벤트 (트랜잭션 커밋 이후 처리)
+ */
+@Getter
+@AllArgsConstructor
+public class ProductChangedEvent {
+
+  private final Long productId;
+
+}
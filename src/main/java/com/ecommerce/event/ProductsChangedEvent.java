@@ -0,0 +1,16 @@
+package com.ecommerce.event;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 상품 일괄 등록/수정 이벤트 (배치 단위 커밋 이후 처리)
+ */
+@Getter
+@AllArgsConstructor
+public class ProductsChangedEvent {
+
+  private final List<Long> productIds;
+
+}
@@ -0,0 +1,17 @@
+package com.ecommerce.exception;
+
+import com.ecommerce.type.ResponseCode;
+import lombok.Getter;
+
+@Getter
+public class CursorException extends RuntimeException {
+
+  private final ResponseCode errorCode;
+  private final String errorMessage;
+
+  public CursorException(ResponseCode errorCode) {
+    this.errorCode = errorCode;
+    this.errorMessage = errorCode.getDescription();
+  }
+
+}
@@ -0,0 +1,17 @@
+package com.ecommerce.exception;
+
+import com.ecommerce.type.ResponseCode;
+import lombok.Getter;
+
+@Getter
+public class TokenException extends RuntimeException {
+
+  private final ResponseCode errorCode;
+  private final String errorMessage;
+
+  public TokenException(ResponseCode errorCode) {
+    this.errorCode = errorCode;
+    this.errorMessage = errorCode.getDescription();
+  }
+
+}
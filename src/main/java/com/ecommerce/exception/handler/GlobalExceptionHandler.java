@@ -3,14 +3,18 @@ package com.ecommerce.exception.handler;
 import com.ecommerce.dto.ResponseDto;
 import com.ecommerce.exception.CartException;
 import com.ecommerce.exception.CertificationException;
+import com.ecommerce.exception.CursorException;
 import com.ecommerce.exception.DataBaseException;
 import com.ecommerce.exception.EmailException;
 import com.ecommerce.exception.MemberException;
 import com.ecommerce.exception.NotFoundException;
 import com.ecommerce.exception.ProductException;
 import com.ecommerce.exception.ReviewException;
+import com.ecommerce.exception.ServerBusyException;
+import com.ecommerce.exception.TokenException;
 import com.ecommerce.type.ResponseCode;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -44,6 +48,13 @@ public class GlobalExceptionHandler {
         .body(ResponseDto.getResponseBody(e.getErrorCode()));
   }
 
+  @ExceptionHandler(TokenException.class)
+  public ResponseEntity<ResponseDto> tokenExceptionHandler(TokenException e) {
+    log.error("{} 에러가 발생했습니다. (token)", e.getErrorCode());
+    return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+        .body(ResponseDto.getResponseBody(e.getErrorCode()));
+  }
+
   @ExceptionHandler(NotFoundException.class)
   public ResponseEntity<ResponseDto> notFoundExceptionHandler(NotFoundException e) {
     log.error("{} 에러가 발생했습니다. (redis)", e.getErrorCode());
@@ -79,6 +90,13 @@ public class GlobalExceptionHandler {
         .body(ResponseDto.getResponseBody(e.getErrorCode()));
   }
 
+  @ExceptionHandler(CursorException.class)
+  public ResponseEntity<ResponseDto> cursorExceptionHandler(CursorException e) {
+    log.error("{} 에러가 발생했습니다. (cursor)", e.getErrorCode());
+    return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+        .body(ResponseDto.getResponseBody(e.getErrorCode()));
+  }
+
   @ExceptionHandler(DataBaseException.class)
   public ResponseEntity<ResponseDto> dataBaseExceptionHandler(DataBaseException e) {
     log.error("{} 에러가 발생했습니다. (database)", e.getErrorCode());
@@ -86,6 +104,14 @@ public class GlobalExceptionHandler {
         .body(ResponseDto.getResponseBody(e.getErrorCode()));
   }
 
+  @ExceptionHandler(ServerBusyException.class)
+  public ResponseEntity<ResponseDto> serverBusyExceptionHandler(ServerBusyException e) {
+    log.error("{} 에러가 발생했습니다. (server busy)", e.getErrorCode());
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+        .header(HttpHeaders.RETRY_AFTER, "1")
+        .body(ResponseDto.getResponseBody(e.getErrorCode()));
+  }
+
   @ExceptionHandler(OAuth2AuthenticationException.class)
   public ResponseEntity<ResponseDto> oAuth2AuthenticationHandler(OAuth2AuthenticationException e) {
     log.error("{} 에러가 발생했습니다. (oauth)", e.getMessage());
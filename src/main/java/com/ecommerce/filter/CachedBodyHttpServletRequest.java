@@ -0,0 +1,106 @@
+package com.ecommerce.filter;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import lombok.Getter;
+
+/**
+ * 요청 본문을 미리 읽어두고, 이후 필터/컨트롤러에서 다시 읽을 수 있도록 제공
+ */
+@Getter
+public class CachedBodyHttpServletRequest extends HttpServletRequestWrapper {
+
+  private final byte[] cachedBody;
+
+  private CachedBodyHttpServletRequest(HttpServletRequest request, byte[] cachedBody) {
+    super(request);
+    this.cachedBody = cachedBody;
+  }
+
+  /**
+   * 최대 maxBytes 까지만 본문을 읽어 감싼 요청 반환
+   * Content-Length 또는 실제 본문이 maxBytes 를 넘으면 더 읽지 않고 null 반환
+   *
+   * @param request
+   * @param maxBytes
+   * @return CachedBodyHttpServletRequest
+   * @throws IOException
+   */
+  public static CachedBodyHttpServletRequest of(HttpServletRequest request, int maxBytes)
+      throws IOException {
+
+    if (request.getContentLengthLong() > maxBytes) {
+      return null;
+    }
+
+    byte[] body = request.getInputStream().readNBytes(maxBytes + 1);
+    if (body.length > maxBytes) {
+      return null;
+    }
+
+    return new CachedBodyHttpServletRequest(request, body);
+
+  }
+
+  @Override
+  public ServletInputStream getInputStream() {
+
+    ByteArrayInputStream inputStream = new ByteArrayInputStream(cachedBody);
+
+    return new ServletInputStream() {
+      @Override
+      public boolean isFinished() {
+        return inputStream.available() == 0;
+      }
+
+      @Override
+      public boolean isReady() {
+        return true;
+      }
+
+      @Override
+      public void setReadListener(ReadListener readListener) {
+        // 본문이 이미 메모리에 있어 isReady 가 항상 true 이므로 리스너가 한 번에 모두 읽음
+        try {
+          if (!isFinished()) {
+            readListener.onDataAvailable();
+          }
+          if (isFinished()) {
+            readListener.onAllDataRead();
+          }
+        } catch (IOException e) {
+          readListener.onError(e);
+        }
+      }
+
+      @Override
+      public int read() {
+        return inputStream.read();
+      }
+
+      @Override
+      public int read(byte[] b, int off, int len) {
+        return inputStream.read(b, off, len);
+      }
+    };
+
+  }
+
+  @Override
+  public BufferedReader getReader() {
+    String encoding = getCharacterEncoding();
+    return new BufferedReader(new InputStreamReader(
+        getInputStream(),
+        encoding == null ? StandardCharsets.UTF_8 : Charset.forName(encoding)
+    ));
+  }
+
+}
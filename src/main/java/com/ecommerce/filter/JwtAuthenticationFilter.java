@@ -1,6 +1,7 @@
 package com.ecommerce.filter;
 
 import com.ecommerce.provider.JwtProvider;
+import com.ecommerce.security.VerifiedToken;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -25,6 +26,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
   /**
    * Security Config.java 에서 허용한 EndPoint 이외에 요청에서 토큰이 존재하고, 유효한지 검사후 다음 필터 또는 controller 로 전달
+   * 토큰은 요청당 한 번만 검증하고, 검증된 토큰 정보는 Authentication details 로 전달
    *
    * @param request
    * @param response
@@ -38,9 +40,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     String token = this.resolveTokenFromRequest(request);
 
-    if (StringUtils.hasText(token) && jwtProvider.validateToken(token)) {
-      Authentication auth = jwtProvider.getAuthentication(token);
-      SecurityContextHolder.getContext().setAuthentication(auth);
+    if (StringUtils.hasText(token)) {
+      VerifiedToken verifiedToken = jwtProvider.verifyToken(token);
+
+      if (verifiedToken != null) {
+        Authentication auth = jwtProvider.getAuthentication(verifiedToken);
+        SecurityContextHolder.getContext().setAuthentication(auth);
+      }
     }
 
     filterChain.doFilter(request, response);
@@ -0,0 +1,165 @@
+package com.ecommerce.filter;
+
+import com.ecommerce.config.RateLimitProperties;
+import com.ecommerce.config.RateLimitProperties.Limit;
+import com.ecommerce.config.RateLimitProperties.Route;
+import com.ecommerce.dto.ResponseDto;
+import com.ecommerce.security.RateLimiter;
+import com.ecommerce.type.ResponseCode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+@Component
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+
+  private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+  private final RateLimitProperties rateLimitProperties;
+  private final RateLimiter rateLimiter;
+  private final ObjectMapper objectMapper;
+
+  /**
+   * application.yml 에 설정된 경로로 들어온 요청을 IP, 사용자 ID 별 토큰 버킷으로 제한
+   * IP 버킷을 먼저 확인하고, 사용자 ID 는 크기 제한 안에서 읽은 본문에서 추출
+   * JwtAuthenticationFilter 이전에 동작하여 DB 조회, BCrypt, 메일 전송 전에 차단
+   *
+   * @param request
+   * @param response
+   * @param filterChain
+   * @throws ServletException
+   * @throws IOException
+   */
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+      FilterChain filterChain) throws ServletException, IOException {
+
+    Map.Entry<String, Route> matched = findRoute(request);
+    if (!rateLimitProperties.isEnabled() || matched == null) {
+      filterChain.doFilter(request, response);
+      return;
+    }
+
+    Route route = matched.getValue();
+    HttpServletRequest target = request;
+
+    // 본문을 읽기 전에 IP 버킷부터 확인하여 제한된 클라이언트의 본문은 버퍼링하지 않음
+    if (route.getIp() != null && !tryAcquire(matched.getKey(),
+        "ip:" + request.getRemoteAddr(), route.getIp(), response)) {
+      return;
+    }
+
+    if (route.getMember() != null) {
+      CachedBodyHttpServletRequest cachedRequest =
+          CachedBodyHttpServletRequest.of(request, rateLimitProperties.getMaxBodyBytes());
+      if (cachedRequest == null) {
+        writeError(response, HttpStatus.PAYLOAD_TOO_LARGE, ResponseCode.PAYLOAD_TOO_LARGE);
+        return;
+      }
+      target = cachedRequest;
+
+      String memberId = resolveMemberId(cachedRequest.getCachedBody());
+      if (StringUtils.hasText(memberId) && !tryAcquire(matched.getKey(),
+          "member:" + memberId, route.getMember(), response)) {
+        return;
+      }
+    }
+
+    filterChain.doFilter(target, response);
+
+  }
+
+  /**
+   * 버킷 하나에서 토큰을 꺼내고, 부족하면 429 응답
+   *
+   * @param route
+   * @param key
+   * @param limit
+   * @param response
+   * @return boolean
+   * @throws IOException
+   */
+  private boolean tryAcquire(String route, String key, Limit limit,
+      HttpServletResponse response) throws IOException {
+
+    long retryAfterMillis = rateLimiter.tryAcquire(route, List.of(key), List.of(limit));
+    if (retryAfterMillis > 0) {
+      reject(response, retryAfterMillis);
+      return false;
+    }
+
+    return true;
+
+  }
+
+  /**
+   * 요청 경로와 일치하는 제한 설정 조회 (경로 변수가 있는 API 는 Ant 패턴으로 설정)
+   *
+   * @param request
+   * @return Map.Entry<String, Route>
+   */
+  private Map.Entry<String, Route> findRoute(HttpServletRequest request) {
+    String path = request.getRequestURI().substring(request.getContextPath().length());
+
+    for (Map.Entry<String, Route> entry : rateLimitProperties.getRoutes().entrySet()) {
+      if (PATH_MATCHER.match(entry.getValue().getPath(), path)) {
+        return entry;
+      }
+    }
+
+    return null;
+  }
+
+  /**
+   * 요청 본문(JSON)에서 memberId 추출, 형식이 잘못된 경우 검증은 컨트롤러에 맡김
+   *
+   * @param body
+   * @return String
+   */
+  private String resolveMemberId(byte[] body) {
+    if (body.length == 0) {
+      return null;
+    }
+
+    try {
+      return objectMapper.readTree(body).path("memberId").asText(null);
+    } catch (IOException e) {
+      return null;
+    }
+  }
+
+  private void reject(HttpServletResponse response, long retryAfterMillis) throws IOException {
+
+    response.setHeader(HttpHeaders.RETRY_AFTER,
+        String.valueOf(Math.max(1L, (retryAfterMillis + 999) / 1000)));
+    writeError(response, HttpStatus.TOO_MANY_REQUESTS, ResponseCode.TOO_MANY_REQUESTS);
+
+  }
+
+  private void writeError(HttpServletResponse response, HttpStatus status,
+      ResponseCode responseCode) throws IOException {
+
+    response.setCharacterEncoding("UTF-8");
+    response.setContentType("application/json; charset=UTF-8");
+    response.setStatus(status.value());
+
+    response.getWriter().write(
+        objectMapper.writeValueAsString(ResponseDto.getResponseBody(responseCode))
+    );
+
+  }
+
+}
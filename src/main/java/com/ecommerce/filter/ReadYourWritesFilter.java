@@ -0,0 +1,44 @@
+package com.ecommerce.filter;
+
+import com.ecommerce.config.ReplicaRoutingDataSource;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+  private final ReplicaRoutingDataSource replicaRoutingDataSource;
+
+  /**
+   * 요청이 끝나면 스레드에 남은 primary 고정 해제
+   * 같은 스레드를 재사용하는 다음 요청(다른 사용자)이 이전 요청의 쓰기 때문에 primary 로 가지 않도록 함
+   * (로그인한 사용자는 사용자 단위 read-your-writes 로 다음 요청에서도 primary 사용)
+   *
+   * @param request
+   * @param response
+   * @param filterChain
+   * @throws ServletException
+   * @throws IOException
+   */
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+      FilterChain filterChain) throws ServletException, IOException {
+
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      replicaRoutingDataSource.clearPin();
+    }
+  }
+
+}
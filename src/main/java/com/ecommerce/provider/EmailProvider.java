@@ -1,49 +1,71 @@
 package com.ecommerce.provider;
 
+import com.ecommerce.entity.EmailOutbox;
+import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Component;
 
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class EmailProvider {
 
   private final JavaMailSender javaMailSender;
 
-  private final String SUBJECT = "[Ecommerce] 회원가입 인증 메일입니다.";
+  public static final String CERTIFICATION_SUBJECT = "[Ecommerce] 회원가입 인증 메일입니다.";
 
   /**
-   * 인증메일 전송
+   * 아웃박스 메일 일괄 전송 (하나의 SMTP 연결로 전송)
    *
-   * @param email
-   * @param certificationNumber
-   * @return boolean
+   * @param outboxes
+   * @return Map<Long, String> 전송 실패한 아웃박스 ID 와 실패 사유
    */
-  public boolean sendCertificationMail(String email, String certificationNumber) {
+  public Map<Long, String> sendMails(List<EmailOutbox> outboxes) {
 
-    try {
+    Map<Long, String> failures = new HashMap<>();
+    Map<MimeMessage, Long> messages = new IdentityHashMap<>();
+
+    for (EmailOutbox outbox : outboxes) {
+      try {
+        messages.put(createMessage(outbox), outbox.getId());
+      } catch (MessagingException e) {
+        failures.put(outbox.getId(), e.getMessage());
+      }
+    }
 
-      MimeMessage message = javaMailSender.createMimeMessage();
-      MimeMessageHelper messageHelper = new MimeMessageHelper(message, true);
+    if (messages.isEmpty()) {
+      return failures;
+    }
+
+    try {
 
-      String htmlContent = getCertificationMessage(certificationNumber);
+      javaMailSender.send(messages.keySet().toArray(new MimeMessage[0]));
 
-      messageHelper.setTo(email);
-      messageHelper.setSubject(SUBJECT);
-      messageHelper.setText(htmlContent, true);
+    } catch (MailSendException e) {
 
-      javaMailSender.send(message);
+      log.warn("메일 일괄 전송 중 일부가 실패했습니다. ({}건)", e.getFailedMessages().size());
+      e.getFailedMessages().forEach((message, exception) ->
+          failures.put(messages.get(message), exception.getMessage())
+      );
 
-    } catch (Exception e) {
+    } catch (MailException e) {
 
-      e.printStackTrace();
-      return false;
+      log.warn("메일 서버 연결을 실패했습니다.", e);
+      messages.values().forEach(id -> failures.put(id, e.getMessage()));
 
     }
 
-    return true;
+    return failures;
 
   }
 
@@ -53,7 +75,7 @@ public class EmailProvider {
    * @param certificationNumber
    * @return String
    */
-  private String getCertificationMessage(String certificationNumber) {
+  public String getCertificationMessage(String certificationNumber) {
     return "<h1>" +
         "[Ecommerce] 회원가입 인증 메일" +
         "</h1>" +
@@ -62,4 +84,17 @@ public class EmailProvider {
         certificationNumber + "</strong>" +
         "</h3>";
   }
+
+  private MimeMessage createMessage(EmailOutbox outbox) throws MessagingException {
+
+    MimeMessage message = javaMailSender.createMimeMessage();
+    MimeMessageHelper messageHelper = new MimeMessageHelper(message, true);
+
+    messageHelper.setTo(outbox.getEmail());
+    messageHelper.setSubject(outbox.getSubject());
+    messageHelper.setText(outbox.getContent(), true);
+
+    return message;
+
+  }
 }
@@ -2,16 +2,23 @@ package com.ecommerce.provider;
 
 import static com.ecommerce.filter.JwtAuthenticationFilter.TOKEN_PREFIX;
 
-import com.ecommerce.entity.Member;
 import com.ecommerce.exception.MemberException;
 import com.ecommerce.repository.MemberRepository;
-import com.ecommerce.repository.redis.RedisRepository;
+import com.ecommerce.security.MemberPrincipal;
+import com.ecommerce.security.PrincipalCache;
+import com.ecommerce.security.SessionNearCache;
+import com.ecommerce.security.TokenRevocationRegistry;
+import com.ecommerce.security.VerifiedToken;
 import com.ecommerce.type.ResponseCode;
 import com.ecommerce.type.Role;
+import com.ecommerce.type.TokenValidationMode;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
+import jakarta.annotation.PostConstruct;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
@@ -26,23 +33,46 @@ import org.springframework.util.StringUtils;
 @RequiredArgsConstructor
 public class JwtProvider {
 
-  private static final long TOKEN_EXPIRE_TIME = 1000 * 60 * 60; // 1 hour
+  public static final long TOKEN_EXPIRE_TIME = 1000 * 60 * 60; // 1 hour
+
+  private static final String ROLE_CLAIM = "role";
+  private static final String VERSION_CLAIM = "ver";
 
   private final MemberRepository memberRepository;
-  private final RedisRepository redisRepository;
+  private final PrincipalCache principalCache;
+  private final SessionNearCache sessionNearCache;
+  private final TokenRevocationRegistry tokenRevocationRegistry;
 
   @Value("${spring.jwt.secret}")
   private String secretKey;
 
+  @Value("${app.security.token-validation-mode}")
+  private TokenValidationMode tokenValidationMode;
+
+  private JwtParser jwtParser;
+
+  /**
+   * 서명 키로 JwtParser 를 한 번만 생성해서 재사용 (JwtParser 는 thread-safe)
+   */
+  @PostConstruct
+  public void init() {
+    this.jwtParser = Jwts.parserBuilder()
+        .setSigningKey(secretKey)
+        .build();
+  }
+
   /**
-   * 사용자 ID, 권한(Role) 정보를 포함한 JWT 토큰 생성
+   * 사용자 ID, 권한(Role), 토큰 버전 정보를 포함한 JWT 토큰 생성
    *
    * @param memberId
+   * @param role
+   * @param tokenVersion
    * @return String
    */
-  public String createToken(String memberId, Role role) {
+  public String createToken(String memberId, Role role, long tokenVersion) {
     Map<String, Object> claims = new HashMap<>();
-    claims.put("role", role.name());
+    claims.put(ROLE_CLAIM, role.name());
+    claims.put(VERSION_CLAIM, tokenVersion);
 
     return Jwts.builder()
         .signWith(SignatureAlgorithm.HS256, secretKey)
@@ -53,16 +83,33 @@ public class JwtProvider {
         .compact();
   }
 
+  /**
+   * 토큰 검증 모드
+   *
+   * @return TokenValidationMode
+   */
+  public TokenValidationMode getTokenValidationMode() {
+    return tokenValidationMode;
+  }
+
   /**
    * SecurityContextHolder 에 등록하기위한 토큰에 있는 사용자 객체 및 권한 정보로 Authentication 객체 생성
+   * (검증된 토큰 정보는 Authentication details 에 담아서 서비스 계층에서 재사용)
+   * 사용자 정보는 PrincipalCache 에서 먼저 조회해서 요청마다 DB 를 조회하지 않도록 처리
    *
-   * @param jwt
+   * @param verifiedToken
    * @return Authentication
    */
-  public Authentication getAuthentication(String jwt) {
-    Member member = memberRepository.findByMemberId(getMemberId(jwt))
+  public Authentication getAuthentication(VerifiedToken verifiedToken) {
+    MemberPrincipal principal = principalCache
+        .getPrincipal(verifiedToken.getMemberId(), memberRepository::findByMemberId)
         .orElseThrow(() -> new MemberException(ResponseCode.MEMBER_NOT_FOUND));
-    return new UsernamePasswordAuthenticationToken(member, null, member.getAuthorities());
+
+    UsernamePasswordAuthenticationToken authentication =
+        new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+    authentication.setDetails(verifiedToken);
+
+    return authentication;
   }
 
   /**
@@ -91,23 +138,52 @@ public class JwtProvider {
   }
 
   /**
-   * 파싱한 토큰이 유효한지 검증
+   * 토큰을 한 번만 파싱해서 서명, 유효기간, 로그인 세션(Redis, 로컬 캐시 우선) 또는 토큰 버전을 검증
+   * 유효하지 않은 토큰이면 null 반환
    *
    * @param token
-   * @return boolean
+   * @return VerifiedToken
    */
-  public boolean validateToken(String token) {
+  public VerifiedToken verifyToken(String token) {
     if (!StringUtils.hasText(token)) {
-      return false;
+      return null;
+    }
+
+    Claims claims;
+    try {
+      claims = jwtParser.parseClaimsJws(token).getBody();
+    } catch (JwtException | IllegalArgumentException e) {
+      return null;
     }
 
-    Object cacheToken = redisRepository.getData(getMemberId(token));
-    if (cacheToken == null) {
-      return false;
+    if (!isActive(claims)) {
+      return null;
+    }
+
+    String role = claims.get(ROLE_CLAIM, String.class);
+
+    return new VerifiedToken(
+        token,
+        claims.getSubject(),
+        role != null ? Role.valueOf(role) : null,
+        claims.getExpiration()
+    );
+  }
+
+  /**
+   * 검증 모드에 따라 로그인 세션 또는 토큰 버전으로 폐기 여부 확인
+   *
+   * @param claims
+   * @return boolean
+   */
+  private boolean isActive(Claims claims) {
+    if (tokenValidationMode == TokenValidationMode.TOKEN_VERSION) {
+      Long tokenVersion = claims.get(VERSION_CLAIM, Long.class);
+      return tokenVersion != null
+          && !tokenRevocationRegistry.isRevoked(claims.getSubject(), tokenVersion);
     }
 
-    Claims claims = parseClaims(token);
-    return !claims.getExpiration().before(new Date());
+    return sessionNearCache.isActive(claims.getSubject());
   }
 
   /**
@@ -118,11 +194,7 @@ public class JwtProvider {
    */
   private Claims parseClaims(String token) {
     try {
-      return Jwts.parserBuilder()
-          .setSigningKey(secretKey)
-          .build()
-          .parseClaimsJws(token)
-          .getBody();
+      return jwtParser.parseClaimsJws(token).getBody();
     } catch (ExpiredJwtException e) {
       return e.getClaims();
     }
@@ -0,0 +1,141 @@
+package com.ecommerce.provider;
+
+import com.ecommerce.exception.ServerBusyException;
+import com.ecommerce.type.ResponseCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+/**
+ * BCrypt 암호화/비교를 Tomcat worker 스레드가 아닌 CPU 코어 수 크기의 전용 스레드 풀에서 처리
+ * 대기열이 가득 차면 요청을 쌓아두지 않고 바로 ServerBusyException (503) 으로 응답
+ */
+@Component
+@RequiredArgsConstructor
+public class PasswordHashProvider {
+
+  private final PasswordEncoder passwordEncoder;
+  private final MeterRegistry meterRegistry;
+
+  @Value("${app.security.bcrypt.queue-capacity}")
+  private int queueCapacity;
+
+  @Value("${app.security.bcrypt.timeout-ms}")
+  private long timeoutMillis;
+
+  private ThreadPoolExecutor executor;
+  private Timer hashTimer;
+  private Counter rejectedCounter;
+
+  @PostConstruct
+  public void init() {
+    int poolSize = Runtime.getRuntime().availableProcessors();
+
+    this.executor = new ThreadPoolExecutor(
+        poolSize, poolSize,
+        0L, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(queueCapacity),
+        new CustomizableThreadFactory("password-hash-"),
+        new ThreadPoolExecutor.AbortPolicy()
+    );
+
+    this.hashTimer = Timer.builder("password.hash.latency")
+        .description("BCrypt 암호화/비교 처리 시간")
+        .register(meterRegistry);
+    this.rejectedCounter = Counter.builder("password.hash.rejected")
+        .description("대기열 초과로 거절된 요청 수")
+        .register(meterRegistry);
+    Gauge.builder("password.hash.queue.size", executor, e -> e.getQueue().size())
+        .description("BCrypt 작업 대기열 크기")
+        .register(meterRegistry);
+    Gauge.builder("password.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+        .description("BCrypt 작업 처리 중인 스레드 수")
+        .register(meterRegistry);
+  }
+
+  @PreDestroy
+  public void destroy() {
+    executor.shutdown();
+  }
+
+  /**
+   * 비밀번호 암호화
+   *
+   * @param rawPassword
+   * @return String
+   */
+  public String encode(String rawPassword) {
+    return execute(() -> passwordEncoder.encode(rawPassword));
+  }
+
+  /**
+   * 비밀번호 비교
+   *
+   * @param rawPassword
+   * @param encodedPassword
+   * @return boolean
+   */
+  public boolean matches(String rawPassword, String encodedPassword) {
+    return execute(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+  }
+
+  /**
+   * 저장된 비밀번호가 현재 설정된 strength 보다 낮게 암호화 되었는지 확인 (해시 연산 없음)
+   *
+   * @param encodedPassword
+   * @return boolean
+   */
+  public boolean upgradeEncoding(String encodedPassword) {
+    return passwordEncoder.upgradeEncoding(encodedPassword);
+  }
+
+  /**
+   * 전용 스레드 풀에서 작업 실행 후 결과 대기
+   *
+   * @param task
+   * @return T
+   */
+  private <T> T execute(Callable<T> task) {
+
+    Future<T> future;
+    try {
+      future = executor.submit(() -> hashTimer.recordCallable(task));
+    } catch (RejectedExecutionException e) {
+      rejectedCounter.increment();
+      throw new ServerBusyException(ResponseCode.SERVER_BUSY);
+    }
+
+    try {
+      return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+    } catch (TimeoutException e) {
+      future.cancel(true);
+      throw new ServerBusyException(ResponseCode.SERVER_BUSY);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new ServerBusyException(ResponseCode.SERVER_BUSY);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new IllegalStateException(e.getCause());
+    }
+
+  }
+
+}
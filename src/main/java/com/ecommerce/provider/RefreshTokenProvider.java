@@ -0,0 +1,172 @@
+package com.ecommerce.provider;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * 리프레시 토큰 발급/교체 (형식: memberId.랜덤값)
+ * Redis 에는 사용자별로 현재 토큰과 직전에 교체된 토큰의 SHA-256 해시만 저장하고, 사용할 때마다 새 토큰으로 교체
+ * 직전에 교체된 토큰이 다시 사용되면 탈취로 판단하여 저장된 토큰을 삭제
+ * 어느 쪽과도 일치하지 않는 토큰(위조, 오래된 토큰)은 거부만 하고 저장된 토큰은 유지
+ */
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenProvider {
+
+  private static final String KEY_PREFIX = "refresh-token:";
+  private static final int RANDOM_BYTES = 32;
+
+  // KEYS = [토큰], ARGV = [토큰 해시, TTL(ms)]
+  private static final RedisScript<Long> ISSUE_SCRIPT = new DefaultRedisScript<>(
+      "redis.call('DEL', KEYS[1]) "
+          + "redis.call('HSET', KEYS[1], 'current', ARGV[1]) "
+          + "redis.call('PEXPIRE', KEYS[1], ARGV[2]) "
+          + "return 1",
+      Long.class
+  );
+
+  // KEYS = [토큰], ARGV = [사용한 토큰 해시, 새 토큰 해시, TTL(ms)]
+  // 반환값 1 = 교체 성공, 0 = 저장된 토큰 없음(만료/로그아웃),
+  // -1 = 직전에 교체된 토큰 재사용(토큰 삭제), -2 = 일치하는 토큰 없음(저장된 토큰 유지)
+  private static final RedisScript<Long> ROTATE_SCRIPT = new DefaultRedisScript<>(
+      "if redis.call('EXISTS', KEYS[1]) == 0 then return 0 end "
+          + "local hashes = redis.call('HMGET', KEYS[1], 'current', 'previous') "
+          + "local current = hashes[1] "
+          + "local previous = hashes[2] "
+          + "if current == ARGV[1] then "
+          + "  redis.call('DEL', KEYS[1]) "
+          + "  redis.call('HSET', KEYS[1], 'current', ARGV[2], 'previous', ARGV[1]) "
+          + "  redis.call('PEXPIRE', KEYS[1], ARGV[3]) "
+          + "  return 1 "
+          + "end "
+          + "if previous == ARGV[1] then "
+          + "  redis.call('DEL', KEYS[1]) "
+          + "  return -1 "
+          + "end "
+          + "return -2",
+      Long.class
+  );
+
+  private final SecureRandom secureRandom = new SecureRandom();
+
+  private final StringRedisTemplate stringRedisTemplate;
+
+  @Value("${app.security.refresh-token.ttl-days}")
+  private long ttlDays;
+
+  public enum Rotation {
+    ROTATED, NOT_FOUND, REUSED, INVALID
+  }
+
+  /**
+   * 리프레시 토큰 발급 (이전 토큰은 덮어써서 무효화)
+   *
+   * @param memberId
+   * @return String
+   */
+  public String issue(String memberId) {
+    String refreshToken = generate(memberId);
+
+    stringRedisTemplate.execute(
+        ISSUE_SCRIPT,
+        List.of(KEY_PREFIX + memberId),
+        hash(refreshToken),
+        ttlMillis()
+    );
+
+    return refreshToken;
+  }
+
+  /**
+   * 저장된 토큰과 일치하면 새 토큰으로 교체
+   *
+   * @param memberId
+   * @param refreshToken
+   * @param newRefreshToken
+   * @return Rotation
+   */
+  public Rotation rotate(String memberId, String refreshToken, String newRefreshToken) {
+    Long result = stringRedisTemplate.execute(
+        ROTATE_SCRIPT,
+        List.of(KEY_PREFIX + memberId),
+        hash(refreshToken),
+        hash(newRefreshToken),
+        ttlMillis()
+    );
+
+    if (result == null || result == 0L) {
+      return Rotation.NOT_FOUND;
+    }
+    if (result > 0) {
+      return Rotation.ROTATED;
+    }
+    return result == -1L ? Rotation.REUSED : Rotation.INVALID;
+  }
+
+  /**
+   * 사용자의 리프레시 토큰 삭제
+   *
+   * @param memberId
+   */
+  public void revoke(String memberId) {
+    stringRedisTemplate.delete(KEY_PREFIX + memberId);
+  }
+
+  /**
+   * 새 리프레시 토큰 생성 (저장하지 않음)
+   *
+   * @param memberId
+   * @return String
+   */
+  public String generate(String memberId) {
+    byte[] random = new byte[RANDOM_BYTES];
+    secureRandom.nextBytes(random);
+
+    return memberId + "." + Base64.getUrlEncoder().withoutPadding().encodeToString(random);
+  }
+
+  /**
+   * 리프레시 토큰에서 사용자 ID 추출 (형식이 잘못된 경우 null)
+   *
+   * @param refreshToken
+   * @return String
+   */
+  public String getMemberId(String refreshToken) {
+    if (!StringUtils.hasText(refreshToken)) {
+      return null;
+    }
+
+    int separator = refreshToken.lastIndexOf('.');
+    if (separator <= 0 || separator == refreshToken.length() - 1) {
+      return null;
+    }
+
+    return refreshToken.substring(0, separator);
+  }
+
+  private String ttlMillis() {
+    return String.valueOf(TimeUnit.DAYS.toMillis(ttlDays));
+  }
+
+  private String hash(String refreshToken) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      return HexFormat.of().formatHex(digest.digest(refreshToken.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
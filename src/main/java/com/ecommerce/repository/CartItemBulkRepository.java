@@ -0,0 +1,114 @@
+package com.ecommerce.repository;
+
+import com.ecommerce.dto.cart.CartLineDto;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Redis 장바구니(write-behind) 반영용 JDBC 저장소
+ * 사용자 ID 로 장바구니를 찾고, 장바구니 상품을 (cart_id, product_id) 유니크 키 기준으로 일괄 upsert
+ */
+@Repository
+@RequiredArgsConstructor
+public class CartItemBulkRepository {
+
+  private static final String FIND_LINES_SQL =
+      "SELECT ci.product_id, ci.quantity, ci.price FROM CartItem ci "
+          + "JOIN Cart c ON c.id = ci.cart_id JOIN Member m ON m.id = c.member_id "
+          + "WHERE m.member_id = ? ORDER BY ci.id";
+
+  // 삭제된 상품은 건너뜀 (Product 에 없는 id 는 SELECT 결과가 없음)
+  private static final String UPSERT_SQL =
+      "INSERT INTO CartItem (created_at, updated_at, cart_id, product_id, quantity, price) "
+          + "SELECT ?, ?, ?, p.id, ?, ? FROM Product p WHERE p.id = ? "
+          + "ON DUPLICATE KEY UPDATE quantity = ?, price = ?, updated_at = ?";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * 사용자 ID 로 장바구니 상품 조회
+   *
+   * @param memberId
+   * @return List<CartLineDto>
+   */
+  public List<CartLineDto> findLines(String memberId) {
+
+    return jdbcTemplate.query(FIND_LINES_SQL,
+        (rs, rowNum) -> new CartLineDto(
+            rs.getLong("product_id"), rs.getInt("quantity"), rs.getBigDecimal("price")
+        ),
+        memberId
+    );
+  }
+
+  /**
+   * 사용자 ID 로 장바구니 행 잠금 (트랜잭션 안에서 호출, 교착을 피하기 위해 id 순서로 잠금)
+   *
+   * @param memberIds
+   * @return Map<String, Long> 사용자 ID -> 장바구니 id (장바구니가 없는 사용자는 제외)
+   */
+  public Map<String, Long> lockCartIds(Collection<String> memberIds) {
+
+    if (memberIds.isEmpty()) {
+      return Collections.emptyMap();
+    }
+
+    String sql = "SELECT m.member_id, c.id FROM Cart c JOIN Member m ON m.id = c.member_id "
+        + "WHERE m.member_id IN (" + placeholders(memberIds.size()) + ") "
+        + "ORDER BY c.id FOR UPDATE";
+
+    Map<String, Long> cartIds = new HashMap<>();
+    jdbcTemplate.query(sql,
+        (RowCallbackHandler) rs -> cartIds.put(rs.getString(1), rs.getLong(2)),
+        memberIds.toArray()
+    );
+    return cartIds;
+  }
+
+  /**
+   * 장바구니 상품을 주어진 목록과 같게 만듦 (목록에 없는 상품은 삭제)
+   *
+   * @param lines 장바구니 id -> 장바구니 상품 목록
+   */
+  public void replaceAll(Map<Long, List<CartLineDto>> lines) {
+
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+    List<Object[]> upserts = new ArrayList<>();
+    lines.forEach((cartId, cartLines) -> cartLines.forEach(line -> upserts.add(new Object[]{
+        now, now, cartId, line.getQuantity(), line.getPrice(), line.getProductId(),
+        line.getQuantity(), line.getPrice(), now
+    })));
+    if (!upserts.isEmpty()) {
+      jdbcTemplate.batchUpdate(UPSERT_SQL, upserts);
+    }
+
+    lines.forEach((cartId, cartLines) -> {
+      if (cartLines.isEmpty()) {
+        jdbcTemplate.update("DELETE FROM CartItem WHERE cart_id = ?", cartId);
+        return;
+      }
+
+      List<Object> args = new ArrayList<>(cartLines.size() + 1);
+      args.add(cartId);
+      cartLines.forEach(line -> args.add(line.getProductId()));
+      jdbcTemplate.update("DELETE FROM CartItem WHERE cart_id = ? AND product_id NOT IN ("
+          + placeholders(cartLines.size()) + ")", args.toArray());
+    });
+  }
+
+  private static String placeholders(int count) {
+    return String.join(", ", Collections.nCopies(count, "?"));
+  }
+
+}
@@ -4,10 +4,18 @@ import com.ecommerce.entity.Cart;
 import com.ecommerce.entity.CartItem;
 import com.ecommerce.entity.Product;
 import java.util.Optional;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 public interface CartItemRepository extends JpaRepository<CartItem, Long> {
 
+  /**
+   * 장바구니 상품 수정/삭제시 재고 확인과 응답 생성을 위해 상품과 함께 조회
+   */
+  @Override
+  @EntityGraph("CartItem.withProduct")
+  Optional<CartItem> findById(Long id);
+
   Optional<CartItem> findByCartAndProduct(Cart cart, Product product);
 
   void deleteAllByCart(Cart cart);
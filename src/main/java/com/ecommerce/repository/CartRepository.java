@@ -4,11 +4,31 @@ import com.ecommerce.entity.Cart;
 import com.ecommerce.entity.Member;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface CartRepository extends JpaRepository<Cart,Long> {
 
   Optional<Cart> findByMember(Member member);
 
+  /**
+   * 장바구니 내역 조회용 (사용자 ID 로 장바구니, 사용자, 장바구니 상품, 상품을 하나의 SELECT 로 조회)
+   */
+  @Query("SELECT c FROM Cart c JOIN FETCH c.member m "
+      + "LEFT JOIN FETCH c.cartItems ci LEFT JOIN FETCH ci.product "
+      + "WHERE m.memberId = :memberId")
+  Optional<Cart> findWithItemsByMemberId(@Param("memberId") String memberId);
+
   boolean existsByMember(Member member);
 
+  /**
+   * 사용자 ID 로 장바구니가 없을 때만 생성 (Cart.member_id 유니크 키 기준)
+   */
+  @Modifying
+  @Query(value = "INSERT INTO Cart (member_id, created_at, updated_at) "
+      + "SELECT m.id, NOW(6), NOW(6) FROM Member m WHERE m.member_id = :memberId "
+      + "ON DUPLICATE KEY UPDATE Cart.updated_at = Cart.updated_at", nativeQuery = true)
+  int insertIfAbsentByMemberId(@Param("memberId") String memberId);
+
 }
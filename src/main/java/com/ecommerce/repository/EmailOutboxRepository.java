@@ -0,0 +1,46 @@
+package com.ecommerce.repository;
+
+import com.ecommerce.entity.EmailOutbox;
+import com.ecommerce.type.EmailStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+public interface EmailOutboxRepository extends JpaRepository<EmailOutbox, Long> {
+
+  /**
+   * 전송 대상 메일 조회 (다른 노드가 선점 중인 행은 SKIP LOCKED 로 건너뜀)
+   * 대기 중(PENDING)이거나 선점 만료된(SENDING) 행 중 시각이 지난 행
+   */
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+  @Query("select e from EmailOutbox e "
+      + "where e.status in :statuses and e.nextAttemptAt <= :now "
+      + "order by e.id")
+  List<EmailOutbox> findDispatchTargets(
+      @Param("statuses") Collection<EmailStatus> statuses, @Param("now") LocalDateTime now,
+      Pageable pageable
+  );
+
+  Optional<EmailOutbox> findFirstByMemberIdOrderByIdDesc(String memberId);
+
+  /**
+   * 보관 기간이 지난 전송 완료/최종 실패 메일 삭제 (한 번에 limit 건)
+   */
+  @Modifying
+  @Query(value = "DELETE FROM EmailOutbox "
+      + "WHERE status IN ('SENT', 'FAILED') AND updated_at < :cutoff "
+      + "LIMIT :limit", nativeQuery = true)
+  int deleteCompletedBefore(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+
+}
@@ -1,9 +1,17 @@
 package com.ecommerce.repository;
 
 import com.ecommerce.entity.Member;
+import jakarta.persistence.QueryHint;
 import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public interface MemberRepository extends JpaRepository<Member, Long> {
@@ -12,4 +20,39 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
 
   boolean existsByMemberId(String userId);
 
+  /**
+   * 전체 사용자 ID 스트리밍 조회 (MySQL 은 fetch size 가 Integer.MIN_VALUE 일 때 행 단위로 전송)
+   */
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "-2147483648"))
+  @Query("select m.memberId from Member m")
+  Stream<String> streamAllMemberIds();
+
+  /**
+   * 소셜 로그인 사용자 생성 또는 이름/이메일 갱신 (member_id 유니크 키 기준)
+   */
+  @Modifying
+  @Query(value = "INSERT INTO Member "
+      + "(member_id, member_name, email, password, role, login_type, token_version, "
+      + "created_at, updated_at) "
+      + "VALUES (:memberId, :memberName, :email, :password, :role, :loginType, 0, "
+      + "NOW(6), NOW(6)) AS new "
+      + "ON DUPLICATE KEY UPDATE member_name = new.member_name, email = new.email, "
+      + "updated_at = new.updated_at", nativeQuery = true)
+  int upsertSnsMember(
+      @Param("memberId") String memberId,
+      @Param("memberName") String memberName,
+      @Param("email") String email,
+      @Param("password") String password,
+      @Param("role") String role,
+      @Param("loginType") String loginType
+  );
+
+  @Transactional
+  @Modifying
+  @Query("update Member m set m.tokenVersion = m.tokenVersion + 1 where m.memberId = :memberId")
+  int increaseTokenVersion(@Param("memberId") String memberId);
+
+  @Query("select m.tokenVersion from Member m where m.memberId = :memberId")
+  Optional<Long> findTokenVersionByMemberId(@Param("memberId") String memberId);
+
 }
@@ -0,0 +1,163 @@
+package com.ecommerce.repository.product;
+
+import com.ecommerce.dto.product.BulkUpdateProductDto;
+import com.ecommerce.dto.product.ProductDto;
+import com.ecommerce.type.ProductStatus;
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 상품 일괄 등록/수정/내보내기용 JDBC 저장소
+ * IDENTITY 전략에서는 Hibernate 가 insert 배치를 사용하지 않으므로 JDBC 배치로 직접 저장
+ * (rewriteBatchedStatements=true 설정시 드라이버가 다중 행 INSERT 로 재작성)
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProductBulkRepository {
+
+  private static final String INSERT_SQL =
+      "INSERT INTO Product (created_at, updated_at, product_name, description, "
+          + "stock_quantity, price, status, rating, member_id) "
+          + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+  private static final String UPDATE_SQL =
+      "UPDATE Product SET updated_at = ?, price = COALESCE(?, price), "
+          + "stock_quantity = ?, status = ? WHERE id = ? AND member_id = ?";
+
+  private static final String EXPORT_SQL =
+      "SELECT id, product_name, description, stock_quantity, price, status, rating, "
+          + "created_at, updated_at FROM Product WHERE member_id = ? ORDER BY created_at, id";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * 상품 목록을 하나의 JDBC 배치로 저장
+   *
+   * @param memberId 판매자 PK
+   * @param requests
+   * @return List<Long> 생성된 상품 id (요청 순서)
+   */
+  public List<Long> insertAll(Long memberId, List<ProductDto.Request> requests) {
+
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+    KeyHolder keyHolder = new GeneratedKeyHolder();
+
+    jdbcTemplate.batchUpdate(
+        connection -> connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS),
+        new BatchPreparedStatementSetter() {
+          @Override
+          public void setValues(PreparedStatement ps, int i) throws SQLException {
+            ProductDto.Request request = requests.get(i);
+
+            ps.setTimestamp(1, now);
+            ps.setTimestamp(2, now);
+            ps.setString(3, request.getProductName());
+            ps.setString(4, request.getDescription());
+            ps.setInt(5, request.getStockQuantity());
+            ps.setBigDecimal(6, request.getPrice());
+            ps.setString(7, request.getStatus().name());
+            ps.setBigDecimal(8, BigDecimal.ZERO);
+            ps.setLong(9, memberId);
+          }
+
+          @Override
+          public int getBatchSize() {
+            return requests.size();
+          }
+        },
+        keyHolder
+    );
+
+    return keyHolder.getKeyList().stream()
+        .map(keys -> ((Number) keys.values().iterator().next()).longValue())
+        .toList();
+  }
+
+  /**
+   * 가격/재고/상태 변경을 하나의 JDBC 배치로 수정 (가격이 없으면 기존 가격 유지)
+   * 재고와 상태는 호출하는 쪽에서 계산한 최종 값
+   *
+   * @param memberId 판매자 PK
+   * @param items
+   * @return int 수정된 행 수
+   */
+  public int updateAll(Long memberId, List<BulkUpdateProductDto.Item> items) {
+
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+    int[][] counts = jdbcTemplate.batchUpdate(UPDATE_SQL, items, items.size(),
+        (ps, item) -> {
+          ps.setTimestamp(1, now);
+          ps.setBigDecimal(2, item.getPrice());
+          ps.setInt(3, item.getStockQuantity());
+          ps.setString(4, item.getStatus().name());
+          ps.setLong(5, item.getProductId());
+          ps.setLong(6, memberId);
+        });
+
+    // 드라이버가 배치를 재작성하면 행 수 대신 SUCCESS_NO_INFO 를 반환할 수 있음
+    return Arrays.stream(counts)
+        .flatMapToInt(Arrays::stream)
+        .map(count -> count == Statement.SUCCESS_NO_INFO ? 1 : count)
+        .sum();
+  }
+
+  /**
+   * 판매자의 전체 상품을 forward-only 커서로 한 행씩 읽어 전달
+   * fetchSize 를 Integer.MIN_VALUE 로 지정하면 MySQL 드라이버가 결과를 메모리에 모으지 않고 스트리밍
+   * (스트리밍이 끝날 때까지 커넥션을 점유하므로 consumer 는 빠르게 반환해야 함)
+   *
+   * @param memberId 판매자 PK
+   * @param seller   판매자 ID (응답의 seller 값)
+   * @param consumer
+   */
+  public void streamBySeller(
+      Long memberId, String seller, Consumer<ProductDto.Response> consumer
+  ) {
+
+    jdbcTemplate.query(
+        connection -> {
+          PreparedStatement ps = connection.prepareStatement(
+              EXPORT_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY
+          );
+          ps.setFetchSize(Integer.MIN_VALUE);
+          ps.setLong(1, memberId);
+          return ps;
+        },
+        (RowCallbackHandler) rs -> consumer.accept(
+            ProductDto.Response.builder()
+                .id(rs.getLong("id"))
+                .productName(rs.getString("product_name"))
+                .description(rs.getString("description"))
+                .stockQuantity(rs.getObject("stock_quantity", Integer.class))
+                .price(rs.getBigDecimal("price"))
+                .status(toStatus(rs.getString("status")))
+                .rating(rs.getBigDecimal("rating"))
+                .seller(seller)
+                .createdAt(rs.getObject("created_at", LocalDateTime.class))
+                .updatedAt(rs.getObject("updated_at", LocalDateTime.class))
+                .build()
+        )
+    );
+  }
+
+  private static ProductStatus toStatus(String status) {
+    return status == null ? null : ProductStatus.valueOf(status);
+  }
+
+}
@@ -0,0 +1,46 @@
+package com.ecommerce.repository.product;
+
+import com.ecommerce.dto.product.ProductDto;
+import com.ecommerce.dto.product.ProductSearchDto;
+import com.ecommerce.dto.product.ProductStateDto;
+import com.ecommerce.type.ProductStatus;
+import com.ecommerce.type.SortType;
+import com.ecommerce.utils.KeysetCursor;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+public interface ProductCustomRepository {
+
+  Optional<ProductDto.Response> findResponseById(Long productId);
+
+  List<ProductDto.Response> findResponsesByIdIn(Collection<Long> ids);
+
+  Page<ProductDto.Response> findResponses(
+      Long sellerId, String search, ProductStatus status, Pageable pageable
+  );
+
+  Slice<ProductDto.Response> findResponseSlice(
+      Long sellerId, String search, ProductStatus status, Pageable pageable
+  );
+
+  long countProducts(Long sellerId, String search, ProductStatus status);
+
+  List<ProductDto.Response> findResponsesByCursor(
+      Long sellerId, String search, ProductStatus status,
+      SortType sortType, KeysetCursor cursor, int limit
+  );
+
+  Optional<ProductSearchDto> findSearchDtoById(Long productId);
+
+  List<ProductSearchDto> findSearchDtosByIdIn(Collection<Long> productIds);
+
+  List<ProductStateDto> findStatesForUpdate(Collection<Long> productIds);
+
+  Stream<ProductSearchDto> streamAllSearchDto();
+
+}
@@ -0,0 +1,383 @@
+package com.ecommerce.repository.product;
+
+import com.ecommerce.dto.product.ProductDto;
+import com.ecommerce.dto.product.ProductSearchDto;
+import com.ecommerce.dto.product.ProductStateDto;
+import com.ecommerce.entity.QMember;
+import com.ecommerce.entity.QProduct;
+import com.ecommerce.type.ProductStatus;
+import com.ecommerce.type.SortType;
+import com.ecommerce.utils.KeysetCursor;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Order;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.LockModeType;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Repository;
+import org.springframework.util.StringUtils;
+
+/**
+ * 상품 조회용 QueryDSL 저장소
+ * 조회 API 는 엔티티 대신 응답에 필요한 컬럼만 DTO 로 조회 (판매자는 member_id 컬럼만 조인)
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProductCustomRepositoryImpl implements ProductCustomRepository {
+
+  private final JPAQueryFactory jpaQueryFactory;
+
+  /**
+   * 상품 정보 조회
+   *
+   * @param productId
+   * @return Optional<ProductDto.Response>
+   */
+  @Override
+  public Optional<ProductDto.Response> findResponseById(Long productId) {
+    QProduct product = QProduct.product;
+
+    return Optional.ofNullable(
+        selectResponse()
+            .where(product.id.eq(productId))
+            .fetchOne()
+    );
+  }
+
+  /**
+   * 상품 id 목록으로 한 번에 조회 (순서는 보장하지 않음)
+   *
+   * @param ids
+   * @return List<ProductDto.Response>
+   */
+  @Override
+  public List<ProductDto.Response> findResponsesByIdIn(Collection<Long> ids) {
+    QProduct product = QProduct.product;
+
+    if (ids.isEmpty()) {
+      return List.of();
+    }
+
+    return selectResponse()
+        .where(product.id.in(ids))
+        .fetch();
+  }
+
+  /**
+   * 상품 목록 페이지 조회 (마지막 페이지 등 전체 개수를 알 수 있으면 COUNT 쿼리 생략)
+   *
+   * @param sellerId 판매자 Member.id (null 이면 전체)
+   * @param search
+   * @param status   상품 상태 (NONE 이면 전체)
+   * @param pageable
+   * @return Page<ProductDto.Response>
+   */
+  @Override
+  public Page<ProductDto.Response> findResponses(
+      Long sellerId, String search, ProductStatus status, Pageable pageable
+  ) {
+    List<ProductDto.Response> content = selectResponse()
+        .where(conditions(sellerId, search, status))
+        .orderBy(orderBy(pageable.getSort()))
+        .offset(pageable.getOffset())
+        .limit(pageable.getPageSize())
+        .fetch();
+
+    return PageableExecutionUtils.getPage(content, pageable,
+        () -> countProducts(sellerId, search, status));
+  }
+
+  /**
+   * 상품 목록 Slice 조회 (한 건 더 조회하여 다음 페이지 존재 여부 확인)
+   *
+   * @param sellerId 판매자 Member.id (null 이면 전체)
+   * @param search
+   * @param status   상품 상태 (NONE 이면 전체)
+   * @param pageable
+   * @return Slice<ProductDto.Response>
+   */
+  @Override
+  public Slice<ProductDto.Response> findResponseSlice(
+      Long sellerId, String search, ProductStatus status, Pageable pageable
+  ) {
+    List<ProductDto.Response> content = selectResponse()
+        .where(conditions(sellerId, search, status))
+        .orderBy(orderBy(pageable.getSort()))
+        .offset(pageable.getOffset())
+        .limit(pageable.getPageSize() + 1L)
+        .fetch();
+
+    boolean hasNext = content.size() > pageable.getPageSize();
+    if (hasNext) {
+      content = content.subList(0, pageable.getPageSize());
+    }
+
+    return new SliceImpl<>(content, pageable, hasNext);
+  }
+
+  /**
+   * 조건에 맞는 상품 개수 (판매자 조인 없이 product 테이블만 조회)
+   *
+   * @param sellerId
+   * @param search
+   * @param status
+   * @return long
+   */
+  @Override
+  public long countProducts(Long sellerId, String search, ProductStatus status) {
+    QProduct product = QProduct.product;
+
+    Long count = jpaQueryFactory
+        .select(product.count())
+        .from(product)
+        .where(conditions(sellerId, search, status))
+        .fetchOne();
+
+    return count != null ? count : 0L;
+  }
+
+  /**
+   * 커서 이후의 상품 목록 조회 (OFFSET 없이 정렬 값과 id 로 이어서 조회)
+   *
+   * @param sellerId 판매자 Member.id (null 이면 전체)
+   * @param search
+   * @param status   상품 상태 (NONE 이면 전체)
+   * @param sortType
+   * @param cursor   마지막으로 조회한 상품 (null 이면 첫 페이지)
+   * @param limit
+   * @return List<ProductDto.Response>
+   */
+  @Override
+  public List<ProductDto.Response> findResponsesByCursor(
+      Long sellerId, String search, ProductStatus status,
+      SortType sortType, KeysetCursor cursor, int limit
+  ) {
+    return selectResponse()
+        .where(conditions(sellerId, search, status))
+        .where(cursor != null ? seek(sortType, cursor) : null)
+        .orderBy(orderBy(sortType))
+        .limit(limit)
+        .fetch();
+  }
+
+  /**
+   * 검색 색인용 상품 정보 조회
+   *
+   * @param productId
+   * @return Optional<ProductSearchDto>
+   */
+  @Override
+  public Optional<ProductSearchDto> findSearchDtoById(Long productId) {
+    QProduct product = QProduct.product;
+
+    return Optional.ofNullable(
+        jpaQueryFactory
+            .select(searchDtoProjection())
+            .from(product)
+            .join(product.member, QMember.member)
+            .where(product.id.eq(productId))
+            .fetchOne()
+    );
+  }
+
+  /**
+   * 검색 색인용 상품 정보 일괄 조회
+   *
+   * @param productIds
+   * @return List<ProductSearchDto>
+   */
+  @Override
+  public List<ProductSearchDto> findSearchDtosByIdIn(Collection<Long> productIds) {
+    QProduct product = QProduct.product;
+
+    return jpaQueryFactory
+        .select(searchDtoProjection())
+        .from(product)
+        .join(product.member, QMember.member)
+        .where(product.id.in(productIds))
+        .fetch();
+  }
+
+  /**
+   * 일괄 수정 대상 상품의 소유자, 재고, 상태를 한 번에 조회하고 수정이 끝날 때까지 행 잠금
+   *
+   * @param productIds
+   * @return List<ProductStateDto>
+   */
+  @Override
+  public List<ProductStateDto> findStatesForUpdate(Collection<Long> productIds) {
+    QProduct product = QProduct.product;
+
+    return jpaQueryFactory
+        .select(Projections.constructor(ProductStateDto.class,
+            product.id,
+            product.member.id,
+            product.stockQuantity,
+            product.status
+        ))
+        .from(product)
+        .where(product.id.in(productIds))
+        .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+        .fetch();
+  }
+
+  /**
+   * 검색 색인 생성을 위한 전체 상품 스트리밍 조회 (트랜잭션 안에서 사용 후 닫아야 함)
+   *
+   * @return Stream<ProductSearchDto>
+   */
+  @Override
+  public Stream<ProductSearchDto> streamAllSearchDto() {
+    QProduct product = QProduct.product;
+
+    return jpaQueryFactory
+        .select(searchDtoProjection())
+        .from(product)
+        .join(product.member, QMember.member)
+        .setHint(HibernateHints.HINT_FETCH_SIZE, Integer.MIN_VALUE)
+        .stream();
+  }
+
+  private JPAQuery<ProductDto.Response> selectResponse() {
+    QProduct product = QProduct.product;
+
+    return jpaQueryFactory
+        .select(responseProjection())
+        .from(product)
+        .join(product.member, QMember.member);
+  }
+
+  private Predicate[] conditions(Long sellerId, String search, ProductStatus status) {
+    QProduct product = QProduct.product;
+
+    return new Predicate[]{
+        sellerId != null ? product.member.id.eq(sellerId) : null,
+        StringUtils.hasText(search) ? product.productName.contains(search) : null,
+        status != null && status != ProductStatus.NONE ? product.status.eq(status) : null
+    };
+  }
+
+  /**
+   * 커서 조건 (정렬 값이 같으면 id 로 순서 결정)
+   *
+   * @param sortType
+   * @param cursor
+   * @return BooleanExpression
+   */
+  private BooleanExpression seek(SortType sortType, KeysetCursor cursor) {
+    QProduct product = QProduct.product;
+    Long id = cursor.getId();
+
+    switch (sortType) {
+      case LOW_PRICE -> {
+        BigDecimal price = cursor.getDecimalValue();
+        return product.price.gt(price).or(product.price.eq(price).and(product.id.gt(id)));
+      }
+      case HIGH_PRICE -> {
+        BigDecimal price = cursor.getDecimalValue();
+        return product.price.lt(price).or(product.price.eq(price).and(product.id.lt(id)));
+      }
+      case LOW_RATING -> {
+        BigDecimal rating = cursor.getDecimalValue();
+        return product.rating.gt(rating).or(product.rating.eq(rating).and(product.id.gt(id)));
+      }
+      case HIGH_RATING -> {
+        BigDecimal rating = cursor.getDecimalValue();
+        return product.rating.lt(rating).or(product.rating.eq(rating).and(product.id.lt(id)));
+      }
+      default -> {
+        LocalDateTime createdAt = cursor.getDateTimeValue();
+        return product.createdAt.lt(createdAt)
+            .or(product.createdAt.eq(createdAt).and(product.id.lt(id)));
+      }
+    }
+  }
+
+  private OrderSpecifier<?>[] orderBy(SortType sortType) {
+    QProduct product = QProduct.product;
+
+    return switch (sortType) {
+      case LOW_PRICE -> new OrderSpecifier<?>[]{product.price.asc(), product.id.asc()};
+      case HIGH_PRICE -> new OrderSpecifier<?>[]{product.price.desc(), product.id.desc()};
+      case LOW_RATING -> new OrderSpecifier<?>[]{product.rating.asc(), product.id.asc()};
+      case HIGH_RATING -> new OrderSpecifier<?>[]{product.rating.desc(), product.id.desc()};
+      default -> new OrderSpecifier<?>[]{product.createdAt.desc(), product.id.desc()};
+    };
+  }
+
+  /**
+   * Pageable 의 정렬 조건 변환 (정렬 값이 같은 행은 id 역순)
+   *
+   * @param sort
+   * @return OrderSpecifier<?>[]
+   */
+  private OrderSpecifier<?>[] orderBy(Sort sort) {
+    QProduct product = QProduct.product;
+    List<OrderSpecifier<?>> orders = new ArrayList<>();
+
+    for (Sort.Order order : sort) {
+      Order direction = order.isAscending() ? Order.ASC : Order.DESC;
+
+      switch (order.getProperty()) {
+        case "price" -> orders.add(new OrderSpecifier<>(direction, product.price));
+        case "rating" -> orders.add(new OrderSpecifier<>(direction, product.rating));
+        case "createdAt" -> orders.add(new OrderSpecifier<>(direction, product.createdAt));
+        default -> throw new IllegalArgumentException("지원하지 않는 정렬 기준입니다. " + order);
+      }
+    }
+    orders.add(product.id.desc());
+
+    return orders.toArray(OrderSpecifier<?>[]::new);
+  }
+
+  private ConstructorExpression<ProductDto.Response> responseProjection() {
+    QProduct product = QProduct.product;
+
+    return Projections.constructor(ProductDto.Response.class,
+        product.id,
+        product.productName,
+        product.description,
+        product.stockQuantity,
+        product.price,
+        product.status,
+        product.rating,
+        QMember.member.memberId,
+        product.createdAt,
+        product.updateAt
+    );
+  }
+
+  private ConstructorExpression<ProductSearchDto> searchDtoProjection() {
+    QProduct product = QProduct.product;
+
+    return Projections.constructor(ProductSearchDto.class,
+        product.id,
+        product.productName,
+        product.description,
+        product.status,
+        QMember.member.memberId,
+        product.price,
+        product.rating,
+        product.createdAt
+    );
+  }
+
+}
@@ -0,0 +1,17 @@
+package com.ecommerce.repository.product;
+
+import com.ecommerce.entity.Product;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ProductRepository extends JpaRepository<Product, Long>, ProductCustomRepository {
+
+  /**
+   * 상품 수정/삭제시 판매자 확인을 위해 판매자와 함께 조회
+   */
+  @Override
+  @EntityGraph("Product.withMember")
+  Optional<Product> findById(Long id);
+
+}
@@ -1,9 +1,17 @@
 package com.ecommerce.repository.review;
 
+import com.ecommerce.entity.Review;
+import com.ecommerce.type.SortType;
+import com.ecommerce.utils.KeysetCursor;
 import java.math.BigDecimal;
+import java.util.List;
 
 public interface ReviewCustomRepository {
 
   BigDecimal findAverageRatingByProductId(Long productId);
 
+  List<Review> findByProductIdAndCursor(
+      Long productId, SortType sortType, KeysetCursor cursor, int limit
+  );
+
 }
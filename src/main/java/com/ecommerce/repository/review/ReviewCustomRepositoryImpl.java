@@ -1,8 +1,15 @@
 package com.ecommerce.repository.review;
 
 import com.ecommerce.entity.QReview;
+import com.ecommerce.entity.Review;
+import com.ecommerce.type.SortType;
+import com.ecommerce.utils.KeysetCursor;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
@@ -30,4 +37,70 @@ public class ReviewCustomRepositoryImpl implements ReviewCustomRepository {
     return ratingAvg != null ? BigDecimal.valueOf(ratingAvg) : BigDecimal.ZERO;
   }
 
+  /**
+   * 특정 상품의 커서 이후 리뷰 목록 조회 (OFFSET 없이 정렬 값과 id 로 이어서 조회)
+   *
+   * @param productId
+   * @param sortType
+   * @param cursor    마지막으로 조회한 리뷰 (null 이면 첫 페이지)
+   * @param limit
+   * @return List<Review>
+   */
+  @Override
+  public List<Review> findByProductIdAndCursor(
+      Long productId, SortType sortType, KeysetCursor cursor, int limit
+  ) {
+    QReview review = QReview.review;
+
+    return jpaQueryFactory
+        .selectFrom(review)
+        .join(review.member).fetchJoin()
+        .join(review.product).fetchJoin()
+        .where(
+            review.product.id.eq(productId),
+            cursor != null ? seek(sortType, cursor) : null
+        )
+        .orderBy(orderBy(sortType))
+        .limit(limit)
+        .fetch();
+  }
+
+  /**
+   * 커서 조건 (평점이 같으면 id 로 순서 결정)
+   *
+   * @param sortType
+   * @param cursor
+   * @return BooleanExpression
+   */
+  private BooleanExpression seek(SortType sortType, KeysetCursor cursor) {
+    QReview review = QReview.review;
+    Long id = cursor.getId();
+
+    switch (sortType) {
+      case LOW_RATING -> {
+        BigDecimal rating = cursor.getDecimalValue();
+        return review.rating.gt(rating).or(review.rating.eq(rating).and(review.id.gt(id)));
+      }
+      case HIGH_RATING -> {
+        BigDecimal rating = cursor.getDecimalValue();
+        return review.rating.lt(rating).or(review.rating.eq(rating).and(review.id.lt(id)));
+      }
+      default -> {
+        LocalDateTime createdAt = cursor.getDateTimeValue();
+        return review.createdAt.lt(createdAt)
+            .or(review.createdAt.eq(createdAt).and(review.id.lt(id)));
+      }
+    }
+  }
+
+  private OrderSpecifier<?>[] orderBy(SortType sortType) {
+    QReview review = QReview.review;
+
+    return switch (sortType) {
+      case LOW_RATING -> new OrderSpecifier<?>[]{review.rating.asc(), review.id.asc()};
+      case HIGH_RATING -> new OrderSpecifier<?>[]{review.rating.desc(), review.id.desc()};
+      default -> new OrderSpecifier<?>[]{review.createdAt.desc(), review.id.desc()};
+    };
+  }
+
 }
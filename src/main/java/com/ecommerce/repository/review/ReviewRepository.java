@@ -3,8 +3,10 @@ package com.ecommerce.repository.review;
 import com.ecommerce.entity.Member;
 import com.ecommerce.entity.Product;
 import com.ecommerce.entity.Review;
+import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -13,8 +15,17 @@ public interface ReviewRepository extends JpaRepository<Review, Long>, ReviewCus
 
   boolean existsByMemberAndProduct(Member member, Product product);
 
+  /**
+   * 리뷰 조회/수정/삭제시 작성자 확인과 응답 생성을 위해 작성자, 상품과 함께 조회
+   */
+  @Override
+  @EntityGraph("Review.withMemberAndProduct")
+  Optional<Review> findById(Long id);
+
+  @EntityGraph("Review.withMemberAndProduct")
   Page<Review> findByProduct(Product product, Pageable pageable);
 
+  @EntityGraph("Review.withMemberAndProduct")
   Page<Review> findByMember(Member member, Pageable pageable);
 
 }
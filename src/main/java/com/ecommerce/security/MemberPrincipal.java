@@ -0,0 +1,27 @@
+package com.ecommerce.security;
+
+import com.ecommerce.entity.Member;
+import com.ecommerce.type.Role;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+/**
+ * 인증된 사용자 정보 (PrincipalCache 에 저장하고 SecurityContext 의 principal 로 사용)
+ * 노드의 모든 요청이 같은 인스턴스를 공유하므로 비밀번호 없이 인증에 필요한 값만 담은 불변 객체로 저장
+ * 사용자 정보를 변경하거나 연관관계로 사용하는 서비스는 MemberRepository 에서 영속 상태의 Member 를 조회
+ */
+public record MemberPrincipal(Long id, String memberId, Role role, long tokenVersion) {
+
+  public static MemberPrincipal from(Member member) {
+    return new MemberPrincipal(
+        member.getId(), member.getMemberId(), member.getRole(), member.getTokenVersion()
+    );
+  }
+
+  public Collection<? extends GrantedAuthority> getAuthorities() {
+    return List.of(new SimpleGrantedAuthority("ROLE_" + role.name()));
+  }
+
+}
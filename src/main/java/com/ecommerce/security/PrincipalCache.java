@@ -0,0 +1,99 @@
+package com.ecommerce.security;
+
+import com.ecommerce.entity.Member;
+import com.ecommerce.utils.TransactionUtils;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * 인증된 사용자 로컬 캐시 (memberId 기준)
+ * 여러 요청이 동시에 읽으므로 JPA 엔티티가 아닌 불변 MemberPrincipal 로 저장 (비밀번호 제외)
+ * 회원 정보 수정/삭제시 Redis Pub/Sub 으로 다른 노드의 캐시도 함께 무효화
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PrincipalCache implements MessageListener {
+
+  private static final String INVALIDATE_CHANNEL = "principal:invalidate";
+
+  private final StringRedisTemplate stringRedisTemplate;
+  private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+  @Value("${app.security.principal-cache.maximum-size}")
+  private long maximumSize;
+
+  @Value("${app.security.principal-cache.ttl-seconds}")
+  private long ttlSeconds;
+
+  private Cache<String, MemberPrincipal> cache;
+
+  @PostConstruct
+  public void init() {
+    this.cache = Caffeine.newBuilder()
+        .maximumSize(maximumSize)
+        .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+        .build();
+
+    redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATE_CHANNEL));
+  }
+
+  /**
+   * 캐시에서 사용자 조회, 없으면 loader 로 조회 후 캐시에 저장 (조회 결과가 없으면 저장하지 않음)
+   *
+   * @param memberId
+   * @param loader
+   * @return Optional<MemberPrincipal>
+   */
+  public Optional<MemberPrincipal> getPrincipal(
+      String memberId, Function<String, Optional<Member>> loader
+  ) {
+    return Optional.ofNullable(
+        cache.get(memberId, key -> loader.apply(key).map(MemberPrincipal::from).orElse(null))
+    );
+  }
+
+  /**
+   * 트랜잭션 커밋 이후 현재 노드의 캐시를 무효화하고 다른 노드에 무효화 메시지 발행
+   *
+   * @param memberId
+   */
+  public void evict(String memberId) {
+    TransactionUtils.runAfterCommit(() -> {
+      cache.invalidate(memberId);
+
+      try {
+        stringRedisTemplate.convertAndSend(INVALIDATE_CHANNEL, memberId);
+      } catch (Exception e) {
+        // 메시지 발행에 실패해도 다른 노드의 캐시는 TTL 이후 만료
+        log.error("사용자 캐시 무효화 메시지 발행에 실패했습니다. (memberId : {})", memberId, e);
+      }
+    });
+  }
+
+  /**
+   * 다른 노드에서 발행한 무효화 메시지 수신
+   *
+   * @param message
+   * @param pattern
+   */
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    cache.invalidate(new String(message.getBody(), StandardCharsets.UTF_8));
+  }
+
+}
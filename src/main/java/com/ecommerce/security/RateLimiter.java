@@ -0,0 +1,201 @@
+package com.ecommerce.security;
+
+import com.ecommerce.config.RateLimitProperties;
+import com.ecommerce.config.RateLimitProperties.Limit;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis Lua 스크립트로 동작하는 토큰 버킷
+ * 여러 버킷(IP, 사용자 ID)을 한 번에 확인하고, 모두 여유가 있을 때만 토큰을 차감
+ * Redis 응답이 느리거나 실패하면 노드 로컬 버킷으로 대신 판단 (이 경우 제한은 노드 단위로 적용)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RateLimiter {
+
+  private static final String KEY_PREFIX = "rate-limit:";
+
+  // KEYS[i] 버킷에 대해 ARGV[2i-1] = capacity, ARGV[2i] = 밀리초당 충전 토큰 수
+  // 반환값 0 = 허용, 그 외 = 재시도까지 남은 시간(ms)
+  private static final RedisScript<Long> TOKEN_BUCKET_SCRIPT = new DefaultRedisScript<>(
+      "local time = redis.call('TIME') "
+          + "local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000) "
+          + "local states = {} "
+          + "local retry = 0 "
+          + "for i, key in ipairs(KEYS) do "
+          + "  local capacity = tonumber(ARGV[i * 2 - 1]) "
+          + "  local rate = tonumber(ARGV[i * 2]) "
+          + "  local bucket = redis.call('HMGET', key, 'tokens', 'ts') "
+          + "  local tokens = tonumber(bucket[1]) or capacity "
+          + "  local ts = tonumber(bucket[2]) or now "
+          + "  tokens = math.min(capacity, tokens + math.max(0, now - ts) * rate) "
+          + "  if tokens < 1 then "
+          + "    retry = math.max(retry, math.ceil((1 - tokens) / rate)) "
+          + "  end "
+          + "  states[i] = tokens "
+          + "end "
+          + "for i, key in ipairs(KEYS) do "
+          + "  local capacity = tonumber(ARGV[i * 2 - 1]) "
+          + "  local rate = tonumber(ARGV[i * 2]) "
+          + "  local tokens = states[i] "
+          + "  if retry == 0 then tokens = tokens - 1 end "
+          + "  redis.call('HSET', key, 'tokens', tostring(tokens), 'ts', tostring(now)) "
+          + "  redis.call('PEXPIRE', key, math.ceil(capacity / rate)) "
+          + "end "
+          + "return retry",
+      Long.class
+  );
+
+  private final StringRedisTemplate stringRedisTemplate;
+  private final RateLimitProperties rateLimitProperties;
+  private final MeterRegistry meterRegistry;
+
+  private ThreadPoolExecutor redisExecutor;
+  private Cache<String, LocalTokenBucket> localBuckets;
+  private Counter fallbackCounter;
+
+  @PostConstruct
+  public void init() {
+    int threads = rateLimitProperties.getRedisThreads();
+
+    this.redisExecutor = new ThreadPoolExecutor(
+        threads, threads,
+        0L, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(threads * 16),
+        new CustomizableThreadFactory("rate-limit-"),
+        new ThreadPoolExecutor.AbortPolicy()
+    );
+
+    this.localBuckets = Caffeine.newBuilder()
+        .maximumSize(rateLimitProperties.getLocalMaximumSize())
+        .expireAfterAccess(Duration.ofMinutes(10))
+        .build();
+
+    this.fallbackCounter = Counter.builder("rate.limit.fallback")
+        .description("Redis 지연/장애로 로컬 버킷을 사용한 횟수")
+        .register(meterRegistry);
+  }
+
+  @PreDestroy
+  public void destroy() {
+    redisExecutor.shutdown();
+  }
+
+  /**
+   * 요청 허용 여부 확인
+   *
+   * @param route
+   * @param keys   버킷 키 (route 기준으로 prefix 가 붙음)
+   * @param limits 키와 같은 순서의 제한 설정
+   * @return long 0 이면 허용, 그 외에는 재시도까지 남은 시간(ms)
+   */
+  public long tryAcquire(String route, List<String> keys, List<Limit> limits) {
+
+    List<String> redisKeys = new ArrayList<>(keys.size());
+    List<String> args = new ArrayList<>(limits.size() * 2);
+    for (int i = 0; i < keys.size(); i++) {
+      redisKeys.add(KEY_PREFIX + route + ":" + keys.get(i));
+      args.add(String.valueOf(limits.get(i).getCapacity()));
+      args.add(String.valueOf(limits.get(i).getRefillPerSecond() / 1000.0));
+    }
+
+    long retryAfterMillis;
+    try {
+      Future<Long> future = redisExecutor.submit(() -> stringRedisTemplate.execute(
+          TOKEN_BUCKET_SCRIPT, redisKeys, args.toArray())
+      );
+      try {
+        Long result = future.get(rateLimitProperties.getRedisTimeoutMs(), TimeUnit.MILLISECONDS);
+        retryAfterMillis = result == null ? 0L : result;
+      } finally {
+        future.cancel(true);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      retryAfterMillis = tryAcquireLocal(redisKeys, limits);
+    } catch (Exception e) {
+      log.warn("Redis 요청 제한 확인을 실패하여 로컬 버킷을 사용합니다. ({})", e.toString());
+      retryAfterMillis = tryAcquireLocal(redisKeys, limits);
+    }
+
+    if (retryAfterMillis > 0) {
+      meterRegistry.counter("rate.limit.rejected", "route", route).increment();
+    }
+
+    return retryAfterMillis;
+
+  }
+
+  private long tryAcquireLocal(List<String> keys, List<Limit> limits) {
+
+    fallbackCounter.increment();
+
+    List<LocalTokenBucket> buckets = new ArrayList<>(keys.size());
+    for (int i = 0; i < keys.size(); i++) {
+      Limit limit = limits.get(i);
+      buckets.add(localBuckets.get(keys.get(i), key -> new LocalTokenBucket(limit)));
+    }
+
+    // Lua 스크립트와 같은 의미로, 모든 버킷에 여유가 있을 때만 차감
+    synchronized (this) {
+      long retryAfterMillis = 0L;
+      for (LocalTokenBucket bucket : buckets) {
+        retryAfterMillis = Math.max(retryAfterMillis, bucket.refill());
+      }
+      if (retryAfterMillis == 0L) {
+        buckets.forEach(LocalTokenBucket::consume);
+      }
+      return retryAfterMillis;
+    }
+
+  }
+
+  private static class LocalTokenBucket {
+
+    private final long capacity;
+    private final double refillPerMillis;
+
+    private double tokens;
+    private long lastRefillNanos;
+
+    LocalTokenBucket(Limit limit) {
+      this.capacity = limit.getCapacity();
+      this.refillPerMillis = limit.getRefillPerSecond() / 1000.0;
+      this.tokens = capacity;
+      this.lastRefillNanos = System.nanoTime();
+    }
+
+    long refill() {
+      long now = System.nanoTime();
+      double elapsedMillis = (now - lastRefillNanos) / 1_000_000.0;
+      tokens = Math.min(capacity, tokens + elapsedMillis * refillPerMillis);
+      lastRefillNanos = now;
+
+      return tokens >= 1 ? 0L : (long) Math.ceil((1 - tokens) / refillPerMillis);
+    }
+
+    void consume() {
+      tokens -= 1;
+    }
+  }
+}
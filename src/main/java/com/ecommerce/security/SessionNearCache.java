@@ -0,0 +1,133 @@
+package com.ecommerce.security;
+
+import com.ecommerce.repository.redis.RedisRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Properties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * 로그인 세션(Redis 에 memberId 를 키로 저장된 토큰) 존재 여부 로컬 캐시
+ * 로그아웃, 만료로 키가 삭제되면 Redis Keyspace Notification 으로 모든 노드의 캐시를 무효화하고,
+ * 알림이 유실되더라도 ttl-seconds 이후에는 Redis 에서 다시 확인
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SessionNearCache implements MessageListener {
+
+  private static final String NOTIFY_KEYSPACE_EVENTS = "notify-keyspace-events";
+
+  private final RedisRepository redisRepository;
+  private final StringRedisTemplate stringRedisTemplate;
+  private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+  @Value("${app.security.session-near-cache.maximum-size}")
+  private long maximumSize;
+
+  @Value("${app.security.session-near-cache.ttl-seconds}")
+  private long ttlSeconds;
+
+  @Value("${app.security.session-near-cache.keyspace-events}")
+  private String keyspaceEvents;
+
+  private Cache<String, Boolean> cache;
+
+  @PostConstruct
+  public void init() {
+    this.cache = Caffeine.newBuilder()
+        .maximumSize(maximumSize)
+        .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+        .build();
+
+    enableKeyspaceNotifications();
+
+    redisMessageListenerContainer.addMessageListener(this, List.of(
+        new PatternTopic("__keyevent@*__:del"),
+        new PatternTopic("__keyevent@*__:expired")
+    ));
+  }
+
+  /**
+   * 로그인 세션 존재 여부 확인 (로컬 캐시에 없으면 Redis 조회, 존재하는 세션만 캐시)
+   *
+   * @param memberId
+   * @return boolean
+   */
+  public boolean isActive(String memberId) {
+
+    if (cache.getIfPresent(memberId) != null) {
+      return true;
+    }
+
+    boolean isActive = redisRepository.getData(memberId) != null;
+    if (isActive) {
+      cache.put(memberId, Boolean.TRUE);
+    }
+
+    return isActive;
+
+  }
+
+  /**
+   * 현재 노드의 로그인 세션 캐시 무효화
+   *
+   * @param memberId
+   */
+  public void invalidate(String memberId) {
+    cache.invalidate(memberId);
+  }
+
+  /**
+   * Redis 키 삭제/만료 이벤트 수신 (메시지 본문은 삭제된 키)
+   *
+   * @param message
+   * @param pattern
+   */
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    invalidate(new String(message.getBody(), StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Redis 서버에 Keyspace Notification 설정이 없으면 키 삭제/만료 이벤트 발행 설정
+   * (CONFIG 명령이 막혀있는 환경이면 서버 설정이 필요하고, 그 동안은 ttl-seconds 로 무효화 지연이 제한됨)
+   */
+  private void enableKeyspaceNotifications() {
+
+    if (!StringUtils.hasText(keyspaceEvents)) {
+      return;
+    }
+
+    try {
+      stringRedisTemplate.execute((RedisCallback<Void>) connection -> {
+        Properties config = connection.serverCommands().getConfig(NOTIFY_KEYSPACE_EVENTS);
+        String current = config != null ? config.getProperty(NOTIFY_KEYSPACE_EVENTS) : null;
+
+        if (!StringUtils.hasText(current)) {
+          connection.serverCommands().setConfig(NOTIFY_KEYSPACE_EVENTS, keyspaceEvents);
+        }
+        return null;
+      });
+    } catch (Exception e) {
+      log.warn("Redis Keyspace Notification 설정에 실패했습니다. 서버 설정을 확인해 주세요. ({})",
+          e.getMessage());
+    }
+
+  }
+
+}
@@ -0,0 +1,145 @@
+package com.ecommerce.security;
+
+import com.ecommerce.provider.JwtProvider;
+import com.ecommerce.utils.TransactionUtils;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자별 최소 유효 토큰 버전 (TOKEN_VERSION 검증 모드)
+ * 로그아웃시 올라간 버전을 Redis Pub/Sub 으로 모든 노드에 전파하고, 검증은 로컬 맵 조회만으로 처리
+ * 폐기 이전에 발급된 토큰은 최대 토큰 유효기간 이후 만료되므로, 그 이후에는 항목을 제거
+ * 새로 시작한 노드는 Redis 에 TTL 로 저장된 폐기 정보로 초기화
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenRevocationRegistry implements MessageListener {
+
+  private static final String REVOKE_CHANNEL = "token:revoke";
+  private static final String REVOKE_KEY_PREFIX = "token-revocation:";
+
+  private final StringRedisTemplate stringRedisTemplate;
+  private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+  private final Map<String, Revocation> revocations = new ConcurrentHashMap<>();
+
+  @PostConstruct
+  public void init() {
+    redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(REVOKE_CHANNEL));
+    load();
+  }
+
+  /**
+   * 토큰 버전이 폐기된 버전인지 확인
+   *
+   * @param memberId
+   * @param tokenVersion
+   * @return boolean
+   */
+  public boolean isRevoked(String memberId, long tokenVersion) {
+    Revocation revocation = revocations.get(memberId);
+    return revocation != null && tokenVersion < revocation.minVersion();
+  }
+
+  /**
+   * 트랜잭션 커밋 이후 minVersion 미만의 토큰을 폐기하고 다른 노드에 전파
+   *
+   * @param memberId
+   * @param minVersion
+   */
+  public void revoke(String memberId, long minVersion) {
+    TransactionUtils.runAfterCommit(() -> {
+      long revokedAt = System.currentTimeMillis();
+      apply(memberId, minVersion, revokedAt);
+
+      String value = minVersion + ":" + revokedAt;
+      try {
+        stringRedisTemplate.opsForValue().set(
+            REVOKE_KEY_PREFIX + memberId, value, JwtProvider.TOKEN_EXPIRE_TIME, TimeUnit.MILLISECONDS
+        );
+        stringRedisTemplate.convertAndSend(REVOKE_CHANNEL, memberId + ":" + value);
+      } catch (Exception e) {
+        log.error("토큰 폐기 메시지 발행에 실패했습니다. (memberId : {})", memberId, e);
+      }
+    });
+  }
+
+  /**
+   * 다른 노드에서 발행한 폐기 메시지 수신 (memberId:minVersion:revokedAt)
+   *
+   * @param message
+   * @param pattern
+   */
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    String body = new String(message.getBody(), StandardCharsets.UTF_8);
+
+    int versionIndex = body.lastIndexOf(':', body.lastIndexOf(':') - 1);
+    if (versionIndex < 0) {
+      return;
+    }
+
+    parseAndApply(body.substring(0, versionIndex), body.substring(versionIndex + 1));
+  }
+
+  /**
+   * 토큰 유효기간이 지난 폐기 항목 제거
+   */
+  @Scheduled(fixedDelay = 60_000)
+  public void prune() {
+    long threshold = System.currentTimeMillis() - JwtProvider.TOKEN_EXPIRE_TIME;
+    revocations.values().removeIf(revocation -> revocation.revokedAt() < threshold);
+  }
+
+  private void load() {
+    ScanOptions options = ScanOptions.scanOptions()
+        .match(REVOKE_KEY_PREFIX + "*")
+        .count(1000)
+        .build();
+
+    try (Cursor<String> keys = stringRedisTemplate.scan(options)) {
+      while (keys.hasNext()) {
+        String key = keys.next();
+        String value = stringRedisTemplate.opsForValue().get(key);
+        if (value != null) {
+          parseAndApply(key.substring(REVOKE_KEY_PREFIX.length()), value);
+        }
+      }
+    } catch (Exception e) {
+      log.warn("토큰 폐기 정보 초기화에 실패했습니다. ({})", e.getMessage());
+    }
+  }
+
+  private void parseAndApply(String memberId, String value) {
+    String[] parts = value.split(":");
+    try {
+      apply(memberId, Long.parseLong(parts[0]), Long.parseLong(parts[1]));
+    } catch (RuntimeException e) {
+      log.warn("잘못된 토큰 폐기 정보입니다. ({} = {})", memberId, value);
+    }
+  }
+
+  private void apply(String memberId, long minVersion, long revokedAt) {
+    revocations.merge(memberId, new Revocation(minVersion, revokedAt),
+        (current, next) -> current.minVersion() >= next.minVersion() ? current : next);
+  }
+
+  private record Revocation(long minVersion, long revokedAt) {
+
+  }
+}
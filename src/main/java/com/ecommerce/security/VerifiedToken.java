@@ -0,0 +1,20 @@
+package com.ecommerce.security;
+
+import com.ecommerce.type.Role;
+import java.util.Date;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * JwtAuthenticationFilter 에서 요청당 한 번 서명/유효기간 검증을 마친 토큰 정보
+ */
+@Getter
+@AllArgsConstructor
+public class VerifiedToken {
+
+  private final String token;
+  private final String memberId;
+  private final Role role;
+  private final Date expiration;
+
+}
@@ -0,0 +1,28 @@
+package com.ecommerce.security;
+
+import java.util.Optional;
+import lombok.experimental.UtilityClass;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+@UtilityClass
+public class VerifiedTokenHolder {
+
+  /**
+   * 현재 요청의 SecurityContext 에 등록된 검증 완료 토큰 조회
+   *
+   * @return Optional<VerifiedToken>
+   */
+  public static Optional<VerifiedToken> getVerifiedToken() {
+
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+    if (authentication != null && authentication.getDetails() instanceof VerifiedToken token) {
+      return Optional.of(token);
+    }
+
+    return Optional.empty();
+
+  }
+
+}
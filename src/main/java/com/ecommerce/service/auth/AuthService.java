@@ -4,9 +4,11 @@ import com.ecommerce.dto.ResponseDto;
 import com.ecommerce.dto.auth.CheckCertificationDto;
 import com.ecommerce.dto.auth.EmailCertificationDto;
 import com.ecommerce.dto.auth.IdDuplicateCheckDto;
+import com.ecommerce.dto.auth.RefreshTokenDto;
 import com.ecommerce.dto.auth.SignInDto;
 import com.ecommerce.dto.auth.SignUpDto;
 import com.ecommerce.dto.member.MemberDto;
+import com.ecommerce.type.Role;
 
 public interface AuthService {
 
@@ -14,6 +16,8 @@ public interface AuthService {
 
   ResponseDto emailCertification(EmailCertificationDto.Request request);
 
+  ResponseDto getEmailCertificationStatus(String memberId);
+
   ResponseDto checkCertification(CheckCertificationDto.Request request);
 
   MemberDto signUp(SignUpDto.Request request);
@@ -22,6 +26,10 @@ public interface AuthService {
 
   ResponseDto signOut(String memberId, String token);
 
+  SignInDto.Response refresh(RefreshTokenDto.Request request);
+
+  SignInDto.Response issueToken(String memberId, Role role, long tokenVersion);
+
   void checkExistsUserId(String memberId);
 
   void equalToMemberIdFromToken(String memberId, String token);
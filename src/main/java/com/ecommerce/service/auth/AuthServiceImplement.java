@@ -4,6 +4,7 @@ import com.ecommerce.dto.ResponseDto;
 import com.ecommerce.dto.auth.CheckCertificationDto;
 import com.ecommerce.dto.auth.EmailCertificationDto;
 import com.ecommerce.dto.auth.IdDuplicateCheckDto;
+import com.ecommerce.dto.auth.RefreshTokenDto;
 import com.ecommerce.dto.auth.SignInDto;
 import com.ecommerce.dto.auth.SignUpDto;
 import com.ecommerce.dto.auth.SignUpDto.Request;
@@ -12,21 +13,30 @@ import com.ecommerce.entity.Cart;
 import com.ecommerce.entity.Member;
 import com.ecommerce.exception.CertificationException;
 import com.ecommerce.exception.DataBaseException;
-import com.ecommerce.exception.EmailException;
 import com.ecommerce.exception.MemberException;
-import com.ecommerce.provider.EmailProvider;
+import com.ecommerce.exception.TokenException;
 import com.ecommerce.provider.JwtProvider;
+import com.ecommerce.provider.PasswordHashProvider;
+import com.ecommerce.provider.RefreshTokenProvider;
+import com.ecommerce.provider.RefreshTokenProvider.Rotation;
 import com.ecommerce.repository.CartRepository;
 import com.ecommerce.repository.MemberRepository;
+import com.ecommerce.security.MemberPrincipal;
+import com.ecommerce.security.PrincipalCache;
+import com.ecommerce.security.SessionNearCache;
+import com.ecommerce.security.TokenRevocationRegistry;
+import com.ecommerce.security.VerifiedTokenHolder;
+import com.ecommerce.service.email.EmailOutboxService;
+import com.ecommerce.service.member.MemberIdBloomFilter;
 import com.ecommerce.service.redis.RedisService;
 import com.ecommerce.type.ResponseCode;
 import com.ecommerce.type.Role;
+import com.ecommerce.type.TokenValidationMode;
 import com.ecommerce.utils.CertificationNumber;
 import jakarta.transaction.Transactional;
 import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 @Slf4j
@@ -37,11 +47,16 @@ public class AuthServiceImplement implements AuthService {
   private final MemberRepository memberRepository;
   private final CartRepository cartRepository;
 
-  private final EmailProvider emailProvider;
   private final JwtProvider jwtProvider;
-  private final PasswordEncoder passwordEncoder;
+  private final PasswordHashProvider passwordHashProvider;
+  private final RefreshTokenProvider refreshTokenProvider;
 
+  private final EmailOutboxService emailOutboxService;
+  private final MemberIdBloomFilter memberIdBloomFilter;
   private final RedisService redisService;
+  private final SessionNearCache sessionNearCache;
+  private final TokenRevocationRegistry tokenRevocationRegistry;
+  private final PrincipalCache principalCache;
 
   /**
    * 사용자 ID 중복 체크
@@ -73,17 +88,25 @@ public class AuthServiceImplement implements AuthService {
 
     String certificationNumber = CertificationNumber.getCertificationNumber();
 
-    boolean isSucceed =
-        emailProvider.sendCertificationMail(request.getEmail(), certificationNumber);
-    if (!isSucceed) {
-      throw new EmailException(ResponseCode.MAIL_SEND_FAIL);
-    }
-
     // Redis 에 UserId 를 키값으로 CertificationNumber 를 저장. (유효시간 3분으로 설정)
     redisService.saveDataWithTTL(userId, certificationNumber, 3, TimeUnit.MINUTES);
 
-    return ResponseDto.getResponseBody(ResponseCode.MAIL_SEND_SUCCESS);
+    // 실제 전송은 아웃박스 워커가 처리, 전송 결과는 상태 조회 API 로 확인
+    emailOutboxService.enqueueCertificationMail(userId, request.getEmail(), certificationNumber);
+
+    return ResponseDto.getResponseBody(ResponseCode.MAIL_SEND_PENDING);
+
+  }
 
+  /**
+   * 인증메일 전송 상태 조회
+   *
+   * @param memberId
+   * @return ResponseDto
+   */
+  @Override
+  public ResponseDto getEmailCertificationStatus(String memberId) {
+    return emailOutboxService.getCertificationMailStatus(memberId);
   }
 
   /**
@@ -118,17 +141,22 @@ public class AuthServiceImplement implements AuthService {
 
     String userId = request.getMemberId();
 
-    checkExistsUserId(request.getMemberId());
+    // 가입은 Bloom Filter 를 거치지 않고 항상 DB 로 확인
+    if (memberRepository.existsByMemberId(userId)) {
+      throw new MemberException(ResponseCode.MEMBER_ALREADY_EXISTS);
+    }
 
     boolean isCheckVerified = redisService.checkVerified(userId + ":verified");
     if (!isCheckVerified) {
       throw new CertificationException(ResponseCode.MAIL_CERTIFICATION_DOSE_NOT_EXISTS);
     }
 
-    try {
-      String encodedPassword = passwordEncoder.encode(request.getPassword());
+    // 해시 대기열 포화 (ServerBusyException, 503) 는 DB 오류로 바꾸지 않도록 try 밖에서 처리
+    String encodedPassword = passwordHashProvider.encode(request.getPassword());
 
+    try {
       Member savedMember = memberRepository.save(Request.toEntity(request, encodedPassword));
+      memberIdBloomFilter.add(savedMember.getMemberId());
 
       if (savedMember.getRole() == Role.CUSTOMER) {
         cartRepository.save(
@@ -156,17 +184,58 @@ public class AuthServiceImplement implements AuthService {
     Member member = memberRepository.findByMemberId(request.getMemberId())
         .orElseThrow(() -> new MemberException(ResponseCode.MEMBER_NOT_FOUND));
 
-    boolean isMatched = passwordEncoder.matches(request.getPassword(), member.getPassword());
+    boolean isMatched = passwordHashProvider.matches(request.getPassword(), member.getPassword());
     if (!isMatched) {
       throw new MemberException(ResponseCode.MEMBER_PASSWORD_UNMATCHED);
     }
 
-    String token = jwtProvider.createToken(member.getMemberId(), member.getRole());
+    // BCrypt strength 설정이 올라간 경우 로그인 성공시 새 strength 로 다시 암호화
+    if (passwordHashProvider.upgradeEncoding(member.getPassword())) {
+      member.setPassword(passwordHashProvider.encode(request.getPassword()));
+      memberRepository.save(member);
+    }
+
+    return issueToken(member.getMemberId(), member.getRole(), member.getTokenVersion());
 
-    redisService.saveDataWithTTL(member.getMemberId(), token, 1, TimeUnit.HOURS);
+  }
+
+  /**
+   * 리프레시 토큰으로 액세스 토큰 재발급 (비밀번호 확인 없이 리프레시 토큰도 함께 교체)
+   * 직전에 교체된 리프레시 토큰이 다시 사용되면 탈취로 판단하여 해당 사용자의 로그인을 모두 폐기
+   * 저장된 토큰과 일치하지 않는 토큰은 거부만 하고 로그인은 유지 (다른 사람의 로그아웃 유발 방지)
+   *
+   * @param request
+   * @return SignInDto.Response
+   */
+  @Override
+  public SignInDto.Response refresh(RefreshTokenDto.Request request) {
+
+    String refreshToken = request.getRefreshToken();
+
+    String memberId = refreshTokenProvider.getMemberId(refreshToken);
+    if (memberId == null) {
+      throw new TokenException(ResponseCode.REFRESH_TOKEN_INVALID);
+    }
+
+    String newRefreshToken = refreshTokenProvider.generate(memberId);
+
+    Rotation rotation = refreshTokenProvider.rotate(memberId, refreshToken, newRefreshToken);
+    if (rotation == Rotation.REUSED) {
+      log.warn("리프레시 토큰 재사용이 감지되었습니다. (memberId : {})", memberId);
+      revokeSession(memberId);
+      throw new TokenException(ResponseCode.REFRESH_TOKEN_REUSED);
+    }
+    if (rotation != Rotation.ROTATED) {
+      throw new TokenException(ResponseCode.REFRESH_TOKEN_INVALID);
+    }
+
+    MemberPrincipal principal = principalCache
+        .getPrincipal(memberId, memberRepository::findByMemberId)
+        .orElseThrow(() -> new MemberException(ResponseCode.MEMBER_NOT_FOUND));
 
     return SignInDto.Response.builder()
-        .token(token)
+        .token(createAccessToken(memberId, principal.role(), principal.tokenVersion()))
+        .refreshToken(newRefreshToken)
         .build();
 
   }
@@ -178,24 +247,94 @@ public class AuthServiceImplement implements AuthService {
    * @return ResponseDto
    */
   @Override
+  @Transactional
   public ResponseDto signOut(String memberId, String token) {
 
     equalToMemberIdFromToken(memberId, token);
 
-    redisService.deleteToken(memberId);
+    revokeSession(memberId);
 
     return ResponseDto.getResponseBody(ResponseCode.SIGN_OUT_SUCCESS);
 
   }
 
+  /**
+   * 액세스 토큰과 리프레시 토큰 발급
+   *
+   * @param memberId
+   * @param role
+   * @param tokenVersion
+   * @return SignInDto.Response
+   */
+  @Override
+  public SignInDto.Response issueToken(String memberId, Role role, long tokenVersion) {
+
+    return SignInDto.Response.builder()
+        .token(createAccessToken(memberId, role, tokenVersion))
+        .refreshToken(refreshTokenProvider.issue(memberId))
+        .build();
+
+  }
+
+  /**
+   * 액세스 토큰 발급 (REDIS_SESSION 검증 모드에서는 로그인 세션도 함께 저장)
+   *
+   * @param memberId
+   * @param role
+   * @param tokenVersion
+   * @return String
+   */
+  private String createAccessToken(String memberId, Role role, long tokenVersion) {
+
+    String token = jwtProvider.createToken(memberId, role, tokenVersion);
+
+    if (jwtProvider.getTokenValidationMode() != TokenValidationMode.TOKEN_VERSION) {
+      redisService.saveDataWithTTL(memberId, token, 1, TimeUnit.HOURS);
+    }
+
+    return token;
+
+  }
+
+  /**
+   * 사용자의 리프레시 토큰과 발급된 액세스 토큰 폐기
+   *
+   * @param memberId
+   */
+  private void revokeSession(String memberId) {
+
+    refreshTokenProvider.revoke(memberId);
+
+    if (jwtProvider.getTokenValidationMode() == TokenValidationMode.TOKEN_VERSION) {
+      // 토큰 버전을 올려 이전에 발급된 토큰을 모든 노드에서 폐기
+      memberRepository.increaseTokenVersion(memberId);
+      long tokenVersion = memberRepository.findTokenVersionByMemberId(memberId)
+          .orElseThrow(() -> new MemberException(ResponseCode.MEMBER_NOT_FOUND));
+
+      tokenRevocationRegistry.revoke(memberId, tokenVersion);
+      principalCache.evict(memberId);
+    } else {
+      redisService.deleteToken(memberId);
+
+      // 다른 노드는 Redis 키 삭제 이벤트로 무효화
+      sessionNearCache.invalidate(memberId);
+    }
+
+  }
+
   /**
    * Member Id  존재 여부 확인
+   * Bloom Filter 에 없는 ID 는 DB 조회 없이 사용 가능한 ID 로 판단
    *
    * @param userId
    */
   @Override
   public void checkExistsUserId(String userId) {
 
+    if (!memberIdBloomFilter.mightContain(userId)) {
+      return;
+    }
+
     boolean isExists = memberRepository.existsByMemberId(userId);
     if (isExists) {
       throw new MemberException(ResponseCode.MEMBER_ALREADY_EXISTS);
@@ -205,13 +344,16 @@ public class AuthServiceImplement implements AuthService {
 
   /**
    * 요청으로 들어온 토큰의 memberId 와 PathVariable 의 memberId 가 같은지 확인
+   * JwtAuthenticationFilter 에서 이미 검증한 토큰이 있으면 다시 파싱하지 않고 subject 와 비교
    * @param memberId
    * @param token
    */
   @Override
   public void equalToMemberIdFromToken(String memberId, String token) {
 
-    boolean isEqual = jwtProvider.equalMemberId(memberId, token);
+    boolean isEqual = VerifiedTokenHolder.getVerifiedToken()
+        .map(verifiedToken -> verifiedToken.getMemberId().equals(memberId))
+        .orElseGet(() -> jwtProvider.equalMemberId(memberId, token));
     if (!isEqual) {
       throw new MemberException(ResponseCode.MEMBER_UNMATCHED);
     }
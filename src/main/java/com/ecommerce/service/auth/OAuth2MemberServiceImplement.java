@@ -2,15 +2,18 @@ package com.ecommerce.service.auth;
 
 import com.ecommerce.dto.auth.KakaoUserInfoDto.KakaoResponse;
 import com.ecommerce.dto.auth.NaverUserInfoDto.NaverResponse;
-import com.ecommerce.entity.Cart;
 import com.ecommerce.entity.CustomOAuth2Member;
 import com.ecommerce.entity.Member;
 import com.ecommerce.repository.CartRepository;
 import com.ecommerce.repository.MemberRepository;
+import com.ecommerce.security.PrincipalCache;
+import com.ecommerce.service.member.MemberIdBloomFilter;
 import com.ecommerce.type.LoginType;
 import com.ecommerce.type.ResponseCode;
 import com.ecommerce.type.Role;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Objects;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.oauth2.client.userinfo.DefaultOAuth2UserService;
 import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
@@ -26,10 +29,17 @@ public class OAuth2MemberServiceImplement extends DefaultOAuth2UserService {
   private final MemberRepository memberRepository;
   private final CartRepository cartRepository;
   private final ObjectMapper objectMapper;
+  private final MemberIdBloomFilter memberIdBloomFilter;
+  private final PrincipalCache principalCache;
 
   /**
    * OAuth Server 에 요청을 보낸 후 redirect 로 각 소셜 로그인으로 로그인한 유저의 정보를 받아 Ecommerce Application DB 에 저장후
    * 저장된 유저의 정보로 장바구니 생성, Ecommerce Application 의 토큰 생성을 위해 CustomOAuth2Member 객체로 반환
+   * 기존 사용자의 정보가 바뀌지 않았으면 쓰기 없이 반환하고, 신규/변경된 경우에만 upsert
+   * 장바구니는 신규/기존 사용자 모두 없을 때만 생성 (REDIS 장바구니 반영은 Cart 행이 있어야 함)
+   * 실행되는 SQL 문 수
+   * - 정보가 같은 기존 사용자: 조회 + 장바구니 존재 확인 (2, 장바구니가 없으면 생성까지 3)
+   * - 신규/변경된 사용자: 조회 + 사용자 upsert + 장바구니 insert-if-absent (3)
    *
    * @param request
    * @return CustomOAuth2Member
@@ -42,19 +52,51 @@ public class OAuth2MemberServiceImplement extends DefaultOAuth2UserService {
     OAuth2User oAuth2User = super.loadUser(request);
     String oauthClientName = request.getClientRegistration().getClientName();
 
-    Member member = createSnsMember(oauthClientName, oAuth2User);
+    Member snsMember = createSnsMember(oauthClientName, oAuth2User);
+    String memberId = snsMember.getMemberId();
 
-    Member savedMember = memberRepository.save(member);
+    Optional<Member> existsMember = memberRepository.findByMemberId(memberId);
+    long tokenVersion = existsMember.map(Member::getTokenVersion).orElse(0L);
 
-    boolean isExists = cartRepository.existsByMember(savedMember);
-    if (!isExists) {
-      cartRepository.save(
-          Cart.builder().member(savedMember).build()
-      );
+    if (existsMember.isPresent() && !isChanged(existsMember.get(), snsMember)) {
+      // 장바구니 없이 저장된 기존 사용자(이전 가입 흐름의 실패 등)는 이때 생성
+      if (!cartRepository.existsByMember(existsMember.get())) {
+        cartRepository.insertIfAbsentByMemberId(memberId);
+      }
+      return new CustomOAuth2Member(memberId, tokenVersion);
+    }
+
+    // 동시에 첫 로그인이 들어와도 유니크 키로 한 행만 생성됨
+    memberRepository.upsertSnsMember(
+        memberId,
+        snsMember.getMemberName(),
+        snsMember.getEmail(),
+        snsMember.getPassword(),
+        snsMember.getRole().name(),
+        snsMember.getLoginType().name()
+    );
+    cartRepository.insertIfAbsentByMemberId(memberId);
+
+    if (existsMember.isEmpty()) {
+      memberIdBloomFilter.add(memberId);
+    } else {
+      principalCache.evict(memberId);
     }
 
-    return new CustomOAuth2Member(member.getMemberId());
+    return new CustomOAuth2Member(memberId, tokenVersion);
+
+  }
 
+  /**
+   * 소셜 로그인 정보 중 저장된 사용자와 달라진 값이 있는지 확인
+   *
+   * @param member
+   * @param snsMember
+   * @return boolean
+   */
+  private boolean isChanged(Member member, Member snsMember) {
+    return !Objects.equals(member.getMemberName(), snsMember.getMemberName())
+        || !Objects.equals(member.getEmail(), snsMember.getEmail());
   }
 
   /**
@@ -73,34 +115,28 @@ public class OAuth2MemberServiceImplement extends DefaultOAuth2UserService {
         KakaoResponse kakaoResponse = objectMapper.convertValue(oAuth2User.getAttributes(),
             KakaoResponse.class);
 
-        String kakaoMemberId = "kakao_" + kakaoResponse.getId();
-
-        return memberRepository.findByMemberId(kakaoMemberId)
-            .orElse(Member.builder()
-                .memberId(kakaoMemberId)
-                .memberName(kakaoResponse.getKakao_account().getProfile().getNickname())
-                .email(kakaoResponse.getKakao_account().getEmail())
-                .password("kakao_password")
-                .role(Role.CUSTOMER)
-                .loginType(LoginType.KAKAO)
-                .build());
+        return Member.builder()
+            .memberId("kakao_" + kakaoResponse.getId())
+            .memberName(kakaoResponse.getKakao_account().getProfile().getNickname())
+            .email(kakaoResponse.getKakao_account().getEmail())
+            .password("kakao_password")
+            .role(Role.CUSTOMER)
+            .loginType(LoginType.KAKAO)
+            .build();
       }
 
       case "naver" -> {
         NaverResponse naverResponse = objectMapper.convertValue(oAuth2User.getAttributes(),
             NaverResponse.class);
 
-        String naverMemberId = "naver_" + naverResponse.getResponse().getId();
-
-        return memberRepository.findByMemberId(naverMemberId)
-            .orElse(Member.builder()
-                .memberId(naverMemberId)
-                .memberName(naverResponse.getResponse().getName())
-                .email(naverResponse.getResponse().getEmail())
-                .password("naver_password")
-                .role(Role.CUSTOMER)
-                .loginType(LoginType.NAVER)
-                .build());
+        return Member.builder()
+            .memberId("naver_" + naverResponse.getResponse().getId())
+            .memberName(naverResponse.getResponse().getName())
+            .email(naverResponse.getResponse().getEmail())
+            .password("naver_password")
+            .role(Role.CUSTOMER)
+            .loginType(LoginType.NAVER)
+            .build();
       }
 
       default -> throw new OAuth2AuthenticationException(
@@ -3,6 +3,7 @@ package com.ecommerce.service.cart;
 import com.ecommerce.dto.ResponseDto;
 import com.ecommerce.dto.cart.CartItemDto;
 import com.ecommerce.dto.cart.UpdateCartItemDto;
+import com.ecommerce.dto.product.ProductDto;
 import com.ecommerce.entity.Cart;
 import com.ecommerce.entity.CartItem;
 import com.ecommerce.entity.Product;
@@ -10,9 +11,11 @@ import com.ecommerce.exception.CartException;
 import com.ecommerce.repository.CartItemRepository;
 import com.ecommerce.service.auth.AuthService;
 import com.ecommerce.service.product.ProductService;
+import com.ecommerce.type.CartStoreMode;
 import com.ecommerce.type.ProductStatus;
 import com.ecommerce.type.ResponseCode;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,6 +28,10 @@ public class CartItemServiceImplement implements CartItemService {
   private final AuthService authService;
   private final ProductService productService;
   private final CartService cartService;
+  private final RedisCartStore redisCartStore;
+
+  @Value("${app.cart.store}")
+  private CartStoreMode cartStoreMode;
 
   /**
    * 장바구니에 상품 담기
@@ -41,6 +48,10 @@ public class CartItemServiceImplement implements CartItemService {
 
     authService.equalToMemberIdFromToken(memberId, token);
 
+    if (cartStoreMode == CartStoreMode.REDIS) {
+      return addRedisCartItem(memberId, request);
+    }
+
     Cart cart = cartService.getCartByMemberId(memberId);
 
     Product product = productService.getProductById(request.getProductId());
@@ -88,6 +99,10 @@ public class CartItemServiceImplement implements CartItemService {
 
     authService.equalToMemberIdFromToken(memberId, token);
 
+    if (cartStoreMode == CartStoreMode.REDIS) {
+      return updateRedisCartItem(memberId, cartItemId, updateRequest);
+    }
+
     CartItem cartItem = getCartItemById(cartItemId);
 
     int totalQuantity = cartItem.getQuantity() + updateRequest.getQuantity();
@@ -125,6 +140,11 @@ public class CartItemServiceImplement implements CartItemService {
 
     authService.equalToMemberIdFromToken(memberId, token);
 
+    if (cartStoreMode == CartStoreMode.REDIS) {
+      redisCartStore.remove(memberId, cartItemId);
+      return ResponseDto.getResponseBody(ResponseCode.CART_ITEM_DELETE_SUCCESS);
+    }
+
     CartItem cartItem = getCartItemById(cartItemId);
 
     cartItemRepository.delete(cartItem);
@@ -146,6 +166,11 @@ public class CartItemServiceImplement implements CartItemService {
 
     authService.equalToMemberIdFromToken(memberId, token);
 
+    if (cartStoreMode == CartStoreMode.REDIS) {
+      redisCartStore.clear(memberId);
+      return ResponseDto.getResponseBody(ResponseCode.CART_ITEM_DELETE_SUCCESS);
+    }
+
     Cart cart = cartService.getCartByMemberId(memberId);
 
     cartItemRepository.deleteAllByCart(cart);
@@ -154,6 +179,59 @@ public class CartItemServiceImplement implements CartItemService {
 
   }
 
+  /**
+   * Redis 장바구니에 상품 담기
+   * 상품 정보는 상품 상세 캐시에서 조회하고, 재고 확인과 수량 합산은 Lua 스크립트에서 원자적으로 처리
+   * 재고는 캐시 값으로 확인하므로 상품 변경 직후에는 이전 재고로 판단할 수 있음
+   * (변경 커밋 후 캐시를 무효화하므로 보통 곧바로 맞춰지고, 무효화 메시지를 놓친 노드도
+   * L1 만료(expire-after-write)와 L2 TTL(app.product-detail-cache.l2-ttl-seconds) 이내)
+   * 장바구니는 재고를 선점하지 않으므로 최종 재고 확인은 주문 시점에 다시 해야 함
+   *
+   * @param memberId
+   * @param request
+   * @return CartItemDto.Response
+   */
+  private CartItemDto.Response addRedisCartItem(String memberId, CartItemDto.Request request) {
+
+    ProductDto.Response product = productService.getProductDetails(request.getProductId());
+
+    if (product.getStatus() != ProductStatus.IN_STOCK) {
+      throw new CartException(ResponseCode.CART_ITEM_CANNOT_ADDED_PRODUCT);
+    }
+
+    checkExceedStockQuantity(request.getQuantity(), product.getStockQuantity());
+
+    int quantity = redisCartStore.add(
+        memberId, product.getId(), request.getQuantity(), product.getPrice(),
+        product.getStockQuantity()
+    );
+
+    return CartItemDto.Response.fromProduct(product, quantity);
+
+  }
+
+  /**
+   * Redis 장바구니 상품 수량 수정 (productId = 경로의 장바구니 상품 id)
+   *
+   * @param memberId
+   * @param productId
+   * @param updateRequest
+   * @return CartItemDto.Response
+   */
+  private CartItemDto.Response updateRedisCartItem(
+      String memberId, Long productId, UpdateCartItemDto updateRequest
+  ) {
+
+    ProductDto.Response product = productService.getProductDetails(productId);
+
+    int quantity = redisCartStore.update(
+        memberId, productId, updateRequest.getQuantity(), product.getStockQuantity()
+    );
+
+    return CartItemDto.Response.fromProduct(product, quantity);
+
+  }
+
   /**
    * CartItem ID 로 조회
    *
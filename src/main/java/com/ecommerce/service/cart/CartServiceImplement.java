@@ -1,14 +1,26 @@
 package com.ecommerce.service.cart;
 
 import com.ecommerce.dto.cart.CartDto;
+import com.ecommerce.dto.cart.CartItemDto;
+import com.ecommerce.dto.cart.CartLineDto;
+import com.ecommerce.dto.product.ProductDto;
 import com.ecommerce.entity.Cart;
 import com.ecommerce.entity.Member;
 import com.ecommerce.exception.CartException;
 import com.ecommerce.repository.CartRepository;
+import com.ecommerce.repository.product.ProductRepository;
 import com.ecommerce.service.auth.AuthService;
 import com.ecommerce.service.member.MemberService;
+import com.ecommerce.type.CartStoreMode;
 import com.ecommerce.type.ResponseCode;
+import java.math.BigDecimal;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,6 +32,11 @@ public class CartServiceImplement implements CartService {
 
   private final AuthService authService;
   private final MemberService memberService;
+  private final RedisCartStore redisCartStore;
+  private final ProductRepository productRepository;
+
+  @Value("${app.cart.store}")
+  private CartStoreMode cartStoreMode;
 
   /**
    * 장바구니 조회
@@ -34,12 +51,50 @@ public class CartServiceImplement implements CartService {
 
     authService.equalToMemberIdFromToken(memberId, token);
 
-    Member member = memberService.getMemberByMemberId(memberId);
+    if (cartStoreMode == CartStoreMode.REDIS) {
+      return getRedisCartDetails(memberId);
+    }
+
+    Cart cart = cartRepository.findWithItemsByMemberId(memberId)
+        .orElseThrow(() -> {
+          // 장바구니가 없을 때만 사용자 존재 여부로 실패 원인 구분
+          memberService.getMemberByMemberId(memberId);
+          return new CartException(ResponseCode.CART_NOT_FOUND);
+        });
+
+    return CartDto.fromEntity(cart);
+
+  }
+
+  /**
+   * Redis 장바구니 조회 (상품 정보는 한 번의 IN 조회로 채우고, 삭제된 상품은 제외)
+   *
+   * @param memberId
+   * @return CartDto
+   */
+  private CartDto getRedisCartDetails(String memberId) {
+
+    List<CartLineDto> lines = redisCartStore.getLines(memberId);
+
+    Map<Long, ProductDto.Response> products = productRepository.findResponsesByIdIn(
+        lines.stream().map(CartLineDto::getProductId).toList()
+    ).stream().collect(Collectors.toMap(ProductDto.Response::getId, Function.identity()));
+
+    List<CartItemDto.Response> cartItems = lines.stream()
+        .filter(line -> products.containsKey(line.getProductId()))
+        .sorted(Comparator.comparing(CartLineDto::getProductId))
+        .map(line -> CartItemDto.Response.fromProduct(
+            products.get(line.getProductId()), line.getQuantity()
+        ))
+        .toList();
 
-    return CartDto.fromEntity(
-        cartRepository.findByMember(member)
-            .orElseThrow(() -> new CartException(ResponseCode.CART_NOT_FOUND))
-    );
+    return CartDto.builder()
+        .memberId(memberId)
+        .totalPrice(cartItems.stream()
+            .map(CartItemDto.Response::getPrice)
+            .reduce(BigDecimal.ZERO, BigDecimal::add))
+        .cartItems(cartItems)
+        .build();
 
   }
 
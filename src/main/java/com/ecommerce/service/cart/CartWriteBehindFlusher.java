@@ -0,0 +1,118 @@
+package com.ecommerce.service.cart;
+
+import com.ecommerce.dto.cart.CartLineDto;
+import com.ecommerce.repository.CartItemBulkRepository;
+import com.ecommerce.service.cart.RedisCartStore.Claim;
+import com.ecommerce.type.CartStoreMode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Redis 장바구니 변경분을 MySQL(Cart, CartItem)에 일괄 반영 (write-behind)
+ * 변경된 사용자를 flush-batch-size 만큼 선점해 장바구니 행을 잠근 뒤 Redis 의 현재 상태를 읽어 반영하므로
+ * 여러 노드가 같은 사용자를 동시에 반영해도 나중에 커밋하는 쪽이 항상 최신 상태를 씀
+ * 커밋 이후에만 선점을 해제하고, 반영에 실패하면 다시 변경 대상으로 표시하여 다음 주기에 재시도
+ * 반영 중 노드가 종료되면 선점이 flush-lease-ms 이후 만료되어 다른 노드가 다시 반영
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CartWriteBehindFlusher {
+
+  private final RedisCartStore redisCartStore;
+
+  private final CartItemBulkRepository cartItemBulkRepository;
+
+  private final TransactionTemplate transactionTemplate;
+
+  private final MeterRegistry meterRegistry;
+
+  @Value("${app.cart.store}")
+  private CartStoreMode cartStoreMode;
+
+  @Value("${app.cart.flush-batch-size}")
+  private int batchSize;
+
+  private Counter flushedCounter;
+  private Counter failedCounter;
+
+  @PostConstruct
+  public void init() {
+    flushedCounter = Counter.builder("cart.write.behind.flushed")
+        .description("MySQL 에 반영한 장바구니 수")
+        .register(meterRegistry);
+    failedCounter = Counter.builder("cart.write.behind.failed")
+        .description("MySQL 반영에 실패하여 다시 대기열에 넣은 장바구니 수")
+        .register(meterRegistry);
+  }
+
+  @Scheduled(fixedDelayString = "${app.cart.flush-interval-ms}")
+  public void flush() {
+    if (cartStoreMode != CartStoreMode.REDIS) {
+      return;
+    }
+
+    Claim claim;
+    while (!(claim = redisCartStore.claimDirty(batchSize)).memberIds().isEmpty()) {
+      if (!flush(claim) || claim.memberIds().size() < batchSize) {
+        return;
+      }
+    }
+  }
+
+  /**
+   * 종료 전 남은 변경분 반영
+   */
+  @PreDestroy
+  public void flushOnShutdown() {
+    flush();
+  }
+
+  /**
+   * 한 배치의 장바구니를 하나의 트랜잭션으로 반영
+   *
+   * @param claim
+   * @return boolean 성공 여부
+   */
+  boolean flush(Claim claim) {
+    List<String> memberIds = claim.memberIds();
+    try {
+      transactionTemplate.executeWithoutResult(status -> {
+        Map<String, Long> cartIds = cartItemBulkRepository.lockCartIds(memberIds);
+
+        Map<Long, List<CartLineDto>> lines = new HashMap<>();
+        cartIds.forEach((memberId, cartId) -> {
+          // 만료된(변경 없이 오래된) 장바구니는 MySQL 이 최신 상태
+          List<CartLineDto> cartLines = redisCartStore.getLinesIfPresent(memberId);
+          if (cartLines != null) {
+            lines.put(cartId, cartLines);
+          }
+        });
+
+        cartItemBulkRepository.replaceAll(lines);
+      });
+    } catch (RuntimeException e) {
+      log.error("장바구니 MySQL 반영에 실패했습니다. (대상 {}건)", memberIds.size(), e);
+      redisCartStore.releaseDirty(claim);
+      failedCounter.increment(memberIds.size());
+      return false;
+    }
+
+    // 선점 해제에 실패해도 선점이 만료되면 다시 반영될 뿐 변경은 유실되지 않음
+    redisCartStore.completeDirty(claim);
+    flushedCounter.increment(memberIds.size());
+    return true;
+  }
+
+}
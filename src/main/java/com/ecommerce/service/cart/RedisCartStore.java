@@ -0,0 +1,357 @@
+package com.ecommerce.service.cart;
+
+import com.ecommerce.dto.cart.CartLineDto;
+import com.ecommerce.exception.CartException;
+import com.ecommerce.repository.CartItemBulkRepository;
+import com.ecommerce.type.ResponseCode;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자별 Redis 해시 장바구니 (cart:member:{memberId} = 상품 id -> "수량:담을 때의 가격")
+ * 변경은 한 번의 Lua 호출로 재고 확인과 수정, 변경된 사용자 표시(cart:dirty)까지 처리하고
+ * MySQL 반영은 CartWriteBehindFlusher 가 담당
+ * 반영할 사용자는 cart:dirty 에서 cart:flushing(사용자 ID -> 선점 만료 시각)으로 옮겨 선점하고 커밋 이후 삭제하므로
+ * 반영 중 노드가 종료되어도 선점이 만료되면 다른 노드가 다시 반영
+ * 해시가 없으면(처음 사용, 만료) MySQL 의 장바구니로 채운 뒤 다시 시도
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisCartStore {
+
+  private static final String KEY_PREFIX = "cart:member:";
+  private static final String DIRTY_KEY = "cart:dirty";
+  private static final String FLUSHING_KEY = "cart:flushing";
+
+  // 비어 있는 장바구니도 해시가 남도록 하는 표시 필드
+  private static final String LOADED_FIELD = "~";
+
+  private static final long NOT_LOADED = -2L;
+  private static final long EXCEED_QUANTITY = -1L;
+  private static final long NOT_FOUND = -3L;
+
+  // KEYS = [장바구니, dirty], ARGV = [상품 id, 수량, 가격, 재고, 사용자 ID, TTL(초)]
+  // 반환값 = 합산된 수량 (-1 재고 초과, -2 해시 없음), 이미 담긴 상품은 처음 담을 때의 가격 유지
+  private static final RedisScript<Long> ADD_SCRIPT = new DefaultRedisScript<>(
+      "if redis.call('EXISTS', KEYS[1]) == 0 then return -2 end "
+          + "local quantity = tonumber(ARGV[2]) "
+          + "local price = ARGV[3] "
+          + "local current = redis.call('HGET', KEYS[1], ARGV[1]) "
+          + "if current then "
+          + "  local separator = string.find(current, ':', 1, true) "
+          + "  quantity = quantity + tonumber(string.sub(current, 1, separator - 1)) "
+          + "  price = string.sub(current, separator + 1) "
+          + "end "
+          + "if quantity > tonumber(ARGV[4]) then return -1 end "
+          + "redis.call('HSET', KEYS[1], ARGV[1], quantity .. ':' .. price) "
+          + "redis.call('EXPIRE', KEYS[1], ARGV[6]) "
+          + "redis.call('SADD', KEYS[2], ARGV[5]) "
+          + "return quantity",
+      Long.class
+  );
+
+  // KEYS = [장바구니, dirty], ARGV = [상품 id, 수량, 재고, 사용자 ID, TTL(초)]
+  // 반환값 = 수량 (-1 재고 초과, -2 해시 없음, -3 담기지 않은 상품)
+  private static final RedisScript<Long> UPDATE_SCRIPT = new DefaultRedisScript<>(
+      "if redis.call('EXISTS', KEYS[1]) == 0 then return -2 end "
+          + "local current = redis.call('HGET', KEYS[1], ARGV[1]) "
+          + "if not current then return -3 end "
+          + "if tonumber(ARGV[2]) > tonumber(ARGV[3]) then return -1 end "
+          + "local separator = string.find(current, ':', 1, true) "
+          + "local price = string.sub(current, separator + 1) "
+          + "redis.call('HSET', KEYS[1], ARGV[1], ARGV[2] .. ':' .. price) "
+          + "redis.call('EXPIRE', KEYS[1], ARGV[5]) "
+          + "redis.call('SADD', KEYS[2], ARGV[4]) "
+          + "return tonumber(ARGV[2])",
+      Long.class
+  );
+
+  // KEYS = [장바구니, dirty], ARGV = [상품 id, 사용자 ID, TTL(초)]
+  // 반환값 = 1 삭제 (-2 해시 없음, -3 담기지 않은 상품)
+  private static final RedisScript<Long> REMOVE_SCRIPT = new DefaultRedisScript<>(
+      "if redis.call('EXISTS', KEYS[1]) == 0 then return -2 end "
+          + "if redis.call('HDEL', KEYS[1], ARGV[1]) == 0 then return -3 end "
+          + "redis.call('EXPIRE', KEYS[1], ARGV[3]) "
+          + "redis.call('SADD', KEYS[2], ARGV[2]) "
+          + "return 1",
+      Long.class
+  );
+
+  // KEYS = [장바구니, dirty], ARGV = [사용자 ID, TTL(초)]
+  private static final RedisScript<Long> CLEAR_SCRIPT = new DefaultRedisScript<>(
+      "redis.call('DEL', KEYS[1]) "
+          + "redis.call('HSET', KEYS[1], '" + LOADED_FIELD + "', '1') "
+          + "redis.call('EXPIRE', KEYS[1], ARGV[2]) "
+          + "redis.call('SADD', KEYS[2], ARGV[1]) "
+          + "return 1",
+      Long.class
+  );
+
+  // KEYS = [장바구니], ARGV = [TTL(초), 상품 id, 값, 상품 id, 값, ...]
+  // 해시가 없을 때만 채움 (동시에 채우는 요청이 있어도 먼저 들어온 변경을 덮어쓰지 않음)
+  private static final RedisScript<Long> LOAD_SCRIPT = new DefaultRedisScript<>(
+      "if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end "
+          + "redis.call('HSET', KEYS[1], '" + LOADED_FIELD + "', '1', unpack(ARGV, 2)) "
+          + "redis.call('EXPIRE', KEYS[1], ARGV[1]) "
+          + "return 1",
+      Long.class
+  );
+
+  // KEYS = [dirty, flushing], ARGV = [개수, 선점 시간(ms)]
+  // 만료된 선점을 dirty 로 되돌린 뒤 개수만큼 꺼내 선점, 반환값 = [선점 만료 시각, 사용자 ID, ...]
+  // 노드 간 시계 차이가 없도록 Redis 서버 시각 사용
+  @SuppressWarnings("rawtypes")
+  private static final RedisScript<List> CLAIM_SCRIPT = new DefaultRedisScript<>(
+      "local time = redis.call('TIME') "
+          + "local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000) "
+          + "local expired = "
+          + "  redis.call('ZRANGEBYSCORE', KEYS[2], '-inf', now, 'LIMIT', 0, ARGV[1]) "
+          + "if #expired > 0 then "
+          + "  redis.call('SADD', KEYS[1], unpack(expired)) "
+          + "  redis.call('ZREM', KEYS[2], unpack(expired)) "
+          + "end "
+          + "local lease = now + tonumber(ARGV[2]) "
+          + "local memberIds = redis.call('SPOP', KEYS[1], ARGV[1]) "
+          + "for _, memberId in ipairs(memberIds) do "
+          + "  redis.call('ZADD', KEYS[2], lease, memberId) "
+          + "end "
+          + "table.insert(memberIds, 1, tostring(lease)) "
+          + "return memberIds",
+      List.class
+  );
+
+  // KEYS = [flushing, dirty], ARGV = [선점 만료 시각, 다시 표시 여부(1/0), 사용자 ID, ...]
+  // 이 선점이 그대로인 사용자만 선점 해제 (만료 후 다른 노드가 다시 선점했으면 그대로 둠)
+  private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+      "local released = 0 "
+          + "for i = 3, #ARGV do "
+          + "  if tonumber(redis.call('ZSCORE', KEYS[1], ARGV[i])) == tonumber(ARGV[1]) then "
+          + "    redis.call('ZREM', KEYS[1], ARGV[i]) "
+          + "    if ARGV[2] == '1' then redis.call('SADD', KEYS[2], ARGV[i]) end "
+          + "    released = released + 1 "
+          + "  end "
+          + "end "
+          + "return released",
+      Long.class
+  );
+
+  private final StringRedisTemplate stringRedisTemplate;
+
+  private final CartItemBulkRepository cartItemBulkRepository;
+
+  @Value("${app.cart.ttl-days}")
+  private long ttlDays;
+
+  @Value("${app.cart.flush-lease-ms}")
+  private long flushLeaseMs;
+
+  /**
+   * 장바구니에 상품 담기 (이미 담긴 상품이면 수량 합산)
+   *
+   * @param memberId
+   * @param productId
+   * @param quantity
+   * @param price
+   * @param stockQuantity
+   * @return int 합산된 수량
+   */
+  public int add(
+      String memberId, Long productId, int quantity, BigDecimal price, int stockQuantity
+  ) {
+    return execute(memberId, ADD_SCRIPT,
+        String.valueOf(productId), String.valueOf(quantity), price.toPlainString(),
+        String.valueOf(stockQuantity), memberId, ttlSeconds()
+    );
+  }
+
+  /**
+   * 장바구니 상품 수량 변경
+   *
+   * @param memberId
+   * @param productId
+   * @param quantity
+   * @param stockQuantity
+   * @return int 변경된 수량
+   */
+  public int update(String memberId, Long productId, int quantity, int stockQuantity) {
+    return execute(memberId, UPDATE_SCRIPT,
+        String.valueOf(productId), String.valueOf(quantity), String.valueOf(stockQuantity),
+        memberId, ttlSeconds()
+    );
+  }
+
+  /**
+   * 장바구니 상품 삭제
+   *
+   * @param memberId
+   * @param productId
+   */
+  public void remove(String memberId, Long productId) {
+    execute(memberId, REMOVE_SCRIPT, String.valueOf(productId), memberId, ttlSeconds());
+  }
+
+  /**
+   * 장바구니 비우기 (MySQL 에서 다시 채울 필요 없음)
+   *
+   * @param memberId
+   */
+  public void clear(String memberId) {
+    stringRedisTemplate.execute(CLEAR_SCRIPT, List.of(key(memberId), DIRTY_KEY),
+        memberId, ttlSeconds());
+  }
+
+  /**
+   * 장바구니 상품 목록 조회 (해시가 없으면 MySQL 에서 채움)
+   *
+   * @param memberId
+   * @return List<CartLineDto>
+   */
+  public List<CartLineDto> getLines(String memberId) {
+    List<CartLineDto> lines = getLinesIfPresent(memberId);
+    if (lines != null) {
+      return lines;
+    }
+
+    load(memberId);
+    lines = getLinesIfPresent(memberId);
+    return lines != null ? lines : List.of();
+  }
+
+  /**
+   * 장바구니 상품 목록 조회 (해시가 없으면 null)
+   *
+   * @param memberId
+   * @return List<CartLineDto>
+   */
+  public List<CartLineDto> getLinesIfPresent(String memberId) {
+    Map<Object, Object> entries = stringRedisTemplate.opsForHash().entries(key(memberId));
+    return entries.isEmpty() ? null : toLines(entries);
+  }
+
+  /**
+   * 변경된 사용자 ID 선점 (만료된 다른 노드의 선점도 다시 대상에 포함)
+   *
+   * @param count
+   * @return Claim
+   */
+  @SuppressWarnings("unchecked")
+  public Claim claimDirty(int count) {
+    List<String> result = stringRedisTemplate.execute(CLAIM_SCRIPT,
+        List.of(DIRTY_KEY, FLUSHING_KEY), String.valueOf(count), String.valueOf(flushLeaseMs));
+    if (result == null || result.isEmpty()) {
+      return new Claim(0L, List.of());
+    }
+    return new Claim(Long.parseLong(result.get(0)), List.copyOf(result.subList(1, result.size())));
+  }
+
+  /**
+   * MySQL 반영 커밋 이후 선점 해제
+   *
+   * @param claim
+   */
+  public void completeDirty(Claim claim) {
+    release(claim, false);
+  }
+
+  /**
+   * MySQL 반영에 실패한 사용자의 선점을 해제하고 다시 변경 대상으로 표시
+   *
+   * @param claim
+   */
+  public void releaseDirty(Claim claim) {
+    release(claim, true);
+  }
+
+  private void release(Claim claim, boolean requeue) {
+    if (claim.memberIds().isEmpty()) {
+      return;
+    }
+
+    List<String> args = new ArrayList<>(claim.memberIds().size() + 2);
+    args.add(String.valueOf(claim.lease()));
+    args.add(requeue ? "1" : "0");
+    args.addAll(claim.memberIds());
+    stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(FLUSHING_KEY, DIRTY_KEY),
+        args.toArray());
+  }
+
+  private int execute(String memberId, RedisScript<Long> script, String... args) {
+    List<String> keys = List.of(key(memberId), DIRTY_KEY);
+
+    Long result = stringRedisTemplate.execute(script, keys, (Object[]) args);
+    if (result != null && result == NOT_LOADED) {
+      load(memberId);
+      result = stringRedisTemplate.execute(script, keys, (Object[]) args);
+    }
+
+    if (result == null || result == NOT_LOADED) {
+      throw new CartException(ResponseCode.CART_NOT_FOUND);
+    }
+    if (result == EXCEED_QUANTITY) {
+      throw new CartException(ResponseCode.CART_ITEM_EXCEED_QUANTITY);
+    }
+    if (result == NOT_FOUND) {
+      throw new CartException(ResponseCode.CART_ITEM_NOT_FOUND);
+    }
+    return result.intValue();
+  }
+
+  /**
+   * MySQL 의 장바구니 상품으로 해시 채우기
+   */
+  private void load(String memberId) {
+    List<CartLineDto> lines = cartItemBulkRepository.findLines(memberId);
+
+    List<String> args = new ArrayList<>(lines.size() * 2 + 1);
+    args.add(ttlSeconds());
+    for (CartLineDto line : lines) {
+      args.add(String.valueOf(line.getProductId()));
+      args.add(line.getQuantity() + ":" + line.getPrice().toPlainString());
+    }
+
+    stringRedisTemplate.execute(LOAD_SCRIPT, List.of(key(memberId)), args.toArray());
+  }
+
+  private static List<CartLineDto> toLines(Map<Object, Object> entries) {
+    List<CartLineDto> lines = new ArrayList<>(entries.size());
+    entries.forEach((field, value) -> {
+      if (LOADED_FIELD.equals(field)) {
+        return;
+      }
+
+      String text = (String) value;
+      int separator = text.indexOf(':');
+      lines.add(new CartLineDto(
+          Long.valueOf((String) field),
+          Integer.valueOf(text.substring(0, separator)),
+          new BigDecimal(text.substring(separator + 1))
+      ));
+    });
+    return lines;
+  }
+
+  private String ttlSeconds() {
+    return String.valueOf(TimeUnit.DAYS.toSeconds(ttlDays));
+  }
+
+  private static String key(String memberId) {
+    return KEY_PREFIX + memberId;
+  }
+
+  /**
+   * MySQL 반영을 위해 선점한 사용자 (lease = 선점 만료 시각, Redis 서버 기준 ms)
+   */
+  public record Claim(long lease, List<String> memberIds) {
+
+  }
+
+}
@@ -0,0 +1,15 @@
+package com.ecommerce.service.email;
+
+import com.ecommerce.dto.ResponseDto;
+
+public interface EmailOutboxService {
+
+  void enqueueCertificationMail(String memberId, String email, String certificationNumber);
+
+  ResponseDto getCertificationMailStatus(String memberId);
+
+  void dispatchPendingMails();
+
+  void purgeCompletedMails();
+
+}
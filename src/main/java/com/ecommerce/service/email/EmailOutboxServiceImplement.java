@@ -0,0 +1,219 @@
+package com.ecommerce.service.email;
+
+import com.ecommerce.dto.ResponseDto;
+import com.ecommerce.entity.EmailOutbox;
+import com.ecommerce.exception.NotFoundException;
+import com.ecommerce.provider.EmailProvider;
+import com.ecommerce.repository.EmailOutboxRepository;
+import com.ecommerce.type.EmailStatus;
+import com.ecommerce.type.ResponseCode;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EmailOutboxServiceImplement implements EmailOutboxService {
+
+  private static final int MAX_ERROR_LENGTH = 500;
+
+  private static final List<EmailStatus> DISPATCH_STATUSES =
+      List.of(EmailStatus.PENDING, EmailStatus.SENDING);
+
+  private final EmailOutboxRepository emailOutboxRepository;
+  private final EmailProvider emailProvider;
+  private final TransactionTemplate transactionTemplate;
+
+  @Value("${app.mail.outbox.batch-size}")
+  private int batchSize;
+
+  @Value("${app.mail.outbox.max-attempts}")
+  private int maxAttempts;
+
+  @Value("${app.mail.outbox.backoff-base-ms}")
+  private long backoffBaseMs;
+
+  @Value("${app.mail.outbox.lease-ms}")
+  private long leaseMs;
+
+  @Value("${app.mail.outbox.retention-days}")
+  private long retentionDays;
+
+  /**
+   * 인증메일 전송 요청을 아웃박스에 저장
+   *
+   * @param memberId
+   * @param email
+   * @param certificationNumber
+   */
+  @Override
+  public void enqueueCertificationMail(String memberId, String email, String certificationNumber) {
+
+    emailOutboxRepository.save(
+        EmailOutbox.builder()
+            .memberId(memberId)
+            .email(email)
+            .subject(EmailProvider.CERTIFICATION_SUBJECT)
+            .content(emailProvider.getCertificationMessage(certificationNumber))
+            .status(EmailStatus.PENDING)
+            .attempts(0)
+            .nextAttemptAt(LocalDateTime.now())
+            .build()
+    );
+
+  }
+
+  /**
+   * 가장 최근 인증메일 전송 상태 조회
+   *
+   * @param memberId
+   * @return ResponseDto
+   */
+  @Override
+  @Transactional(readOnly = true)
+  public ResponseDto getCertificationMailStatus(String memberId) {
+
+    EmailOutbox outbox = emailOutboxRepository.findFirstByMemberIdOrderByIdDesc(memberId)
+        .orElseThrow(() -> new NotFoundException(ResponseCode.MAIL_REQUEST_NOT_FOUND));
+
+    return switch (outbox.getStatus()) {
+      case PENDING, SENDING -> ResponseDto.getResponseBody(ResponseCode.MAIL_SEND_PENDING);
+      case SENT -> ResponseDto.getResponseBody(ResponseCode.MAIL_SEND_SUCCESS);
+      case FAILED -> ResponseDto.getResponseBody(ResponseCode.MAIL_SEND_FAIL);
+    };
+
+  }
+
+  /**
+   * 전송 대기중인 메일을 batch-size 만큼 선점하여 일괄 전송
+   * 선점(SENDING + 선점 만료 시각)과 결과 반영은 각각 짧은 트랜잭션으로 처리하고, SMTP 전송은 트랜잭션 밖에서 수행
+   * 전송 중 노드가 종료되어 결과가 반영되지 않은 메일은 선점 만료 후 다시 전송 대상이 됨
+   * 실패한 메일은 지수 백오프 후 재시도, max-attempts 초과시 FAILED 처리
+   */
+  @Override
+  @Scheduled(fixedDelayString = "${app.mail.outbox.poll-interval-ms}")
+  public void dispatchPendingMails() {
+
+    List<EmailOutbox> outboxes = transactionTemplate.execute(status -> claim());
+    if (outboxes == null || outboxes.isEmpty()) {
+      return;
+    }
+
+    Map<Long, String> failures = emailProvider.sendMails(outboxes);
+
+    transactionTemplate.executeWithoutResult(status -> complete(outboxes, failures));
+
+  }
+
+  /**
+   * 보관 기간이 지난 전송 완료/최종 실패 메일 삭제
+   */
+  @Override
+  @Scheduled(cron = "${app.mail.outbox.purge-cron}")
+  public void purgeCompletedMails() {
+
+    LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+
+    int deleted;
+    int total = 0;
+    do {
+      deleted = transactionTemplate.execute(status ->
+          emailOutboxRepository.deleteCompletedBefore(cutoff, batchSize));
+      total += deleted;
+    } while (deleted == batchSize);
+
+    if (total > 0) {
+      log.info("보관 기간이 지난 인증메일 {}건을 삭제했습니다.", total);
+    }
+
+  }
+
+  /**
+   * 전송 대상 메일을 잠근 뒤 SENDING 으로 바꾸고 선점 만료 시각 설정
+   *
+   * @return List<EmailOutbox>
+   */
+  private List<EmailOutbox> claim() {
+
+    LocalDateTime now = LocalDateTime.now();
+
+    List<EmailOutbox> outboxes = emailOutboxRepository.findDispatchTargets(
+        DISPATCH_STATUSES, now, PageRequest.of(0, batchSize)
+    );
+
+    // DATETIME(6) 에 저장된 값과 결과 반영시 비교하므로 마이크로초 단위로 맞춤
+    LocalDateTime leaseUntil = now.plus(Duration.ofMillis(leaseMs))
+        .truncatedTo(ChronoUnit.MICROS);
+    for (EmailOutbox outbox : outboxes) {
+      outbox.setStatus(EmailStatus.SENDING);
+      outbox.setNextAttemptAt(leaseUntil);
+    }
+
+    return outboxes;
+
+  }
+
+  /**
+   * 전송 결과 반영 (선점 만료 후 다른 노드가 다시 선점한 메일은 건너뜀)
+   * 전송이 끝난 메일은 인증번호가 남지 않도록 본문을 비움
+   *
+   * @param claimed
+   * @param failures
+   */
+  private void complete(List<EmailOutbox> claimed, Map<Long, String> failures) {
+
+    LocalDateTime now = LocalDateTime.now();
+
+    Map<Long, LocalDateTime> leases = new HashMap<>();
+    claimed.forEach(outbox -> leases.put(outbox.getId(), outbox.getNextAttemptAt()));
+
+    for (EmailOutbox outbox : emailOutboxRepository.findAllById(leases.keySet())) {
+
+      if (outbox.getStatus() != EmailStatus.SENDING
+          || !outbox.getNextAttemptAt().equals(leases.get(outbox.getId()))) {
+        continue;
+      }
+
+      int attempts = outbox.getAttempts() + 1;
+      outbox.setAttempts(attempts);
+
+      if (!failures.containsKey(outbox.getId())) {
+        outbox.setStatus(EmailStatus.SENT);
+        outbox.setContent("");
+        outbox.setLastError(null);
+        continue;
+      }
+
+      outbox.setLastError(truncate(failures.get(outbox.getId())));
+
+      if (attempts >= maxAttempts) {
+        log.error("메일 전송을 최종 실패했습니다. (outboxId: {})", outbox.getId());
+        outbox.setStatus(EmailStatus.FAILED);
+        outbox.setContent("");
+      } else {
+        outbox.setStatus(EmailStatus.PENDING);
+        outbox.setNextAttemptAt(now.plus(Duration.ofMillis(backoffBaseMs << (attempts - 1))));
+      }
+    }
+
+  }
+
+  private String truncate(String error) {
+    if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+      return error;
+    }
+    return error.substring(0, MAX_ERROR_LENGTH);
+  }
+}
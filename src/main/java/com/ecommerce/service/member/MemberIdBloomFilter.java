@@ -0,0 +1,210 @@
+package com.ecommerce.service.member;
+
+import com.ecommerce.repository.MemberRepository;
+import com.ecommerce.utils.ScalableBloomFilter;
+import com.ecommerce.utils.TransactionUtils;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 가입된 사용자 ID 의 Bloom Filter
+ * false 이면 DB 조회 없이 존재하지 않는 ID 로 판단하고, true 인 경우에만 DB 에서 확인
+ * 추가/삭제는 Redis Pub/Sub 으로 다른 노드에 전파
+ * 삭제된 ID 는 필터에서 지울 수 없으므로, 삭제 수가 일정 비율을 넘으면 DB 기준으로 다시 생성
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MemberIdBloomFilter implements MessageListener {
+
+  private static final String ADDED_CHANNEL = "member-id:added";
+  private static final String REMOVED_CHANNEL = "member-id:removed";
+
+  private final MemberRepository memberRepository;
+  private final TransactionTemplate transactionTemplate;
+  private final StringRedisTemplate stringRedisTemplate;
+  private final RedisMessageListenerContainer redisMessageListenerContainer;
+  private final MeterRegistry meterRegistry;
+
+  @Value("${app.member-id-filter.expected-insertions}")
+  private long expectedInsertions;
+
+  @Value("${app.member-id-filter.false-positive-rate}")
+  private double falsePositiveRate;
+
+  @Value("${app.member-id-filter.rebuild-stale-ratio}")
+  private double rebuildStaleRatio;
+
+  private final AtomicLong staleCount = new AtomicLong();
+
+  private volatile ScalableBloomFilter filter;
+  private volatile boolean ready = false;
+
+  // 재생성 중 추가된 ID (새 필터에 다시 반영)
+  private List<String> pendingIds;
+
+  @PostConstruct
+  public void init() {
+    this.filter = new ScalableBloomFilter(expectedInsertions, falsePositiveRate);
+
+    redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(ADDED_CHANNEL));
+    redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(REMOVED_CHANNEL));
+
+    Gauge.builder("member.id.filter.memory.bytes", this, f -> f.filter.memoryBytes())
+        .description("사용자 ID Bloom Filter 메모리 사용량")
+        .baseUnit("bytes")
+        .register(meterRegistry);
+    Gauge.builder("member.id.filter.false.positive.rate", this,
+            f -> f.filter.expectedFalsePositiveRate())
+        .description("사용자 ID Bloom Filter 추정 오탐률")
+        .register(meterRegistry);
+    Gauge.builder("member.id.filter.size", this, f -> f.filter.count())
+        .description("사용자 ID Bloom Filter 에 추가된 ID 수")
+        .register(meterRegistry);
+    Gauge.builder("member.id.filter.stale", staleCount, AtomicLong::get)
+        .description("삭제되었지만 필터에 남아있는 ID 수")
+        .register(meterRegistry);
+  }
+
+  /**
+   * 애플리케이션 시작 완료 후 member 테이블을 스트리밍하여 필터 생성
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void onApplicationReady() {
+    rebuild();
+  }
+
+  /**
+   * 삭제된 ID 비율이 설정값을 넘으면 필터 재생성
+   */
+  @Scheduled(fixedDelayString = "${app.member-id-filter.rebuild-check-interval-ms}")
+  public void rebuildIfStale() {
+    long size = filter.count();
+    if (ready && size > 0 && (double) staleCount.get() / size > rebuildStaleRatio) {
+      rebuild();
+    }
+  }
+
+  /**
+   * 사용자 ID 가 존재할 가능성이 있는지 확인 (필터 생성 전에는 항상 true)
+   *
+   * @param memberId
+   * @return boolean
+   */
+  public boolean mightContain(String memberId) {
+    return !ready || filter.mightContain(memberId);
+  }
+
+  /**
+   * 트랜잭션 커밋 이후 사용자 ID 추가 및 다른 노드에 전파
+   *
+   * @param memberId
+   */
+  public void add(String memberId) {
+    TransactionUtils.runAfterCommit(() -> {
+      put(memberId);
+      publish(ADDED_CHANNEL, memberId);
+    });
+  }
+
+  /**
+   * 트랜잭션 커밋 이후 삭제된 사용자 ID 수 증가 및 다른 노드에 전파
+   *
+   * @param memberId
+   */
+  public void remove(String memberId) {
+    TransactionUtils.runAfterCommit(() -> {
+      staleCount.incrementAndGet();
+      publish(REMOVED_CHANNEL, memberId);
+    });
+  }
+
+  /**
+   * 다른 노드에서 발행한 추가/삭제 메시지 수신
+   *
+   * @param message
+   * @param pattern
+   */
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+
+    if (ADDED_CHANNEL.equals(channel)) {
+      put(new String(message.getBody(), StandardCharsets.UTF_8));
+    } else if (REMOVED_CHANNEL.equals(channel)) {
+      staleCount.incrementAndGet();
+    }
+  }
+
+  private synchronized void put(String memberId) {
+    filter.put(memberId);
+    if (pendingIds != null) {
+      pendingIds.add(memberId);
+    }
+  }
+
+  private void rebuild() {
+    synchronized (this) {
+      if (pendingIds != null) {
+        return;
+      }
+      pendingIds = new ArrayList<>();
+    }
+
+    long start = System.currentTimeMillis();
+    ScalableBloomFilter newFilter = new ScalableBloomFilter(expectedInsertions, falsePositiveRate);
+
+    try {
+      transactionTemplate.executeWithoutResult(status -> {
+        try (Stream<String> memberIds = memberRepository.streamAllMemberIds()) {
+          memberIds.forEach(newFilter::put);
+        }
+      });
+    } catch (Exception e) {
+      log.error("사용자 ID 필터 생성을 실패했습니다.", e);
+      synchronized (this) {
+        pendingIds = null;
+      }
+      return;
+    }
+
+    synchronized (this) {
+      pendingIds.forEach(newFilter::put);
+      pendingIds = null;
+      filter = newFilter;
+      staleCount.set(0);
+      ready = true;
+    }
+
+    log.info("사용자 ID 필터 생성 완료 (count: {}, {}ms)",
+        newFilter.count(), System.currentTimeMillis() - start);
+  }
+
+  private void publish(String channel, String memberId) {
+    try {
+      stringRedisTemplate.convertAndSend(channel, memberId);
+    } catch (Exception e) {
+      log.error("사용자 ID 필터 메시지 발행에 실패했습니다. (memberId : {})", memberId, e);
+    }
+  }
+
+}
@@ -5,11 +5,12 @@ import com.ecommerce.dto.member.MemberDto;
 import com.ecommerce.dto.member.UpdateMemberDto;
 import com.ecommerce.entity.Member;
 import com.ecommerce.exception.MemberException;
+import com.ecommerce.provider.PasswordHashProvider;
 import com.ecommerce.repository.MemberRepository;
+import com.ecommerce.security.PrincipalCache;
 import com.ecommerce.service.auth.AuthService;
 import com.ecommerce.type.ResponseCode;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,7 +20,9 @@ public class MemberServiceImplement implements MemberService {
 
   private final AuthService authService;
   private final MemberRepository memberRepository;
-  private final PasswordEncoder passwordEncoder;
+  private final PasswordHashProvider passwordHashProvider;
+  private final PrincipalCache principalCache;
+  private final MemberIdBloomFilter memberIdBloomFilter;
 
   /**
    * 회원 정보 조회
@@ -50,10 +53,12 @@ public class MemberServiceImplement implements MemberService {
 
     authService.equalToMemberIdFromToken(memberId, token);
 
-    Member member = getMemberByMemberId(memberId);
+    // 변경 감지를 위해 캐시된 사용자가 아닌 영속 상태의 사용자를 조회
+    Member member = memberRepository.findByMemberId(memberId)
+        .orElseThrow(() -> new MemberException(ResponseCode.MEMBER_NOT_FOUND));
 
     if (request.getPassword() != null && !request.getPassword().isEmpty()) {
-      String encodedPassword = passwordEncoder.encode(request.getPassword());
+      String encodedPassword = passwordHashProvider.encode(request.getPassword());
       member.setPassword(encodedPassword);
     }
 
@@ -65,6 +70,8 @@ public class MemberServiceImplement implements MemberService {
       member.setAddress(request.getAddress());
     }
 
+    principalCache.evict(memberId);
+
     return MemberDto.fromEntity(member);
 
   }
@@ -81,7 +88,13 @@ public class MemberServiceImplement implements MemberService {
 
     authService.equalToMemberIdFromToken(memberId, token);
 
-    memberRepository.delete(getMemberByMemberId(memberId));
+    memberRepository.delete(
+        memberRepository.findByMemberId(memberId)
+            .orElseThrow(() -> new MemberException(ResponseCode.MEMBER_NOT_FOUND))
+    );
+
+    principalCache.evict(memberId);
+    memberIdBloomFilter.remove(memberId);
 
     return ResponseDto.getResponseBody(ResponseCode.MEMBER_DELETE_SUCCESS);
 
@@ -89,6 +102,7 @@ public class MemberServiceImplement implements MemberService {
 
   /**
    * Member Id 로 MemberRepository 에서 멤버 정보 조회
+   * 호출하는 서비스가 변경하거나 연관관계로 사용하므로 캐시된 인증 정보가 아닌 영속 상태의 Member 반환
    *
    * @param memberId
    * @return Member
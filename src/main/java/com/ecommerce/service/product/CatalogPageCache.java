@@ -0,0 +1,178 @@
+package com.ecommerce.service.product;
+
+import com.ecommerce.config.ReplicaRoutingDataSource;
+import com.ecommerce.event.ProductChangedEvent;
+import com.ecommerce.event.ProductsChangedEvent;
+import com.ecommerce.type.ProductStatus;
+import com.ecommerce.type.SortType;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.StringUtils;
+
+/**
+ * 카탈로그 앞쪽 목록 페이지 캐시 (검색어 없는 최신순/평점순 목록)
+ * 직렬화된 응답 바이트를 카탈로그 버전이 포함된 키에 저장하므로 적중시 DB 조회와 JSON 직렬화를 모두 생략
+ * 상품 변경시 버전만 증가시켜 이전 페이지를 조회 불가능하게 만들고, 이전 페이지는 TTL 로 만료
+ * 새 버전의 페이지를 지연된 복제본의 이전 목록으로 채우지 않도록 캐시에 저장할 목록은 primary 에서 조회
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CatalogPageCache {
+
+  private static final String VERSION_KEY = "catalog:version";
+  private static final String PAGE_KEY_PREFIX = "catalog:page:";
+  private static final Set<SortType> CACHEABLE_SORT_TYPES =
+      Set.of(SortType.LATEST, SortType.HIGH_RATING);
+
+  private final StringRedisTemplate stringRedisTemplate;
+  private final ObjectMapper objectMapper;
+  private final MeterRegistry meterRegistry;
+  private final ReplicaRoutingDataSource replicaRoutingDataSource;
+
+  @Value("${app.catalog-page-cache.max-page}")
+  private int maxPage;
+
+  @Value("${app.catalog-page-cache.ttl-seconds}")
+  private long ttlSeconds;
+
+  private Counter hitCounter;
+  private Counter missCounter;
+
+  @PostConstruct
+  public void init() {
+    this.hitCounter = Counter.builder("catalog.page.cache")
+        .tag("result", "hit")
+        .description("카탈로그 목록 페이지 캐시 조회 결과")
+        .register(meterRegistry);
+    this.missCounter = Counter.builder("catalog.page.cache")
+        .tag("result", "miss")
+        .description("카탈로그 목록 페이지 캐시 조회 결과")
+        .register(meterRegistry);
+  }
+
+  /**
+   * 캐시 대상 목록인지 확인 (검색어 없음, 최신순/평점순, 앞쪽 페이지)
+   *
+   * @param page
+   * @param search
+   * @param sortType
+   * @return boolean
+   */
+  public boolean isCacheable(Integer page, String search, SortType sortType) {
+    return !StringUtils.hasText(search)
+        && CACHEABLE_SORT_TYPES.contains(sortType)
+        && page != null && page >= 1 && page <= maxPage;
+  }
+
+  /**
+   * 현재 카탈로그 버전의 페이지 바이트 조회, 없으면 loader 결과를 직렬화해 저장
+   * Redis 장애시 캐시 없이 직렬화한 결과 반환
+   *
+   * @param status
+   * @param sortType
+   * @param page
+   * @param loader
+   * @return byte[] (JSON)
+   */
+  public byte[] get(ProductStatus status, SortType sortType, int page, Supplier<?> loader) {
+
+    byte[] key;
+    try {
+      key = pageKey(currentVersion(), status, sortType, page);
+
+      byte[] cached = stringRedisTemplate.execute(
+          connection -> connection.stringCommands().get(key), true
+      );
+      if (cached != null) {
+        hitCounter.increment();
+        return cached;
+      }
+    } catch (Exception e) {
+      log.warn("카탈로그 페이지 캐시 조회에 실패했습니다.", e);
+      return serialize(loader.get());
+    }
+
+    missCounter.increment();
+
+    byte[] value = serialize(replicaRoutingDataSource.onPrimary(loader));
+
+    try {
+      stringRedisTemplate.execute(connection -> connection.stringCommands()
+          .set(key, value, Expiration.seconds(ttlSeconds), SetOption.upsert()), true);
+    } catch (Exception e) {
+      log.warn("카탈로그 페이지 캐시 저장에 실패했습니다.", e);
+    }
+
+    return value;
+  }
+
+  /**
+   * 응답 객체를 JSON 바이트로 직렬화 (캐시 대상이 아닌 목록도 같은 형식으로 응답)
+   *
+   * @param value
+   * @return byte[]
+   */
+  public byte[] serialize(Object value) {
+    try {
+      return objectMapper.writeValueAsBytes(value);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("상품 목록 직렬화에 실패했습니다.", e);
+    }
+  }
+
+  /**
+   * 상품 변경 트랜잭션 커밋 이후 카탈로그 버전 증가 (키 스캔 없이 이전 페이지 전체 무효화)
+   *
+   * @param event
+   */
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onProductChanged(ProductChangedEvent event) {
+    try {
+      stringRedisTemplate.opsForValue().increment(VERSION_KEY);
+    } catch (Exception e) {
+      // 실패해도 이전 페이지는 TTL 이후 만료
+      log.error("카탈로그 버전 증가에 실패했습니다. (productId : {})", event.getProductId(), e);
+    }
+  }
+
+  /**
+   * 상품 일괄 등록/수정 커밋 이후 카탈로그 버전 증가
+   *
+   * @param event
+   */
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onProductsChanged(ProductsChangedEvent event) {
+    try {
+      stringRedisTemplate.opsForValue().increment(VERSION_KEY);
+    } catch (Exception e) {
+      log.error("카탈로그 버전 증가에 실패했습니다. (count : {})", event.getProductIds().size(), e);
+    }
+  }
+
+  private String currentVersion() {
+    String version = stringRedisTemplate.opsForValue().get(VERSION_KEY);
+    return version == null ? "0" : version;
+  }
+
+  private byte[] pageKey(String version, ProductStatus status, SortType sortType, int page) {
+    return (PAGE_KEY_PREFIX + version + ":" + status + ":" + sortType + ":" + page)
+        .getBytes(StandardCharsets.UTF_8);
+  }
+
+}
@@ -0,0 +1,64 @@
+package com.ecommerce.service.product;
+
+import com.ecommerce.type.ProductStatus;
+import com.ecommerce.utils.NgramInvertedIndex;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 상품 목록 전체 개수 로컬 캐시 (판매자, 상품 상태, 검색어 기준)
+ * 짧은 TTL 동안 같은 조건의 COUNT 쿼리를 재사용하므로 반환 값은 근사치
+ */
+@Component
+public class ProductCountCache {
+
+  @Value("${app.product-count-cache.maximum-size}")
+  private long maximumSize;
+
+  @Value("${app.product-count-cache.ttl-seconds}")
+  private long ttlSeconds;
+
+  private Cache<String, Long> cache;
+
+  @PostConstruct
+  public void init() {
+    this.cache = Caffeine.newBuilder()
+        .maximumSize(maximumSize)
+        .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+        .build();
+  }
+
+  /**
+   * 캐시에서 상품 개수 조회, 없으면 counter 로 조회 후 캐시에 저장
+   *
+   * @param seller  판매자 ID (null 이면 전체)
+   * @param status
+   * @param search
+   * @param counter
+   * @return long
+   */
+  public long getCount(
+      String seller, ProductStatus status, String search, Supplier<Long> counter
+  ) {
+    return cache.get(key(seller, status, search), key -> counter.get());
+  }
+
+  /**
+   * 대소문자, 공백 차이만 있는 검색어는 같은 키로 저장
+   *
+   * @param seller
+   * @param status
+   * @param search
+   * @return String
+   */
+  private String key(String seller, ProductStatus status, String search) {
+    String normalizedSearch = search == null ? "" : NgramInvertedIndex.normalize(search);
+    return (seller == null ? "*" : seller) + "|" + status.name() + "|" + normalizedSearch;
+  }
+
+}
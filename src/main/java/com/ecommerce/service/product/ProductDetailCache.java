@@ -0,0 +1,288 @@
+package com.ecommerce.service.product;
+
+import com.ecommerce.config.ReplicaRoutingDataSource;
+import com.ecommerce.dto.product.ProductDto;
+import com.ecommerce.event.ProductChangedEvent;
+import com.ecommerce.event.ProductsChangedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 상품 상세 정보 2단계 캐시 (L1 : 노드별 Caffeine, L2 : Redis)
+ * 같은 상품의 동시 캐시 미스는 Caffeine 의 키 단위 로딩으로 하나의 L2/DB 조회로 합쳐짐
+ * 상품 변경(수정/삭제/평점 변경) 커밋 이후 L2 를 삭제하고 Redis Pub/Sub 으로 모든 노드의 L1 무효화
+ * 무효화마다 상품별 버전을 올리고, DB 조회 전에 읽은 버전이 그대로일 때만 L2 에 저장하여
+ * 조회 중 커밋된 변경이 있으면 이전 값을 L2 에 다시 쓰지 않음 (cache-aside 경쟁 조건 방지)
+ * 버전 확인은 조회가 커밋된 값을 읽어야 성립하므로 캐시 미스의 DB 조회는 복제본이 아닌 primary 에서 실행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductDetailCache implements MessageListener {
+
+  private static final String KEY_PREFIX = "product:detail:";
+  private static final String VERSION_KEY_PREFIX = "product:detail:version:";
+  private static final String INVALIDATE_CHANNEL = "product:detail:invalidate";
+
+  // KEYS = [상세, 버전], ARGV = [값, 조회 전 버전, TTL(초)]
+  // 반환값 = 1 저장, 0 조회 중 무효화되어 저장하지 않음
+  private static final RedisScript<Long> WRITE_SCRIPT = new DefaultRedisScript<>(
+      "if (redis.call('GET', KEYS[2]) or '0') ~= ARGV[2] then return 0 end "
+          + "redis.call('SET', KEYS[1], ARGV[1], 'EX', ARGV[3]) "
+          + "return 1",
+      Long.class
+  );
+
+  // KEYS = [상세1, 버전1, 상세2, 버전2, ...], ARGV = [버전 TTL(초)]
+  private static final RedisScript<Long> INVALIDATE_SCRIPT = new DefaultRedisScript<>(
+      "for i = 1, #KEYS, 2 do "
+          + "  redis.call('DEL', KEYS[i]) "
+          + "  redis.call('INCR', KEYS[i + 1]) "
+          + "  redis.call('EXPIRE', KEYS[i + 1], ARGV[1]) "
+          + "end "
+          + "return #KEYS / 2",
+      Long.class
+  );
+
+  private final StringRedisTemplate stringRedisTemplate;
+  private final RedisMessageListenerContainer redisMessageListenerContainer;
+  private final ObjectMapper objectMapper;
+  private final MeterRegistry meterRegistry;
+  private final ReplicaRoutingDataSource replicaRoutingDataSource;
+
+  @Value("${app.product-detail-cache.l1-maximum-size}")
+  private long l1MaximumSize;
+
+  @Value("${app.product-detail-cache.l1-ttl-seconds}")
+  private long l1TtlSeconds;
+
+  @Value("${app.product-detail-cache.l2-ttl-seconds}")
+  private long l2TtlSeconds;
+
+  private Cache<Long, ProductDto.Response> cache;
+
+  private Counter l2HitCounter;
+  private Counter l2MissCounter;
+  private Counter loadCounter;
+  private Counter invalidateCounter;
+  private Counter staleWriteCounter;
+
+  @PostConstruct
+  public void init() {
+    this.cache = Caffeine.newBuilder()
+        .maximumSize(l1MaximumSize)
+        .expireAfterWrite(Duration.ofSeconds(l1TtlSeconds))
+        .recordStats()
+        .build();
+
+    // cache.gets{result=hit|miss}, cache.evictions 등 L1 통계
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, "product.detail.l1");
+
+    this.l2HitCounter = Counter.builder("product.detail.l2")
+        .tag("result", "hit")
+        .description("상품 상세 Redis 캐시 조회 결과")
+        .register(meterRegistry);
+    this.l2MissCounter = Counter.builder("product.detail.l2")
+        .tag("result", "miss")
+        .description("상품 상세 Redis 캐시 조회 결과")
+        .register(meterRegistry);
+    this.loadCounter = Counter.builder("product.detail.load")
+        .description("캐시 미스로 인한 상품 상세 DB 조회 수")
+        .register(meterRegistry);
+    this.invalidateCounter = Counter.builder("product.detail.invalidate")
+        .description("상품 변경으로 인한 캐시 무효화 수")
+        .register(meterRegistry);
+    this.staleWriteCounter = Counter.builder("product.detail.stale-write")
+        .description("조회 중 무효화되어 L2 에 저장하지 않은 수")
+        .register(meterRegistry);
+
+    redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATE_CHANNEL));
+  }
+
+  /**
+   * L1 -> L2 -> loader 순서로 상품 상세 정보 조회 후 상위 캐시에 저장 (조회 결과가 없으면 저장하지 않음)
+   *
+   * @param productId
+   * @param loader
+   * @return Optional<ProductDto.Response>
+   */
+  public Optional<ProductDto.Response> get(
+      Long productId, Supplier<Optional<ProductDto.Response>> loader
+  ) {
+    return Optional.ofNullable(
+        cache.get(productId, key -> readL2(key).orElseGet(() -> load(key, loader)))
+    );
+  }
+
+  /**
+   * 상품 변경 트랜잭션 커밋 이후 L2 삭제 및 모든 노드의 L1 무효화
+   *
+   * @param event
+   */
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onProductChanged(ProductChangedEvent event) {
+    Long productId = event.getProductId();
+
+    invalidateCounter.increment();
+    cache.invalidate(productId);
+
+    try {
+      // 다른 노드가 L1 을 다시 채울 때 이전 값을 읽지 않도록 L2 를 먼저 삭제한 뒤 발행
+      invalidateL2(List.of(productId));
+      stringRedisTemplate.convertAndSend(INVALIDATE_CHANNEL, productId.toString());
+    } catch (Exception e) {
+      // 실패해도 다른 노드의 캐시는 TTL 이후 만료
+      log.error("상품 상세 캐시 무효화에 실패했습니다. (productId : {})", productId, e);
+    }
+  }
+
+  /**
+   * 상품 일괄 등록/수정 커밋 이후 한 번의 DEL 과 한 번의 메시지로 캐시 무효화
+   *
+   * @param event
+   */
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onProductsChanged(ProductsChangedEvent event) {
+    List<Long> productIds = event.getProductIds();
+    if (productIds.isEmpty()) {
+      return;
+    }
+
+    invalidateCounter.increment(productIds.size());
+    cache.invalidateAll(productIds);
+
+    try {
+      invalidateL2(productIds);
+      stringRedisTemplate.convertAndSend(INVALIDATE_CHANNEL,
+          productIds.stream().map(String::valueOf).collect(Collectors.joining(",")));
+    } catch (Exception e) {
+      log.error("상품 상세 캐시 일괄 무효화에 실패했습니다. (count : {})", productIds.size(), e);
+    }
+  }
+
+  /**
+   * 다른 노드에서 발행한 무효화 메시지 수신
+   *
+   * @param message
+   * @param pattern
+   */
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    String productIds = new String(message.getBody(), StandardCharsets.UTF_8);
+
+    try {
+      // 일괄 무효화는 "id1,id2,..." 형식으로 전달
+      cache.invalidateAll(Arrays.stream(productIds.split(","))
+          .map(Long::parseLong)
+          .toList());
+    } catch (NumberFormatException e) {
+      log.warn("잘못된 상품 상세 캐시 무효화 메시지입니다. ({})", productIds);
+    }
+  }
+
+  /**
+   * L2 삭제와 버전 증가 (버전은 진행 중인 조회가 끝날 때까지만 필요하므로 L2 TTL 동안 유지)
+   */
+  private void invalidateL2(List<Long> productIds) {
+    List<String> keys = new ArrayList<>(productIds.size() * 2);
+    for (Long productId : productIds) {
+      keys.add(KEY_PREFIX + productId);
+      keys.add(VERSION_KEY_PREFIX + productId);
+    }
+    stringRedisTemplate.execute(INVALIDATE_SCRIPT, keys, String.valueOf(l2TtlSeconds));
+  }
+
+  private Optional<ProductDto.Response> readL2(Long productId) {
+    try {
+      String value = stringRedisTemplate.opsForValue().get(KEY_PREFIX + productId);
+      if (value == null) {
+        l2MissCounter.increment();
+        return Optional.empty();
+      }
+
+      l2HitCounter.increment();
+      return Optional.of(objectMapper.readValue(value, ProductDto.Response.class));
+    } catch (Exception e) {
+      // Redis 장애시 DB 조회로 대체
+      log.warn("상품 상세 Redis 캐시 조회에 실패했습니다. (productId : {})", productId, e);
+      return Optional.empty();
+    }
+  }
+
+  private ProductDto.Response load(
+      Long productId, Supplier<Optional<ProductDto.Response>> loader
+  ) {
+    loadCounter.increment();
+
+    // DB 조회 전에 버전을 읽어야 조회와 커밋 사이의 무효화를 감지할 수 있음
+    String version = readVersion(productId);
+
+    // 지연된 복제본은 버전이 오른 뒤에도 이전 행을 돌려줄 수 있으므로 primary 에서 조회
+    ProductDto.Response product = replicaRoutingDataSource.onPrimary(loader).orElse(null);
+    if (product != null && version != null) {
+      writeL2(productId, product, version);
+    }
+
+    return product;
+  }
+
+  /**
+   * 상품 상세 버전 조회 (무효화된 적이 없으면 "0", Redis 장애시 null)
+   */
+  private String readVersion(Long productId) {
+    try {
+      String version = stringRedisTemplate.opsForValue().get(VERSION_KEY_PREFIX + productId);
+      return version != null ? version : "0";
+    } catch (Exception e) {
+      log.warn("상품 상세 캐시 버전 조회에 실패했습니다. (productId : {})", productId, e);
+      return null;
+    }
+  }
+
+  /**
+   * 조회 전에 읽은 버전이 그대로일 때만 L2 저장
+   */
+  private void writeL2(Long productId, ProductDto.Response product, String version) {
+    try {
+      Long written = stringRedisTemplate.execute(WRITE_SCRIPT,
+          List.of(KEY_PREFIX + productId, VERSION_KEY_PREFIX + productId),
+          objectMapper.writeValueAsString(product), version, String.valueOf(l2TtlSeconds)
+      );
+      if (written == null || written == 0L) {
+        staleWriteCounter.increment();
+      }
+    } catch (JsonProcessingException e) {
+      log.error("상품 상세 캐시 직렬화에 실패했습니다. (productId : {})", productId, e);
+    } catch (Exception e) {
+      log.warn("상품 상세 Redis 캐시 저장에 실패했습니다. (productId : {})", productId, e);
+    }
+  }
+
+}
@@ -0,0 +1,10 @@
+package com.ecommerce.service.product;
+
+import com.ecommerce.type.ExportFormat;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+public interface ProductExportService {
+
+  StreamingResponseBody exportProducts(String memberId, String token, ExportFormat format);
+
+}
@@ -0,0 +1,141 @@
+package com.ecommerce.service.product;
+
+import com.ecommerce.dto.product.ProductDto;
+import com.ecommerce.entity.Member;
+import com.ecommerce.repository.product.ProductBulkRepository;
+import com.ecommerce.service.auth.AuthService;
+import com.ecommerce.service.member.MemberService;
+import com.ecommerce.type.ExportFormat;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductExportServiceImplement implements ProductExportService {
+
+  // 일괄 등록 CSV 와 같은 컬럼명을 사용하므로 내보낸 파일을 그대로 다시 등록할 수 있음
+  private static final String CSV_HEADER =
+      "id,productName,description,stockQuantity,price,status,rating,createdAt,updatedAt";
+
+  private static final int BUFFER_SIZE = 8 * 1024;
+
+  private final AuthService authService;
+  private final MemberService memberService;
+  private final ProductBulkRepository productBulkRepository;
+  private final ObjectMapper objectMapper;
+
+  /**
+   * 판매자 전체 상품 내보내기 (CSV, NDJSON)
+   * 권한 확인은 응답 전에 끝내고, 본문은 DB 커서에서 한 행씩 읽어 바로 쓰므로 상품 수와 관계없이 메모리 사용량 일정
+   *
+   * @param memberId
+   * @param token
+   * @param format
+   * @return StreamingResponseBody
+   */
+  @Override
+  public StreamingResponseBody exportProducts(
+      String memberId, String token, ExportFormat format
+  ) {
+
+    authService.equalToMemberIdFromToken(memberId, token);
+
+    Member member = memberService.getMemberByMemberId(memberId);
+
+    return outputStream -> {
+      long start = System.currentTimeMillis();
+      long[] count = {0};
+
+      Writer writer = new BufferedWriter(
+          new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), BUFFER_SIZE
+      );
+
+      if (format == ExportFormat.CSV) {
+        writer.write(CSV_HEADER);
+        writer.write(format.getLineSeparator());
+        // 첫 바이트를 바로 내보내 클라이언트가 다운로드 시작을 알 수 있도록 함
+        writer.flush();
+      }
+
+      try {
+        productBulkRepository.streamBySeller(member.getId(), member.getMemberId(), product -> {
+          try {
+            writer.write(format == ExportFormat.CSV ? toCsv(product) : toJson(product));
+            writer.write(format.getLineSeparator());
+
+            if (++count[0] == 1) {
+              writer.flush();
+            }
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        });
+      } catch (UncheckedIOException e) {
+        log.warn("상품 내보내기 중 연결이 종료되었습니다. (memberId : {}, rows : {})",
+            memberId, count[0]);
+        throw e.getCause();
+      }
+
+      writer.flush();
+
+      log.info("상품 내보내기 완료 (memberId: {}, format: {}, rows: {}, {}ms)",
+          memberId, format, count[0], System.currentTimeMillis() - start);
+    };
+
+  }
+
+  private String toJson(ProductDto.Response product) throws IOException {
+    return objectMapper.writeValueAsString(product);
+  }
+
+  private static String toCsv(ProductDto.Response product) {
+    return String.join(",",
+        String.valueOf(product.getId()),
+        escape(product.getProductName()),
+        escape(product.getDescription()),
+        valueOf(product.getStockQuantity()),
+        valueOf(product.getPrice()),
+        valueOf(product.getStatus()),
+        valueOf(product.getRating()),
+        valueOf(product.getCreatedAt()),
+        valueOf(product.getUpdatedAt())
+    );
+  }
+
+  private static String valueOf(Object value) {
+    return value == null ? "" : value.toString();
+  }
+
+  /**
+   * RFC 4180 규칙으로 값 변환
+   * 쉼표, 큰따옴표, 줄바꿈이 포함된 값은 큰따옴표로 감싸고 따옴표는 "" 로 이스케이프
+   * (값 안의 줄바꿈은 그대로 유지, 레코드 구분자 CRLF 와 달리 따옴표 안에 있으므로
+   * ProductImportReader 는 한 값으로 읽음)
+   *
+   * @param value
+   * @return String
+   */
+  private static String escape(String value) {
+    if (value == null) {
+      return "";
+    }
+
+    if (value.indexOf(',') < 0 && value.indexOf('"') < 0
+        && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+      return value;
+    }
+
+    return "\"" + value.replace("\"", "\"\"") + "\"";
+  }
+
+}
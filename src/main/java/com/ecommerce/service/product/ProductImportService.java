@@ -0,0 +1,12 @@
+package com.ecommerce.service.product;
+
+import com.ecommerce.dto.product.ProductImportDto;
+import java.io.InputStream;
+
+public interface ProductImportService {
+
+  ProductImportDto.Response importProducts(
+      String memberId, String token, String contentType, InputStream body
+  );
+
+}
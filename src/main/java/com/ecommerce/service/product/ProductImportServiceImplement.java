@@ -0,0 +1,215 @@
+package com.ecommerce.service.product;
+
+import com.ecommerce.dto.product.ProductDto;
+import com.ecommerce.dto.product.ProductImportDto;
+import com.ecommerce.dto.product.ProductImportDto.RowError;
+import com.ecommerce.entity.Member;
+import com.ecommerce.event.ProductsChangedEvent;
+import com.ecommerce.exception.ProductException;
+import com.ecommerce.repository.product.ProductBulkRepository;
+import com.ecommerce.service.auth.AuthService;
+import com.ecommerce.service.member.MemberService;
+import com.ecommerce.type.ProductStatus;
+import com.ecommerce.type.ResponseCode;
+import com.ecommerce.utils.ProductImportReader;
+import com.ecommerce.utils.ProductImportReader.Row;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductImportServiceImplement implements ProductImportService {
+
+  private final AuthService authService;
+  private final MemberService memberService;
+  private final ProductBulkRepository productBulkRepository;
+  private final TransactionTemplate transactionTemplate;
+  private final ApplicationEventPublisher eventPublisher;
+  private final ObjectMapper objectMapper;
+  private final Validator validator;
+
+  @Value("${app.product-import.batch-size}")
+  private int batchSize;
+
+  @Value("${app.product-import.max-rows}")
+  private long maxRows;
+
+  @Value("${app.product-import.max-errors}")
+  private int maxErrors;
+
+  /**
+   * 상품 일괄 등록 (NDJSON/CSV 본문을 한 행씩 검증 후 배치 단위로 저장)
+   * 배치마다 커밋하므로 실패한 행만 제외하고 나머지는 저장되며, 실패 행은 응답에 행 번호와 함께 반환
+   *
+   * @param memberId
+   * @param token
+   * @param contentType
+   * @param body
+   * @return ProductImportDto.Response
+   */
+  @Override
+  public ProductImportDto.Response importProducts(
+      String memberId, String token, String contentType, InputStream body
+  ) {
+
+    authService.equalToMemberIdFromToken(memberId, token);
+
+    Member member = memberService.getMemberByMemberId(memberId);
+
+    ProductImportReader reader = ProductImportReader.of(
+        contentType, new InputStreamReader(body, StandardCharsets.UTF_8), objectMapper
+    );
+    if (reader == null) {
+      throw new ProductException(ResponseCode.PRODUCT_IMPORT_UNSUPPORTED_FORMAT);
+    }
+
+    long start = System.nanoTime();
+    ImportResult result = new ImportResult();
+    List<Row> batch = new ArrayList<>(batchSize);
+
+    try (reader) {
+      Row row;
+      while ((row = reader.next()) != null) {
+        if (result.totalRows >= maxRows) {
+          result.fail(row.getLine(), "최대 " + maxRows + " 행까지 등록할 수 있습니다.");
+          break;
+        }
+        result.totalRows++;
+
+        String error = row.getError() != null ? row.getError() : validate(row.getRequest());
+        if (error != null) {
+          result.fail(row.getLine(), error);
+          continue;
+        }
+
+        batch.add(row);
+        if (batch.size() >= batchSize) {
+          flush(member, batch, result);
+        }
+      }
+    } catch (IOException e) {
+      log.error("상품 일괄 등록 본문을 읽는 중 오류가 발생했습니다. (memberId : {})", memberId, e);
+      result.fail(0, "본문을 끝까지 읽지 못했습니다. 이후 행은 등록되지 않았습니다.");
+    }
+
+    flush(member, batch, result);
+
+    long elapsedMillis = Math.max((System.nanoTime() - start) / 1_000_000, 1);
+    long rowsPerSecond = result.importedRows * 1000 / elapsedMillis;
+
+    log.info("상품 일괄 등록 완료 (memberId: {}, total: {}, imported: {}, failed: {}, {}ms, {} rows/s)",
+        memberId, result.totalRows, result.importedRows, result.failedRows,
+        elapsedMillis, rowsPerSecond);
+
+    return ProductImportDto.Response.builder()
+        .totalRows(result.totalRows)
+        .importedRows(result.importedRows)
+        .failedRows(result.failedRows)
+        .elapsedMillis(elapsedMillis)
+        .rowsPerSecond(rowsPerSecond)
+        .errors(result.errors)
+        .build();
+
+  }
+
+  /**
+   * Bean Validation 으로 행 검증 (오류가 없으면 null)
+   *
+   * @param request
+   * @return String
+   */
+  private String validate(ProductDto.Request request) {
+    if (request.getStatus() == null) {
+      request.setStatus(ProductStatus.IN_STOCK);
+    }
+
+    Set<ConstraintViolation<ProductDto.Request>> violations = validator.validate(request);
+    if (violations.isEmpty()) {
+      return null;
+    }
+
+    return violations.stream()
+        .map(violation -> violation.getPropertyPath() + " : " + violation.getMessage())
+        .sorted()
+        .collect(Collectors.joining(", "));
+  }
+
+  /**
+   * 모인 행을 하나의 트랜잭션, 하나의 JDBC 배치로 저장
+   * 배치 저장 실패시 실패한 행을 찾기 위해 행 단위로 다시 저장
+   *
+   * @param member
+   * @param batch
+   * @param result
+   */
+  private void flush(Member member, List<Row> batch, ImportResult result) {
+    if (batch.isEmpty()) {
+      return;
+    }
+
+    try {
+      insert(member, batch);
+      result.importedRows += batch.size();
+    } catch (DataAccessException e) {
+      log.warn("상품 일괄 등록 배치 저장에 실패하여 행 단위로 저장합니다. (size : {})", batch.size(), e);
+
+      for (Row row : batch) {
+        try {
+          insert(member, List.of(row));
+          result.importedRows++;
+        } catch (DataAccessException rowException) {
+          result.fail(row.getLine(), "저장에 실패했습니다.");
+        }
+      }
+    }
+
+    batch.clear();
+  }
+
+  private void insert(Member member, List<Row> rows) {
+    transactionTemplate.executeWithoutResult(status -> {
+      List<Long> productIds = productBulkRepository.insertAll(
+          member.getId(), rows.stream().map(Row::getRequest).toList()
+      );
+
+      eventPublisher.publishEvent(new ProductsChangedEvent(productIds));
+    });
+  }
+
+  /**
+   * 일괄 등록 집계 (오류 목록은 max-errors 개까지만 보관)
+   */
+  private class ImportResult {
+
+    private long totalRows;
+    private long importedRows;
+    private long failedRows;
+    private final List<RowError> errors = new ArrayList<>();
+
+    private void fail(long line, String message) {
+      failedRows++;
+      if (errors.size() < maxErrors) {
+        errors.add(new RowError(line, message));
+      }
+    }
+
+  }
+
+}
@@ -0,0 +1,417 @@
+package com.ecommerce.service.product;
+
+import com.ecommerce.dto.product.ProductSearchDto;
+import com.ecommerce.event.ProductChangedEvent;
+import com.ecommerce.event.ProductsChangedEvent;
+import com.ecommerce.repository.product.ProductRepository;
+import com.ecommerce.type.ProductStatus;
+import com.ecommerce.type.SortType;
+import com.ecommerce.utils.BitmapFilterIndex;
+import com.ecommerce.utils.NgramInvertedIndex;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 상품명/설명 검색용 메모리 역색인 + 상태/판매자/가격대/평점대 필터용 비트맵 색인
+ * 애플리케이션 시작시 product 테이블을 스트리밍하여 생성하고, 상품 변경 이벤트(커밋 이후)로 증분 반영
+ * 다른 노드의 변경은 Redis Pub/Sub 으로 상품 id 를 받아 DB 에서 다시 읽어 반영
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductSearchIndex implements MessageListener {
+
+  private static final String CHANGED_CHANNEL = "product:changed";
+
+  private final String nodeId = UUID.randomUUID().toString();
+
+  private final ProductRepository productRepository;
+  private final TransactionTemplate transactionTemplate;
+  private final StringRedisTemplate stringRedisTemplate;
+  private final RedisMessageListenerContainer redisMessageListenerContainer;
+  private final MeterRegistry meterRegistry;
+
+  @Value("${app.product-filter.price-bands}")
+  private BigDecimal[] priceBoundaries;
+
+  private volatile Snapshot snapshot;
+  private volatile boolean ready = false;
+
+  // 재생성 중 변경된 상품 id (새 색인에 다시 반영)
+  private Set<Long> pendingIds;
+
+  private Timer searchTimer;
+  private Timer filterTimer;
+
+  @PostConstruct
+  public void init() {
+    this.snapshot = new Snapshot(priceBoundaries);
+
+    redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANGED_CHANNEL));
+
+    this.searchTimer = Timer.builder("product.search.latency")
+        .description("상품 검색 색인 조회 시간")
+        .register(meterRegistry);
+    this.filterTimer = Timer.builder("product.filter.latency")
+        .description("상품 필터 비트맵 색인 조회 시간")
+        .register(meterRegistry);
+    Gauge.builder("product.search.index.size", this, i -> i.snapshot.index.size())
+        .description("검색 색인에 포함된 상품 수")
+        .register(meterRegistry);
+    Gauge.builder("product.search.index.terms", this, i -> i.snapshot.index.termCount())
+        .description("검색 색인의 n-gram 수")
+        .register(meterRegistry);
+  }
+
+  /**
+   * 애플리케이션 시작 완료 후 색인 생성
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void onApplicationReady() {
+    rebuild();
+  }
+
+  /**
+   * 증분 반영 누락에 대비한 주기적 전체 재생성
+   */
+  @Scheduled(cron = "${app.product-search.rebuild-cron}")
+  public void scheduledRebuild() {
+    rebuild();
+  }
+
+  /**
+   * 색인 사용 가능 여부 (생성 전에는 DB 검색 사용)
+   *
+   * @return boolean
+   */
+  public boolean isReady() {
+    return ready;
+  }
+
+  /**
+   * 검색어와 일치하는 상품 id 를 정렬 후 페이지 단위로 조회
+   *
+   * @param search
+   * @param seller   판매자 ID (null 이면 전체)
+   * @param status   상품 상태 (NONE 이면 전체)
+   * @param sortType
+   * @param pageable
+   * @return Page<Long>
+   */
+  public Page<Long> search(
+      String search, String seller, ProductStatus status, SortType sortType, Pageable pageable
+  ) {
+    return searchTimer.record(() -> {
+      Snapshot current = snapshot;
+      Map<Long, Double> scores = current.index.search(search);
+
+      List<Long> ids = scores.keySet().stream()
+          .map(current.documents::get)
+          .filter(document -> document != null
+              && (seller == null || seller.equals(document.getSeller()))
+              && (status == ProductStatus.NONE || status == document.getStatus()))
+          .sorted(comparator(sortType, scores))
+          .map(ProductSearchDto::getId)
+          .toList();
+
+      int from = (int) Math.min(pageable.getOffset(), ids.size());
+      int to = Math.min(from + pageable.getPageSize(), ids.size());
+
+      return new PageImpl<>(ids.subList(from, to), pageable, ids.size());
+    });
+  }
+
+  /**
+   * 필터 조건에 맞는 상품 id 를 비트맵 교집합으로 찾은 뒤 정렬하여 페이지 단위로 조회
+   * 최신순은 id 역순으로 필요한 개수만 읽고, 그 외 정렬은 (offset + size) 크기의 힙으로 상위 항목만 선별
+   *
+   * @param condition
+   * @param sortType
+   * @param pageable
+   * @return Page<Long>
+   */
+  public Page<Long> filter(
+      BitmapFilterIndex.Condition condition, SortType sortType, Pageable pageable
+  ) {
+    return filterTimer.record(() -> {
+      Snapshot current = snapshot;
+      RoaringBitmap matched = current.filters.filter(condition);
+
+      int limit = (int) Math.min(pageable.getOffset() + pageable.getPageSize(), Integer.MAX_VALUE);
+      List<Long> top = new ArrayList<>(Math.min(limit, matched.getCardinality()));
+
+      if (sortType == SortType.LATEST || sortType == SortType.RELEVANCE) {
+        // AUTO_INCREMENT id 역순 = 등록 역순 (검색어가 없으므로 관련도순은 최신순으로 처리)
+        IntIterator iterator = matched.getReverseIntIterator();
+        while (iterator.hasNext() && top.size() < limit) {
+          top.add((long) iterator.next());
+        }
+      } else {
+        Comparator<ProductSearchDto> comparator = comparator(sortType, Map.of());
+        PriorityQueue<ProductSearchDto> heap = new PriorityQueue<>(comparator.reversed());
+
+        matched.forEach((int id) -> {
+          ProductSearchDto document = current.documents.get((long) id);
+          if (document == null) {
+            return;
+          }
+          heap.offer(document);
+          if (heap.size() > limit) {
+            heap.poll();
+          }
+        });
+
+        while (!heap.isEmpty()) {
+          top.add(heap.poll().getId());
+        }
+        Collections.reverse(top);
+      }
+
+      int from = (int) Math.min(pageable.getOffset(), top.size());
+
+      return new PageImpl<>(top.subList(from, top.size()), pageable, matched.getCardinality());
+    });
+  }
+
+  /**
+   * 필터 조건별 facet 개수 조회
+   *
+   * @param condition
+   * @return BitmapFilterIndex.Facets
+   */
+  public BitmapFilterIndex.Facets facets(BitmapFilterIndex.Condition condition) {
+    return snapshot.filters.facets(condition);
+  }
+
+  /**
+   * 가격대 경계 (가격대 i 는 [경계[i - 1], 경계[i]))
+   *
+   * @return BigDecimal[]
+   */
+  public BigDecimal[] getPriceBoundaries() {
+    return priceBoundaries.clone();
+  }
+
+  /**
+   * 상품 변경 트랜잭션 커밋 이후 색인에 반영하고 다른 노드에 전파
+   *
+   * @param event
+   */
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onProductChanged(ProductChangedEvent event) {
+    reload(event.getProductId());
+
+    try {
+      stringRedisTemplate.convertAndSend(CHANGED_CHANNEL, nodeId + ":" + event.getProductId());
+    } catch (Exception e) {
+      log.error("상품 변경 메시지 발행에 실패했습니다. (productId : {})", event.getProductId(), e);
+    }
+  }
+
+  /**
+   * 상품 일괄 등록/수정 커밋 이후 한 번의 조회로 색인에 반영하고 다른 노드에 전파
+   *
+   * @param event
+   */
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onProductsChanged(ProductsChangedEvent event) {
+    List<Long> productIds = event.getProductIds();
+    if (productIds.isEmpty()) {
+      return;
+    }
+
+    reloadAll(productIds);
+
+    String ids = productIds.stream().map(String::valueOf).collect(Collectors.joining(","));
+    try {
+      stringRedisTemplate.convertAndSend(CHANGED_CHANNEL, nodeId + ":" + ids);
+    } catch (Exception e) {
+      log.error("상품 일괄 변경 메시지 발행에 실패했습니다. (count : {})", productIds.size(), e);
+    }
+  }
+
+  /**
+   * 다른 노드에서 발행한 상품 변경 메시지 수신 (자신이 발행한 메시지는 무시)
+   *
+   * @param message
+   * @param pattern
+   */
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    String body = new String(message.getBody(), StandardCharsets.UTF_8);
+
+    int separator = body.lastIndexOf(':');
+    if (separator < 0 || body.substring(0, separator).equals(nodeId)) {
+      return;
+    }
+
+    try {
+      // 일괄 등록/수정은 "nodeId:id1,id2,..." 형식으로 전달
+      List<Long> productIds = Arrays.stream(body.substring(separator + 1).split(","))
+          .map(Long::parseLong)
+          .toList();
+
+      if (productIds.size() == 1) {
+        reload(productIds.get(0));
+      } else {
+        reloadAll(productIds);
+      }
+    } catch (NumberFormatException e) {
+      log.warn("잘못된 상품 변경 메시지입니다. ({})", body);
+    }
+  }
+
+  /**
+   * product 테이블을 스트리밍하여 새 색인을 만든 뒤 교체
+   */
+  public void rebuild() {
+    synchronized (this) {
+      if (pendingIds != null) {
+        return;
+      }
+      pendingIds = new HashSet<>();
+    }
+
+    long start = System.currentTimeMillis();
+    Snapshot newSnapshot = new Snapshot(priceBoundaries);
+
+    try {
+      transactionTemplate.executeWithoutResult(status -> {
+        try (Stream<ProductSearchDto> products = productRepository.streamAllSearchDto()) {
+          products.forEach(newSnapshot::put);
+        }
+      });
+    } catch (Exception e) {
+      log.error("상품 검색 색인 생성을 실패했습니다.", e);
+      synchronized (this) {
+        pendingIds = null;
+      }
+      return;
+    }
+
+    Set<Long> changedIds;
+    synchronized (this) {
+      changedIds = pendingIds;
+      pendingIds = null;
+      snapshot = newSnapshot;
+      ready = true;
+    }
+    changedIds.forEach(this::reload);
+
+    log.info("상품 검색 색인 생성 완료 (count: {}, {}ms)",
+        newSnapshot.index.size(), System.currentTimeMillis() - start);
+  }
+
+  private void reload(Long productId) {
+    Optional<ProductSearchDto> product = productRepository.findSearchDtoById(productId);
+
+    synchronized (this) {
+      product.ifPresentOrElse(snapshot::put, () -> snapshot.remove(productId));
+      if (pendingIds != null) {
+        pendingIds.add(productId);
+      }
+    }
+  }
+
+  private void reloadAll(List<Long> productIds) {
+    List<ProductSearchDto> products = productRepository.findSearchDtosByIdIn(productIds);
+
+    // 조회되지 않은 id 는 그 사이 삭제된 상품이므로 색인에서도 제거
+    Set<Long> foundIds = products.stream().map(ProductSearchDto::getId)
+        .collect(Collectors.toSet());
+
+    synchronized (this) {
+      products.forEach(snapshot::put);
+      productIds.stream()
+          .filter(productId -> !foundIds.contains(productId))
+          .forEach(snapshot::remove);
+      if (pendingIds != null) {
+        pendingIds.addAll(productIds);
+      }
+    }
+  }
+
+  private static Comparator<ProductSearchDto> comparator(
+      SortType sortType, Map<Long, Double> scores
+  ) {
+    Comparator<ProductSearchDto> comparator = switch (sortType) {
+      case RELEVANCE -> Comparator.comparing(
+          (ProductSearchDto document) -> scores.get(document.getId())).reversed();
+      case LOW_PRICE -> Comparator.comparing(ProductSearchDto::getPrice,
+          Comparator.nullsLast(Comparator.<BigDecimal>naturalOrder()));
+      case HIGH_PRICE -> Comparator.comparing(ProductSearchDto::getPrice,
+          Comparator.nullsLast(Comparator.<BigDecimal>reverseOrder()));
+      case LOW_RATING -> Comparator.comparing(ProductSearchDto::getRating,
+          Comparator.nullsLast(Comparator.<BigDecimal>naturalOrder()));
+      case HIGH_RATING -> Comparator.comparing(ProductSearchDto::getRating,
+          Comparator.nullsLast(Comparator.<BigDecimal>reverseOrder()));
+      default -> Comparator.comparing(ProductSearchDto::getCreatedAt,
+          Comparator.nullsLast(Comparator.<LocalDateTime>reverseOrder()));
+    };
+
+    return comparator.thenComparing(ProductSearchDto::getId, Comparator.reverseOrder());
+  }
+
+  private static class Snapshot {
+
+    private final NgramInvertedIndex index = new NgramInvertedIndex();
+    private final BitmapFilterIndex filters;
+    private final Map<Long, ProductSearchDto> documents = new ConcurrentHashMap<>();
+
+    Snapshot(BigDecimal[] priceBoundaries) {
+      this.filters = new BitmapFilterIndex(priceBoundaries);
+    }
+
+    void put(ProductSearchDto product) {
+      index.put(product.getId(), product.getProductName(), product.getDescription());
+      filters.put(product.getId(), product.getStatus(), product.getSeller(),
+          product.getPrice(), product.getRating());
+      documents.put(product.getId(), product);
+    }
+
+    void remove(Long productId) {
+      index.remove(productId);
+      filters.remove(productId);
+      documents.remove(productId);
+    }
+  }
+}
@@ -1,12 +1,17 @@
 package com.ecommerce.service.product;
 
+import com.ecommerce.dto.CursorPageDto;
 import com.ecommerce.dto.ResponseDto;
+import com.ecommerce.dto.SliceDto;
+import com.ecommerce.dto.product.BulkUpdateProductDto;
 import com.ecommerce.dto.product.ProductDto;
 import com.ecommerce.dto.product.ProductDto.Response;
+import com.ecommerce.dto.product.ProductFilterDto;
 import com.ecommerce.dto.product.UpdateProductDto;
 import com.ecommerce.entity.Product;
 import com.ecommerce.type.ProductStatus;
 import com.ecommerce.type.SortType;
+import java.util.List;
 import org.springframework.data.domain.Page;
 
 public interface ProductService {
@@ -17,14 +22,44 @@ public interface ProductService {
       Integer page, String search, ProductStatus status, SortType ordering
   );
 
+  byte[] getProductListJson(
+      Integer page, String search, ProductStatus status, SortType ordering
+  );
+
+  ProductFilterDto.Response getProductListByFilter(
+      Integer page, List<ProductStatus> statuses, String seller,
+      List<Integer> priceBands, List<Integer> ratingBands, SortType ordering
+  );
+
   Page<ProductDto.Response> getProductListByMemberId(
       String memberId, Integer page, String search, ProductStatus status, SortType ordering
   );
 
+  SliceDto<ProductDto.Response> getProductSlice(
+      Integer page, String search, ProductStatus status, SortType ordering, boolean withTotal
+  );
+
+  SliceDto<ProductDto.Response> getProductSliceByMemberId(
+      String memberId, Integer page, String search, ProductStatus status, SortType ordering,
+      boolean withTotal
+  );
+
+  CursorPageDto<ProductDto.Response> getProductListByCursor(
+      String cursor, String search, ProductStatus status, SortType ordering
+  );
+
+  CursorPageDto<ProductDto.Response> getProductListByMemberIdAndCursor(
+      String memberId, String cursor, String search, ProductStatus status, SortType ordering
+  );
+
   ProductDto.Response getProductDetails(Long productId);
 
   ProductDto.Response updateProduct(Long productId, String token, UpdateProductDto updateRequest);
 
+  BulkUpdateProductDto.Response updateProducts(
+      String memberId, String token, BulkUpdateProductDto.Request request
+  );
+
   ResponseDto deleteProduct(Long productId, String token);
 
   Product getProductById(Long productId);
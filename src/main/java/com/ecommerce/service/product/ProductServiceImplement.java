@@ -1,26 +1,49 @@
 package com.ecommerce.service.product;
 
+import com.ecommerce.dto.CursorPageDto;
 import com.ecommerce.dto.ResponseDto;
+import com.ecommerce.dto.SliceDto;
+import com.ecommerce.dto.product.BulkUpdateProductDto;
 import com.ecommerce.dto.product.ProductDto;
+import com.ecommerce.dto.product.ProductFilterDto;
+import com.ecommerce.dto.product.ProductStateDto;
 import com.ecommerce.dto.product.UpdateProductDto;
 import com.ecommerce.entity.Member;
 import com.ecommerce.entity.Product;
+import com.ecommerce.event.ProductChangedEvent;
+import com.ecommerce.event.ProductsChangedEvent;
+import com.ecommerce.exception.MemberException;
 import com.ecommerce.exception.ProductException;
-import com.ecommerce.repository.ProductRepository;
+import com.ecommerce.exception.ServerBusyException;
+import com.ecommerce.repository.product.ProductBulkRepository;
+import com.ecommerce.repository.product.ProductRepository;
 import com.ecommerce.service.auth.AuthService;
 import com.ecommerce.service.member.MemberService;
 import com.ecommerce.type.ProductStatus;
 import com.ecommerce.type.ResponseCode;
 import com.ecommerce.type.SortType;
+import com.ecommerce.utils.BitmapFilterIndex;
+import com.ecommerce.utils.KeysetCursor;
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
 @Service
 @RequiredArgsConstructor
@@ -31,6 +54,12 @@ public class ProductServiceImplement implements ProductService {
   private final AuthService authService;
   private final MemberService memberService;
   private final ProductRepository productRepository;
+  private final ProductBulkRepository productBulkRepository;
+  private final ProductSearchIndex productSearchIndex;
+  private final ProductCountCache productCountCache;
+  private final ProductDetailCache productDetailCache;
+  private final CatalogPageCache catalogPageCache;
+  private final ApplicationEventPublisher eventPublisher;
 
   /**
    * 상품 등록
@@ -47,20 +76,22 @@ public class ProductServiceImplement implements ProductService {
 
     Member member = memberService.getMemberByMemberId(memberId);
 
-    return ProductDto.Response.fromEntity(
-        productRepository.save(
-            Product.builder()
-                .productName(request.getProductName())
-                .description(request.getDescription())
-                .stockQuantity(request.getStockQuantity())
-                .price(BigDecimal.valueOf(request.getPrice().doubleValue()))
-                .status(request.getStatus())
-                .rating(BigDecimal.valueOf(0))
-                .member(member)
-                .build()
-        )
+    Product savedProduct = productRepository.save(
+        Product.builder()
+            .productName(request.getProductName())
+            .description(request.getDescription())
+            .stockQuantity(request.getStockQuantity())
+            .price(BigDecimal.valueOf(request.getPrice().doubleValue()))
+            .status(request.getStatus())
+            .rating(BigDecimal.valueOf(0))
+            .member(member)
+            .build()
     );
 
+    eventPublisher.publishEvent(new ProductChangedEvent(savedProduct.getId()));
+
+    return ProductDto.Response.fromEntity(savedProduct);
+
   }
 
   /**
@@ -77,17 +108,117 @@ public class ProductServiceImplement implements ProductService {
       Integer page, String search, ProductStatus status, SortType sortType
   ) {
 
+    if (StringUtils.hasText(search) && productSearchIndex.isReady()) {
+      return searchByIndex(search, null, status, sortType, page);
+    }
+
     Sort sort = setSortType(sortType);
 
     Pageable pageable = PageRequest.of(page - 1, PRODUCT_PAGE_SIZE, sort);
 
-    if (status != ProductStatus.NONE) {
-      return productRepository.findByProductNameContainingAndStatus(search, status, pageable)
-          .map(ProductDto.Response::fromEntity);
+    return productRepository.findResponses(null, search, status, pageable);
+
+  }
+
+  /**
+   * 전체 상품 목록 JSON 조회 (검색어 없는 앞쪽 최신순/평점순 페이지는 카탈로그 캐시에서 조회)
+   * 캐시 미스의 getProductList 는 내부 호출이라 프록시를 거치지 않으므로 여기서 읽기 전용 트랜잭션 시작
+   * (LazyConnectionDataSourceProxy 로 캐시 적중시에는 커넥션을 가져오지 않고,
+   * 캐시에 저장할 목록은 CatalogPageCache 가 primary 에서 조회)
+   *
+   * @param page
+   * @param search
+   * @param status
+   * @param sortType
+   * @return byte[]
+   */
+  @Override
+  @Transactional(readOnly = true)
+  public byte[] getProductListJson(
+      Integer page, String search, ProductStatus status, SortType sortType
+  ) {
+
+    if (catalogPageCache.isCacheable(page, search, sortType)) {
+      return catalogPageCache.get(status, sortType, page,
+          () -> getProductList(page, search, status, sortType));
+    }
+
+    return catalogPageCache.serialize(getProductList(page, search, status, sortType));
+
+  }
+
+  /**
+   * 상품 필터 조회 (상태, 판매자, 가격대, 평점대)
+   * 조건 조합은 메모리 비트맵 색인의 교집합으로 찾고, DB 는 마지막 페이지의 상품 id 조회에만 사용
+   *
+   * @param page
+   * @param statuses
+   * @param seller
+   * @param priceBands
+   * @param ratingBands
+   * @param sortType
+   * @return ProductFilterDto.Response
+   */
+  @Override
+  public ProductFilterDto.Response getProductListByFilter(
+      Integer page, List<ProductStatus> statuses, String seller,
+      List<Integer> priceBands, List<Integer> ratingBands, SortType sortType
+  ) {
+
+    if (!productSearchIndex.isReady()) {
+      throw new ServerBusyException(ResponseCode.PRODUCT_INDEX_NOT_READY);
+    }
+
+    BitmapFilterIndex.Condition condition = new BitmapFilterIndex.Condition(
+        statuses, StringUtils.hasText(seller) ? seller : null, priceBands, ratingBands
+    );
+
+    Pageable pageable = PageRequest.of(page - 1, PRODUCT_PAGE_SIZE);
+
+    Page<Long> productIds = productSearchIndex.filter(condition, sortType, pageable);
+
+    return ProductFilterDto.Response.builder()
+        .content(hydrate(productIds.getContent()))
+        .page(page)
+        .size(PRODUCT_PAGE_SIZE)
+        .totalElements(productIds.getTotalElements())
+        .hasNext(productIds.hasNext())
+        .facets(toFacets(productSearchIndex.facets(condition)))
+        .build();
+
+  }
+
+  /**
+   * 비트맵 색인의 facet 개수를 구간 정보와 함께 응답 형식으로 변환
+   *
+   * @param facets
+   * @return ProductFilterDto.Facets
+   */
+  private ProductFilterDto.Facets toFacets(BitmapFilterIndex.Facets facets) {
+
+    BigDecimal[] boundaries = productSearchIndex.getPriceBoundaries();
+
+    List<ProductFilterDto.Bucket> priceBands = new ArrayList<>();
+    for (int band = 0; band < facets.getPriceBands().size(); band++) {
+      priceBands.add(new ProductFilterDto.Bucket(
+          band,
+          band == 0 ? BigDecimal.ZERO : boundaries[band - 1],
+          band < boundaries.length ? boundaries[band] : null,
+          facets.getPriceBands().get(band)
+      ));
     }
 
-    return productRepository.findByProductNameContaining(search, pageable)
-        .map(ProductDto.Response::fromEntity);
+    List<ProductFilterDto.Bucket> ratingBands = new ArrayList<>();
+    for (int band = 0; band < facets.getRatingBands().size(); band++) {
+      ratingBands.add(new ProductFilterDto.Bucket(
+          band,
+          BigDecimal.valueOf(band),
+          band < BitmapFilterIndex.RATING_BANDS - 1 ? BigDecimal.valueOf(band + 1) : null,
+          facets.getRatingBands().get(band)
+      ));
+    }
+
+    return new ProductFilterDto.Facets(facets.getStatuses(), priceBands, ratingBands);
 
   }
 
@@ -106,20 +237,266 @@ public class ProductServiceImplement implements ProductService {
       String memberId, Integer page, String search, ProductStatus status, SortType sortType
   ) {
 
+    Member member = memberService.getMemberByMemberId(memberId);
+
+    if (StringUtils.hasText(search) && productSearchIndex.isReady()) {
+      return searchByIndex(search, member.getMemberId(), status, sortType, page);
+    }
+
     Sort sort = setSortType(sortType);
 
     Pageable pageable = PageRequest.of(page - 1, PRODUCT_PAGE_SIZE, sort);
 
+    return productRepository.findResponses(member.getId(), search, status, pageable);
+
+  }
+
+  /**
+   * 전체 상품 목록 조회 (COUNT 쿼리 없이 다음 페이지 존재 여부만 확인)
+   * withTotal 이면 캐시된 근사 전체 개수를 함께 반환
+   *
+   * @param page
+   * @param search
+   * @param status
+   * @param sortType
+   * @param withTotal
+   * @return SliceDto<ProductDto.Response>
+   */
+  @Override
+  @Transactional(readOnly = true)
+  public SliceDto<ProductDto.Response> getProductSlice(
+      Integer page, String search, ProductStatus status, SortType sortType, boolean withTotal
+  ) {
+
+    String keyword = search == null ? "" : search.trim();
+
+    if (StringUtils.hasText(keyword) && productSearchIndex.isReady()) {
+      Page<ProductDto.Response> products = searchByIndex(keyword, null, status, sortType, page);
+      return toSliceDto(products, withTotal ? products.getTotalElements() : null);
+    }
+
+    Pageable pageable = PageRequest.of(page - 1, PRODUCT_PAGE_SIZE, setSortType(sortType));
+
+    Slice<ProductDto.Response> products =
+        productRepository.findResponseSlice(null, keyword, status, pageable);
+
+    Long totalElements = null;
+    if (withTotal) {
+      totalElements = productCountCache.getCount(null, status, keyword,
+          () -> productRepository.countProducts(null, keyword, status));
+    }
+
+    return toSliceDto(products, totalElements);
+
+  }
+
+  /**
+   * 판매자 상품 목록 조회 (COUNT 쿼리 없이 다음 페이지 존재 여부만 확인)
+   *
+   * @param memberId
+   * @param page
+   * @param search
+   * @param status
+   * @param sortType
+   * @param withTotal
+   * @return SliceDto<ProductDto.Response>
+   */
+  @Override
+  @Transactional(readOnly = true)
+  public SliceDto<ProductDto.Response> getProductSliceByMemberId(
+      String memberId, Integer page, String search, ProductStatus status, SortType sortType,
+      boolean withTotal
+  ) {
+
+    String keyword = search == null ? "" : search.trim();
+
     Member member = memberService.getMemberByMemberId(memberId);
 
-    if (status != ProductStatus.NONE) {
-      return productRepository
-          .findByMemberAndProductNameContainingAndStatus(member, search, status, pageable)
-          .map(ProductDto.Response::fromEntity);
+    if (StringUtils.hasText(keyword) && productSearchIndex.isReady()) {
+      Page<ProductDto.Response> products =
+          searchByIndex(keyword, member.getMemberId(), status, sortType, page);
+      return toSliceDto(products, withTotal ? products.getTotalElements() : null);
     }
 
-    return productRepository.findByMemberAndProductNameContaining(member, search, pageable)
-        .map(ProductDto.Response::fromEntity);
+    Pageable pageable = PageRequest.of(page - 1, PRODUCT_PAGE_SIZE, setSortType(sortType));
+
+    Slice<ProductDto.Response> products =
+        productRepository.findResponseSlice(member.getId(), keyword, status, pageable);
+
+    Long totalElements = null;
+    if (withTotal) {
+      totalElements = productCountCache.getCount(member.getMemberId(), status, keyword,
+          () -> productRepository.countProducts(member.getId(), keyword, status));
+    }
+
+    return toSliceDto(products, totalElements);
+
+  }
+
+  /**
+   * Slice 를 응답 형식으로 변환
+   *
+   * @param products
+   * @param totalElements
+   * @return SliceDto<ProductDto.Response>
+   */
+  private SliceDto<ProductDto.Response> toSliceDto(
+      Slice<ProductDto.Response> products, Long totalElements
+  ) {
+
+    return SliceDto.<ProductDto.Response>builder()
+        .content(products.getContent())
+        .page(products.getNumber() + 1)
+        .size(products.getSize())
+        .hasNext(products.hasNext())
+        .totalElements(totalElements)
+        .build();
+
+  }
+
+  /**
+   * 전체 상품 목록 커서 기반 조회 (스크롤 깊이와 관계없이 일정한 조회 비용)
+   *
+   * @param cursor   이전 응답의 nextCursor (첫 페이지는 null)
+   * @param search
+   * @param status
+   * @param sortType
+   * @return CursorPageDto<ProductDto.Response>
+   */
+  @Override
+  @Transactional(readOnly = true)
+  public CursorPageDto<ProductDto.Response> getProductListByCursor(
+      String cursor, String search, ProductStatus status, SortType sortType
+  ) {
+
+    return findProductsByCursor(null, cursor, search, status, sortType);
+
+  }
+
+  /**
+   * 판매자 상품 목록 커서 기반 조회
+   *
+   * @param memberId
+   * @param cursor   이전 응답의 nextCursor (첫 페이지는 null)
+   * @param search
+   * @param status
+   * @param sortType
+   * @return CursorPageDto<ProductDto.Response>
+   */
+  @Override
+  @Transactional(readOnly = true)
+  public CursorPageDto<ProductDto.Response> getProductListByMemberIdAndCursor(
+      String memberId, String cursor, String search, ProductStatus status, SortType sortType
+  ) {
+
+    Member member = memberService.getMemberByMemberId(memberId);
+
+    return findProductsByCursor(member.getId(), cursor, search, status, sortType);
+
+  }
+
+  /**
+   * 커서 이후의 상품을 한 건 더 조회하여 다음 페이지 존재 여부 확인 (COUNT 쿼리 없음)
+   *
+   * @param sellerId
+   * @param cursor
+   * @param search
+   * @param status
+   * @param sortType
+   * @return CursorPageDto<ProductDto.Response>
+   */
+  private CursorPageDto<ProductDto.Response> findProductsByCursor(
+      Long sellerId, String cursor, String search, ProductStatus status, SortType sortType
+  ) {
+
+    List<ProductDto.Response> products = productRepository.findResponsesByCursor(
+        sellerId, search, status, sortType,
+        KeysetCursor.decode(cursor, sortType), PRODUCT_PAGE_SIZE + 1
+    );
+
+    boolean hasNext = products.size() > PRODUCT_PAGE_SIZE;
+    if (hasNext) {
+      products = products.subList(0, PRODUCT_PAGE_SIZE);
+    }
+
+    String nextCursor = null;
+    if (hasNext) {
+      ProductDto.Response last = products.get(products.size() - 1);
+      nextCursor = KeysetCursor.encode(sortType, getSortValue(last, sortType), last.getId());
+    }
+
+    return CursorPageDto.<ProductDto.Response>builder()
+        .content(products)
+        .size(PRODUCT_PAGE_SIZE)
+        .hasNext(hasNext)
+        .nextCursor(nextCursor)
+        .build();
+
+  }
+
+  /**
+   * 커서에 저장할 정렬 기준 값
+   *
+   * @param product
+   * @param sortType
+   * @return Object
+   */
+  private Object getSortValue(ProductDto.Response product, SortType sortType) {
+
+    switch (sortType) {
+      case LOW_PRICE, HIGH_PRICE -> {
+        return product.getPrice();
+      }
+      case LOW_RATING, HIGH_RATING -> {
+        return product.getRating();
+      }
+      default -> {
+        return product.getCreatedAt();
+      }
+    }
+
+  }
+
+  /**
+   * 검색 색인으로 상품 id 를 찾은 뒤 해당 페이지의 상품만 DB 에서 조회 (LIKE '%검색어%' 전체 스캔 대체)
+   *
+   * @param search
+   * @param seller
+   * @param status
+   * @param sortType
+   * @param page
+   * @return Page<ProductDto.Response>
+   */
+  private Page<ProductDto.Response> searchByIndex(
+      String search, String seller, ProductStatus status, SortType sortType, Integer page
+  ) {
+
+    Pageable pageable = PageRequest.of(page - 1, PRODUCT_PAGE_SIZE);
+
+    Page<Long> productIds = productSearchIndex.search(search, seller, status, sortType, pageable);
+
+    return new PageImpl<>(hydrate(productIds.getContent()), pageable,
+        productIds.getTotalElements());
+
+  }
+
+  /**
+   * 색인이 찾은 페이지의 상품 id 만 DB 에서 조회
+   *
+   * @param productIds
+   * @return List<ProductDto.Response>
+   */
+  private List<ProductDto.Response> hydrate(List<Long> productIds) {
+
+    Map<Long, ProductDto.Response> products = productRepository
+        .findResponsesByIdIn(productIds).stream()
+        .collect(Collectors.toMap(ProductDto.Response::getId, Function.identity()));
+
+    // 색인의 정렬 순서 유지 (색인 반영 전에 삭제된 상품은 제외)
+    return productIds.stream()
+        .map(products::get)
+        .filter(Objects::nonNull)
+        .toList();
 
   }
 
@@ -152,16 +529,18 @@ public class ProductServiceImplement implements ProductService {
   }
 
   /**
-   * 상품 정보 조회
+   * 상품 정보 조회 (L1/L2 캐시 미스일 때만 응답에 필요한 컬럼을 DB 에서 조회)
+   * 캐시 적중시 DB 커넥션을 사용하지 않도록 트랜잭션 없이 조회
    *
    * @param productId
    * @return ProductDto.Response
    */
   @Override
-  @Transactional(readOnly = true)
   public ProductDto.Response getProductDetails(Long productId) {
 
-    return ProductDto.Response.fromEntity(getProductById(productId));
+    return productDetailCache
+        .get(productId, () -> productRepository.findResponseById(productId))
+        .orElseThrow(() -> new ProductException(ResponseCode.PRODUCT_NOT_FOUND));
 
   }
 
@@ -188,24 +567,88 @@ public class ProductServiceImplement implements ProductService {
     product.setPrice(updateRequest.getPrice());
 
     if (updateRequest.getStatus() != ProductStatus.DISABLE) {
-      product.setStatus(setStatusByStockQuantity(product));
+      product.setStatus(setStatusByStockQuantity(product.getStockQuantity()));
     } else {
       product.setStatus(updateRequest.getStatus());
     }
 
+    eventPublisher.publishEvent(new ProductChangedEvent(productId));
+
     return ProductDto.Response.fromEntity(product);
 
   }
 
+  /**
+   * 상품 가격/재고/상태 일괄 수정
+   * 소유자 확인과 행 잠금을 한 번의 조회로 처리하고, 재고에 따른 상태를 같은 단계에서 계산해 JDBC 배치로 수정
+   *
+   * @param memberId
+   * @param token
+   * @param request
+   * @return BulkUpdateProductDto.Response
+   */
+  @Override
+  @Transactional
+  public BulkUpdateProductDto.Response updateProducts(
+      String memberId, String token, BulkUpdateProductDto.Request request
+  ) {
+
+    authService.equalToMemberIdFromToken(memberId, token);
+
+    Member member = memberService.getMemberByMemberId(memberId);
+
+    // 같은 상품이 여러 번 포함되면 마지막 값 사용
+    Map<Long, BulkUpdateProductDto.Item> items = new LinkedHashMap<>();
+    request.getItems().forEach(item -> items.put(item.getProductId(), item));
+
+    Map<Long, ProductStateDto> states = productRepository.findStatesForUpdate(items.keySet())
+        .stream()
+        .collect(Collectors.toMap(ProductStateDto::getId, Function.identity()));
+
+    if (states.size() != items.size()) {
+      throw new ProductException(ResponseCode.PRODUCT_NOT_FOUND);
+    }
+    if (states.values().stream().anyMatch(state -> !state.getMemberId().equals(member.getId()))) {
+      throw new MemberException(ResponseCode.MEMBER_UNMATCHED);
+    }
+
+    List<BulkUpdateProductDto.Item> changes = items.values().stream()
+        .map(item -> {
+          ProductStateDto state = states.get(item.getProductId());
+
+          int stockQuantity = item.getStockQuantity() != null
+              ? item.getStockQuantity()
+              : Objects.requireNonNullElse(state.getStockQuantity(), 0);
+          ProductStatus status = item.getStatus() != null ? item.getStatus() : state.getStatus();
+
+          return BulkUpdateProductDto.Item.builder()
+              .productId(item.getProductId())
+              .price(item.getPrice())
+              .stockQuantity(stockQuantity)
+              .status(status == ProductStatus.DISABLE
+                  ? ProductStatus.DISABLE
+                  : setStatusByStockQuantity(stockQuantity))
+              .build();
+        })
+        .toList();
+
+    int updatedCount = productBulkRepository.updateAll(member.getId(), changes);
+
+    eventPublisher.publishEvent(new ProductsChangedEvent(List.copyOf(items.keySet())));
+
+    return new BulkUpdateProductDto.Response(updatedCount);
+
+  }
+
   /**
    * 재고 상태에 따른 상품 상태 설정
    *
-   * @param product
+   * @param stockQuantity
    * @return ProductStatus
    */
-  private ProductStatus setStatusByStockQuantity(Product product) {
+  private ProductStatus setStatusByStockQuantity(Integer stockQuantity) {
 
-    if (product.getStockQuantity() == 0) {
+    if (stockQuantity == 0) {
       return ProductStatus.NO_STOCK;
     } else {
       return ProductStatus.IN_STOCK;
@@ -229,6 +672,8 @@ public class ProductServiceImplement implements ProductService {
 
     productRepository.delete(product);
 
+    eventPublisher.publishEvent(new ProductChangedEvent(productId));
+
     return ResponseDto.getResponseBody(ResponseCode.PRODUCT_DELETE_SUCCESS);
 
   }
@@ -1,5 +1,6 @@
 package com.ecommerce.service.review;
 
+import com.ecommerce.dto.CursorPageDto;
 import com.ecommerce.dto.ResponseDto;
 import com.ecommerce.dto.review.ReviewDto;
 import com.ecommerce.dto.review.UpdateReviewDto;
@@ -22,6 +23,10 @@ public interface ReviewService {
 
   Page<ReviewDto.Response> getReviewsByProduct(Long productId, Integer page, SortType sortType);
 
+  CursorPageDto<ReviewDto.Response> getReviewsByProductAndCursor(
+      Long productId, String cursor, SortType sortType
+  );
+
   Page<ReviewDto.Response> getReviewsByMember(String memberId, Integer page, SortType sortType);
 
 }
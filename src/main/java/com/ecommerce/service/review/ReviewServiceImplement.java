@@ -1,11 +1,13 @@
 package com.ecommerce.service.review;
 
+import com.ecommerce.dto.CursorPageDto;
 import com.ecommerce.dto.ResponseDto;
 import com.ecommerce.dto.review.ReviewDto;
 import com.ecommerce.dto.review.UpdateReviewDto;
 import com.ecommerce.entity.Member;
 import com.ecommerce.entity.Product;
 import com.ecommerce.entity.Review;
+import com.ecommerce.event.ProductChangedEvent;
 import com.ecommerce.exception.ReviewException;
 import com.ecommerce.repository.review.ReviewRepository;
 import com.ecommerce.service.auth.AuthService;
@@ -13,8 +15,11 @@ import com.ecommerce.service.member.MemberService;
 import com.ecommerce.service.product.ProductService;
 import com.ecommerce.type.ResponseCode;
 import com.ecommerce.type.SortType;
+import com.ecommerce.utils.KeysetCursor;
 import java.math.BigDecimal;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -34,6 +39,7 @@ public class ReviewServiceImplement implements ReviewService {
   private final AuthService authService;
   private final MemberService memberService;
   private final ProductService productService;
+  private final ApplicationEventPublisher eventPublisher;
 
   /**
    * 리뷰 등록
@@ -71,6 +77,9 @@ public class ReviewServiceImplement implements ReviewService {
 
     product.setRating(ratingAvg);
 
+    // 평점 정렬을 위해 검색 색인에 반영
+    eventPublisher.publishEvent(new ProductChangedEvent(product.getId()));
+
     return ReviewDto.Response.fromEntity(savedReview);
 
   }
@@ -121,6 +130,8 @@ public class ReviewServiceImplement implements ReviewService {
 
     review.getProduct().setRating(ratingAvg);
 
+    eventPublisher.publishEvent(new ProductChangedEvent(review.getProduct().getId()));
+
     return ReviewDto.Response.fromEntity(review);
   }
 
@@ -151,6 +162,8 @@ public class ReviewServiceImplement implements ReviewService {
 
     review.getProduct().setRating(ratingAvg);
 
+    eventPublisher.publishEvent(new ProductChangedEvent(review.getProduct().getId()));
+
     return ResponseDto.getResponseBody(ResponseCode.REVIEW_DELETE_SUCCESS);
   }
 
@@ -191,6 +204,49 @@ public class ReviewServiceImplement implements ReviewService {
 
   }
 
+  /**
+   * 특정 상품에 대한 리뷰 목록 커서 기반 조회
+   * 한 건 더 조회하여 다음 페이지 존재 여부 확인 (OFFSET, COUNT 쿼리 없음)
+   *
+   * @param productId
+   * @param cursor    이전 응답의 nextCursor (첫 페이지는 null)
+   * @param sortType
+   * @return CursorPageDto<ReviewDto.Response>
+   */
+  @Override
+  @Transactional(readOnly = true)
+  public CursorPageDto<ReviewDto.Response> getReviewsByProductAndCursor(
+      Long productId, String cursor, SortType sortType
+  ) {
+
+    Product product = productService.getProductById(productId);
+
+    List<Review> reviews = reviewRepository.findByProductIdAndCursor(
+        product.getId(), sortType, KeysetCursor.decode(cursor, sortType), REVIEW_PAGE_SIZE + 1
+    );
+
+    boolean hasNext = reviews.size() > REVIEW_PAGE_SIZE;
+    if (hasNext) {
+      reviews = reviews.subList(0, REVIEW_PAGE_SIZE);
+    }
+
+    String nextCursor = null;
+    if (hasNext) {
+      Review last = reviews.get(reviews.size() - 1);
+      Object sortValue = sortType == SortType.LOW_RATING || sortType == SortType.HIGH_RATING
+          ? last.getRating() : last.getCreatedAt();
+      nextCursor = KeysetCursor.encode(sortType, sortValue, last.getId());
+    }
+
+    return CursorPageDto.<ReviewDto.Response>builder()
+        .content(reviews.stream().map(ReviewDto.Response::fromEntity).toList())
+        .size(REVIEW_PAGE_SIZE)
+        .hasNext(hasNext)
+        .nextCursor(nextCursor)
+        .build();
+
+  }
+
   /**
    * 특정 회원이 작성한 리뷰 목록 조회
    *
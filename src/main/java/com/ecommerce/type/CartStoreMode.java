@@ -0,0 +1,8 @@
+package com.ecommerce.type;
+
+public enum CartStoreMode {
+  // 장바구니 상품을 MySQL 에 바로 저장
+  DATABASE,
+  // 사용자별 Redis 해시에 저장하고 변경분을 주기적으로 MySQL 에 반영 (write-behind)
+  REDIS;
+}
@@ -0,0 +1,5 @@
+package com.ecommerce.type;
+
+public enum EmailStatus {
+  PENDING, SENDING, SENT, FAILED;
+}
@@ -0,0 +1,16 @@
+package com.ecommerce.type;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum ExportFormat {
+  // RFC 4180 의 CSV 레코드 구분자는 CRLF, NDJSON 은 LF
+  CSV("text/csv; charset=UTF-8", "csv", "\r\n"),
+  NDJSON("application/x-ndjson", "ndjson", "\n");
+
+  private final String contentType;
+  private final String extension;
+  private final String lineSeparator;
+}
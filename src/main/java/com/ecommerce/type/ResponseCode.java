@@ -12,6 +12,10 @@ public enum ResponseCode {
   NO_PERMISSION("접근 권한이 없습니다."),
   INVALID_REQUEST("잘못된 요청입니다."),
   INTERNAL_SERVER_ERROR("내부 서버 오류가 발생했습니다."),
+  SERVER_BUSY("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요."),
+  TOO_MANY_REQUESTS("요청 횟수 제한을 초과했습니다. 잠시 후 다시 시도해 주세요."),
+  PAYLOAD_TOO_LARGE("요청 본문이 너무 큽니다."),
+  INVALID_CURSOR("유효하지 않은 페이지 커서입니다. 처음부터 다시 조회해 주세요."),
 
   CERTIFICATION_NUMBER_FAIL("인증되지 않았습니다. 정확한 인증번호를 입력해 주세요."),
   CERTIFICATION_NUMBER_SUCCESS("정상적으로 인증되었습니다."),
@@ -24,9 +28,13 @@ public enum ResponseCode {
   MEMBER_UNMATCHED("사용자 정보가 일치하지 않습니다."),
   SIGN_IN_FAIL("로그인을 실패했습니다."),
   SIGN_OUT_SUCCESS("성공적으로 로그아웃 되었습니다."),
+  REFRESH_TOKEN_INVALID("유효하지 않은 리프레시 토큰입니다. 다시 로그인해 주세요."),
+  REFRESH_TOKEN_REUSED("이미 사용된 리프레시 토큰입니다. 보안을 위해 다시 로그인해 주세요."),
 
   MAIL_SEND_SUCCESS("메일이 정상적으로 전송되었습니다."),
+  MAIL_SEND_PENDING("메일 전송 대기중 입니다."),
   MAIL_SEND_FAIL("메일 전송을 실패했습니다."),
+  MAIL_REQUEST_NOT_FOUND("메일 전송 요청이 존재하지 않습니다."),
   MAIL_CERTIFICATION_DOSE_NOT_EXISTS("이메일 인증이 진행되지 않았습니다. 이메일 인증을 진행해 주세요."),
 
   REDIS_DATA_NOT_FOUND("해당 Key 값의 데이터가 존재하지 않습니다."),
@@ -34,6 +42,8 @@ public enum ResponseCode {
   PRODUCT_NOT_FOUND("상품이 존재하지 않습니다."),
   PRODUCT_DELETE_SUCCESS("상품을 정상적으로 삭제했습니다."),
   PRODUCT_DISABLE("비활성화된 상품 입니다."),
+  PRODUCT_IMPORT_UNSUPPORTED_FORMAT("지원하지 않는 상품 일괄 등록 형식입니다. (application/x-ndjson, text/csv)"),
+  PRODUCT_INDEX_NOT_READY("상품 색인을 준비 중입니다. 잠시 후 다시 시도해 주세요."),
 
   CART_NOT_FOUND("장바구니가 존재하지 않습니다."),
   CART_ITEM_CANNOT_ADDED_PRODUCT("장바구니에 추가할수 없는 상품입니다."),
@@ -1,5 +1,5 @@
 package com.ecommerce.type;
 
 public enum SortType {
-  LATEST, LOW_PRICE, HIGH_PRICE, LOW_RATING, HIGH_RATING;
+  LATEST, LOW_PRICE, HIGH_PRICE, LOW_RATING, HIGH_RATING, RELEVANCE;
 }
@@ -0,0 +1,8 @@
+package com.ecommerce.type;
+
+public enum TokenValidationMode {
+  // 요청마다 Redis 에 저장된 로그인 세션 존재 여부로 검증
+  REDIS_SESSION,
+  // 토큰의 버전(ver)과 노드 로컬의 최소 유효 버전 비교로 검증
+  TOKEN_VERSION;
+}
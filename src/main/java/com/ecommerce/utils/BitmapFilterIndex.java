@@ -0,0 +1,329 @@
+package com.ecommerce.utils;
+
+import com.ecommerce.type.ProductStatus;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.RoaringBitmap;
+
+/**
+ * 상품 상태, 판매자, 가격대, 평점대별 상품 id 압축 비트맵 (Roaring)
+ * 조건 안에서는 합집합, 조건 사이에는 교집합으로 필터링하고, 각 버킷과의 교집합 크기로 facet 개수 계산
+ * 상품 id 는 int 범위 안이어야 함 (AUTO_INCREMENT)
+ */
+public class BitmapFilterIndex {
+
+  public static final int RATING_BANDS = 5;
+
+  // 가격대 경계 (오름차순), 가격대 i 는 [boundaries[i - 1], boundaries[i])
+  private final BigDecimal[] priceBoundaries;
+
+  private final RoaringBitmap all = new RoaringBitmap();
+  private final Map<ProductStatus, RoaringBitmap> statuses = new EnumMap<>(ProductStatus.class);
+  private final Map<String, RoaringBitmap> sellers = new HashMap<>();
+  private final RoaringBitmap[] priceBands;
+  private final RoaringBitmap[] ratingBands = new RoaringBitmap[RATING_BANDS];
+
+  // 수정/삭제시 기존 버킷에서 빼기 위한 상품별 버킷 정보
+  private final Map<Integer, Entry> entries = new HashMap<>();
+
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+  public BitmapFilterIndex(BigDecimal[] priceBoundaries) {
+    this.priceBoundaries = priceBoundaries.clone();
+    this.priceBands = new RoaringBitmap[priceBoundaries.length + 1];
+
+    for (ProductStatus status : ProductStatus.values()) {
+      statuses.put(status, new RoaringBitmap());
+    }
+    for (int i = 0; i < priceBands.length; i++) {
+      priceBands[i] = new RoaringBitmap();
+    }
+    for (int i = 0; i < ratingBands.length; i++) {
+      ratingBands[i] = new RoaringBitmap();
+    }
+  }
+
+  /**
+   * 상품 추가 (같은 id 가 있으면 교체)
+   *
+   * @param productId
+   * @param status
+   * @param seller
+   * @param price
+   * @param rating
+   */
+  public void put(
+      long productId, ProductStatus status, String seller, BigDecimal price, BigDecimal rating
+  ) {
+    int id = Math.toIntExact(productId);
+    Entry entry = new Entry(status, seller, priceBand(price), ratingBand(rating));
+
+    lock.writeLock().lock();
+    try {
+      removeInternal(id);
+
+      all.add(id);
+      if (status != null) {
+        statuses.get(status).add(id);
+      }
+      if (seller != null) {
+        sellers.computeIfAbsent(seller, key -> new RoaringBitmap()).add(id);
+      }
+      priceBands[entry.priceBand].add(id);
+      ratingBands[entry.ratingBand].add(id);
+
+      entries.put(id, entry);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * 상품 삭제
+   *
+   * @param productId
+   */
+  public void remove(long productId) {
+    lock.writeLock().lock();
+    try {
+      removeInternal(Math.toIntExact(productId));
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * 조건에 맞는 상품 id 조회 (비어 있는 조건은 전체)
+   *
+   * @param condition
+   * @return RoaringBitmap (호출자 소유의 새 비트맵)
+   */
+  public RoaringBitmap filter(Condition condition) {
+    lock.readLock().lock();
+    try {
+      return intersect(
+          statusBitmap(condition), sellerBitmap(condition),
+          priceBitmap(condition), ratingBitmap(condition)
+      );
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * 조건별 facet 개수 조회
+   * 각 항목의 개수는 자기 자신을 제외한 나머지 조건을 적용한 결과 기준 (선택을 바꿨을 때의 결과 수)
+   *
+   * @param condition
+   * @return Facets
+   */
+  public Facets facets(Condition condition) {
+    lock.readLock().lock();
+    try {
+      RoaringBitmap status = statusBitmap(condition);
+      RoaringBitmap seller = sellerBitmap(condition);
+      RoaringBitmap price = priceBitmap(condition);
+      RoaringBitmap rating = ratingBitmap(condition);
+
+      RoaringBitmap withoutStatus = intersect(null, seller, price, rating);
+      Map<ProductStatus, Long> statusCounts = new EnumMap<>(ProductStatus.class);
+      statuses.forEach((key, bitmap) -> {
+        if (key != ProductStatus.NONE) {
+          statusCounts.put(key, (long) RoaringBitmap.andCardinality(withoutStatus, bitmap));
+        }
+      });
+
+      RoaringBitmap withoutPrice = intersect(status, seller, null, rating);
+      List<Long> priceCounts = new ArrayList<>(priceBands.length);
+      for (RoaringBitmap bitmap : priceBands) {
+        priceCounts.add((long) RoaringBitmap.andCardinality(withoutPrice, bitmap));
+      }
+
+      RoaringBitmap withoutRating = intersect(status, seller, price, null);
+      List<Long> ratingCounts = new ArrayList<>(ratingBands.length);
+      for (RoaringBitmap bitmap : ratingBands) {
+        ratingCounts.add((long) RoaringBitmap.andCardinality(withoutRating, bitmap));
+      }
+
+      return new Facets(statusCounts, priceCounts, ratingCounts);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * 색인된 상품 수
+   *
+   * @return int
+   */
+  public int size() {
+    lock.readLock().lock();
+    try {
+      return all.getCardinality();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  public int priceBandCount() {
+    return priceBands.length;
+  }
+
+  public BigDecimal[] getPriceBoundaries() {
+    return priceBoundaries.clone();
+  }
+
+  private RoaringBitmap statusBitmap(Condition condition) {
+    // NONE 은 전체 상태를 뜻하므로 NONE 만 선택한 경우 조건 없음
+    List<RoaringBitmap> bitmaps = condition.getStatuses() == null ? List.of()
+        : condition.getStatuses().stream()
+            .filter(status -> status != null && status != ProductStatus.NONE)
+            .map(statuses::get)
+            .toList();
+    return bitmaps.isEmpty() ? null : union(bitmaps);
+  }
+
+  private RoaringBitmap sellerBitmap(Condition condition) {
+    if (condition.getSeller() == null) {
+      return null;
+    }
+    return sellers.getOrDefault(condition.getSeller(), new RoaringBitmap());
+  }
+
+  private RoaringBitmap priceBitmap(Condition condition) {
+    return bands(priceBands, condition.getPriceBands());
+  }
+
+  private RoaringBitmap ratingBitmap(Condition condition) {
+    return bands(ratingBands, condition.getRatingBands());
+  }
+
+  /**
+   * 선택한 구간의 합집합 (선택한 구간이 없으면 조건 없음 = null)
+   * 범위를 벗어난 구간은 건너뛰고, 선택한 구간이 모두 범위를 벗어나면 결과 없음 = 빈 비트맵
+   */
+  private static RoaringBitmap bands(RoaringBitmap[] bitmaps, Collection<Integer> bands) {
+    if (bands == null || bands.isEmpty()) {
+      return null;
+    }
+    return union(bands.stream()
+        .filter(band -> band != null && band >= 0 && band < bitmaps.length)
+        .map(band -> bitmaps[band])
+        .toList());
+  }
+
+  /**
+   * 같은 조건 안의 버킷 합집합 (버킷이 없으면 빈 비트맵)
+   */
+  private static RoaringBitmap union(List<RoaringBitmap> bitmaps) {
+    if (bitmaps.isEmpty()) {
+      return new RoaringBitmap();
+    }
+    return FastAggregation.or(bitmaps.iterator());
+  }
+
+  /**
+   * 조건 사이의 교집합 (null 조건은 제외, 모두 null 이면 전체)
+   */
+  private RoaringBitmap intersect(RoaringBitmap... conditions) {
+    List<RoaringBitmap> bitmaps = new ArrayList<>(conditions.length);
+    for (RoaringBitmap bitmap : conditions) {
+      if (bitmap != null) {
+        bitmaps.add(bitmap);
+      }
+    }
+
+    if (bitmaps.isEmpty()) {
+      return all.clone();
+    }
+    if (bitmaps.size() == 1) {
+      return bitmaps.get(0).clone();
+    }
+    return FastAggregation.and(bitmaps.iterator());
+  }
+
+  private void removeInternal(int id) {
+    Entry entry = entries.remove(id);
+    if (entry == null) {
+      return;
+    }
+
+    all.remove(id);
+    if (entry.status != null) {
+      statuses.get(entry.status).remove(id);
+    }
+    if (entry.seller != null) {
+      RoaringBitmap bitmap = sellers.get(entry.seller);
+      bitmap.remove(id);
+      if (bitmap.isEmpty()) {
+        sellers.remove(entry.seller);
+      }
+    }
+    priceBands[entry.priceBand].remove(id);
+    ratingBands[entry.ratingBand].remove(id);
+  }
+
+  private int priceBand(BigDecimal price) {
+    if (price == null) {
+      return 0;
+    }
+
+    int band = 0;
+    while (band < priceBoundaries.length && price.compareTo(priceBoundaries[band]) >= 0) {
+      band++;
+    }
+    return band;
+  }
+
+  /**
+   * 평점 0 ~ 5 를 1 점 단위로 나눈 구간 (5 점은 마지막 구간에 포함)
+   */
+  private static int ratingBand(BigDecimal rating) {
+    if (rating == null) {
+      return 0;
+    }
+    return Math.max(0, Math.min(rating.intValue(), RATING_BANDS - 1));
+  }
+
+  @Getter
+  @AllArgsConstructor
+  public static class Condition {
+
+    private final Collection<ProductStatus> statuses;
+    private final String seller;
+    private final Collection<Integer> priceBands;
+    private final Collection<Integer> ratingBands;
+
+  }
+
+  @Getter
+  @AllArgsConstructor
+  public static class Facets {
+
+    private final Map<ProductStatus, Long> statuses;
+    private final List<Long> priceBands;
+    private final List<Long> ratingBands;
+
+  }
+
+  @AllArgsConstructor
+  private static class Entry {
+
+    private final ProductStatus status;
+    private final String seller;
+    private final int priceBand;
+    private final int ratingBand;
+
+  }
+
+}
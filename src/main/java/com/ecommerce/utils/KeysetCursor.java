@@ -0,0 +1,96 @@
+package com.ecommerce.utils;
+
+import com.ecommerce.exception.CursorException;
+import com.ecommerce.type.ResponseCode;
+import com.ecommerce.type.SortType;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 키셋 페이지네이션 커서
+ * 마지막으로 조회한 행의 정렬 값과 id 를 담아 다음 페이지를 (정렬 값, id) 기준으로 이어서 조회
+ * 클라이언트에는 Base64 로 인코딩한 불투명 토큰으로 전달
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class KeysetCursor {
+
+  private static final String SEPARATOR = "|";
+
+  private final SortType sortType;
+  private final String value;
+  private final Long id;
+
+  /**
+   * 마지막 행의 정렬 값과 id 로 커서 생성
+   *
+   * @param sortType
+   * @param value
+   * @param id
+   * @return String
+   */
+  public static String encode(SortType sortType, Object value, Long id) {
+    String raw = sortType.name() + SEPARATOR + value + SEPARATOR + id;
+    return Base64.getUrlEncoder().withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * 커서 해석 (첫 페이지 요청이면 null 반환)
+   * 정렬 기준이 커서를 만들 때와 다르면 이어서 조회할 수 없으므로 실패
+   *
+   * @param cursor
+   * @param sortType
+   * @return KeysetCursor
+   */
+  public static KeysetCursor decode(String cursor, SortType sortType) {
+
+    if (cursor == null || cursor.isBlank()) {
+      return null;
+    }
+
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+
+      int first = raw.indexOf(SEPARATOR);
+      int last = raw.lastIndexOf(SEPARATOR);
+      if (first < 0 || first == last) {
+        throw new CursorException(ResponseCode.INVALID_CURSOR);
+      }
+
+      if (SortType.valueOf(raw.substring(0, first)) != sortType) {
+        throw new CursorException(ResponseCode.INVALID_CURSOR);
+      }
+
+      KeysetCursor keysetCursor = new KeysetCursor(
+          sortType, raw.substring(first + 1, last), Long.parseLong(raw.substring(last + 1))
+      );
+
+      // 정렬 값 형식 확인
+      switch (sortType) {
+        case LOW_PRICE, HIGH_PRICE, LOW_RATING, HIGH_RATING -> keysetCursor.getDecimalValue();
+        default -> keysetCursor.getDateTimeValue();
+      }
+
+      return keysetCursor;
+    } catch (IllegalArgumentException | DateTimeException e) {
+      throw new CursorException(ResponseCode.INVALID_CURSOR);
+    }
+
+  }
+
+  public BigDecimal getDecimalValue() {
+    return new BigDecimal(value);
+  }
+
+  public LocalDateTime getDateTimeValue() {
+    return LocalDateTime.parse(value);
+  }
+
+}
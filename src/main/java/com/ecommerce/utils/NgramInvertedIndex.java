@@ -0,0 +1,271 @@
+package com.ecommerce.utils;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 이름/설명 두 필드에 대한 n-gram (1-gram + 2-gram) 역색인
+ * 띄어쓰기가 없는 한글도 부분 일치로 찾을 수 있도록 단어를 글자 단위 n-gram 으로 분해해서 색인
+ * 검색어의 모든 단어를 포함하는 문서만 반환하고, TF-IDF (이름 필드 가중치) 로 점수 계산
+ */
+public class NgramInvertedIndex {
+
+  private static final double NAME_BOOST = 3.0;
+  private static final double EXACT_NAME_BONUS = 2.0;
+
+  private final Map<String, Map<Long, Posting>> postings = new HashMap<>();
+  private final Map<Long, Document> documents = new HashMap<>();
+
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+  /**
+   * 문서 추가 (같은 id 가 있으면 교체)
+   *
+   * @param id
+   * @param name
+   * @param description
+   */
+  public void put(long id, String name, String description) {
+    Document document = new Document(normalize(name), normalize(description));
+
+    Map<String, Posting> terms = new HashMap<>();
+    for (String gram : tokenize(document.name)) {
+      terms.computeIfAbsent(gram, key -> new Posting()).nameFrequency++;
+    }
+    for (String gram : tokenize(document.description)) {
+      terms.computeIfAbsent(gram, key -> new Posting()).descriptionFrequency++;
+    }
+    document.terms = terms.keySet();
+
+    lock.writeLock().lock();
+    try {
+      removeInternal(id);
+      documents.put(id, document);
+      terms.forEach((gram, posting) ->
+          postings.computeIfAbsent(gram, key -> new HashMap<>()).put(id, posting)
+      );
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * 문서 삭제
+   *
+   * @param id
+   */
+  public void remove(long id) {
+    lock.writeLock().lock();
+    try {
+      removeInternal(id);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * 검색어의 모든 단어를 이름 또는 설명에 포함하는 문서와 점수 조회
+   *
+   * @param query
+   * @return Map<Long, Double> 문서 id 별 점수
+   */
+  public Map<Long, Double> search(String query) {
+    String normalized = normalize(query);
+    String[] words = normalized.split("\\s+");
+
+    Set<String> grams = new HashSet<>();
+    List<String> queryWords = new ArrayList<>();
+    for (String word : words) {
+      if (!word.isEmpty()) {
+        queryWords.add(word);
+        grams.addAll(queryGrams(word));
+      }
+    }
+    if (grams.isEmpty()) {
+      return Map.of();
+    }
+
+    lock.readLock().lock();
+    try {
+      // 가장 짧은 posting 목록에서 시작해서 나머지 gram 으로 교집합
+      List<Map<Long, Posting>> lists = new ArrayList<>(grams.size());
+      for (String gram : grams) {
+        Map<Long, Posting> list = postings.get(gram);
+        if (list == null) {
+          return Map.of();
+        }
+        lists.add(list);
+      }
+      lists.sort((a, b) -> Integer.compare(a.size(), b.size()));
+
+      Map<Long, Double> scores = new HashMap<>();
+      int documentCount = documents.size();
+
+      for (Long id : lists.get(0).keySet()) {
+        if (!containsAll(lists, id)) {
+          continue;
+        }
+
+        // n-gram 이 모두 있어도 순서가 다를 수 있으므로 실제 부분 문자열 포함 여부 확인
+        Document document = documents.get(id);
+        if (!matches(document, queryWords)) {
+          continue;
+        }
+
+        double score = 0;
+        for (Map<Long, Posting> list : lists) {
+          Posting posting = list.get(id);
+          double idf = Math.log(1 + (double) documentCount / list.size());
+          score += idf * (NAME_BOOST * Math.sqrt(posting.nameFrequency)
+              + Math.sqrt(posting.descriptionFrequency));
+        }
+        if (document.name.contains(normalized)) {
+          score *= EXACT_NAME_BONUS;
+        }
+
+        scores.put(id, score);
+      }
+
+      return scores;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * 색인된 문서 수
+   *
+   * @return int
+   */
+  public int size() {
+    lock.readLock().lock();
+    try {
+      return documents.size();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * 색인된 gram 수
+   *
+   * @return int
+   */
+  public int termCount() {
+    lock.readLock().lock();
+    try {
+      return postings.size();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * 유니코드 정규화(NFKC) 후 소문자로 변환
+   *
+   * @param text
+   * @return String
+   */
+  public static String normalize(String text) {
+    if (text == null) {
+      return "";
+    }
+    return Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT).trim();
+  }
+
+  private void removeInternal(long id) {
+    Document previous = documents.remove(id);
+    if (previous == null) {
+      return;
+    }
+
+    for (String gram : previous.terms) {
+      Map<Long, Posting> list = postings.get(gram);
+      if (list != null) {
+        list.remove(id);
+        if (list.isEmpty()) {
+          postings.remove(gram);
+        }
+      }
+    }
+  }
+
+  private static boolean containsAll(List<Map<Long, Posting>> lists, Long id) {
+    for (int i = 1; i < lists.size(); i++) {
+      if (!lists.get(i).containsKey(id)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean matches(Document document, List<String> words) {
+    for (String word : words) {
+      if (!document.name.contains(word) && !document.description.contains(word)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * 본문 토큰화 (단어별 1-gram, 2-gram)
+   */
+  private static List<String> tokenize(String text) {
+    List<String> grams = new ArrayList<>();
+    for (String word : text.split("[^\\p{L}\\p{N}]+")) {
+      int[] codePoints = word.codePoints().toArray();
+      for (int i = 0; i < codePoints.length; i++) {
+        grams.add(new String(codePoints, i, 1));
+        if (i + 1 < codePoints.length) {
+          grams.add(new String(codePoints, i, 2));
+        }
+      }
+    }
+    return grams;
+  }
+
+  /**
+   * 검색어 토큰화 (한 글자 단어는 1-gram, 그 외에는 2-gram)
+   */
+  private static List<String> queryGrams(String word) {
+    List<String> grams = new ArrayList<>();
+    for (String part : word.split("[^\\p{L}\\p{N}]+")) {
+      int[] codePoints = part.codePoints().toArray();
+      if (codePoints.length == 1) {
+        grams.add(new String(codePoints, 0, 1));
+      }
+      for (int i = 0; i + 1 < codePoints.length; i++) {
+        grams.add(new String(codePoints, i, 2));
+      }
+    }
+    return grams;
+  }
+
+  private static class Posting {
+
+    private int nameFrequency;
+    private int descriptionFrequency;
+
+  }
+
+  private static class Document {
+
+    private final String name;
+    private final String description;
+    private Set<String> terms;
+
+    Document(String name, String description) {
+      this.name = name;
+      this.description = description;
+    }
+  }
+}
@@ -2,15 +2,13 @@ package com.ecommerce.utils;
 
 import com.ecommerce.dto.auth.SignInDto;
 import com.ecommerce.entity.CustomOAuth2Member;
-import com.ecommerce.provider.JwtProvider;
-import com.ecommerce.service.redis.RedisService;
+import com.ecommerce.service.auth.AuthService;
 import com.ecommerce.type.Role;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.web.authentication.SimpleUrlAuthenticationSuccessHandler;
@@ -20,8 +18,7 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class OAuth2SuccessHandler extends SimpleUrlAuthenticationSuccessHandler {
 
-  private final JwtProvider jwtProvider;
-  private final RedisService redisService;
+  private final AuthService authService;
   private final ObjectMapper objectMapper;
 
   /**
@@ -44,13 +41,8 @@ public class OAuth2SuccessHandler extends SimpleUrlAuthenticationSuccessHandler
 
     String userId = oAuth2User.getName();
 
-    String token = jwtProvider.createToken(userId, Role.CUSTOMER);
-
-    redisService.saveDataWithTTL(userId, token, 1L, TimeUnit.HOURS);
-
-    SignInDto.Response signInResponse = SignInDto.Response.builder()
-        .token(token)
-        .build();
+    SignInDto.Response signInResponse =
+        authService.issueToken(userId, Role.CUSTOMER, oAuth2User.getTokenVersion());
 
     response.setContentType("application/json");
     response.setCharacterEncoding("UTF-8");
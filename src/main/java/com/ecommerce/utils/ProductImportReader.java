@@ -0,0 +1,285 @@
+package com.ecommerce.utils;
+
+import com.ecommerce.dto.product.ProductDto;
+import com.ecommerce.type.ProductStatus;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.util.StringUtils;
+
+/**
+ * 상품 일괄 등록 본문을 한 행씩 읽는 리더 (NDJSON, CSV)
+ * 본문 전체를 메모리에 올리지 않고 요청 스트림에서 바로 읽음
+ * CSV 는 RFC 4180 형식 (큰따옴표로 감싼 값 안의 쉼표, "" 이스케이프, 줄바꿈 지원)
+ */
+public class ProductImportReader implements Closeable {
+
+  public static final String NDJSON = "application/x-ndjson";
+  public static final String CSV = "text/csv";
+
+  private static final List<String> CSV_COLUMNS =
+      List.of("productName", "description", "stockQuantity", "price", "status");
+
+  // 닫히지 않은 따옴표가 본문 나머지를 모두 한 레코드로 읽지 않도록 제한
+  private static final int MAX_CSV_RECORD_LENGTH = 64 * 1024;
+
+  private final BufferedReader reader;
+  private final ObjectMapper objectMapper;
+  private final boolean csv;
+
+  private Map<String, Integer> csvHeader;
+  private long line = 0;
+
+  private ProductImportReader(Reader reader, ObjectMapper objectMapper, boolean csv) {
+    this.reader = new BufferedReader(reader);
+    this.objectMapper = objectMapper;
+    this.csv = csv;
+  }
+
+  /**
+   * Content-Type 에 맞는 리더 생성 (지원하지 않는 형식이면 null)
+   *
+   * @param contentType
+   * @param reader
+   * @param objectMapper
+   * @return ProductImportReader
+   */
+  public static ProductImportReader of(
+      String contentType, Reader reader, ObjectMapper objectMapper
+  ) {
+    if (contentType == null) {
+      return null;
+    }
+
+    String mediaType = contentType.split(";")[0].trim().toLowerCase(Locale.ROOT);
+    return switch (mediaType) {
+      case NDJSON -> new ProductImportReader(reader, objectMapper, false);
+      case CSV -> new ProductImportReader(reader, objectMapper, true);
+      default -> null;
+    };
+  }
+
+  /**
+   * 다음 행 조회 (빈 행은 건너뜀, 본문 끝이면 null)
+   *
+   * @return Row
+   * @throws IOException
+   */
+  public Row next() throws IOException {
+    String text;
+    while ((text = reader.readLine()) != null) {
+      line++;
+      if (!StringUtils.hasText(text)) {
+        continue;
+      }
+
+      if (!csv) {
+        return parseJson(text);
+      }
+
+      // 레코드가 여러 줄이면 오류는 레코드가 시작된 줄 번호로 전달
+      long recordLine = line;
+      String record = readCsvRecord(text);
+      if (record == null) {
+        return Row.error(recordLine, "CSV 형식이 올바르지 않습니다. (닫히지 않은 따옴표)");
+      }
+
+      if (csvHeader == null) {
+        Row headerError = parseHeader(recordLine, record);
+        if (headerError != null) {
+          return headerError;
+        }
+        continue;
+      }
+      return parseCsv(recordLine, record);
+    }
+
+    return null;
+  }
+
+  @Override
+  public void close() throws IOException {
+    reader.close();
+  }
+
+  private Row parseJson(String text) {
+    try {
+      return Row.of(line, objectMapper.readValue(text, ProductDto.Request.class));
+    } catch (JsonProcessingException e) {
+      return Row.error(line, "JSON 형식이 올바르지 않습니다.");
+    }
+  }
+
+  /**
+   * 따옴표 안의 줄바꿈을 포함한 CSV 레코드 하나 읽기
+   * 지금까지 읽은 큰따옴표 개수가 홀수이면 값이 끝나지 않은 것이므로 다음 줄을 이어 붙임
+   * ("" 이스케이프는 항상 짝수이므로 개수만으로 판단 가능)
+   *
+   * @param first 레코드의 첫 줄
+   * @return String (본문 끝까지 따옴표가 닫히지 않거나 최대 길이를 넘으면 null)
+   * @throws IOException
+   */
+  private String readCsvRecord(String first) throws IOException {
+    boolean quoted = countQuotes(first) % 2 == 1;
+    if (!quoted) {
+      return first;
+    }
+
+    StringBuilder record = new StringBuilder(first);
+    String text;
+    while ((text = reader.readLine()) != null) {
+      line++;
+      record.append('\n').append(text);
+      if (record.length() > MAX_CSV_RECORD_LENGTH) {
+        return null;
+      }
+
+      if (countQuotes(text) % 2 == 1) {
+        quoted = !quoted;
+      }
+      if (!quoted) {
+        return record.toString();
+      }
+    }
+
+    return null;
+  }
+
+  private static int countQuotes(String text) {
+    int count = 0;
+    for (int i = 0; i < text.length(); i++) {
+      if (text.charAt(i) == '"') {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  private Row parseHeader(long recordLine, String text) {
+    List<String> columns = splitCsv(text);
+    if (columns == null) {
+      return Row.error(recordLine, "CSV 헤더 형식이 올바르지 않습니다.");
+    }
+
+    Map<String, Integer> header = new HashMap<>();
+    for (int i = 0; i < columns.size(); i++) {
+      header.put(columns.get(i).trim(), i);
+    }
+
+    if (!header.containsKey("productName") || !header.containsKey("price")) {
+      return Row.error(recordLine, "CSV 헤더에 필수 컬럼이 없습니다. " + CSV_COLUMNS);
+    }
+
+    this.csvHeader = header;
+    return null;
+  }
+
+  private Row parseCsv(long recordLine, String text) {
+    List<String> values = splitCsv(text);
+    if (values == null) {
+      return Row.error(recordLine, "CSV 형식이 올바르지 않습니다. (닫히지 않은 따옴표)");
+    }
+
+    try {
+      ProductDto.Request request = ProductDto.Request.builder()
+          .productName(column(values, "productName"))
+          .description(column(values, "description"))
+          .stockQuantity(toInteger(column(values, "stockQuantity")))
+          .price(toDecimal(column(values, "price")))
+          .build();
+
+      String status = column(values, "status");
+      if (StringUtils.hasText(status)) {
+        request.setStatus(ProductStatus.valueOf(status.trim()));
+      }
+
+      return Row.of(recordLine, request);
+    } catch (IllegalArgumentException e) {
+      return Row.error(recordLine, "숫자 또는 상품 상태 값이 올바르지 않습니다.");
+    }
+  }
+
+  private String column(List<String> values, String name) {
+    Integer index = csvHeader.get(name);
+    return index == null || index >= values.size() ? null : values.get(index);
+  }
+
+  private static Integer toInteger(String value) {
+    return StringUtils.hasText(value) ? Integer.valueOf(value.trim()) : null;
+  }
+
+  private static BigDecimal toDecimal(String value) {
+    return StringUtils.hasText(value) ? new BigDecimal(value.trim()) : null;
+  }
+
+  /**
+   * CSV 레코드 분리 (큰따옴표로 감싼 값 안의 쉼표, 줄바꿈과 "" 이스케이프 지원)
+   *
+   * @param text
+   * @return List<String> (따옴표가 닫히지 않으면 null)
+   */
+  private static List<String> splitCsv(String text) {
+    List<String> values = new ArrayList<>();
+    StringBuilder value = new StringBuilder();
+    boolean quoted = false;
+
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+
+      if (quoted) {
+        if (c == '"' && i + 1 < text.length() && text.charAt(i + 1) == '"') {
+          value.append('"');
+          i++;
+        } else if (c == '"') {
+          quoted = false;
+        } else {
+          value.append(c);
+        }
+      } else if (c == '"') {
+        quoted = true;
+      } else if (c == ',') {
+        values.add(value.toString());
+        value.setLength(0);
+      } else {
+        value.append(c);
+      }
+    }
+
+    if (quoted) {
+      return null;
+    }
+
+    values.add(value.toString());
+    return values;
+  }
+
+  @Getter
+  @AllArgsConstructor
+  public static class Row {
+
+    private final long line;
+    private final ProductDto.Request request;
+    private final String error;
+
+    static Row of(long line, ProductDto.Request request) {
+      return new Row(line, request, null);
+    }
+
+    static Row error(long line, String error) {
+      return new Row(line, null, error);
+    }
+
+  }
+
+}
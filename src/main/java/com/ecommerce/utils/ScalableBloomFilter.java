@@ -0,0 +1,180 @@
+package com.ecommerce.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 크기가 자동으로 늘어나는 Bloom Filter (Scalable Bloom Filter)
+ * 현재 필터가 설계 용량에 도달하면 용량 2배, 오탐률 1/2 의 필터를 추가하여 전체 오탐률을 설정값 근처로 유지
+ * 조회는 잠금 없이 동작하고, 추가만 직렬화
+ */
+public class ScalableBloomFilter {
+
+  private static final int GROWTH_FACTOR = 2;
+  private static final double TIGHTENING_RATIO = 0.5;
+
+  private final List<BloomFilter> filters = new CopyOnWriteArrayList<>();
+
+  private final long initialCapacity;
+  private final double falsePositiveRate;
+
+  public ScalableBloomFilter(long initialCapacity, double falsePositiveRate) {
+    this.initialCapacity = Math.max(1, initialCapacity);
+    this.falsePositiveRate = falsePositiveRate;
+    // 전체 오탐률 합이 falsePositiveRate 를 넘지 않도록 첫 필터는 (1 - r) 배로 설정
+    filters.add(new BloomFilter(this.initialCapacity, falsePositiveRate * (1 - TIGHTENING_RATIO)));
+  }
+
+  /**
+   * 값이 존재할 가능성이 있는지 확인 (false 이면 확실히 존재하지 않음)
+   *
+   * @param value
+   * @return boolean
+   */
+  public boolean mightContain(String value) {
+    long[] hashes = hash(value);
+    for (BloomFilter filter : filters) {
+      if (filter.mightContain(hashes)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * 값 추가
+   *
+   * @param value
+   */
+  public synchronized void put(String value) {
+    long[] hashes = hash(value);
+    for (BloomFilter filter : filters) {
+      if (filter.mightContain(hashes)) {
+        return;
+      }
+    }
+
+    BloomFilter current = filters.get(filters.size() - 1);
+    if (current.count >= current.capacity) {
+      current = new BloomFilter(
+          current.capacity * GROWTH_FACTOR, current.falsePositiveRate * TIGHTENING_RATIO
+      );
+      filters.add(current);
+    }
+    current.put(hashes);
+  }
+
+  /**
+   * 추가된 값의 수
+   *
+   * @return long
+   */
+  public long count() {
+    return filters.stream().mapToLong(filter -> filter.count).sum();
+  }
+
+  /**
+   * 비트 배열이 차지하는 메모리 (byte)
+   *
+   * @return long
+   */
+  public long memoryBytes() {
+    return filters.stream().mapToLong(filter -> (long) filter.bits.length() * Long.BYTES).sum();
+  }
+
+  /**
+   * 현재 채워진 정도로 추정한 오탐률
+   *
+   * @return double
+   */
+  public double expectedFalsePositiveRate() {
+    double notFalsePositive = 1.0;
+    for (BloomFilter filter : filters) {
+      notFalsePositive *= 1 - filter.expectedFalsePositiveRate();
+    }
+    return 1 - notFalsePositive;
+  }
+
+  public double getFalsePositiveRate() {
+    return falsePositiveRate;
+  }
+
+  public long getInitialCapacity() {
+    return initialCapacity;
+  }
+
+  private static long[] hash(String value) {
+    // FNV-1a 64bit 로 한 번 해싱 후 murmur3 finalizer 로 두 개의 독립 해시를 만들어 double hashing 에 사용
+    long hash = 0xcbf29ce484222325L;
+    for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+      hash ^= b;
+      hash *= 0x100000001b3L;
+    }
+    return new long[]{mix(hash), mix(hash ^ 0x9e3779b97f4a7c15L) | 1L};
+  }
+
+  private static long mix(long h) {
+    h ^= h >>> 33;
+    h *= 0xff51afd7ed558ccdL;
+    h ^= h >>> 33;
+    h *= 0xc4ceb9fe1a85ec53L;
+    h ^= h >>> 33;
+    return h;
+  }
+
+  private static class BloomFilter {
+
+    private final long capacity;
+    private final double falsePositiveRate;
+    private final long bitSize;
+    private final int hashCount;
+    private final AtomicLongArray bits;
+
+    private volatile long count;
+
+    BloomFilter(long capacity, double falsePositiveRate) {
+      this.capacity = capacity;
+      this.falsePositiveRate = falsePositiveRate;
+
+      long optimalBits = (long) Math.ceil(
+          -capacity * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2))
+      );
+      this.bitSize = Math.max(Long.SIZE, optimalBits);
+      this.hashCount = Math.max(1, (int) Math.round((double) bitSize / capacity * Math.log(2)));
+      this.bits = new AtomicLongArray((int) ((bitSize + Long.SIZE - 1) / Long.SIZE));
+    }
+
+    boolean mightContain(long[] hashes) {
+      for (int i = 0; i < hashCount; i++) {
+        long index = index(hashes, i);
+        if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    void put(long[] hashes) {
+      for (int i = 0; i < hashCount; i++) {
+        long index = index(hashes, i);
+        int word = (int) (index >>> 6);
+        long mask = 1L << index;
+        long current;
+        do {
+          current = bits.get(word);
+        } while ((current & mask) == 0 && !bits.compareAndSet(word, current, current | mask));
+      }
+      count++;
+    }
+
+    double expectedFalsePositiveRate() {
+      return Math.pow(1 - Math.exp(-(double) hashCount * count / bitSize), hashCount);
+    }
+
+    private long index(long[] hashes, int i) {
+      return Math.floorMod(hashes[0] + i * hashes[1], bitSize);
+    }
+  }
+}
@@ -0,0 +1,31 @@
+package com.ecommerce.utils;
+
+import lombok.experimental.UtilityClass;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@UtilityClass
+public class TransactionUtils {
+
+  /**
+   * 진행 중인 트랜잭션이 있으면 커밋 이후에, 없으면 즉시 실행
+   *
+   * @param task
+   */
+  public static void runAfterCommit(Runnable task) {
+
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      task.run();
+      return;
+    }
+
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        task.run();
+      }
+    });
+
+  }
+
+}
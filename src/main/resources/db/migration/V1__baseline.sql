@@ -0,0 +1,66 @@
+-- 최초 스키마 (기존 DB 는 baseline-on-migrate 로 V1 이 적용된 것으로 처리)
+
+CREATE TABLE Member (
+    id           BIGINT       NOT NULL AUTO_INCREMENT,
+    created_at   DATETIME(6)  NOT NULL,
+    updated_at   DATETIME(6),
+    member_id    VARCHAR(255) NOT NULL,
+    member_name  VARCHAR(255) NOT NULL,
+    email        VARCHAR(255) NOT NULL,
+    password     VARCHAR(255) NOT NULL,
+    phone_number VARCHAR(255),
+    address      VARCHAR(255),
+    role         VARCHAR(255) NOT NULL,
+    login_type   VARCHAR(255) NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE Cart (
+    id         BIGINT      NOT NULL AUTO_INCREMENT,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6),
+    member_id  BIGINT      NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_cart_member FOREIGN KEY (member_id) REFERENCES Member (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE Product (
+    id             BIGINT         NOT NULL AUTO_INCREMENT,
+    created_at     DATETIME(6)    NOT NULL,
+    updated_at     DATETIME(6),
+    product_name   VARCHAR(255)   NOT NULL,
+    description    VARCHAR(255),
+    stock_quantity INT,
+    price          DECIMAL(38, 2),
+    status         VARCHAR(255),
+    rating         DECIMAL(38, 2),
+    member_id      BIGINT         NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_product_member FOREIGN KEY (member_id) REFERENCES Member (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE Review (
+    id         BIGINT         NOT NULL AUTO_INCREMENT,
+    created_at DATETIME(6)    NOT NULL,
+    updated_at DATETIME(6),
+    member_id  BIGINT         NOT NULL,
+    product_id BIGINT         NOT NULL,
+    content    VARCHAR(255)   NOT NULL,
+    rating     DECIMAL(38, 2) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_review_member FOREIGN KEY (member_id) REFERENCES Member (id),
+    CONSTRAINT fk_review_product FOREIGN KEY (product_id) REFERENCES Product (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE CartItem (
+    id         BIGINT         NOT NULL AUTO_INCREMENT,
+    created_at DATETIME(6)    NOT NULL,
+    updated_at DATETIME(6),
+    cart_id    BIGINT         NOT NULL,
+    product_id BIGINT         NOT NULL,
+    quantity   INT            NOT NULL,
+    price      DECIMAL(38, 2) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_cart_item_cart FOREIGN KEY (cart_id) REFERENCES Cart (id),
+    CONSTRAINT fk_cart_item_product FOREIGN KEY (product_id) REFERENCES Product (id)
+) ENGINE = InnoDB;
@@ -0,0 +1,16 @@
+-- 인증메일 아웃박스 (메일 전송을 회원가입 트랜잭션과 분리하여 재시도)
+
+CREATE TABLE EmailOutbox (
+    id              BIGINT        NOT NULL AUTO_INCREMENT,
+    created_at      DATETIME(6)   NOT NULL,
+    updated_at      DATETIME(6),
+    member_id       VARCHAR(255)  NOT NULL,
+    email           VARCHAR(255)  NOT NULL,
+    subject         VARCHAR(255)  NOT NULL,
+    content         VARCHAR(2000) NOT NULL,
+    status          VARCHAR(255)  NOT NULL,
+    attempts        INT           NOT NULL,
+    next_attempt_at DATETIME(6)   NOT NULL,
+    last_error      VARCHAR(500),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
@@ -0,0 +1,7 @@
+-- 소셜 로그인 upsert (INSERT ... ON DUPLICATE KEY UPDATE) 가 사용하는 유니크 키
+
+ALTER TABLE Member
+    ADD CONSTRAINT uk_member_member_id UNIQUE (member_id);
+
+ALTER TABLE Cart
+    ADD CONSTRAINT uk_cart_member_id UNIQUE (member_id);
@@ -0,0 +1,4 @@
+-- 토큰 버전 검증 모드 (로그아웃시 증가, 이전 버전으로 발급된 액세스 토큰 거부)
+
+ALTER TABLE Member
+    ADD COLUMN token_version BIGINT NOT NULL DEFAULT 0;
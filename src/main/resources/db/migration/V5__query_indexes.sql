@@ -0,0 +1,25 @@
+-- 조회 쿼리별 인덱스 (InnoDB 보조 인덱스에는 PK(id) 가 포함되어 id 정렬/키셋 조건에도 사용)
+
+-- ProductRepository : 상태 필터 + 정렬, 상태 필터 없는 정렬, 판매자별 목록
+CREATE INDEX idx_product_status_created_at ON Product (status, created_at);
+CREATE INDEX idx_product_status_price ON Product (status, price);
+CREATE INDEX idx_product_status_rating ON Product (status, rating);
+CREATE INDEX idx_product_created_at ON Product (created_at);
+CREATE INDEX idx_product_price ON Product (price);
+CREATE INDEX idx_product_rating ON Product (rating);
+CREATE INDEX idx_product_member_created_at ON Product (member_id, created_at);
+
+-- ReviewRepository : 상품별 목록/평균 평점, 회원별 목록, 회원-상품 중복 확인
+ALTER TABLE Review
+    ADD CONSTRAINT uk_review_member_product UNIQUE (member_id, product_id);
+CREATE INDEX idx_review_product_created_at ON Review (product_id, created_at);
+CREATE INDEX idx_review_product_rating ON Review (product_id, rating);
+CREATE INDEX idx_review_member_created_at ON Review (member_id, created_at);
+
+-- CartItemRepository : 장바구니-상품 조회, 장바구니 비우기
+ALTER TABLE CartItem
+    ADD CONSTRAINT uk_cart_item_cart_product UNIQUE (cart_id, product_id);
+
+-- EmailOutboxRepository : 전송 대상 조회, 회원별 최근 요청 조회
+CREATE INDEX idx_email_outbox_status_next_attempt_at ON EmailOutbox (status, next_attempt_at);
+CREATE INDEX idx_email_outbox_member_id ON EmailOutbox (member_id);
@@ -0,0 +1,3 @@
+-- 인증메일 아웃박스 보관 기간 정리 (전송 완료/최종 실패 행을 updated_at 기준으로 삭제)
+
+CREATE INDEX idx_email_outbox_status_updated_at ON EmailOutbox (status, updated_at);
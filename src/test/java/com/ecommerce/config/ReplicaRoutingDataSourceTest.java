@@ -0,0 +1,240 @@
+package com.ecommerce.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ecommerce.filter.ReadYourWritesFilter;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletException;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * 읽기 전용 복제본 라우팅 테스트
+ * 복제 설정이 없는 두 MySQL 인스턴스를 primary / 복제본으로 사용하고
+ * 각 트랜잭션이 연결된 인스턴스를 @@server_uuid 로 구분 (Docker 가 없으면 건너뜀)
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class ReplicaRoutingDataSourceTest {
+
+  @Container
+  private static final MySQLContainer<?> PRIMARY = new MySQLContainer<>("mysql:8.0.36");
+
+  @Container
+  private static final MySQLContainer<?> REPLICA = new MySQLContainer<>("mysql:8.0.36");
+
+  private static final String UNREACHABLE_URL = "jdbc:mysql://localhost:1/test";
+
+  private HikariDataSource primaryDataSource;
+
+  private ReplicaRoutingDataSource routingDataSource;
+
+  private JdbcTemplate jdbcTemplate;
+
+  private TransactionTemplate readTemplate;
+
+  private TransactionTemplate writeTemplate;
+
+  @AfterEach
+  void tearDown() {
+    routingDataSource.close();
+    primaryDataSource.close();
+  }
+
+  @Test
+  @DisplayName("읽기 전용 트랜잭션은 복제본, 쓰기 트랜잭션은 primary 사용")
+  void testRouting_ReadOnlyToReplica() {
+    // given
+    setUp(Map.of("replica-1", replica(REPLICA.getJdbcUrl())), Duration.ofSeconds(10));
+
+    // when
+    String read = readTemplate.execute(status -> serverUuid());
+    String write = writeTemplate.execute(status -> serverUuid());
+    String outsideTransaction = serverUuid();
+
+    // then
+    assertThat(read).isEqualTo(serverUuid(REPLICA));
+    assertThat(write).isEqualTo(serverUuid(PRIMARY));
+    assertThat(outsideTransaction).isEqualTo(serverUuid(PRIMARY));
+  }
+
+  @Test
+  @DisplayName("쓰기 트랜잭션 이후 같은 스레드의 읽기는 일정 시간 primary 사용 (read-your-writes)")
+  void testRouting_ReadYourWrites() throws InterruptedException {
+    // given
+    setUp(Map.of("replica-1", replica(REPLICA.getJdbcUrl())), Duration.ofMillis(500));
+
+    // when
+    writeTemplate.executeWithoutResult(status -> serverUuid());
+    String readAfterWrite = readTemplate.execute(status -> serverUuid());
+    Thread.sleep(600);
+    String readAfterPin = readTemplate.execute(status -> serverUuid());
+
+    // then
+    assertThat(readAfterWrite).isEqualTo(serverUuid(PRIMARY));
+    assertThat(readAfterPin).isEqualTo(serverUuid(REPLICA));
+  }
+
+  @Test
+  @DisplayName("요청이 끝나면 스레드의 primary 고정을 해제하여 같은 스레드의 다음 요청은 복제본 사용")
+  void testRouting_PinClearedAfterRequest() throws ServletException, IOException {
+    // given
+    setUp(Map.of("replica-1", replica(REPLICA.getJdbcUrl())), Duration.ofSeconds(10));
+    ReadYourWritesFilter readYourWritesFilter = new ReadYourWritesFilter(routingDataSource);
+    List<String> readsInRequest = new ArrayList<>();
+
+    // when
+    readYourWritesFilter.doFilter(new MockHttpServletRequest(), new MockHttpServletResponse(),
+        (request, response) -> {
+          writeTemplate.executeWithoutResult(status -> serverUuid());
+          readsInRequest.add(readTemplate.execute(status -> serverUuid()));
+        });
+    String nextRequest = readTemplate.execute(status -> serverUuid());
+
+    // then
+    assertThat(readsInRequest).containsExactly(serverUuid(PRIMARY));
+    assertThat(nextRequest).isEqualTo(serverUuid(REPLICA));
+  }
+
+  @Test
+  @DisplayName("캐시 채우기 - 읽기 전용 트랜잭션이라도 onPrimary 안의 조회는 지연된 복제본이 아닌 primary 사용")
+  void testRouting_OnPrimaryReadsCommittedValue() {
+    // given
+    setUp(Map.of("replica-1", replica(REPLICA.getJdbcUrl())), Duration.ofSeconds(10));
+    // 복제 설정이 없으므로 복제본은 변경이 반영되지 않은 (지연된) 상태로 남음
+    stock(PRIMARY, 3);
+    stock(REPLICA, 10);
+
+    // when
+    Integer fromReplica = readTemplate.execute(status -> currentStock());
+    Integer onPrimary = readTemplate.execute(
+        status -> routingDataSource.onPrimary(this::currentStock)
+    );
+    Integer afterScope = readTemplate.execute(status -> currentStock());
+
+    // then
+    assertThat(fromReplica).isEqualTo(10);
+    assertThat(onPrimary).isEqualTo(3);
+    // 쓰기가 아니므로 이후 읽기를 primary 로 고정하지 않음
+    assertThat(afterScope).isEqualTo(10);
+  }
+
+  @Test
+  @DisplayName("접속할 수 없는 복제본은 제외하고, 정상 복제본이 없으면 primary 사용")
+  void testRouting_UnhealthyReplicaFallback() {
+    // given
+    Map<String, DataSource> replicas = new LinkedHashMap<>();
+    replicas.put("replica-down", replica(UNREACHABLE_URL));
+    replicas.put("replica-1", replica(REPLICA.getJdbcUrl()));
+    setUp(replicas, Duration.ofSeconds(10));
+
+    // when
+    String first = readTemplate.execute(status -> serverUuid());
+    String second = readTemplate.execute(status -> serverUuid());
+
+    routingDataSource.setHealthy("replica-1", false);
+    String allDown = readTemplate.execute(status -> serverUuid());
+
+    // then
+    assertThat(routingDataSource.isHealthy("replica-down")).isFalse();
+    assertThat(first).isEqualTo(serverUuid(REPLICA));
+    assertThat(second).isEqualTo(serverUuid(REPLICA));
+    assertThat(allDown).isEqualTo(serverUuid(PRIMARY));
+  }
+
+  @Test
+  @DisplayName("복제 지연이 허용치를 넘으면 복제본 제외")
+  void testHealthCheck_LagExceeded() {
+    // given
+    setUp(Map.of("replica-1", replica(REPLICA.getJdbcUrl())), Duration.ofSeconds(10));
+
+    ReplicaDataSourceProperties properties = new ReplicaDataSourceProperties();
+    properties.setMaxLagSeconds(-1);
+
+    // when
+    new ReplicaHealthChecker(routingDataSource, properties, new SimpleMeterRegistry()).check();
+    String read = readTemplate.execute(status -> serverUuid());
+
+    // then
+    assertThat(routingDataSource.isHealthy("replica-1")).isFalse();
+    assertThat(read).isEqualTo(serverUuid(PRIMARY));
+  }
+
+  private void setUp(Map<String, DataSource> replicas, Duration readYourWrites) {
+    primaryDataSource = dataSource(PRIMARY.getJdbcUrl());
+    routingDataSource =
+        new ReplicaRoutingDataSource(primaryDataSource, replicas, readYourWrites, 100);
+    routingDataSource.afterPropertiesSet();
+
+    DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+    jdbcTemplate = new JdbcTemplate(dataSource);
+
+    DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+    writeTemplate = new TransactionTemplate(transactionManager);
+    readTemplate = new TransactionTemplate(transactionManager);
+    readTemplate.setReadOnly(true);
+
+    new ReplicaHealthChecker(
+        routingDataSource, new ReplicaDataSourceProperties(), new SimpleMeterRegistry()
+    ).check();
+  }
+
+  private Integer currentStock() {
+    return jdbcTemplate.queryForObject("SELECT stock_quantity FROM stock", Integer.class);
+  }
+
+  private static void stock(MySQLContainer<?> container, int stockQuantity) {
+    try (HikariDataSource dataSource = dataSource(container.getJdbcUrl())) {
+      JdbcTemplate template = new JdbcTemplate(dataSource);
+      template.execute("DROP TABLE IF EXISTS test.stock");
+      template.execute("CREATE TABLE test.stock (stock_quantity INT NOT NULL)");
+      template.update("INSERT INTO test.stock VALUES (?)", stockQuantity);
+    }
+  }
+
+  private String serverUuid() {
+    return jdbcTemplate.queryForObject("SELECT @@server_uuid", String.class);
+  }
+
+  private static String serverUuid(MySQLContainer<?> container) {
+    try (HikariDataSource dataSource = dataSource(container.getJdbcUrl())) {
+      return new JdbcTemplate(dataSource).queryForObject("SELECT @@server_uuid", String.class);
+    }
+  }
+
+  private static HikariDataSource replica(String url) {
+    HikariDataSource dataSource = dataSource(url);
+    dataSource.setReadOnly(true);
+    dataSource.setConnectionTimeout(1000);
+    return dataSource;
+  }
+
+  private static HikariDataSource dataSource(String url) {
+    HikariDataSource dataSource = new HikariDataSource();
+    dataSource.setJdbcUrl(url);
+    // 복제 상태 조회(SHOW REPLICA STATUS)에 REPLICATION CLIENT 권한이 필요하므로 root 사용
+    dataSource.setUsername("root");
+    dataSource.setPassword(PRIMARY.getPassword());
+    dataSource.setMaximumPoolSize(2);
+    dataSource.setInitializationFailTimeout(-1);
+    return dataSource;
+  }
+
+}
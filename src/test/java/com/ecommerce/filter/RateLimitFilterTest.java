@@ -0,0 +1,261 @@
+package com.ecommerce.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.ecommerce.config.RateLimitProperties;
+import com.ecommerce.config.RateLimitProperties.Limit;
+import com.ecommerce.config.RateLimitProperties.Route;
+import com.ecommerce.security.RateLimiter;
+import com.ecommerce.type.ResponseCode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.StreamUtils;
+
+@ExtendWith(MockitoExtension.class)
+class RateLimitFilterTest {
+
+  @Mock
+  private RateLimiter rateLimiter;
+
+  private Limit ipLimit;
+
+  private Limit memberLimit;
+
+  private RateLimitFilter rateLimitFilter;
+
+  @BeforeEach
+  void setUp() {
+    ipLimit = limit(20, 0.5);
+    memberLimit = limit(5, 0.1);
+
+    Route route = new Route();
+    route.setPath("/api/v1/auth/sign-in");
+    route.setIp(ipLimit);
+    route.setMember(memberLimit);
+
+    RateLimitProperties rateLimitProperties = new RateLimitProperties();
+    rateLimitProperties.setRoutes(Map.of("sign-in", route));
+
+    rateLimitFilter = new RateLimitFilter(rateLimitProperties, rateLimiter, new ObjectMapper());
+  }
+
+  @Test
+  @DisplayName("요청 제한 필터 - 성공 (본문의 사용자 ID 로 버킷을 정하고, 본문은 다시 읽을 수 있음)")
+  void testDoFilter_Success_MemberKeyFromBody() throws Exception {
+    // given
+    String body = "{\"memberId\":\"testUser\",\"password\":\"password\"}";
+    MockHttpServletRequest request = signInRequest(body);
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    MockFilterChain filterChain = new MockFilterChain();
+
+    given(rateLimiter.tryAcquire(eq("sign-in"), eq(List.of("ip:127.0.0.1")), eq(List.of(ipLimit))))
+        .willReturn(0L);
+    given(rateLimiter.tryAcquire(eq("sign-in"),
+        eq(List.of("member:testUser")), eq(List.of(memberLimit))))
+        .willReturn(0L);
+
+    // when
+    rateLimitFilter.doFilter(request, response, filterChain);
+
+    // then
+    assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+    verify(rateLimiter, times(2)).tryAcquire(anyString(), anyList(), anyList());
+    assertThat(filterChain.getRequest()).isInstanceOf(CachedBodyHttpServletRequest.class);
+    assertThat(StreamUtils.copyToString(
+        filterChain.getRequest().getInputStream(), StandardCharsets.UTF_8)).isEqualTo(body);
+  }
+
+  @Test
+  @DisplayName("요청 제한 필터 - 사용자 ID 가 없는 본문은 IP 버킷만 사용")
+  void testDoFilter_Success_IpOnly() throws Exception {
+    // given
+    MockHttpServletRequest request = signInRequest("not json");
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    MockFilterChain filterChain = new MockFilterChain();
+
+    given(rateLimiter.tryAcquire(eq("sign-in"), eq(List.of("ip:127.0.0.1")), eq(List.of(ipLimit))))
+        .willReturn(0L);
+
+    // when
+    rateLimitFilter.doFilter(request, response, filterChain);
+
+    // then
+    verify(rateLimiter, times(1)).tryAcquire(anyString(), anyList(), anyList());
+    assertThat(filterChain.getRequest()).isNotNull();
+  }
+
+  @Test
+  @DisplayName("요청 제한 필터 - 실패 (IP 버킷 초과시 본문을 읽지 않고 429 와 Retry-After 응답)")
+  void testDoFilter_Fail_TooManyRequests() throws Exception {
+    // given
+    MockHttpServletRequest request = signInRequest("{\"memberId\":\"testUser\"}");
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    MockFilterChain filterChain = new MockFilterChain();
+
+    given(rateLimiter.tryAcquire(eq("sign-in"), anyList(), anyList())).willReturn(1500L);
+
+    // when
+    rateLimitFilter.doFilter(request, response, filterChain);
+
+    // then
+    assertThat(response.getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+    assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("2");
+    assertThat(response.getContentAsString())
+        .contains(ResponseCode.TOO_MANY_REQUESTS.name());
+    assertThat(filterChain.getRequest()).isNull();
+    verify(rateLimiter, times(1)).tryAcquire(anyString(), anyList(), anyList());
+    assertThat(request.getInputStream().available()).isPositive();
+  }
+
+  @Test
+  @DisplayName("요청 제한 필터 - 실패 (사용자 ID 버킷 초과시 429 응답)")
+  void testDoFilter_Fail_MemberTooManyRequests() throws Exception {
+    // given
+    MockHttpServletRequest request = signInRequest("{\"memberId\":\"testUser\"}");
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    MockFilterChain filterChain = new MockFilterChain();
+
+    given(rateLimiter.tryAcquire(eq("sign-in"), eq(List.of("ip:127.0.0.1")), eq(List.of(ipLimit))))
+        .willReturn(0L);
+    given(rateLimiter.tryAcquire(eq("sign-in"),
+        eq(List.of("member:testUser")), eq(List.of(memberLimit))))
+        .willReturn(10000L);
+
+    // when
+    rateLimitFilter.doFilter(request, response, filterChain);
+
+    // then
+    assertThat(response.getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+    assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("10");
+    assertThat(filterChain.getRequest()).isNull();
+  }
+
+  @Test
+  @DisplayName("요청 제한 필터 - 실패 (본문이 최대 크기를 넘으면 413 응답, 사용자 ID 버킷은 확인하지 않음)")
+  void testDoFilter_Fail_PayloadTooLarge() throws Exception {
+    // given
+    MockHttpServletRequest request =
+        signInRequest("{\"memberId\":\"" + "a".repeat(4096) + "\"}");
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    MockFilterChain filterChain = new MockFilterChain();
+
+    given(rateLimiter.tryAcquire(eq("sign-in"), eq(List.of("ip:127.0.0.1")), eq(List.of(ipLimit))))
+        .willReturn(0L);
+
+    // when
+    rateLimitFilter.doFilter(request, response, filterChain);
+
+    // then
+    assertThat(response.getStatus()).isEqualTo(HttpStatus.PAYLOAD_TOO_LARGE.value());
+    assertThat(response.getContentAsString())
+        .contains(ResponseCode.PAYLOAD_TOO_LARGE.name());
+    assertThat(filterChain.getRequest()).isNull();
+    verify(rateLimiter, times(1)).tryAcquire(anyString(), anyList(), anyList());
+  }
+
+  @Test
+  @DisplayName("요청 제한 필터 - Content-Length 없이 최대 크기를 넘는 본문도 413 응답")
+  void testDoFilter_Fail_PayloadTooLarge_Chunked() throws Exception {
+    // given
+    byte[] body = new byte[4097];
+    MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/auth/sign-in") {
+      @Override
+      public long getContentLengthLong() {
+        return -1L;
+      }
+    };
+    request.setRemoteAddr("127.0.0.1");
+    request.setContent(body);
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    MockFilterChain filterChain = new MockFilterChain();
+
+    given(rateLimiter.tryAcquire(eq("sign-in"), anyList(), anyList())).willReturn(0L);
+
+    // when
+    rateLimitFilter.doFilter(request, response, filterChain);
+
+    // then
+    assertThat(response.getStatus()).isEqualTo(HttpStatus.PAYLOAD_TOO_LARGE.value());
+    assertThat(filterChain.getRequest()).isNull();
+  }
+
+  @Test
+  @DisplayName("캐시된 본문 - ReadListener 에 읽기 가능과 읽기 완료를 알림")
+  void testCachedBody_ReadListener() throws Exception {
+    // given
+    MockHttpServletRequest request = signInRequest("{\"memberId\":\"testUser\"}");
+    CachedBodyHttpServletRequest cachedRequest = CachedBodyHttpServletRequest.of(request, 4096);
+    ServletInputStream inputStream = cachedRequest.getInputStream();
+    ReadListener readListener = mock(ReadListener.class);
+    willAnswer(invocation -> inputStream.readAllBytes())
+        .given(readListener).onDataAvailable();
+
+    // when
+    inputStream.setReadListener(readListener);
+
+    // then
+    InOrder inOrder = inOrder(readListener);
+    inOrder.verify(readListener).onDataAvailable();
+    inOrder.verify(readListener).onAllDataRead();
+    verify(readListener, never()).onError(any());
+  }
+
+  @Test
+  @DisplayName("요청 제한 필터 - 설정되지 않은 경로는 제한하지 않음")
+  void testDoFilter_UnmatchedPath() throws Exception {
+    // given
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/product");
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    MockFilterChain filterChain = new MockFilterChain();
+
+    // when
+    rateLimitFilter.doFilter(request, response, filterChain);
+
+    // then
+    verify(rateLimiter, never()).tryAcquire(anyString(), anyList(), anyList());
+    assertThat(filterChain.getRequest()).isSameAs(request);
+  }
+
+  private static MockHttpServletRequest signInRequest(String body) {
+    MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/auth/sign-in");
+    request.setRemoteAddr("127.0.0.1");
+    request.setContentType("application/json");
+    request.setContent(body.getBytes(StandardCharsets.UTF_8));
+    return request;
+  }
+
+  private static Limit limit(long capacity, double refillPerSecond) {
+    Limit limit = new Limit();
+    limit.setCapacity(capacity);
+    limit.setRefillPerSecond(refillPerSecond);
+    return limit;
+  }
+
+}
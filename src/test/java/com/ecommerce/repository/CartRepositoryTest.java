@@ -0,0 +1,149 @@
+package com.ecommerce.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ecommerce.config.QueryDslConfig;
+import com.ecommerce.dto.cart.CartDto;
+import com.ecommerce.entity.Cart;
+import com.ecommerce.entity.CartItem;
+import com.ecommerce.entity.Member;
+import com.ecommerce.entity.Product;
+import com.ecommerce.type.LoginType;
+import com.ecommerce.type.ProductStatus;
+import com.ecommerce.type.Role;
+import jakarta.persistence.EntityManagerFactory;
+import java.math.BigDecimal;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * 장바구니 조회 쿼리 수 회귀 테스트
+ * Flyway 스키마의 MySQL 에서 Hibernate 통계로 실행된 SQL 수를 세어
+ * 장바구니 상품/상품 지연 로딩(N+1)이 다시 생기면 실패 (Docker 가 없으면 건너뜀)
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(QueryDslConfig.class)
+class CartRepositoryTest {
+
+  private static final int CART_ITEMS = 30;
+
+  @Container
+  private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0.36");
+
+  @DynamicPropertySource
+  static void datasource(DynamicPropertyRegistry registry) {
+    registry.add("spring.datasource.url", MYSQL::getJdbcUrl);
+    registry.add("spring.datasource.username", MYSQL::getUsername);
+    registry.add("spring.datasource.password", MYSQL::getPassword);
+  }
+
+  @Autowired
+  private CartRepository cartRepository;
+
+  @Autowired
+  private TestEntityManager testEntityManager;
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  @BeforeEach
+  void setUp() {
+    Member seller = testEntityManager.persist(member("seller", Role.SELLER));
+    Member customer = testEntityManager.persist(member("testUser", Role.CUSTOMER));
+
+    Cart cart = testEntityManager.persist(Cart.builder().member(customer).build());
+
+    for (int i = 1; i <= CART_ITEMS; i++) {
+      Product product = testEntityManager.persist(
+          Product.builder()
+              .productName("상품" + i)
+              .description("설명")
+              .stockQuantity(10)
+              .price(BigDecimal.valueOf(1000L * i))
+              .status(ProductStatus.IN_STOCK)
+              .rating(BigDecimal.ZERO)
+              .member(seller)
+              .build()
+      );
+      testEntityManager.persist(
+          CartItem.builder()
+              .cart(cart)
+              .product(product)
+              .quantity(1)
+              .price(product.getPrice())
+              .build()
+      );
+    }
+
+    testEntityManager.flush();
+    testEntityManager.clear();
+  }
+
+  @Test
+  @DisplayName("장바구니 내역 조회 - 장바구니, 사용자, 장바구니 상품, 상품을 하나의 SELECT 로 조회")
+  void testFindWithItemsByMemberId_SingleQuery() {
+    // given
+    Statistics statistics =
+        entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    statistics.clear();
+
+    // when
+    CartDto cartDetails = CartDto.fromEntity(
+        cartRepository.findWithItemsByMemberId("testUser").orElseThrow()
+    );
+
+    // then
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+    assertThat(cartDetails.getMemberId()).isEqualTo("testUser");
+    assertThat(cartDetails.getCartItems()).hasSize(CART_ITEMS);
+    assertThat(cartDetails.getTotalPrice())
+        .isEqualByComparingTo(BigDecimal.valueOf(1000L * CART_ITEMS * (CART_ITEMS + 1) / 2));
+  }
+
+  @Test
+  @DisplayName("장바구니 내역 조회 - 장바구니 상품이 없어도 장바구니 조회")
+  void testFindWithItemsByMemberId_EmptyCart() {
+    // given
+    Member member = testEntityManager.persist(member("emptyUser", Role.CUSTOMER));
+    testEntityManager.persist(Cart.builder().member(member).build());
+    testEntityManager.flush();
+    testEntityManager.clear();
+
+    // when
+    CartDto cartDetails = CartDto.fromEntity(
+        cartRepository.findWithItemsByMemberId("emptyUser").orElseThrow()
+    );
+
+    // then
+    assertThat(cartDetails.getCartItems()).isEmpty();
+    assertThat(cartDetails.getTotalPrice()).isEqualByComparingTo(BigDecimal.ZERO);
+  }
+
+  private static Member member(String memberId, Role role) {
+    return Member.builder()
+        .memberId(memberId)
+        .memberName("test")
+        .email("test@email.com")
+        .password("encodedPassword")
+        .role(role)
+        .loginType(LoginType.APP)
+        .build();
+  }
+
+}
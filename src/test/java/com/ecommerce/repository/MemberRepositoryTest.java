@@ -0,0 +1,122 @@
+package com.ecommerce.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ecommerce.config.QueryDslConfig;
+import com.ecommerce.entity.Member;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * 소셜 로그인 사용자 upsert, 장바구니 생성 쿼리 테스트
+ * Flyway 스키마의 MySQL 에서 유니크 키 기준 동작과 실행된 SQL 수를 확인 (Docker 가 없으면 건너뜀)
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(QueryDslConfig.class)
+class MemberRepositoryTest {
+
+  @Container
+  private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0.36");
+
+  @DynamicPropertySource
+  static void datasource(DynamicPropertyRegistry registry) {
+    registry.add("spring.datasource.url", MYSQL::getJdbcUrl);
+    registry.add("spring.datasource.username", MYSQL::getUsername);
+    registry.add("spring.datasource.password", MYSQL::getPassword);
+  }
+
+  @Autowired
+  private MemberRepository memberRepository;
+
+  @Autowired
+  private CartRepository cartRepository;
+
+  @Autowired
+  private TestEntityManager testEntityManager;
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  private Statistics statistics;
+
+  @BeforeEach
+  void setUp() {
+    statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    statistics.clear();
+  }
+
+  @Test
+  @DisplayName("소셜 로그인 사용자 upsert - 신규 생성 후 같은 ID 는 이름/이메일만 갱신")
+  void testUpsertSnsMember() {
+    // when
+    int inserted = upsert("kakao_1", "처음 이름", "first@email.com");
+    upsert("kakao_1", "바뀐 이름", "changed@email.com");
+    long statements = statistics.getPrepareStatementCount();
+    testEntityManager.clear();
+
+    // then
+    assertThat(inserted).isEqualTo(1);
+    assertThat(statements).isEqualTo(2);
+
+    Member member = memberRepository.findByMemberId("kakao_1").orElseThrow();
+    assertThat(member.getMemberName()).isEqualTo("바뀐 이름");
+    assertThat(member.getEmail()).isEqualTo("changed@email.com");
+    assertThat(member.getTokenVersion()).isZero();
+    assertThat(memberRepository.count()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("장바구니 생성 - 장바구니가 없을 때만 한 번의 SQL 로 생성")
+  void testInsertIfAbsentByMemberId() {
+    // given
+    upsert("naver_1", "테스트", "test@email.com");
+    statistics.clear();
+
+    // when
+    cartRepository.insertIfAbsentByMemberId("naver_1");
+    cartRepository.insertIfAbsentByMemberId("naver_1");
+    long statements = statistics.getPrepareStatementCount();
+    testEntityManager.clear();
+
+    // then
+    assertThat(statements).isEqualTo(2);
+
+    Member member = memberRepository.findByMemberId("naver_1").orElseThrow();
+    assertThat(cartRepository.existsByMember(member)).isTrue();
+    assertThat(cartRepository.count()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("장바구니 생성 - 없는 사용자 ID 는 생성하지 않음")
+  void testInsertIfAbsentByMemberId_UnknownMember() {
+    // when
+    int inserted = cartRepository.insertIfAbsentByMemberId("unknownUser");
+
+    // then
+    assertThat(inserted).isZero();
+    assertThat(cartRepository.count()).isZero();
+  }
+
+  private int upsert(String memberId, String memberName, String email) {
+    return memberRepository.upsertSnsMember(
+        memberId, memberName, email, "kakao_password", "CUSTOMER", "KAKAO"
+    );
+  }
+
+}
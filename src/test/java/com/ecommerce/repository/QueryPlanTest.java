@@ -0,0 +1,352 @@
+package com.ecommerce.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ecommerce.config.QueryDslConfig;
+import com.ecommerce.dto.product.BulkUpdateProductDto;
+import com.ecommerce.entity.Cart;
+import com.ecommerce.entity.Member;
+import com.ecommerce.entity.Product;
+import com.ecommerce.repository.product.ProductBulkRepository;
+import com.ecommerce.repository.product.ProductRepository;
+import com.ecommerce.repository.review.ReviewRepository;
+import com.ecommerce.type.EmailStatus;
+import com.ecommerce.type.ProductStatus;
+import com.ecommerce.type.SortType;
+import com.ecommerce.utils.KeysetCursor;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * 저장소 쿼리 실행 계획 회귀 테스트
+ * Flyway 스크립트로 만든 MySQL 스키마에 테스트 데이터를 넣고 저장소 메서드를 실제로 호출한 뒤
+ * MySQL general log 에 남은 SQL(Hibernate/QueryDSL 이 생성한 SQL, 바인딩 값 포함)을 EXPLAIN 하여
+ * 테이블 전체 스캔(type = ALL)이 있으면 실패 (Docker 가 없으면 건너뜀)
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({QueryDslConfig.class, ProductBulkRepository.class, CartItemBulkRepository.class})
+class QueryPlanTest {
+
+  @Container
+  private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0.36");
+
+  @DynamicPropertySource
+  static void datasource(DynamicPropertyRegistry registry) {
+    registry.add("spring.datasource.url", MYSQL::getJdbcUrl);
+    registry.add("spring.datasource.username", MYSQL::getUsername);
+    registry.add("spring.datasource.password", MYSQL::getPassword);
+  }
+
+  @Autowired
+  private MemberRepository memberRepository;
+
+  @Autowired
+  private CartRepository cartRepository;
+
+  @Autowired
+  private CartItemRepository cartItemRepository;
+
+  @Autowired
+  private CartItemBulkRepository cartItemBulkRepository;
+
+  @Autowired
+  private ProductRepository productRepository;
+
+  @Autowired
+  private ProductBulkRepository productBulkRepository;
+
+  @Autowired
+  private ReviewRepository reviewRepository;
+
+  @Autowired
+  private EmailOutboxRepository emailOutboxRepository;
+
+  @Autowired
+  private TestEntityManager testEntityManager;
+
+  @BeforeAll
+  static void setUp() throws SQLException {
+    Flyway.configure()
+        .dataSource(MYSQL.getJdbcUrl(), MYSQL.getUsername(), MYSQL.getPassword())
+        .load()
+        .migrate();
+
+    try (Connection connection = getRootConnection();
+        Statement statement = connection.createStatement()) {
+      statement.execute("SET SESSION cte_max_recursion_depth = 100000");
+
+      statement.execute("INSERT INTO Member "
+          + "(created_at, member_id, member_name, email, password, role, login_type) "
+          + "WITH RECURSIVE seq(n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 100) "
+          + "SELECT NOW(6), CONCAT('member', n), 'test', 'test@email.com', 'password', "
+          + "IF(n % 2 = 0, 'SELLER', 'CUSTOMER'), 'APP' FROM seq");
+
+      statement.execute("INSERT INTO Cart (created_at, member_id) SELECT NOW(6), id FROM Member");
+
+      statement.execute("INSERT INTO Product "
+          + "(created_at, product_name, description, stock_quantity, price, status, rating, "
+          + "member_id) "
+          + "WITH RECURSIVE seq(n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 10000) "
+          + "SELECT NOW(6) - INTERVAL n MINUTE, CONCAT('상품', n), '설명', n % 50, "
+          + "1000 + n % 997, ELT(n % 3 + 1, 'IN_STOCK', 'NO_STOCK', 'DISABLE'), "
+          + "n % 5 + 0.5, n % 100 + 1 FROM seq");
+
+      statement.execute("INSERT INTO Review "
+          + "(created_at, member_id, product_id, content, rating) "
+          + "WITH RECURSIVE seq(n) AS (SELECT 0 UNION ALL SELECT n + 1 FROM seq WHERE n < 19999) "
+          + "SELECT NOW(6) - INTERVAL n MINUTE, n % 100 + 1, n DIV 100 + 1, '리뷰', n % 5 + 1 "
+          + "FROM seq");
+
+      statement.execute("INSERT INTO CartItem "
+          + "(created_at, cart_id, product_id, quantity, price) "
+          + "WITH RECURSIVE seq(n) AS (SELECT 0 UNION ALL SELECT n + 1 FROM seq WHERE n < 4999) "
+          + "SELECT NOW(6), n % 100 + 1, n DIV 100 + 1, 1, 1000 FROM seq");
+
+      statement.execute("INSERT INTO EmailOutbox "
+          + "(created_at, updated_at, member_id, email, subject, content, status, attempts, "
+          + "next_attempt_at) "
+          + "WITH RECURSIVE seq(n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 5000) "
+          + "SELECT NOW(6), NOW(6) - INTERVAL n HOUR, CONCAT('member', n % 100 + 1), "
+          + "'test@email.com', '인증메일', '내용', "
+          + "ELT(IF(n % 50 = 0, 1, IF(n % 99 = 0, 2, 3)), 'PENDING', 'SENDING', 'SENT'), "
+          + "1, NOW(6) FROM seq");
+
+      statement.execute("ANALYZE TABLE Member, Cart, Product, Review, CartItem, EmailOutbox");
+
+      // 애플리케이션 커넥션이 보낸 SQL 을 바인딩 값이 채워진 형태로 기록
+      statement.execute("SET GLOBAL log_output = 'TABLE'");
+      statement.execute("SET GLOBAL general_log = 'ON'");
+    }
+  }
+
+  static Stream<Arguments> queries() {
+    return Stream.of(
+        // MemberRepository
+        query("MemberRepository.findByMemberId",
+            t -> t.memberRepository.findByMemberId("member1")),
+        query("MemberRepository.existsByMemberId",
+            t -> t.memberRepository.existsByMemberId("member1")),
+        query("MemberRepository.findTokenVersionByMemberId",
+            t -> t.memberRepository.findTokenVersionByMemberId("member1")),
+
+        // CartRepository
+        query("CartRepository.findByMember",
+            t -> t.cartRepository.findByMember(t.member(1L))),
+        query("CartRepository.existsByMember",
+            t -> t.cartRepository.existsByMember(t.member(1L))),
+        query("CartRepository.findWithItemsByMemberId",
+            t -> t.cartRepository.findWithItemsByMemberId("member1")),
+
+        // CartItemRepository
+        query("CartItemRepository.findById",
+            t -> t.cartItemRepository.findById(1L)),
+        query("CartItemRepository.findByCartAndProduct",
+            t -> t.cartItemRepository.findByCartAndProduct(t.cart(1L), t.product(1L))),
+
+        // CartItemBulkRepository (Redis 장바구니 적재/write-behind 반영)
+        query("CartItemBulkRepository.findLines",
+            t -> t.cartItemBulkRepository.findLines("member1")),
+        query("CartItemBulkRepository.lockCartIds",
+            t -> t.cartItemBulkRepository.lockCartIds(List.of("member1", "member2", "member3"))),
+
+        // ProductRepository (판매자 ID 를 위한 Member 조인 포함)
+        query("ProductRepository.findResponseById",
+            t -> t.productRepository.findResponseById(1L)),
+        query("ProductRepository.findResponses (LATEST)",
+            t -> t.productRepository.findResponses(null, null, null,
+                PageRequest.of(0, 5, Sort.by(Sort.Direction.DESC, "createdAt")))),
+        query("ProductRepository.findResponseSlice (LOW_PRICE)",
+            t -> t.productRepository.findResponseSlice(null, "상품", null,
+                PageRequest.of(0, 5, Sort.by(Sort.Direction.ASC, "price")))),
+        query("ProductRepository.findResponseSlice (HIGH_RATING)",
+            t -> t.productRepository.findResponseSlice(null, "상품", null,
+                PageRequest.of(0, 5, Sort.by(Sort.Direction.DESC, "rating")))),
+        query("ProductRepository.findResponses (status, HIGH_PRICE)",
+            t -> t.productRepository.findResponses(null, "상품", ProductStatus.IN_STOCK,
+                PageRequest.of(0, 5, Sort.by(Sort.Direction.DESC, "price")))),
+        query("ProductRepository.findResponses (seller, status)",
+            t -> t.productRepository.findResponses(2L, "상품", ProductStatus.IN_STOCK,
+                PageRequest.of(0, 5, Sort.by(Sort.Direction.DESC, "createdAt")))),
+        query("ProductRepository.countProducts (status)",
+            t -> t.productRepository.countProducts(null, "상품", ProductStatus.IN_STOCK)),
+        query("ProductRepository.findResponsesByCursor (LATEST)",
+            t -> t.productRepository.findResponsesByCursor(null, null, null, SortType.LATEST,
+                cursor(SortType.LATEST, LocalDateTime.now().minusMinutes(5000), 5000L), 6)),
+        query("ProductRepository.findResponsesByCursor (LOW_PRICE, status)",
+            t -> t.productRepository.findResponsesByCursor(null, null, ProductStatus.IN_STOCK,
+                SortType.LOW_PRICE, cursor(SortType.LOW_PRICE, "1500", 5000L), 6)),
+        query("ProductRepository.findSearchDtosByIdIn",
+            t -> t.productRepository.findSearchDtosByIdIn(List.of(1L, 2L, 3L))),
+        query("ProductRepository.findStatesForUpdate",
+            t -> t.productRepository.findStatesForUpdate(List.of(1L, 101L, 201L))),
+        query("ProductBulkRepository.updateAll",
+            t -> t.productBulkRepository.updateAll(2L, List.of(
+                BulkUpdateProductDto.Item.builder()
+                    .productId(1L).stockQuantity(10).status(ProductStatus.IN_STOCK).build()))),
+        query("ProductBulkRepository.streamBySeller",
+            t -> t.productBulkRepository.streamBySeller(2L, "member2", product -> {
+            })),
+
+        // ReviewRepository (작성자, 상품 fetch join 포함)
+        query("ReviewRepository.findById",
+            t -> t.reviewRepository.findById(1L)),
+        query("ReviewRepository.existsByMemberAndProduct",
+            t -> t.reviewRepository.existsByMemberAndProduct(t.member(1L), t.product(1L))),
+        query("ReviewRepository.findByProduct (LATEST)",
+            t -> t.reviewRepository.findByProduct(t.product(1L),
+                PageRequest.of(0, 3, Sort.by(Sort.Direction.DESC, "createdAt")))),
+        query("ReviewRepository.findByMember (LATEST)",
+            t -> t.reviewRepository.findByMember(t.member(1L),
+                PageRequest.of(0, 3, Sort.by(Sort.Direction.DESC, "createdAt")))),
+        query("ReviewRepository.findByProductIdAndCursor (HIGH_RATING)",
+            t -> t.reviewRepository.findByProductIdAndCursor(1L, SortType.HIGH_RATING,
+                cursor(SortType.HIGH_RATING, "3", 50L), 3)),
+        query("ReviewRepository.findAverageRatingByProductId",
+            t -> t.reviewRepository.findAverageRatingByProductId(1L)),
+
+        // EmailOutboxRepository (SKIP LOCKED 선점 조회 포함)
+        query("EmailOutboxRepository.findDispatchTargets",
+            t -> t.emailOutboxRepository.findDispatchTargets(
+                List.of(EmailStatus.PENDING, EmailStatus.SENDING), LocalDateTime.now(),
+                PageRequest.of(0, 50))),
+        query("EmailOutboxRepository.findFirstByMemberIdOrderByIdDesc",
+            t -> t.emailOutboxRepository.findFirstByMemberIdOrderByIdDesc("member1")),
+        query("EmailOutboxRepository.deleteCompletedBefore",
+            t -> t.emailOutboxRepository.deleteCompletedBefore(
+                LocalDateTime.now().minusDays(7), 1000))
+    );
+  }
+
+  @ParameterizedTest(name = "{0}")
+  @MethodSource("queries")
+  @DisplayName("저장소 쿼리 실행 계획 - 전체 스캔 없음")
+  void testQueryPlan_NoFullScan(String name, Consumer<QueryPlanTest> repositoryCall)
+      throws SQLException {
+    // given
+    List<String> fullScans = new ArrayList<>();
+    List<String> plans = new ArrayList<>();
+    clearGeneralLog();
+
+    // when
+    repositoryCall.accept(this);
+    List<String> statements = executedStatements();
+
+    try (Connection connection = getRootConnection();
+        Statement statement = connection.createStatement()) {
+
+      for (String sql : statements) {
+        try (ResultSet resultSet = statement.executeQuery("EXPLAIN " + sql)) {
+          while (resultSet.next()) {
+            String row = resultSet.getString("table") + " type=" + resultSet.getString("type")
+                + " key=" + resultSet.getString("key") + " extra=" + resultSet.getString("Extra");
+            plans.add(row);
+
+            if ("ALL".equals(resultSet.getString("type"))) {
+              fullScans.add(sql + System.lineSeparator() + "  " + row);
+            }
+          }
+        }
+      }
+    }
+
+    // then
+    assertThat(statements).as("%s - 실행된 SQL 없음", name).isNotEmpty();
+    assertThat(fullScans)
+        .as("%s%n%s%nplan: %s", name, String.join(System.lineSeparator(), statements), plans)
+        .isEmpty();
+  }
+
+  private static Arguments query(String name, Consumer<QueryPlanTest> repositoryCall) {
+    return Arguments.of(name, repositoryCall);
+  }
+
+  private static KeysetCursor cursor(SortType sortType, Object value, Long id) {
+    return KeysetCursor.decode(KeysetCursor.encode(sortType, value, id), sortType);
+  }
+
+  private Cart cart(Long id) {
+    return testEntityManager.getEntityManager().getReference(Cart.class, id);
+  }
+
+  private Member member(Long id) {
+    return testEntityManager.getEntityManager().getReference(Member.class, id);
+  }
+
+  private Product product(Long id) {
+    return testEntityManager.getEntityManager().getReference(Product.class, id);
+  }
+
+  private static void clearGeneralLog() throws SQLException {
+    try (Connection connection = getRootConnection();
+        Statement statement = connection.createStatement()) {
+      statement.execute("TRUNCATE TABLE mysql.general_log");
+    }
+  }
+
+  /**
+   * 애플리케이션 계정으로 실행된 조회/수정/삭제 SQL (드라이버의 시스템 변수 조회는 제외)
+   *
+   * @return List<String>
+   */
+  private static List<String> executedStatements() throws SQLException {
+    List<String> statements = new ArrayList<>();
+
+    try (Connection connection = getRootConnection();
+        PreparedStatement ps = connection.prepareStatement(
+            "SELECT argument FROM mysql.general_log "
+                + "WHERE command_type IN ('Query', 'Execute') AND user_host LIKE ? "
+                + "ORDER BY event_time")) {
+      ps.setString(1, MYSQL.getUsername() + "[%");
+
+      try (ResultSet resultSet = ps.executeQuery()) {
+        while (resultSet.next()) {
+          String sql = new String(resultSet.getBytes("argument"), StandardCharsets.UTF_8).strip();
+          String lower = sql.toLowerCase(Locale.ROOT);
+
+          if ((lower.startsWith("select") || lower.startsWith("update")
+              || lower.startsWith("delete")) && !lower.contains("@@")) {
+            statements.add(sql);
+          }
+        }
+      }
+    }
+    return statements;
+  }
+
+  private static Connection getRootConnection() throws SQLException {
+    // general log 설정/조회에 관리자 권한이 필요하므로 root 사용
+    return DriverManager.getConnection(MYSQL.getJdbcUrl(), "root", MYSQL.getPassword());
+  }
+
+}
@@ -0,0 +1,128 @@
+package com.ecommerce.repository.product;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ecommerce.config.QueryDslConfig;
+import com.ecommerce.dto.product.ProductDto;
+import com.ecommerce.entity.Member;
+import com.ecommerce.entity.Product;
+import com.ecommerce.type.LoginType;
+import com.ecommerce.type.ProductStatus;
+import com.ecommerce.type.Role;
+import jakarta.persistence.EntityManagerFactory;
+import java.math.BigDecimal;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * 상품 수정/삭제 쿼리 수 회귀 테스트
+ * Flyway 스키마의 MySQL 에서 Hibernate 통계로 실행된 SQL 수를 세어
+ * 판매자 확인을 위한 지연 로딩이 다시 생기면 실패 (Docker 가 없으면 건너뜀)
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(QueryDslConfig.class)
+class ProductRepositoryTest {
+
+  @Container
+  private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0.36");
+
+  @DynamicPropertySource
+  static void datasource(DynamicPropertyRegistry registry) {
+    registry.add("spring.datasource.url", MYSQL::getJdbcUrl);
+    registry.add("spring.datasource.username", MYSQL::getUsername);
+    registry.add("spring.datasource.password", MYSQL::getPassword);
+  }
+
+  @Autowired
+  private ProductRepository productRepository;
+
+  @Autowired
+  private TestEntityManager testEntityManager;
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  private Statistics statistics;
+
+  private Long productId;
+
+  @BeforeEach
+  void setUp() {
+    Member seller = testEntityManager.persist(
+        Member.builder()
+            .memberId("seller")
+            .memberName("test")
+            .email("test@email.com")
+            .password("encodedPassword")
+            .role(Role.SELLER)
+            .loginType(LoginType.APP)
+            .build()
+    );
+    productId = testEntityManager.persist(
+        Product.builder()
+            .productName("상품")
+            .description("설명")
+            .stockQuantity(10)
+            .price(BigDecimal.valueOf(1000))
+            .status(ProductStatus.IN_STOCK)
+            .rating(BigDecimal.ZERO)
+            .member(seller)
+            .build()
+    ).getId();
+
+    testEntityManager.flush();
+    testEntityManager.clear();
+
+    statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    statistics.clear();
+  }
+
+  @Test
+  @DisplayName("상품 수정 - 상품과 판매자 SELECT 한 번, UPDATE 한 번")
+  void testUpdate_TwoStatements() {
+    // when
+    Product product = productRepository.findById(productId).orElseThrow();
+    String seller = product.getMember().getMemberId();
+    product.setStockQuantity(5);
+    product.setPrice(BigDecimal.valueOf(2000));
+    ProductDto.Response response = ProductDto.Response.fromEntity(product);
+    testEntityManager.flush();
+
+    // then
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    assertThat(seller).isEqualTo("seller");
+    assertThat(response.getSeller()).isEqualTo("seller");
+    assertThat(response.getStockQuantity()).isEqualTo(5);
+  }
+
+  @Test
+  @DisplayName("상품 삭제 - 상품과 판매자 SELECT 한 번, DELETE 한 번")
+  void testDelete_TwoStatements() {
+    // when
+    Product product = productRepository.findById(productId).orElseThrow();
+    String seller = product.getMember().getMemberId();
+    productRepository.delete(product);
+    testEntityManager.flush();
+
+    // then
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    assertThat(seller).isEqualTo("seller");
+    assertThat(productRepository.existsById(productId)).isFalse();
+  }
+
+}
@@ -0,0 +1,188 @@
+package com.ecommerce.repository.review;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ecommerce.config.QueryDslConfig;
+import com.ecommerce.dto.review.ReviewDto;
+import com.ecommerce.entity.Member;
+import com.ecommerce.entity.Product;
+import com.ecommerce.entity.Review;
+import com.ecommerce.type.LoginType;
+import com.ecommerce.type.ProductStatus;
+import com.ecommerce.type.Role;
+import com.ecommerce.type.SortType;
+import jakarta.persistence.EntityManagerFactory;
+import java.math.BigDecimal;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * 리뷰 조회 쿼리 수 회귀 테스트
+ * Flyway 스키마의 MySQL 에서 Hibernate 통계로 실행된 SQL 수를 세어
+ * 작성자/상품 지연 로딩(N+1)이 다시 생기면 실패 (Docker 가 없으면 건너뜀)
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(QueryDslConfig.class)
+class ReviewRepositoryTest {
+
+  private static final int REVIEWS = 20;
+
+  @Container
+  private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0.36");
+
+  @DynamicPropertySource
+  static void datasource(DynamicPropertyRegistry registry) {
+    registry.add("spring.datasource.url", MYSQL::getJdbcUrl);
+    registry.add("spring.datasource.username", MYSQL::getUsername);
+    registry.add("spring.datasource.password", MYSQL::getPassword);
+  }
+
+  @Autowired
+  private ReviewRepository reviewRepository;
+
+  @Autowired
+  private TestEntityManager testEntityManager;
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  private Statistics statistics;
+
+  private Long productId;
+
+  private Long reviewId;
+
+  private Long writerId;
+
+  @BeforeEach
+  void setUp() {
+    Member seller = testEntityManager.persist(member("seller", Role.SELLER));
+    Product product = testEntityManager.persist(
+        Product.builder()
+            .productName("상품")
+            .description("설명")
+            .stockQuantity(10)
+            .price(BigDecimal.valueOf(1000))
+            .status(ProductStatus.IN_STOCK)
+            .rating(BigDecimal.ZERO)
+            .member(seller)
+            .build()
+    );
+
+    // 작성자마다 다른 Member 이므로 지연 로딩이면 리뷰 수만큼 SELECT 추가
+    for (int i = 1; i <= REVIEWS; i++) {
+      Member writer = testEntityManager.persist(member("writer" + i, Role.CUSTOMER));
+      Review review = testEntityManager.persist(
+          Review.builder()
+              .member(writer)
+              .product(product)
+              .content("리뷰" + i)
+              .rating(BigDecimal.valueOf(i % 5 + 1))
+              .build()
+      );
+
+      if (i == 1) {
+        reviewId = review.getId();
+        writerId = writer.getId();
+      }
+    }
+    productId = product.getId();
+
+    testEntityManager.flush();
+    testEntityManager.clear();
+
+    statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    statistics.clear();
+  }
+
+  @Test
+  @DisplayName("리뷰 상세 조회 - 리뷰, 작성자, 상품을 하나의 SELECT 로 조회")
+  void testFindById_SingleQuery() {
+    // when
+    ReviewDto.Response review = ReviewDto.Response.fromEntity(
+        reviewRepository.findById(reviewId).orElseThrow()
+    );
+
+    // then
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    assertThat(review.getMemberId()).isEqualTo("writer1");
+    assertThat(review.getProductName()).isEqualTo("상품");
+  }
+
+  @Test
+  @DisplayName("상품별 리뷰 목록 조회 - 목록 SELECT 와 COUNT 두 번만 실행")
+  void testFindByProduct_PageQueries() {
+    // when
+    Page<ReviewDto.Response> reviews = reviewRepository.findByProduct(
+        testEntityManager.getEntityManager().getReference(Product.class, productId),
+        PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt"))
+    ).map(ReviewDto.Response::fromEntity);
+
+    // then
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    assertThat(reviews.getContent()).hasSize(10);
+    assertThat(reviews.getTotalElements()).isEqualTo(REVIEWS);
+  }
+
+  @Test
+  @DisplayName("사용자별 리뷰 목록 조회 - 마지막 페이지는 COUNT 없이 목록 SELECT 한 번만 실행")
+  void testFindByMember_SingleQuery() {
+    // when
+    Page<ReviewDto.Response> reviews = reviewRepository.findByMember(
+        testEntityManager.getEntityManager().getReference(Member.class, writerId),
+        PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt"))
+    ).map(ReviewDto.Response::fromEntity);
+
+    // then
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    assertThat(reviews.getContent()).extracting(ReviewDto.Response::getMemberId)
+        .containsExactly("writer1");
+  }
+
+  @Test
+  @DisplayName("상품별 리뷰 커서 조회 - 작성자, 상품을 fetch join 하여 하나의 SELECT 로 조회")
+  void testFindByProductIdAndCursor_SingleQuery() {
+    // when
+    List<ReviewDto.Response> reviews = reviewRepository
+        .findByProductIdAndCursor(productId, SortType.HIGH_RATING, null, 10)
+        .stream()
+        .map(ReviewDto.Response::fromEntity)
+        .toList();
+
+    // then
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    assertThat(reviews).hasSize(10);
+    assertThat(reviews).extracting(ReviewDto.Response::getProductName).containsOnly("상품");
+  }
+
+  private static Member member(String memberId, Role role) {
+    return Member.builder()
+        .memberId(memberId)
+        .memberName("test")
+        .email("test@email.com")
+        .password("encodedPassword")
+        .role(role)
+        .loginType(LoginType.APP)
+        .build();
+  }
+
+}
@@ -0,0 +1,89 @@
+package com.ecommerce.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ecommerce.entity.Member;
+import com.ecommerce.type.LoginType;
+import com.ecommerce.type.Role;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class PrincipalCacheTest {
+
+  @Mock
+  private StringRedisTemplate stringRedisTemplate;
+
+  @Mock
+  private RedisMessageListenerContainer redisMessageListenerContainer;
+
+  private PrincipalCache principalCache;
+
+  @BeforeEach
+  void setUp() {
+    principalCache = new PrincipalCache(stringRedisTemplate, redisMessageListenerContainer);
+    ReflectionTestUtils.setField(principalCache, "maximumSize", 100L);
+    ReflectionTestUtils.setField(principalCache, "ttlSeconds", 60L);
+    principalCache.init();
+  }
+
+  @Test
+  @DisplayName("인증 정보 조회 - 엔티티가 아닌 불변 인증 정보를 저장하고 이후에는 DB 조회 없음")
+  void testGetPrincipal_CachesImmutablePrincipal() {
+    // given
+    Member member = Member.builder()
+        .memberId("testUser")
+        .memberName("test")
+        .password("encodedPassword")
+        .role(Role.SELLER)
+        .loginType(LoginType.APP)
+        .tokenVersion(3L)
+        .build();
+    ReflectionTestUtils.setField(member, "id", 1L);
+    AtomicInteger loads = new AtomicInteger();
+
+    // when
+    Optional<MemberPrincipal> first = principalCache.getPrincipal("testUser", memberId -> {
+      loads.incrementAndGet();
+      return Optional.of(member);
+    });
+    // 캐시에 저장된 뒤 엔티티가 변경되어도 캐시된 인증 정보는 바뀌지 않음
+    member.setRole(Role.CUSTOMER);
+    Optional<MemberPrincipal> second = principalCache.getPrincipal("testUser", memberId -> {
+      loads.incrementAndGet();
+      return Optional.of(member);
+    });
+
+    // then
+    assertThat(loads).hasValue(1);
+    assertThat(first).contains(new MemberPrincipal(1L, "testUser", Role.SELLER, 3L));
+    assertThat(second).containsSame(first.orElseThrow());
+    assertThat(second.orElseThrow().getAuthorities())
+        .extracting(Object::toString)
+        .containsExactly("ROLE_SELLER");
+  }
+
+  @Test
+  @DisplayName("인증 정보 조회 - 존재하지 않는 사용자는 저장하지 않음")
+  void testGetPrincipal_NotFound() {
+    // when
+    Optional<MemberPrincipal> notFound =
+        principalCache.getPrincipal("unknown", memberId -> Optional.empty());
+    Optional<MemberPrincipal> found = principalCache.getPrincipal("unknown",
+        memberId -> Optional.of(Member.builder().memberId("unknown").role(Role.CUSTOMER).build()));
+
+    // then
+    assertThat(notFound).isEmpty();
+    assertThat(found).map(MemberPrincipal::memberId).contains("unknown");
+  }
+
+}
@@ -0,0 +1,133 @@
+package com.ecommerce.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ecommerce.config.RateLimitProperties;
+import com.ecommerce.config.RateLimitProperties.Limit;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * 요청 제한 Lua 토큰 버킷 테스트 (Docker 가 없으면 건너뜀)
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class RateLimiterRedisTest {
+
+  @Container
+  private static final GenericContainer<?> REDIS =
+      new GenericContainer<>(DockerImageName.parse("redis:7.2-alpine")).withExposedPorts(6379);
+
+  private LettuceConnectionFactory connectionFactory;
+
+  private StringRedisTemplate stringRedisTemplate;
+
+  private RateLimiter rateLimiter;
+
+  @BeforeEach
+  void setUp() {
+    connectionFactory = new LettuceConnectionFactory(REDIS.getHost(), REDIS.getMappedPort(6379));
+    connectionFactory.afterPropertiesSet();
+    connectionFactory.start();
+
+    stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+    stringRedisTemplate.delete(stringRedisTemplate.keys("rate-limit:*"));
+
+    RateLimitProperties rateLimitProperties = new RateLimitProperties();
+    // 컨테이너 첫 요청의 지연으로 로컬 버킷을 사용하지 않도록 넉넉하게 설정
+    rateLimitProperties.setRedisTimeoutMs(5000);
+
+    rateLimiter = new RateLimiter(
+        stringRedisTemplate, rateLimitProperties, new SimpleMeterRegistry()
+    );
+    rateLimiter.init();
+  }
+
+  @AfterEach
+  void tearDown() {
+    rateLimiter.destroy();
+    connectionFactory.destroy();
+  }
+
+  @Test
+  @DisplayName("요청 제한 - 용량만큼 허용한 뒤 재시도 시간 반환")
+  void testTryAcquire_ExceedCapacity() {
+    // given
+    List<String> keys = List.of("ip:127.0.0.1");
+    List<Limit> limits = List.of(limit(3, 0.01));
+
+    // when
+    long first = rateLimiter.tryAcquire("sign-in", keys, limits);
+    long second = rateLimiter.tryAcquire("sign-in", keys, limits);
+    long third = rateLimiter.tryAcquire("sign-in", keys, limits);
+    long rejected = rateLimiter.tryAcquire("sign-in", keys, limits);
+
+    // then
+    assertThat(List.of(first, second, third)).containsOnly(0L);
+    // 0.01 개/초 -> 토큰 하나가 차는 데 최대 100 초
+    assertThat(rejected).isPositive().isLessThanOrEqualTo(100_000L);
+    assertThat(stringRedisTemplate.getExpire("rate-limit:sign-in:ip:127.0.0.1"))
+        .isPositive();
+  }
+
+  @Test
+  @DisplayName("요청 제한 - 하나의 버킷이라도 부족하면 어떤 버킷에서도 차감하지 않음")
+  void testTryAcquire_AllOrNothing() {
+    // given
+    List<String> keys = List.of("ip:127.0.0.1", "member:testUser");
+    List<Limit> limits = List.of(limit(5, 0.01), limit(2, 0.01));
+
+    // when
+    rateLimiter.tryAcquire("sign-in", keys, limits);
+    rateLimiter.tryAcquire("sign-in", keys, limits);
+    long rejected = rateLimiter.tryAcquire("sign-in", keys, limits);
+
+    // then
+    assertThat(rejected).isPositive();
+
+    double ipTokens = Double.parseDouble((String) stringRedisTemplate.opsForHash()
+        .get("rate-limit:sign-in:ip:127.0.0.1", "tokens"));
+    assertThat(ipTokens).isGreaterThanOrEqualTo(3.0).isLessThan(4.0);
+
+    // 다른 사용자는 IP 버킷에 남은 토큰으로 허용
+    long other = rateLimiter.tryAcquire("sign-in",
+        List.of("ip:127.0.0.1", "member:otherUser"), limits);
+    assertThat(other).isZero();
+  }
+
+  @Test
+  @DisplayName("요청 제한 - 시간이 지나면 충전 속도만큼 다시 허용")
+  void testTryAcquire_Refill() throws InterruptedException {
+    // given
+    List<String> keys = List.of("ip:127.0.0.1");
+    List<Limit> limits = List.of(limit(1, 20));
+
+    rateLimiter.tryAcquire("id-check", keys, limits);
+    long rejected = rateLimiter.tryAcquire("id-check", keys, limits);
+
+    // when
+    Thread.sleep(rejected + 50);
+    long retried = rateLimiter.tryAcquire("id-check", keys, limits);
+
+    // then
+    assertThat(rejected).isPositive().isLessThanOrEqualTo(50L);
+    assertThat(retried).isZero();
+  }
+
+  private static Limit limit(long capacity, double refillPerSecond) {
+    Limit limit = new Limit();
+    limit.setCapacity(capacity);
+    limit.setRefillPerSecond(refillPerSecond);
+    return limit;
+  }
+
+}
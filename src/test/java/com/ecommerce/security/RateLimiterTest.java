@@ -0,0 +1,134 @@
+package com.ecommerce.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+
+import com.ecommerce.config.RateLimitProperties;
+import com.ecommerce.config.RateLimitProperties.Limit;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+@ExtendWith(MockitoExtension.class)
+class RateLimiterTest {
+
+  @Mock
+  private StringRedisTemplate stringRedisTemplate;
+
+  private SimpleMeterRegistry meterRegistry;
+
+  private RateLimiter rateLimiter;
+
+  @BeforeEach
+  void setUp() {
+    RateLimitProperties rateLimitProperties = new RateLimitProperties();
+    rateLimitProperties.setRedisTimeoutMs(50);
+    rateLimitProperties.setRedisThreads(2);
+
+    meterRegistry = new SimpleMeterRegistry();
+    rateLimiter = new RateLimiter(stringRedisTemplate, rateLimitProperties, meterRegistry);
+    rateLimiter.init();
+  }
+
+  @AfterEach
+  void tearDown() {
+    rateLimiter.destroy();
+  }
+
+  @Test
+  @DisplayName("요청 제한 - Redis 결과로 판단")
+  void testTryAcquire_Redis() {
+    // given
+    given(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+        .willReturn(0L)
+        .willReturn(1500L);
+
+    List<String> keys = List.of("ip:127.0.0.1");
+    List<Limit> limits = List.of(limit(1, 0.1));
+
+    // when
+    long allowed = rateLimiter.tryAcquire("sign-in", keys, limits);
+    long rejected = rateLimiter.tryAcquire("sign-in", keys, limits);
+
+    // then
+    assertThat(allowed).isZero();
+    assertThat(rejected).isEqualTo(1500L);
+    assertThat(meterRegistry.counter("rate.limit.fallback").count()).isZero();
+    assertThat(meterRegistry.counter("rate.limit.rejected", "route", "sign-in").count())
+        .isEqualTo(1.0);
+  }
+
+  @Test
+  @DisplayName("요청 제한 - Redis 응답 지연시 로컬 버킷으로 판단")
+  void testTryAcquire_Fallback_Timeout() {
+    // given
+    willAnswer(invocation -> {
+      Thread.sleep(1000);
+      return 0L;
+    }).given(stringRedisTemplate).execute(any(RedisScript.class), anyList(), any(Object[].class));
+
+    List<String> keys = List.of("ip:127.0.0.1", "member:testUser");
+    List<Limit> limits = List.of(limit(10, 0.01), limit(2, 0.01));
+
+    // when
+    long first = rateLimiter.tryAcquire("sign-in", keys, limits);
+    long second = rateLimiter.tryAcquire("sign-in", keys, limits);
+    long rejected = rateLimiter.tryAcquire("sign-in", keys, limits);
+
+    // then
+    assertThat(first).isZero();
+    assertThat(second).isZero();
+    assertThat(rejected).isPositive();
+    assertThat(meterRegistry.counter("rate.limit.fallback").count()).isEqualTo(3.0);
+  }
+
+  @Test
+  @DisplayName("요청 제한 - Redis 장애시 로컬 버킷으로 판단하고, 부족한 버킷이 있으면 차감하지 않음")
+  void testTryAcquire_Fallback_ConnectionFailure() {
+    // given
+    given(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+        .willThrow(new RedisConnectionFailureException("connection refused"));
+
+    List<Limit> limits = List.of(limit(3, 0.01), limit(1, 0.01));
+
+    // when
+    long first = rateLimiter.tryAcquire("sign-in",
+        List.of("ip:127.0.0.1", "member:testUser"), limits);
+    long rejected = rateLimiter.tryAcquire("sign-in",
+        List.of("ip:127.0.0.1", "member:testUser"), limits);
+    long otherMember = rateLimiter.tryAcquire("sign-in",
+        List.of("ip:127.0.0.1", "member:otherUser"), limits);
+    long thirdMember = rateLimiter.tryAcquire("sign-in",
+        List.of("ip:127.0.0.1", "member:thirdUser"), limits);
+    long ipExhausted = rateLimiter.tryAcquire("sign-in",
+        List.of("ip:127.0.0.1", "member:fourthUser"), limits);
+
+    // then
+    assertThat(first).isZero();
+    assertThat(rejected).isPositive();
+    // 거절된 요청은 IP 버킷에서 차감되지 않았으므로 IP 용량(3)만큼 다른 사용자 허용
+    assertThat(otherMember).isZero();
+    assertThat(thirdMember).isZero();
+    assertThat(ipExhausted).isPositive();
+  }
+
+  private static Limit limit(long capacity, double refillPerSecond) {
+    Limit limit = new Limit();
+    limit.setCapacity(capacity);
+    limit.setRefillPerSecond(refillPerSecond);
+    return limit;
+  }
+
+}
@@ -0,0 +1,143 @@
+package com.ecommerce.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ecommerce.repository.redis.RedisRepositoryImplement;
+import java.nio.charset.StandardCharsets;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * 로그인 세션 로컬 캐시의 Keyspace Notification 무효화 테스트 (Docker 가 없으면 건너뜀)
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class SessionNearCacheRedisTest {
+
+  private static final String NOTIFY_KEYSPACE_EVENTS = "notify-keyspace-events";
+
+  @Container
+  private static final GenericContainer<?> REDIS =
+      new GenericContainer<>(DockerImageName.parse("redis:7.2-alpine")).withExposedPorts(6379);
+
+  private LettuceConnectionFactory connectionFactory;
+
+  private StringRedisTemplate stringRedisTemplate;
+
+  private RedisMessageListenerContainer redisMessageListenerContainer;
+
+  private SessionNearCache sessionNearCache;
+
+  @BeforeEach
+  void setUp() throws InterruptedException {
+    connectionFactory = new LettuceConnectionFactory(REDIS.getHost(), REDIS.getMappedPort(6379));
+    connectionFactory.afterPropertiesSet();
+    connectionFactory.start();
+
+    stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+    // 컨테이너 기본값(알림 없음)에서 시작
+    stringRedisTemplate.execute((RedisCallback<Void>) connection -> {
+      connection.serverCommands().setConfig(NOTIFY_KEYSPACE_EVENTS, "");
+      return null;
+    });
+
+    RedisTemplate<String, Object> redisTemplate = new RedisTemplate<>();
+    redisTemplate.setConnectionFactory(connectionFactory);
+    redisTemplate.setKeySerializer(RedisSerializer.string());
+    redisTemplate.setValueSerializer(RedisSerializer.string());
+    redisTemplate.afterPropertiesSet();
+
+    redisMessageListenerContainer = new RedisMessageListenerContainer();
+    redisMessageListenerContainer.setConnectionFactory(connectionFactory);
+    redisMessageListenerContainer.afterPropertiesSet();
+    redisMessageListenerContainer.start();
+
+    sessionNearCache = new SessionNearCache(new RedisRepositoryImplement(redisTemplate),
+        stringRedisTemplate, redisMessageListenerContainer);
+    ReflectionTestUtils.setField(sessionNearCache, "maximumSize", 100L);
+    ReflectionTestUtils.setField(sessionNearCache, "ttlSeconds", 60L);
+    ReflectionTestUtils.setField(sessionNearCache, "keyspaceEvents", "Egx");
+    sessionNearCache.init();
+
+    // 구독이 끝나기 전에 발생한 이벤트는 전달되지 않으므로 패턴 구독 (del, expired) 확인
+    assertThat(eventually(() -> patternSubscriptions() >= 2)).isTrue();
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    redisMessageListenerContainer.destroy();
+    connectionFactory.destroy();
+  }
+
+  @Test
+  @DisplayName("초기화 - 서버의 notify-keyspace-events 를 설정")
+  void testInit_ConfigSet() {
+    // when
+    Properties config = stringRedisTemplate.execute((RedisCallback<Properties>) connection ->
+        connection.serverCommands().getConfig(NOTIFY_KEYSPACE_EVENTS));
+
+    // then
+    assertThat(config.getProperty(NOTIFY_KEYSPACE_EVENTS)).contains("E", "g", "x");
+  }
+
+  @Test
+  @DisplayName("로그아웃 - 세션 키가 삭제되면 ttl 전이라도 캐시 무효화")
+  void testInvalidate_OnDelete() throws InterruptedException {
+    // given
+    stringRedisTemplate.opsForValue().set("deletedUser", "accessToken", 1, TimeUnit.HOURS);
+    assertThat(sessionNearCache.isActive("deletedUser")).isTrue();
+
+    // when
+    stringRedisTemplate.delete("deletedUser");
+
+    // then
+    assertThat(eventually(() -> !sessionNearCache.isActive("deletedUser"))).isTrue();
+  }
+
+  @Test
+  @DisplayName("세션 만료 - 세션 키가 만료되면 캐시 무효화")
+  void testInvalidate_OnExpire() throws InterruptedException {
+    // given
+    stringRedisTemplate.opsForValue().set("expiredUser", "accessToken", 1, TimeUnit.SECONDS);
+    assertThat(sessionNearCache.isActive("expiredUser")).isTrue();
+
+    // when, then
+    assertThat(eventually(() -> !sessionNearCache.isActive("expiredUser"))).isTrue();
+  }
+
+  private long patternSubscriptions() {
+    Long count = stringRedisTemplate.execute((RedisCallback<Long>) connection ->
+        (Long) connection.execute("PUBSUB", "NUMPAT".getBytes(StandardCharsets.UTF_8)));
+    return count != null ? count : 0L;
+  }
+
+  /**
+   * 이벤트는 비동기로 전달되므로 최대 5초 동안 조건 확인
+   */
+  private static boolean eventually(BooleanSupplier condition) throws InterruptedException {
+    long deadline = System.currentTimeMillis() + 5000;
+    while (System.currentTimeMillis() < deadline) {
+      if (condition.getAsBoolean()) {
+        return true;
+      }
+      Thread.sleep(50);
+    }
+    return false;
+  }
+
+}
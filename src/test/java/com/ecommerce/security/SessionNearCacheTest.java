@@ -0,0 +1,222 @@
+package com.ecommerce.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.ecommerce.repository.redis.RedisRepository;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Properties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisServerCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.listener.Topic;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class SessionNearCacheTest {
+
+  private static final String NOTIFY_KEYSPACE_EVENTS = "notify-keyspace-events";
+
+  @Mock
+  private RedisRepository redisRepository;
+
+  @Mock
+  private StringRedisTemplate stringRedisTemplate;
+
+  @Mock
+  private RedisMessageListenerContainer redisMessageListenerContainer;
+
+  @Mock
+  private RedisConnection redisConnection;
+
+  @Mock
+  private RedisServerCommands redisServerCommands;
+
+  @Test
+  @DisplayName("세션 확인 - 존재하는 세션은 캐시하여 ttl 안에서는 Redis 를 다시 조회하지 않음")
+  void testIsActive_CachesActiveSession() {
+    // given
+    SessionNearCache sessionNearCache = sessionNearCache("", 60);
+    given(redisRepository.getData("testUser")).willReturn("accessToken");
+
+    // when
+    boolean first = sessionNearCache.isActive("testUser");
+    boolean second = sessionNearCache.isActive("testUser");
+
+    // then
+    assertThat(first).isTrue();
+    assertThat(second).isTrue();
+    verify(redisRepository, times(1)).getData("testUser");
+  }
+
+  @Test
+  @DisplayName("세션 확인 - 없는 세션은 캐시하지 않아 로그인 직후 바로 반영")
+  void testIsActive_DoesNotCacheMissingSession() {
+    // given
+    SessionNearCache sessionNearCache = sessionNearCache("", 60);
+    given(redisRepository.getData("testUser"))
+        .willReturn(null)
+        .willReturn("accessToken");
+
+    // when
+    boolean beforeSignIn = sessionNearCache.isActive("testUser");
+    boolean afterSignIn = sessionNearCache.isActive("testUser");
+
+    // then
+    assertThat(beforeSignIn).isFalse();
+    assertThat(afterSignIn).isTrue();
+    verify(redisRepository, times(2)).getData("testUser");
+  }
+
+  @Test
+  @DisplayName("세션 확인 - 무효화 알림이 유실되어도 ttl 이후에는 Redis 에서 다시 확인")
+  void testIsActive_ExpiresAfterTtl() throws InterruptedException {
+    // given
+    SessionNearCache sessionNearCache = sessionNearCache("", 1);
+    given(redisRepository.getData("testUser"))
+        .willReturn("accessToken")
+        .willReturn(null);
+
+    // when
+    boolean first = sessionNearCache.isActive("testUser");
+    Thread.sleep(1100);
+    boolean afterTtl = sessionNearCache.isActive("testUser");
+
+    // then
+    assertThat(first).isTrue();
+    assertThat(afterTtl).isFalse();
+    verify(redisRepository, times(2)).getData("testUser");
+  }
+
+  @Test
+  @DisplayName("키 삭제/만료 이벤트 - 삭제된 키(memberId)의 캐시 무효화")
+  void testOnMessage_Invalidate() {
+    // given
+    SessionNearCache sessionNearCache = sessionNearCache("", 60);
+    given(redisRepository.getData("testUser"))
+        .willReturn("accessToken")
+        .willReturn(null);
+    sessionNearCache.isActive("testUser");
+
+    // when
+    sessionNearCache.onMessage(new DefaultMessage(
+        "__keyevent@0__:del".getBytes(StandardCharsets.UTF_8),
+        "testUser".getBytes(StandardCharsets.UTF_8)
+    ), "__keyevent@*__:del".getBytes(StandardCharsets.UTF_8));
+
+    // then
+    assertThat(sessionNearCache.isActive("testUser")).isFalse();
+    verify(redisRepository, times(2)).getData("testUser");
+  }
+
+  @Test
+  @DisplayName("초기화 - 모든 DB 의 키 삭제/만료 이벤트 구독")
+  @SuppressWarnings("unchecked")
+  void testInit_SubscribeKeyEvents() {
+    // when
+    SessionNearCache sessionNearCache = sessionNearCache("", 60);
+
+    // then
+    ArgumentCaptor<Collection<? extends Topic>> captor = ArgumentCaptor.forClass(Collection.class);
+    verify(redisMessageListenerContainer, times(1))
+        .addMessageListener(eq(sessionNearCache), captor.capture());
+
+    assertThat(captor.getValue()).containsExactlyInAnyOrder(
+        new PatternTopic("__keyevent@*__:del"),
+        new PatternTopic("__keyevent@*__:expired")
+    );
+  }
+
+  @Test
+  @DisplayName("초기화 - 서버에 Keyspace Notification 설정이 없으면 설정")
+  void testInit_EnableKeyspaceNotifications() {
+    // given
+    givenServerConfig("");
+
+    // when
+    sessionNearCache("Egx", 60);
+
+    // then
+    verify(redisServerCommands, times(1)).setConfig(NOTIFY_KEYSPACE_EVENTS, "Egx");
+  }
+
+  @Test
+  @DisplayName("초기화 - 서버에 이미 설정된 Keyspace Notification 은 변경하지 않음")
+  void testInit_KeepExistingKeyspaceNotifications() {
+    // given
+    givenServerConfig("KEA");
+
+    // when
+    sessionNearCache("Egx", 60);
+
+    // then
+    verify(redisServerCommands, never()).setConfig(anyString(), anyString());
+  }
+
+  @Test
+  @DisplayName("초기화 - CONFIG 명령이 막혀 있어도 시작하고 이벤트 구독")
+  void testInit_ConfigFailure() {
+    // given
+    given(stringRedisTemplate.execute(any(RedisCallback.class)))
+        .willThrow(new RedisConnectionFailureException("CONFIG disabled"));
+
+    // when
+    SessionNearCache sessionNearCache = sessionNearCache("Egx", 60);
+
+    // then
+    verify(redisMessageListenerContainer, times(1))
+        .addMessageListener(eq(sessionNearCache), any(Collection.class));
+  }
+
+  @Test
+  @DisplayName("초기화 - keyspace-events 설정이 비어 있으면 서버 설정을 확인하지 않음")
+  void testInit_KeyspaceEventsDisabled() {
+    // when
+    sessionNearCache("", 60);
+
+    // then
+    verify(stringRedisTemplate, never()).execute(any(RedisCallback.class));
+  }
+
+  private SessionNearCache sessionNearCache(String keyspaceEvents, long ttlSeconds) {
+    SessionNearCache sessionNearCache = new SessionNearCache(
+        redisRepository, stringRedisTemplate, redisMessageListenerContainer
+    );
+    ReflectionTestUtils.setField(sessionNearCache, "maximumSize", 100L);
+    ReflectionTestUtils.setField(sessionNearCache, "ttlSeconds", ttlSeconds);
+    ReflectionTestUtils.setField(sessionNearCache, "keyspaceEvents", keyspaceEvents);
+    sessionNearCache.init();
+    return sessionNearCache;
+  }
+
+  private void givenServerConfig(String current) {
+    Properties config = new Properties();
+    config.setProperty(NOTIFY_KEYSPACE_EVENTS, current);
+
+    given(redisConnection.serverCommands()).willReturn(redisServerCommands);
+    given(redisServerCommands.getConfig(NOTIFY_KEYSPACE_EVENTS)).willReturn(config);
+    willAnswer(invocation -> invocation.<RedisCallback<?>>getArgument(0)
+        .doInRedis(redisConnection))
+        .given(stringRedisTemplate).execute(any(RedisCallback.class));
+  }
+
+}
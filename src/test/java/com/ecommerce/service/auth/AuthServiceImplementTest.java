@@ -11,11 +11,13 @@ import static org.mockito.BDDMockito.times;
 import static org.mockito.BDDMockito.verify;
 import static org.mockito.BDDMockito.willDoNothing;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 
 import com.ecommerce.dto.ResponseDto;
 import com.ecommerce.dto.auth.CheckCertificationDto;
 import com.ecommerce.dto.auth.EmailCertificationDto;
 import com.ecommerce.dto.auth.IdDuplicateCheckDto;
+import com.ecommerce.dto.auth.RefreshTokenDto;
 import com.ecommerce.dto.auth.SignInDto;
 import com.ecommerce.dto.auth.SignUpDto;
 import com.ecommerce.dto.member.MemberDto;
@@ -23,18 +25,32 @@ import com.ecommerce.entity.Cart;
 import com.ecommerce.entity.Member;
 import com.ecommerce.exception.CertificationException;
 import com.ecommerce.exception.DataBaseException;
-import com.ecommerce.exception.EmailException;
 import com.ecommerce.exception.MemberException;
-import com.ecommerce.provider.EmailProvider;
+import com.ecommerce.exception.ServerBusyException;
+import com.ecommerce.exception.TokenException;
 import com.ecommerce.provider.JwtProvider;
+import com.ecommerce.provider.PasswordHashProvider;
+import com.ecommerce.provider.RefreshTokenProvider;
+import com.ecommerce.provider.RefreshTokenProvider.Rotation;
 import com.ecommerce.repository.CartRepository;
 import com.ecommerce.repository.MemberRepository;
+import com.ecommerce.security.MemberPrincipal;
+import com.ecommerce.security.PrincipalCache;
+import com.ecommerce.security.SessionNearCache;
+import com.ecommerce.security.TokenRevocationRegistry;
+import com.ecommerce.security.VerifiedToken;
+import com.ecommerce.service.email.EmailOutboxService;
+import com.ecommerce.service.member.MemberIdBloomFilter;
 import com.ecommerce.service.redis.RedisService;
 import com.ecommerce.type.LoginType;
 import com.ecommerce.type.ResponseCode;
 import com.ecommerce.type.Role;
+import com.ecommerce.type.TokenValidationMode;
+import java.util.Date;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -42,7 +58,8 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
 
 @ExtendWith(MockitoExtension.class)
 public class AuthServiceImplementTest {
@@ -57,7 +74,7 @@ public class AuthServiceImplementTest {
   private CartRepository cartRepository;
 
   @Mock
-  private EmailProvider emailProvider;
+  private EmailOutboxService emailOutboxService;
 
   @Mock
   private JwtProvider jwtProvider;
@@ -66,7 +83,27 @@ public class AuthServiceImplementTest {
   private RedisService redisService;
 
   @Mock
-  private PasswordEncoder passwordEncoder;
+  private SessionNearCache sessionNearCache;
+
+  @Mock
+  private PasswordHashProvider passwordHashProvider;
+
+  @Mock
+  private MemberIdBloomFilter memberIdBloomFilter;
+
+  @Mock
+  private TokenRevocationRegistry tokenRevocationRegistry;
+
+  @Mock
+  private PrincipalCache principalCache;
+
+  @Mock
+  private RefreshTokenProvider refreshTokenProvider;
+
+  @AfterEach
+  void clearSecurityContext() {
+    SecurityContextHolder.clearContext();
+  }
 
   @Test
   @DisplayName("사용자 아이디 중복 확인 - 중복X")
@@ -76,6 +113,7 @@ public class AuthServiceImplementTest {
         .memberId("testUser")
         .build();
 
+    given(memberIdBloomFilter.mightContain("testUser")).willReturn(true);
     given(memberRepository.existsByMemberId("testUser")).willReturn(false);
 
     // when
@@ -88,6 +126,25 @@ public class AuthServiceImplementTest {
     assertEquals(ResponseCode.MEMBER_ID_AVAILABLE, response.getCode());
   }
 
+  @Test
+  @DisplayName("사용자 아이디 중복 확인 - 중복X (Bloom Filter 에 없으면 DB 조회 생략)")
+  void testIdDuplicateCheck_UserNotExists_FilterNegative() {
+    // given
+    IdDuplicateCheckDto.Request request = IdDuplicateCheckDto.Request.builder()
+        .memberId("newUser")
+        .build();
+
+    given(memberIdBloomFilter.mightContain("newUser")).willReturn(false);
+
+    // when
+    ResponseDto response = authServiceImplement.idDuplicateCheck(request);
+
+    // then
+    verify(memberRepository, never()).existsByMemberId(anyString());
+
+    assertEquals(ResponseCode.MEMBER_ID_AVAILABLE, response.getCode());
+  }
+
   @Test
   @DisplayName("사용자 아이디 중복 확인 - 중복")
   void testIdDuplicateCheck_UserExists() {
@@ -96,6 +153,7 @@ public class AuthServiceImplementTest {
         .memberId("existsUser")
         .build();
 
+    given(memberIdBloomFilter.mightContain("existsUser")).willReturn(true);
     given(memberRepository.existsByMemberId("existsUser")).willReturn(true);
 
     // when
@@ -118,9 +176,8 @@ public class AuthServiceImplementTest {
         .email("test@email.com")
         .build();
 
+    given(memberIdBloomFilter.mightContain("testUser")).willReturn(true);
     given(memberRepository.existsByMemberId("testUser")).willReturn(false);
-    given(emailProvider.sendCertificationMail(eq("test@email.com"), anyString()))
-        .willReturn(true);
     willDoNothing().given(redisService)
         .saveDataWithTTL(eq("testUser"), anyString(), eq(3L), eq(TimeUnit.MINUTES));
 
@@ -129,12 +186,12 @@ public class AuthServiceImplementTest {
 
     // then
     verify(memberRepository, times(1)).existsByMemberId("testUser");
-    verify(emailProvider, times(1))
-        .sendCertificationMail(eq("test@email.com"), anyString());
+    verify(emailOutboxService, times(1))
+        .enqueueCertificationMail(eq("testUser"), eq("test@email.com"), anyString());
     verify(redisService, times(1))
         .saveDataWithTTL(eq("testUser"), anyString(), eq(3L), eq(TimeUnit.MINUTES));
 
-    assertThat(response.getCode()).isEqualTo(ResponseCode.MAIL_SEND_SUCCESS);
+    assertThat(response.getCode()).isEqualTo(ResponseCode.MAIL_SEND_PENDING);
   }
 
   @Test
@@ -146,6 +203,7 @@ public class AuthServiceImplementTest {
         .email("test@email.com")
         .build();
 
+    given(memberIdBloomFilter.mightContain("existsUser")).willReturn(true);
     given(memberRepository.existsByMemberId("existsUser")).willReturn(true);
 
     // when
@@ -159,28 +217,19 @@ public class AuthServiceImplementTest {
   }
 
   @Test
-  @DisplayName("이메일 전송 테스트 - 실패 (메일 전송 실패)")
-  void testEmailCertification_Fail_MailSendFail() {
+  @DisplayName("이메일 전송 상태 조회 - 전송 실패")
+  void testGetEmailCertificationStatus_MailSendFail() {
     // given
-    EmailCertificationDto.Request request = EmailCertificationDto.Request.builder()
-        .memberId("existsUser")
-        .email("test@email.com")
-        .build();
-
-    given(memberRepository.existsByMemberId("existsUser")).willReturn(false);
-    given(emailProvider.sendCertificationMail(eq("test@email.com"), anyString()))
-        .willReturn(false);
+    given(emailOutboxService.getCertificationMailStatus("testUser"))
+        .willReturn(ResponseDto.getResponseBody(ResponseCode.MAIL_SEND_FAIL));
 
     // when
-    EmailException emailException = assertThrows(EmailException.class,
-        () -> authServiceImplement.emailCertification(request));
+    ResponseDto response = authServiceImplement.getEmailCertificationStatus("testUser");
 
     // then
-    verify(memberRepository, times(1)).existsByMemberId("existsUser");
-    verify(emailProvider, times(1))
-        .sendCertificationMail(eq("test@email.com"), anyString());
+    verify(emailOutboxService, times(1)).getCertificationMailStatus("testUser");
 
-    assertThat(emailException.getErrorCode()).isEqualTo(ResponseCode.MAIL_SEND_FAIL);
+    assertThat(response.getCode()).isEqualTo(ResponseCode.MAIL_SEND_FAIL);
   }
 
   @Test
@@ -258,7 +307,7 @@ public class AuthServiceImplementTest {
 
     given(memberRepository.existsByMemberId("testUser")).willReturn(false);
     given(redisService.checkVerified("testUser:verified")).willReturn(true);
-    given(passwordEncoder.encode(anyString())).willReturn("encodedPassword");
+    given(passwordHashProvider.encode(anyString())).willReturn("encodedPassword");
 
     given(memberRepository.save(any(Member.class))).willReturn(member);
     given(cartRepository.save(any(Cart.class))).willReturn(cart);
@@ -272,9 +321,10 @@ public class AuthServiceImplementTest {
     verify(memberRepository, times(1)).existsByMemberId("testUser");
     verify(redisService, times(1))
         .checkVerified(eq("testUser:verified"));
-    verify(passwordEncoder, times(1)).encode(eq("testPassword"));
+    verify(passwordHashProvider, times(1)).encode(eq("testPassword"));
     verify(memberRepository, times(1)).save(userCaptor.capture());
     verify(cartRepository, times(1)).save(any(Cart.class));
+    verify(memberIdBloomFilter, times(1)).add(eq("testUser"));
 
     assertThat(userCaptor.getValue()).isNotNull();
 // ArgumentCaptor 가 캡쳐 하는 시점이 userRepository.save() 함수에 인자값을 전달하는
@@ -362,7 +412,7 @@ public class AuthServiceImplementTest {
 
     given(memberRepository.existsByMemberId("testUser")).willReturn(false);
     given(redisService.checkVerified("testUser:verified")).willReturn(true);
-    given(passwordEncoder.encode(anyString())).willReturn("encodedPassword");
+    given(passwordHashProvider.encode(anyString())).willReturn("encodedPassword");
 
     doThrow(new RuntimeException("DataBase 저장 오류"))
         .when(memberRepository).save(any(Member.class));
@@ -375,11 +425,41 @@ public class AuthServiceImplementTest {
     verify(memberRepository, times(1)).existsByMemberId("testUser");
     verify(redisService, times(1))
         .checkVerified(eq("testUser:verified"));
-    verify(passwordEncoder, times(1)).encode(eq("testPassword"));
+    verify(passwordHashProvider, times(1)).encode(eq("testPassword"));
 
     assertThat(dataBaseException.getErrorCode()).isEqualTo(ResponseCode.DATABASE_ERROR);
   }
 
+  @Test
+  @DisplayName("회원가입 - 실패 (비밀번호 해시 대기열 포화, DB 오류로 바꾸지 않음)")
+  void testSignUp_Fail_ServerBusy() {
+    // given
+    SignUpDto.Request request = SignUpDto.Request.builder()
+        .memberId("testUser")
+        .memberName("test")
+        .email("test@email.com")
+        .password("testPassword")
+        .phoneNumber("01011112222")
+        .address("test시 test구 test로 111")
+        .role(Role.CUSTOMER)
+        .build();
+
+    given(memberRepository.existsByMemberId("testUser")).willReturn(false);
+    given(redisService.checkVerified("testUser:verified")).willReturn(true);
+    given(passwordHashProvider.encode(anyString()))
+        .willThrow(new ServerBusyException(ResponseCode.SERVER_BUSY));
+
+    // when
+    ServerBusyException serverBusyException = assertThrows(ServerBusyException.class,
+        () -> authServiceImplement.signUp(request));
+
+    // then
+    verify(memberRepository, never()).save(any(Member.class));
+    verify(cartRepository, never()).save(any(Cart.class));
+
+    assertThat(serverBusyException.getErrorCode()).isEqualTo(ResponseCode.SERVER_BUSY);
+  }
+
   @Test
   @DisplayName("로그인 - 성공")
   void testSignIn_Success() {
@@ -402,11 +482,14 @@ public class AuthServiceImplementTest {
 
     given(memberRepository.findByMemberId(eq("testUser")))
         .willReturn(Optional.ofNullable(member));
-    given(passwordEncoder.matches(eq("testPassword"), eq("encodedPassword")))
+    given(passwordHashProvider.matches(eq("testPassword"), eq("encodedPassword")))
         .willReturn(true);
-    given(jwtProvider.createToken(eq("testUser"), eq(Role.CUSTOMER)))
+    given(jwtProvider.createToken(eq("testUser"), eq(Role.CUSTOMER), eq(0L)))
         .willReturn("testAccessToken");
 
+    given(refreshTokenProvider.issue(eq("testUser")))
+        .willReturn("testUser.refreshToken");
+
     willDoNothing().given(redisService)
         .saveDataWithTTL(eq("testUser"), eq("testAccessToken"), eq(1L), eq(TimeUnit.HOURS));
 
@@ -416,13 +499,56 @@ public class AuthServiceImplementTest {
     // then
     verify(memberRepository, times(1))
         .findByMemberId(eq("testUser"));
-    verify(passwordEncoder, times(1))
+    verify(passwordHashProvider, times(1))
         .matches(eq("testPassword"), eq("encodedPassword"));
     verify(jwtProvider, times(1))
-        .createToken(eq("testUser"), eq(Role.CUSTOMER));
+        .createToken(eq("testUser"), eq(Role.CUSTOMER), eq(0L));
     verify(redisService, times(1))
         .saveDataWithTTL(eq("testUser"), anyString(), eq(1L), eq(TimeUnit.HOURS));
 
+    verify(refreshTokenProvider, times(1)).issue(eq("testUser"));
+
+    assertThat(response.getToken()).isEqualTo("testAccessToken");
+    assertThat(response.getRefreshToken()).isEqualTo("testUser.refreshToken");
+  }
+
+  @Test
+  @DisplayName("로그인 - 성공 (BCrypt strength 변경으로 비밀번호 재암호화)")
+  void testSignIn_Success_UpgradeEncoding() {
+    // given
+    SignInDto.Request request = SignInDto.Request.builder()
+        .memberId("testUser")
+        .password("testPassword")
+        .build();
+
+    Member member = Member.builder()
+        .memberId("testUser")
+        .memberName("test")
+        .email("test@email.com")
+        .password("encodedPassword")
+        .role(Role.CUSTOMER)
+        .loginType(LoginType.APP)
+        .build();
+
+    given(memberRepository.findByMemberId(eq("testUser")))
+        .willReturn(Optional.of(member));
+    given(passwordHashProvider.matches(eq("testPassword"), eq("encodedPassword")))
+        .willReturn(true);
+    given(passwordHashProvider.upgradeEncoding(eq("encodedPassword")))
+        .willReturn(true);
+    given(passwordHashProvider.encode(eq("testPassword")))
+        .willReturn("upgradedPassword");
+    given(jwtProvider.createToken(eq("testUser"), eq(Role.CUSTOMER), eq(0L)))
+        .willReturn("testAccessToken");
+
+    // when
+    SignInDto.Response response = authServiceImplement.signIn(request);
+
+    // then
+    verify(passwordHashProvider, times(1)).encode(eq("testPassword"));
+    verify(memberRepository, times(1)).save(eq(member));
+
+    assertThat(member.getPassword()).isEqualTo("upgradedPassword");
     assertThat(response.getToken()).isEqualTo("testAccessToken");
   }
 
@@ -471,7 +597,7 @@ public class AuthServiceImplementTest {
 
     given(memberRepository.findByMemberId(eq("testUser")))
         .willReturn(Optional.ofNullable(member));
-    given(passwordEncoder.matches(eq("testPassword"), eq("encodedPassword")))
+    given(passwordHashProvider.matches(eq("testPassword"), eq("encodedPassword")))
         .willReturn(false);
 
     // when
@@ -481,7 +607,7 @@ public class AuthServiceImplementTest {
     // then
     verify(memberRepository, times(1))
         .findByMemberId(eq("testUser"));
-    verify(passwordEncoder, times(1))
+    verify(passwordHashProvider, times(1))
         .matches(eq("testPassword"), eq("encodedPassword"));
 
     assertThat(memberException.getErrorCode()).isEqualTo(ResponseCode.MEMBER_PASSWORD_UNMATCHED);
@@ -509,9 +635,9 @@ public class AuthServiceImplementTest {
 
     given(memberRepository.findByMemberId(eq("testUser")))
         .willReturn(Optional.ofNullable(member));
-    given(passwordEncoder.matches(eq("testPassword"), eq("encodedPassword")))
+    given(passwordHashProvider.matches(eq("testPassword"), eq("encodedPassword")))
         .willReturn(true);
-    given(jwtProvider.createToken(eq("testUser"), eq(Role.CUSTOMER)))
+    given(jwtProvider.createToken(eq("testUser"), eq(Role.CUSTOMER), eq(0L)))
         .willReturn("testAccessToken");
 
     doThrow(new DataBaseException(ResponseCode.DATABASE_ERROR)).when(redisService)
@@ -524,16 +650,99 @@ public class AuthServiceImplementTest {
     // then
     verify(memberRepository, times(1))
         .findByMemberId(eq("testUser"));
-    verify(passwordEncoder, times(1))
+    verify(passwordHashProvider, times(1))
         .matches(eq("testPassword"), eq("encodedPassword"));
     verify(jwtProvider, times(1))
-        .createToken(eq("testUser"), eq(Role.CUSTOMER));
+        .createToken(eq("testUser"), eq(Role.CUSTOMER), eq(0L));
     verify(redisService, times(1))
         .saveDataWithTTL(eq("testUser"), anyString(), eq(1L), eq(TimeUnit.HOURS));
 
     assertThat(dataBaseException.getErrorCode()).isEqualTo(ResponseCode.DATABASE_ERROR);
   }
 
+  @Test
+  @DisplayName("토큰 재발급 - 성공")
+  void testRefresh_Success() {
+    // given
+    RefreshTokenDto.Request request = RefreshTokenDto.Request.builder()
+        .refreshToken("testUser.oldRefreshToken")
+        .build();
+
+    MemberPrincipal principal = new MemberPrincipal(1L, "testUser", Role.CUSTOMER, 2L);
+
+    given(refreshTokenProvider.getMemberId("testUser.oldRefreshToken")).willReturn("testUser");
+    given(refreshTokenProvider.generate("testUser")).willReturn("testUser.newRefreshToken");
+    given(refreshTokenProvider.rotate(
+        "testUser", "testUser.oldRefreshToken", "testUser.newRefreshToken"))
+        .willReturn(Rotation.ROTATED);
+    given(principalCache.getPrincipal(eq("testUser"), any())).willReturn(Optional.of(principal));
+    given(jwtProvider.createToken(eq("testUser"), eq(Role.CUSTOMER), eq(2L)))
+        .willReturn("newAccessToken");
+
+    // when
+    SignInDto.Response response = authServiceImplement.refresh(request);
+
+    // then
+    verify(passwordHashProvider, never()).matches(anyString(), anyString());
+    verify(redisService, times(1))
+        .saveDataWithTTL(eq("testUser"), eq("newAccessToken"), eq(1L), eq(TimeUnit.HOURS));
+
+    assertThat(response.getToken()).isEqualTo("newAccessToken");
+    assertThat(response.getRefreshToken()).isEqualTo("testUser.newRefreshToken");
+  }
+
+  @Test
+  @DisplayName("토큰 재발급 - 실패 (이미 교체된 리프레시 토큰 재사용)")
+  void testRefresh_Fail_Reused() {
+    // given
+    RefreshTokenDto.Request request = RefreshTokenDto.Request.builder()
+        .refreshToken("testUser.usedRefreshToken")
+        .build();
+
+    given(refreshTokenProvider.getMemberId("testUser.usedRefreshToken")).willReturn("testUser");
+    given(refreshTokenProvider.generate("testUser")).willReturn("testUser.newRefreshToken");
+    given(refreshTokenProvider.rotate(
+        "testUser", "testUser.usedRefreshToken", "testUser.newRefreshToken"))
+        .willReturn(Rotation.REUSED);
+
+    // when
+    TokenException tokenException = assertThrows(TokenException.class,
+        () -> authServiceImplement.refresh(request));
+
+    // then
+    verify(refreshTokenProvider, times(1)).revoke(eq("testUser"));
+    verify(redisService, times(1)).deleteToken(eq("testUser"));
+    verify(jwtProvider, never()).createToken(anyString(), any(), any(Long.class));
+
+    assertThat(tokenException.getErrorCode()).isEqualTo(ResponseCode.REFRESH_TOKEN_REUSED);
+  }
+
+  @Test
+  @DisplayName("토큰 재발급 - 실패 (일치하지 않는 리프레시 토큰, 로그인 유지)")
+  void testRefresh_Fail_Invalid() {
+    // given
+    RefreshTokenDto.Request request = RefreshTokenDto.Request.builder()
+        .refreshToken("testUser.garbage")
+        .build();
+
+    given(refreshTokenProvider.getMemberId("testUser.garbage")).willReturn("testUser");
+    given(refreshTokenProvider.generate("testUser")).willReturn("testUser.newRefreshToken");
+    given(refreshTokenProvider.rotate(
+        "testUser", "testUser.garbage", "testUser.newRefreshToken"))
+        .willReturn(Rotation.INVALID);
+
+    // when
+    TokenException tokenException = assertThrows(TokenException.class,
+        () -> authServiceImplement.refresh(request));
+
+    // then
+    verify(refreshTokenProvider, never()).revoke(anyString());
+    verify(redisService, never()).deleteToken(anyString());
+    verify(jwtProvider, never()).createToken(anyString(), any(), any(Long.class));
+
+    assertThat(tokenException.getErrorCode()).isEqualTo(ResponseCode.REFRESH_TOKEN_INVALID);
+  }
+
   @Test
   @DisplayName("로그아웃 - 성공")
   void testSignOut_Success() {
@@ -551,6 +760,29 @@ public class AuthServiceImplementTest {
         .equalMemberId(eq("testUser"), eq("accessToken"));
     verify(redisService, times(1))
         .deleteToken(eq("testUser"));
+    verify(sessionNearCache, times(1))
+        .invalidate(eq("testUser"));
+
+    assertThat(responseDto.getCode()).isEqualTo(ResponseCode.SIGN_OUT_SUCCESS);
+  }
+
+  @Test
+  @DisplayName("로그아웃 - 성공 (TOKEN_VERSION 모드, 토큰 버전 증가 후 폐기)")
+  void testSignOut_Success_TokenVersionMode() {
+    // given
+    given(jwtProvider.equalMemberId(eq("testUser"), eq("accessToken")))
+        .willReturn(true);
+    given(jwtProvider.getTokenValidationMode()).willReturn(TokenValidationMode.TOKEN_VERSION);
+    given(memberRepository.increaseTokenVersion("testUser")).willReturn(1);
+    given(memberRepository.findTokenVersionByMemberId("testUser")).willReturn(Optional.of(3L));
+
+    // when
+    ResponseDto responseDto = authServiceImplement.signOut("testUser", "accessToken");
+
+    // then
+    verify(memberRepository, times(1)).increaseTokenVersion(eq("testUser"));
+    verify(tokenRevocationRegistry, times(1)).revoke(eq("testUser"), eq(3L));
+    verify(redisService, never()).deleteToken(anyString());
 
     assertThat(responseDto.getCode()).isEqualTo(ResponseCode.SIGN_OUT_SUCCESS);
   }
@@ -596,4 +828,42 @@ public class AuthServiceImplementTest {
     assertThat(dataBaseException.getErrorCode()).isEqualTo(ResponseCode.DATABASE_ERROR);
   }
 
+  @Test
+  @DisplayName("토큰 멤버 확인 - 성공 (필터에서 검증된 토큰 재사용)")
+  void testEqualToMemberIdFromToken_Success_VerifiedToken() {
+    // given
+    setVerifiedToken("testUser");
+
+    // when
+    authServiceImplement.equalToMemberIdFromToken("testUser", "Bearer accessToken");
+
+    // then
+    verify(jwtProvider, never()).equalMemberId(anyString(), anyString());
+  }
+
+  @Test
+  @DisplayName("토큰 멤버 확인 - 실패 (필터에서 검증된 토큰의 멤버 정보와 불일치)")
+  void testEqualToMemberIdFromToken_Fail_VerifiedTokenMemberUnMatched() {
+    // given
+    setVerifiedToken("otherUser");
+
+    // when
+    MemberException memberException = assertThrows(MemberException.class,
+        () -> authServiceImplement.equalToMemberIdFromToken("testUser", "Bearer accessToken"));
+
+    // then
+    verify(jwtProvider, never()).equalMemberId(anyString(), anyString());
+
+    assertThat(memberException.getErrorCode()).isEqualTo(ResponseCode.MEMBER_UNMATCHED);
+  }
+
+  private void setVerifiedToken(String memberId) {
+    UsernamePasswordAuthenticationToken authentication =
+        new UsernamePasswordAuthenticationToken(memberId, null, List.of());
+    authentication.setDetails(
+        new VerifiedToken("accessToken", memberId, Role.CUSTOMER, new Date())
+    );
+    SecurityContextHolder.getContext().setAuthentication(authentication);
+  }
+
 }
@@ -0,0 +1,196 @@
+package com.ecommerce.service.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+import com.ecommerce.entity.CustomOAuth2Member;
+import com.ecommerce.entity.Member;
+import com.ecommerce.repository.CartRepository;
+import com.ecommerce.repository.MemberRepository;
+import com.ecommerce.security.PrincipalCache;
+import com.ecommerce.service.member.MemberIdBloomFilter;
+import com.ecommerce.type.LoginType;
+import com.ecommerce.type.Role;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.RequestEntity;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.oauth2.client.registration.ClientRegistration;
+import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
+import org.springframework.security.oauth2.core.AuthorizationGrantType;
+import org.springframework.security.oauth2.core.OAuth2AccessToken;
+import org.springframework.web.client.RestOperations;
+
+@ExtendWith(MockitoExtension.class)
+class OAuth2MemberServiceImplementTest {
+
+  private static final String MEMBER_ID = "kakao_12345";
+
+  @Mock
+  private MemberRepository memberRepository;
+
+  @Mock
+  private CartRepository cartRepository;
+
+  @Mock
+  private MemberIdBloomFilter memberIdBloomFilter;
+
+  @Mock
+  private PrincipalCache principalCache;
+
+  @Mock
+  private RestOperations restOperations;
+
+  private OAuth2MemberServiceImplement oAuth2MemberServiceImplement;
+
+  private OAuth2UserRequest request;
+
+  @BeforeEach
+  void setUp() {
+    oAuth2MemberServiceImplement = new OAuth2MemberServiceImplement(
+        memberRepository, cartRepository, new ObjectMapper(), memberIdBloomFilter, principalCache
+    );
+    oAuth2MemberServiceImplement.setRestOperations(restOperations);
+
+    ClientRegistration clientRegistration = ClientRegistration.withRegistrationId("kakao")
+        .clientName("kakao")
+        .clientId("clientId")
+        .authorizationGrantType(AuthorizationGrantType.AUTHORIZATION_CODE)
+        .redirectUri("{baseUrl}/oauth2/callback/{registrationId}")
+        .authorizationUri("https://kauth.kakao.com/oauth/authorize")
+        .tokenUri("https://kauth.kakao.com/oauth/token")
+        .userInfoUri("https://kapi.kakao.com/v2/user/me")
+        .userNameAttributeName("id")
+        .build();
+    request = new OAuth2UserRequest(clientRegistration, new OAuth2AccessToken(
+        OAuth2AccessToken.TokenType.BEARER, "accessToken",
+        Instant.now(), Instant.now().plusSeconds(60)
+    ));
+
+    given(restOperations.exchange(any(RequestEntity.class), any(ParameterizedTypeReference.class)))
+        .willReturn(ResponseEntity.ok(Map.of(
+            "id", 12345L,
+            "kakao_account", Map.of(
+                "email", "test@email.com",
+                "profile", Map.of("nickname", "테스트")
+            )
+        )));
+  }
+
+  @Test
+  @DisplayName("소셜 로그인 - 신규 사용자 생성, 장바구니 생성 (SQL 3회: 조회, upsert, 장바구니 생성)")
+  void testLoadUser_NewMember() {
+    // given
+    given(memberRepository.findByMemberId(MEMBER_ID)).willReturn(Optional.empty());
+
+    // when
+    CustomOAuth2Member member = (CustomOAuth2Member) oAuth2MemberServiceImplement.loadUser(request);
+
+    // then
+    verify(memberRepository, times(1)).findByMemberId(eq(MEMBER_ID));
+    verify(memberRepository, times(1)).upsertSnsMember(eq(MEMBER_ID), eq("테스트"),
+        eq("test@email.com"), eq("kakao_password"), eq("CUSTOMER"), eq("KAKAO"));
+    verify(cartRepository, times(1)).insertIfAbsentByMemberId(eq(MEMBER_ID));
+    verifyNoMoreInteractions(memberRepository, cartRepository);
+    verify(memberIdBloomFilter, times(1)).add(eq(MEMBER_ID));
+    verify(principalCache, never()).evict(anyString());
+
+    assertThat(member.getName()).isEqualTo(MEMBER_ID);
+    assertThat(member.getTokenVersion()).isZero();
+  }
+
+  @Test
+  @DisplayName("소셜 로그인 - 정보가 같은 기존 사용자는 쓰기 없이 반환 (SQL 2회: 조회, 장바구니 확인)")
+  void testLoadUser_ReturningMember_NoWrite() {
+    // given
+    Member existsMember = member("테스트", "test@email.com");
+    given(memberRepository.findByMemberId(MEMBER_ID)).willReturn(Optional.of(existsMember));
+    given(cartRepository.existsByMember(existsMember)).willReturn(true);
+
+    // when
+    CustomOAuth2Member member = (CustomOAuth2Member) oAuth2MemberServiceImplement.loadUser(request);
+
+    // then
+    verify(memberRepository, never()).upsertSnsMember(
+        anyString(), anyString(), anyString(), anyString(), anyString(), anyString());
+    verify(cartRepository, never()).insertIfAbsentByMemberId(anyString());
+    verify(memberRepository, times(1)).findByMemberId(eq(MEMBER_ID));
+    verify(cartRepository, times(1)).existsByMember(existsMember);
+    verifyNoMoreInteractions(memberRepository, cartRepository);
+    verify(memberIdBloomFilter, never()).add(anyString());
+    verify(principalCache, never()).evict(anyString());
+
+    assertThat(member.getTokenVersion()).isEqualTo(3L);
+  }
+
+  @Test
+  @DisplayName("소셜 로그인 - 장바구니가 없는 기존 사용자는 장바구니만 생성 (SQL 3회)")
+  void testLoadUser_ReturningMember_WithoutCart() {
+    // given
+    Member existsMember = member("테스트", "test@email.com");
+    given(memberRepository.findByMemberId(MEMBER_ID)).willReturn(Optional.of(existsMember));
+    given(cartRepository.existsByMember(existsMember)).willReturn(false);
+
+    // when
+    oAuth2MemberServiceImplement.loadUser(request);
+
+    // then
+    verify(cartRepository, times(1)).insertIfAbsentByMemberId(eq(MEMBER_ID));
+    verify(memberRepository, never()).upsertSnsMember(
+        anyString(), anyString(), anyString(), anyString(), anyString(), anyString());
+    verify(memberRepository, times(1)).findByMemberId(eq(MEMBER_ID));
+    verify(cartRepository, times(1)).existsByMember(existsMember);
+    verifyNoMoreInteractions(memberRepository, cartRepository);
+  }
+
+  @Test
+  @DisplayName("소셜 로그인 - 이름/이메일이 바뀐 기존 사용자는 갱신 후 캐시 삭제 (SQL 3회)")
+  void testLoadUser_ReturningMember_Changed() {
+    // given
+    given(memberRepository.findByMemberId(MEMBER_ID))
+        .willReturn(Optional.of(member("이전 이름", "test@email.com")));
+
+    // when
+    CustomOAuth2Member member = (CustomOAuth2Member) oAuth2MemberServiceImplement.loadUser(request);
+
+    // then
+    verify(memberRepository, times(1)).upsertSnsMember(eq(MEMBER_ID), eq("테스트"),
+        eq("test@email.com"), anyString(), anyString(), anyString());
+    verify(cartRepository, times(1)).insertIfAbsentByMemberId(eq(MEMBER_ID));
+    verify(memberRepository, times(1)).findByMemberId(eq(MEMBER_ID));
+    verifyNoMoreInteractions(memberRepository, cartRepository);
+    verify(principalCache, times(1)).evict(eq(MEMBER_ID));
+    verify(memberIdBloomFilter, never()).add(anyString());
+
+    assertThat(member.getTokenVersion()).isEqualTo(3L);
+  }
+
+  private static Member member(String memberName, String email) {
+    return Member.builder()
+        .memberId(MEMBER_ID)
+        .memberName(memberName)
+        .email(email)
+        .password("kakao_password")
+        .role(Role.CUSTOMER)
+        .loginType(LoginType.KAKAO)
+        .tokenVersion(3L)
+        .build();
+  }
+
+}
@@ -13,6 +13,7 @@ import static org.mockito.Mockito.verify;
 import com.ecommerce.dto.ResponseDto;
 import com.ecommerce.dto.cart.CartItemDto;
 import com.ecommerce.dto.cart.UpdateCartItemDto;
+import com.ecommerce.dto.product.ProductDto;
 import com.ecommerce.entity.Cart;
 import com.ecommerce.entity.CartItem;
 import com.ecommerce.entity.Member;
@@ -23,6 +24,7 @@ import com.ecommerce.exception.ProductException;
 import com.ecommerce.repository.CartItemRepository;
 import com.ecommerce.service.auth.AuthService;
 import com.ecommerce.service.product.ProductService;
+import com.ecommerce.type.CartStoreMode;
 import com.ecommerce.type.LoginType;
 import com.ecommerce.type.ProductStatus;
 import com.ecommerce.type.ResponseCode;
@@ -37,6 +39,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
 class CartItemServiceImplementTest {
@@ -53,6 +56,9 @@ class CartItemServiceImplementTest {
   @Mock
   private CartService cartService;
 
+  @Mock
+  private RedisCartStore redisCartStore;
+
   @InjectMocks
   private CartItemServiceImplement cartItemServiceImplement;
 
@@ -875,4 +881,69 @@ class CartItemServiceImplementTest {
     assertThat(cartException.getErrorCode()).isEqualTo(ResponseCode.CART_NOT_FOUND);
   }
 
-}
\ No newline at end of file
+  @Test
+  @DisplayName("장바구니에 상품 담기 (Redis) - 성공 (MySQL 조회 없이 Lua 스크립트로 수량 합산)")
+  void testAddCartItem_Redis_Success() {
+    // given
+    ReflectionTestUtils.setField(cartItemServiceImplement, "cartStoreMode", CartStoreMode.REDIS);
+
+    CartItemDto.Request request = CartItemDto.Request.builder()
+        .productId(1L)
+        .quantity(2)
+        .build();
+
+    willDoNothing().given(authService)
+        .equalToMemberIdFromToken(eq("testUser"), eq("token"));
+    given(productService.getProductDetails(eq(1L))).willReturn(redisProduct(5));
+    given(redisCartStore.add(eq("testUser"), eq(1L), eq(2), any(BigDecimal.class), eq(5)))
+        .willReturn(3);
+
+    // when
+    CartItemDto.Response response
+        = cartItemServiceImplement.addCartItem("testUser", "token", request);
+
+    // then
+    verify(cartService, times(0)).getCartByMemberId(any());
+    verify(productService, times(0)).getProductById(any());
+    verify(cartItemRepository, times(0)).save(any(CartItem.class));
+
+    assertThat(response.getId()).isEqualTo(1L);
+    assertThat(response.getQuantity()).isEqualTo(3);
+    assertThat(response.getPrice()).isEqualByComparingTo(BigDecimal.valueOf(30000));
+  }
+
+  @Test
+  @DisplayName("장바구니 상품 수정 (Redis) - 실패 (상품 재고 부족)")
+  void testUpdateCartItem_Redis_Fail_ExceedStockQuantity() {
+    // given
+    ReflectionTestUtils.setField(cartItemServiceImplement, "cartStoreMode", CartStoreMode.REDIS);
+
+    willDoNothing().given(authService)
+        .equalToMemberIdFromToken(eq("testUser"), eq("token"));
+    given(productService.getProductDetails(eq(1L))).willReturn(redisProduct(5));
+    given(redisCartStore.update(eq("testUser"), eq(1L), eq(6), eq(5)))
+        .willThrow(new CartException(ResponseCode.CART_ITEM_EXCEED_QUANTITY));
+
+    // when
+    CartException cartException = assertThrows(CartException.class,
+        () -> cartItemServiceImplement.updateCartItem(
+            "testUser", 1L, "token", new UpdateCartItemDto(6)
+        ));
+
+    // then
+    verify(cartItemRepository, times(0)).findById(any());
+
+    assertThat(cartException.getErrorCode()).isEqualTo(ResponseCode.CART_ITEM_EXCEED_QUANTITY);
+  }
+
+  private static ProductDto.Response redisProduct(int stockQuantity) {
+    return ProductDto.Response.builder()
+        .id(1L)
+        .productName("testProductName1")
+        .stockQuantity(stockQuantity)
+        .price(BigDecimal.valueOf(10000))
+        .status(ProductStatus.IN_STOCK)
+        .build();
+  }
+
+}
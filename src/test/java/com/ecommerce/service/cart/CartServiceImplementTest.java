@@ -2,6 +2,7 @@ package com.ecommerce.service.cart;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willDoNothing;
@@ -108,9 +109,7 @@ class CartServiceImplementTest {
     willDoNothing().given(authService)
         .equalToMemberIdFromToken(eq("testUser"), eq("token"));
 
-    given(memberService.getMemberByMemberId(eq("testUser")))
-        .willReturn(member);
-    given(cartRepository.findByMember(member))
+    given(cartRepository.findWithItemsByMemberId(eq("testUser")))
         .willReturn(Optional.of(cart));
 
     // when
@@ -119,10 +118,10 @@ class CartServiceImplementTest {
     // then
     verify(authService, times(1))
         .equalToMemberIdFromToken(eq("testUser"), eq("token"));
-    verify(memberService, times(1))
-        .getMemberByMemberId(eq("testUser"));
+    verify(memberService, times(0))
+        .getMemberByMemberId(any());
     verify(cartRepository, times(1))
-        .findByMember(eq(member));
+        .findWithItemsByMemberId(eq("testUser"));
 
     assertThat(cartDetails.getMemberId()).isEqualTo("testUser");
     assertThat(cartDetails.getTotalPrice()).isEqualTo(BigDecimal.valueOf(50007.0));
@@ -155,6 +154,8 @@ class CartServiceImplementTest {
     willDoNothing().given(authService)
         .equalToMemberIdFromToken(eq("testUser"), eq("token"));
 
+    given(cartRepository.findWithItemsByMemberId(eq("testUser")))
+        .willReturn(Optional.empty());
     doThrow(new MemberException(ResponseCode.MEMBER_NOT_FOUND))
         .when(memberService).getMemberByMemberId(eq("testUser"));
 
@@ -189,10 +190,10 @@ class CartServiceImplementTest {
     willDoNothing().given(authService)
         .equalToMemberIdFromToken(eq("testUser"), eq("token"));
 
+    given(cartRepository.findWithItemsByMemberId(eq("testUser")))
+        .willReturn(Optional.empty());
     given(memberService.getMemberByMemberId(eq("testUser")))
         .willReturn(member);
-    given(cartRepository.findByMember(member))
-        .willReturn(Optional.empty());
 
     // when
     CartException cartException = assertThrows(CartException.class,
@@ -201,10 +202,10 @@ class CartServiceImplementTest {
     // then
     verify(authService, times(1))
         .equalToMemberIdFromToken(eq("testUser"), eq("token"));
+    verify(cartRepository, times(1))
+        .findWithItemsByMemberId(eq("testUser"));
     verify(memberService, times(1))
         .getMemberByMemberId(eq("testUser"));
-    verify(cartRepository, times(1))
-        .findByMember(eq(member));
 
     assertThat(cartException.getErrorCode()).isEqualTo(ResponseCode.CART_NOT_FOUND);
   }
@@ -0,0 +1,123 @@
+package com.ecommerce.service.cart;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.ecommerce.dto.cart.CartLineDto;
+import com.ecommerce.repository.CartItemBulkRepository;
+import com.ecommerce.service.cart.RedisCartStore.Claim;
+import com.ecommerce.type.CartStoreMode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class CartWriteBehindFlusherTest {
+
+  @Mock
+  private RedisCartStore redisCartStore;
+
+  @Mock
+  private CartItemBulkRepository cartItemBulkRepository;
+
+  @Mock
+  private TransactionTemplate transactionTemplate;
+
+  private CartWriteBehindFlusher cartWriteBehindFlusher;
+
+  @BeforeEach
+  void setUp() {
+    cartWriteBehindFlusher = new CartWriteBehindFlusher(
+        redisCartStore, cartItemBulkRepository, transactionTemplate, new SimpleMeterRegistry()
+    );
+    ReflectionTestUtils.setField(cartWriteBehindFlusher, "cartStoreMode", CartStoreMode.REDIS);
+    ReflectionTestUtils.setField(cartWriteBehindFlusher, "batchSize", 2);
+    cartWriteBehindFlusher.init();
+  }
+
+  @Test
+  @DisplayName("장바구니 MySQL 반영 - 성공 (장바구니 행 잠금 후 Redis 의 현재 상태로 반영)")
+  void testFlush_Success() {
+    // given
+    givenTransaction();
+    Claim first = new Claim(1000L, List.of("user1", "user2"));
+    Claim second = new Claim(1000L, List.of("user3"));
+    given(redisCartStore.claimDirty(anyInt()))
+        .willReturn(first)
+        .willReturn(second);
+    given(cartItemBulkRepository.lockCartIds(any()))
+        .willReturn(Map.of("user1", 10L, "user2", 20L))
+        .willReturn(Map.of("user3", 30L));
+
+    CartLineDto line = new CartLineDto(1L, 2, BigDecimal.valueOf(1000));
+    given(redisCartStore.getLinesIfPresent(eq("user1"))).willReturn(List.of(line));
+    given(redisCartStore.getLinesIfPresent(eq("user2"))).willReturn(List.of());
+    given(redisCartStore.getLinesIfPresent(eq("user3"))).willReturn(null);
+
+    // when
+    cartWriteBehindFlusher.flush();
+
+    // then
+    ArgumentCaptor<Map<Long, List<CartLineDto>>> captor = ArgumentCaptor.forClass(Map.class);
+    verify(cartItemBulkRepository, times(2)).replaceAll(captor.capture());
+    verify(redisCartStore, times(1)).completeDirty(eq(first));
+    verify(redisCartStore, times(1)).completeDirty(eq(second));
+    verify(redisCartStore, times(0)).releaseDirty(any());
+
+    assertThat(captor.getAllValues().get(0)).containsOnlyKeys(10L, 20L);
+    assertThat(captor.getAllValues().get(0).get(10L)).containsExactly(line);
+    assertThat(captor.getAllValues().get(0).get(20L)).isEmpty();
+    assertThat(captor.getAllValues().get(1)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("장바구니 MySQL 반영 - 실패 (선점 해제 후 다시 변경 대상으로 표시)")
+  void testFlush_Fail_Requeue() {
+    // given
+    givenTransaction();
+    Claim claim = new Claim(1000L, List.of("user1", "user2"));
+    given(redisCartStore.claimDirty(anyInt())).willReturn(claim);
+    given(cartItemBulkRepository.lockCartIds(any()))
+        .willReturn(Map.of("user1", 10L, "user2", 20L));
+    given(redisCartStore.getLinesIfPresent(any())).willReturn(List.of());
+    doThrow(new QueryTimeoutException("lock wait timeout"))
+        .when(cartItemBulkRepository).replaceAll(anyMap());
+
+    // when
+    cartWriteBehindFlusher.flush();
+
+    // then
+    verify(redisCartStore, times(1)).claimDirty(anyInt());
+    verify(redisCartStore, times(1)).releaseDirty(eq(claim));
+    verify(redisCartStore, times(0)).completeDirty(any());
+  }
+
+  private void givenTransaction() {
+    willAnswer(invocation -> {
+      invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+      return null;
+    }).given(transactionTemplate).executeWithoutResult(any());
+  }
+
+}
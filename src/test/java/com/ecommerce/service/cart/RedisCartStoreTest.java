@@ -0,0 +1,325 @@
+package com.ecommerce.service.cart;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.ecommerce.dto.cart.CartLineDto;
+import com.ecommerce.exception.CartException;
+import com.ecommerce.repository.CartItemBulkRepository;
+import com.ecommerce.type.ResponseCode;
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * Redis 해시 장바구니 Lua 스크립트 테스트 (Docker 가 없으면 건너뜀)
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@ExtendWith(MockitoExtension.class)
+class RedisCartStoreTest {
+
+  private static final String MEMBER_ID = "testUser";
+
+  private static final String CART_KEY = "cart:member:" + MEMBER_ID;
+
+  private static final String DIRTY_KEY = "cart:dirty";
+
+  private static final String FLUSHING_KEY = "cart:flushing";
+
+  @Container
+  private static final GenericContainer<?> REDIS =
+      new GenericContainer<>(DockerImageName.parse("redis:7.2-alpine")).withExposedPorts(6379);
+
+  @Mock
+  private CartItemBulkRepository cartItemBulkRepository;
+
+  private LettuceConnectionFactory connectionFactory;
+
+  private StringRedisTemplate stringRedisTemplate;
+
+  private RedisCartStore redisCartStore;
+
+  @BeforeEach
+  void setUp() {
+    connectionFactory = new LettuceConnectionFactory(REDIS.getHost(), REDIS.getMappedPort(6379));
+    connectionFactory.afterPropertiesSet();
+    connectionFactory.start();
+
+    stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+    stringRedisTemplate.delete(stringRedisTemplate.keys("cart:*"));
+
+    redisCartStore = new RedisCartStore(stringRedisTemplate, cartItemBulkRepository);
+    ReflectionTestUtils.setField(redisCartStore, "ttlDays", 7L);
+    ReflectionTestUtils.setField(redisCartStore, "flushLeaseMs", 60_000L);
+  }
+
+  @AfterEach
+  void tearDown() {
+    connectionFactory.destroy();
+  }
+
+  @Test
+  @DisplayName("상품 담기 - 해시가 없으면 MySQL 장바구니로 채운 뒤 수량 합산, 처음 담을 때의 가격 유지")
+  void testAdd_LoadAndMerge() {
+    // given
+    given(cartItemBulkRepository.findLines(MEMBER_ID))
+        .willReturn(List.of(line(1L, 2, 1000), line(2L, 1, 500)));
+
+    // when
+    int quantity = redisCartStore.add(MEMBER_ID, 1L, 3, BigDecimal.valueOf(2000), 10);
+
+    // then
+    assertThat(quantity).isEqualTo(5);
+    assertThat(lines()).containsOnly(
+        Map.entry(1L, "5:1000"),
+        Map.entry(2L, "1:500")
+    );
+    assertThat(stringRedisTemplate.opsForSet().isMember(DIRTY_KEY, MEMBER_ID)).isTrue();
+    assertThat(stringRedisTemplate.getExpire(CART_KEY)).isPositive();
+  }
+
+  @Test
+  @DisplayName("상품 담기 - 새 상품은 전달한 가격으로 저장")
+  void testAdd_NewProduct() {
+    // given
+    given(cartItemBulkRepository.findLines(MEMBER_ID)).willReturn(List.of());
+
+    // when
+    int quantity = redisCartStore.add(MEMBER_ID, 3L, 2, new BigDecimal("1500.50"), 10);
+
+    // then
+    assertThat(quantity).isEqualTo(2);
+    assertThat(lines()).containsOnly(Map.entry(3L, "2:1500.50"));
+  }
+
+  @Test
+  @DisplayName("상품 담기 - 실패 (합산 수량이 재고 초과, 해시 변경 없음)")
+  void testAdd_Fail_ExceedStockQuantity() {
+    // given
+    given(cartItemBulkRepository.findLines(MEMBER_ID)).willReturn(List.of(line(1L, 4, 1000)));
+
+    // when
+    CartException cartException = assertThrows(CartException.class,
+        () -> redisCartStore.add(MEMBER_ID, 1L, 2, BigDecimal.valueOf(1000), 5));
+
+    // then
+    assertThat(cartException.getErrorCode()).isEqualTo(ResponseCode.CART_ITEM_EXCEED_QUANTITY);
+    assertThat(lines()).containsOnly(Map.entry(1L, "4:1000"));
+    assertThat(stringRedisTemplate.opsForSet().isMember(DIRTY_KEY, MEMBER_ID)).isFalse();
+  }
+
+  @Test
+  @DisplayName("수량 변경 - 담을 때의 가격은 유지하고 수량만 변경")
+  void testUpdate_Success() {
+    // given
+    given(cartItemBulkRepository.findLines(MEMBER_ID)).willReturn(List.of(line(1L, 4, 1000)));
+
+    // when
+    int quantity = redisCartStore.update(MEMBER_ID, 1L, 2, 5);
+
+    // then
+    assertThat(quantity).isEqualTo(2);
+    assertThat(lines()).containsOnly(Map.entry(1L, "2:1000"));
+    assertThat(stringRedisTemplate.opsForSet().isMember(DIRTY_KEY, MEMBER_ID)).isTrue();
+  }
+
+  @Test
+  @DisplayName("수량 변경 - 실패 (재고 초과, 담기지 않은 상품)")
+  void testUpdate_Fail() {
+    // given
+    given(cartItemBulkRepository.findLines(MEMBER_ID)).willReturn(List.of(line(1L, 4, 1000)));
+
+    // when
+    CartException exceed = assertThrows(CartException.class,
+        () -> redisCartStore.update(MEMBER_ID, 1L, 6, 5));
+    CartException notFound = assertThrows(CartException.class,
+        () -> redisCartStore.update(MEMBER_ID, 2L, 1, 5));
+
+    // then
+    assertThat(exceed.getErrorCode()).isEqualTo(ResponseCode.CART_ITEM_EXCEED_QUANTITY);
+    assertThat(notFound.getErrorCode()).isEqualTo(ResponseCode.CART_ITEM_NOT_FOUND);
+    assertThat(lines()).containsOnly(Map.entry(1L, "4:1000"));
+    verify(cartItemBulkRepository, times(1)).findLines(MEMBER_ID);
+  }
+
+  @Test
+  @DisplayName("상품 삭제 - 삭제 후 다시 삭제하면 실패 (담기지 않은 상품)")
+  void testRemove() {
+    // given
+    given(cartItemBulkRepository.findLines(MEMBER_ID)).willReturn(List.of(line(1L, 1, 1000)));
+
+    // when
+    redisCartStore.remove(MEMBER_ID, 1L);
+    CartException cartException = assertThrows(CartException.class,
+        () -> redisCartStore.remove(MEMBER_ID, 1L));
+
+    // then
+    assertThat(cartException.getErrorCode()).isEqualTo(ResponseCode.CART_ITEM_NOT_FOUND);
+    assertThat(redisCartStore.getLinesIfPresent(MEMBER_ID)).isEmpty();
+    // 마지막 상품을 지워도 표시 필드(~)가 남아 MySQL 에서 다시 채우지 않음
+    assertThat(stringRedisTemplate.opsForHash().hasKey(CART_KEY, "~")).isTrue();
+  }
+
+  @Test
+  @DisplayName("장바구니 조회 - 빈 장바구니도 표시 필드(~)로 채워 MySQL 을 한 번만 조회")
+  void testGetLines_EmptyCartLoadedOnce() {
+    // given
+    given(cartItemBulkRepository.findLines(MEMBER_ID)).willReturn(List.of());
+
+    // when
+    List<CartLineDto> first = redisCartStore.getLines(MEMBER_ID);
+    List<CartLineDto> second = redisCartStore.getLines(MEMBER_ID);
+
+    // then
+    assertThat(first).isEmpty();
+    assertThat(second).isEmpty();
+    assertThat(stringRedisTemplate.opsForHash().entries(CART_KEY))
+        .containsOnly(Map.entry("~", "1"));
+    verify(cartItemBulkRepository, times(1)).findLines(MEMBER_ID);
+  }
+
+  @Test
+  @DisplayName("장바구니 비우기 - MySQL 조회 없이 표시 필드만 남기고 변경 대상으로 표시")
+  void testClear() {
+    // given
+    stringRedisTemplate.opsForHash().putAll(CART_KEY, Map.of("~", "1", "1", "2:1000"));
+
+    // when
+    redisCartStore.clear(MEMBER_ID);
+
+    // then
+    assertThat(redisCartStore.getLines(MEMBER_ID)).isEmpty();
+    assertThat(stringRedisTemplate.opsForHash().entries(CART_KEY))
+        .containsOnly(Map.entry("~", "1"));
+    assertThat(stringRedisTemplate.opsForSet().isMember(DIRTY_KEY, MEMBER_ID)).isTrue();
+    verify(cartItemBulkRepository, never()).findLines(MEMBER_ID);
+  }
+
+  @Test
+  @DisplayName("해시 채우기 - MySQL 조회 중 다른 요청이 먼저 채우고 변경했으면 덮어쓰지 않음")
+  void testAdd_LoadIfAbsent() {
+    // given
+    given(cartItemBulkRepository.findLines(MEMBER_ID)).willAnswer(invocation -> {
+      // 다른 요청이 먼저 해시를 채우고 상품 2 를 담음
+      stringRedisTemplate.opsForHash().putAll(CART_KEY, Map.of("~", "1", "2", "1:500"));
+      // 이 요청이 읽은 MySQL 값은 아직 반영 전이라 오래된 값
+      return List.of(line(1L, 9, 1000));
+    });
+
+    // when
+    int quantity = redisCartStore.add(MEMBER_ID, 3L, 1, BigDecimal.valueOf(300), 10);
+
+    // then
+    assertThat(quantity).isEqualTo(1);
+    assertThat(lines()).containsOnly(
+        Map.entry(2L, "1:500"),
+        Map.entry(3L, "1:300")
+    );
+  }
+
+  @Test
+  @DisplayName("변경 대상 선점 - 선점한 사용자는 다시 선점하지 않고, 커밋 이후 선점 해제")
+  void testClaimDirty_Complete() {
+    // given
+    stringRedisTemplate.opsForSet().add(DIRTY_KEY, "user1", "user2");
+
+    // when
+    RedisCartStore.Claim claim = redisCartStore.claimDirty(10);
+    RedisCartStore.Claim empty = redisCartStore.claimDirty(10);
+
+    // then
+    assertThat(claim.memberIds()).containsExactlyInAnyOrder("user1", "user2");
+    assertThat(empty.memberIds()).isEmpty();
+    assertThat(stringRedisTemplate.opsForZSet().score(FLUSHING_KEY, "user1"))
+        .isEqualTo((double) claim.lease());
+
+    redisCartStore.completeDirty(claim);
+    assertThat(stringRedisTemplate.opsForZSet().zCard(FLUSHING_KEY)).isZero();
+    assertThat(stringRedisTemplate.opsForSet().size(DIRTY_KEY)).isZero();
+  }
+
+  @Test
+  @DisplayName("변경 대상 선점 - 반영 실패시 선점 해제 후 다시 변경 대상으로 표시")
+  void testClaimDirty_Release() {
+    // given
+    stringRedisTemplate.opsForSet().add(DIRTY_KEY, "user1");
+    RedisCartStore.Claim claim = redisCartStore.claimDirty(10);
+
+    // when
+    redisCartStore.releaseDirty(claim);
+
+    // then
+    assertThat(stringRedisTemplate.opsForZSet().zCard(FLUSHING_KEY)).isZero();
+    assertThat(redisCartStore.claimDirty(10).memberIds()).containsExactly("user1");
+  }
+
+  @Test
+  @DisplayName("변경 대상 선점 - 반영 중 종료된 노드의 선점은 만료 후 다시 선점")
+  void testClaimDirty_ExpiredLease() {
+    // given
+    // 선점 후 커밋 전에 종료된 노드 (만료 시각이 지난 선점)
+    stringRedisTemplate.opsForZSet().add(FLUSHING_KEY, "user1", 1);
+
+    // when
+    RedisCartStore.Claim claim = redisCartStore.claimDirty(10);
+
+    // then
+    assertThat(claim.memberIds()).containsExactly("user1");
+    assertThat(stringRedisTemplate.opsForZSet().score(FLUSHING_KEY, "user1"))
+        .isEqualTo((double) claim.lease());
+  }
+
+  @Test
+  @DisplayName("변경 대상 선점 - 만료 후 다른 노드가 다시 선점했으면 이전 선점의 해제는 무시")
+  void testClaimDirty_CompleteAfterTakeover() {
+    // given
+    stringRedisTemplate.opsForSet().add(DIRTY_KEY, "user1");
+    RedisCartStore.Claim expired = redisCartStore.claimDirty(10);
+    // 다른 노드가 만료된 선점을 다시 선점
+    stringRedisTemplate.opsForZSet().add(FLUSHING_KEY, "user1", expired.lease() + 1);
+
+    // when
+    redisCartStore.completeDirty(expired);
+
+    // then
+    assertThat(stringRedisTemplate.opsForZSet().score(FLUSHING_KEY, "user1"))
+        .isEqualTo((double) expired.lease() + 1);
+  }
+
+  /**
+   * 해시의 상품 필드 (상품 id -> "수량:가격", 표시 필드 제외)
+   */
+  private Map<Long, String> lines() {
+    Map<Long, String> lines = new HashMap<>();
+    stringRedisTemplate.opsForHash().entries(CART_KEY).forEach((field, value) -> {
+      if (!"~".equals(field)) {
+        lines.put(Long.valueOf((String) field), (String) value);
+      }
+    });
+    return lines;
+  }
+
+  private static CartLineDto line(Long productId, int quantity, long price) {
+    return new CartLineDto(productId, quantity, BigDecimal.valueOf(price));
+  }
+
+}
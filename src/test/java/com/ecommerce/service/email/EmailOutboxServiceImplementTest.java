@@ -0,0 +1,290 @@
+package com.ecommerce.service.email;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.BDDMockito.any;
+import static org.mockito.BDDMockito.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.times;
+import static org.mockito.BDDMockito.verify;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+
+import com.ecommerce.dto.ResponseDto;
+import com.ecommerce.entity.EmailOutbox;
+import com.ecommerce.exception.NotFoundException;
+import com.ecommerce.provider.EmailProvider;
+import com.ecommerce.repository.EmailOutboxRepository;
+import com.ecommerce.type.EmailStatus;
+import com.ecommerce.type.ResponseCode;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import jakarta.mail.internet.MimeMessage;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+public class EmailOutboxServiceImplementTest {
+
+  @RegisterExtension
+  static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+  private static final List<EmailStatus> DISPATCH_STATUSES =
+      List.of(EmailStatus.PENDING, EmailStatus.SENDING);
+
+  @Mock
+  private EmailOutboxRepository emailOutboxRepository;
+
+  @Mock
+  private TransactionTemplate transactionTemplate;
+
+  private EmailOutboxServiceImplement emailOutboxService;
+
+  @BeforeEach
+  void setUp() {
+    emailOutboxService = createService(ServerSetupTest.SMTP.getPort());
+    givenTransaction();
+  }
+
+  @Test
+  @DisplayName("인증메일 아웃박스 저장")
+  void testEnqueueCertificationMail() {
+    // given
+    ArgumentCaptor<EmailOutbox> captor = ArgumentCaptor.forClass(EmailOutbox.class);
+
+    // when
+    emailOutboxService.enqueueCertificationMail("testUser", "test@email.com", "123456");
+
+    // then
+    verify(emailOutboxRepository, times(1)).save(captor.capture());
+
+    EmailOutbox saved = captor.getValue();
+    assertThat(saved.getStatus()).isEqualTo(EmailStatus.PENDING);
+    assertThat(saved.getAttempts()).isZero();
+    assertThat(saved.getContent()).contains("123456");
+  }
+
+  @Test
+  @DisplayName("아웃박스 메일 일괄 전송 - 성공")
+  void testDispatchPendingMails_Success() throws Exception {
+    // given
+    EmailOutbox first = createOutbox(1L, "first@email.com", 0);
+    EmailOutbox second = createOutbox(2L, "second@email.com", 0);
+
+    given(emailOutboxRepository.findDispatchTargets(
+        eq(DISPATCH_STATUSES), any(LocalDateTime.class), any(Pageable.class)))
+        .willReturn(List.of(first, second));
+    given(emailOutboxRepository.findAllById(any())).willReturn(List.of(first, second));
+
+    // when
+    emailOutboxService.dispatchPendingMails();
+
+    // then
+    // 선점 트랜잭션과 결과 반영 트랜잭션 사이에 전송 (전송 중에는 잠금을 잡지 않음)
+    InOrder inOrder = inOrder(transactionTemplate, emailOutboxRepository);
+    inOrder.verify(transactionTemplate).execute(any());
+    inOrder.verify(transactionTemplate).executeWithoutResult(any());
+    inOrder.verify(emailOutboxRepository).findAllById(any());
+
+    MimeMessage[] received = greenMail.getReceivedMessages();
+    assertThat(received).hasSize(2);
+    assertThat(received[0].getSubject()).isEqualTo(EmailProvider.CERTIFICATION_SUBJECT);
+
+    assertThat(first.getStatus()).isEqualTo(EmailStatus.SENT);
+    assertThat(second.getStatus()).isEqualTo(EmailStatus.SENT);
+    assertThat(first.getAttempts()).isEqualTo(1);
+    assertThat(first.getContent()).isEmpty();
+  }
+
+  @Test
+  @DisplayName("아웃박스 메일 일괄 전송 - 선점 만료 후 다른 노드가 다시 선점한 메일은 결과를 반영하지 않음")
+  void testDispatchPendingMails_LeaseTakenOver() {
+    // given
+    EmailOutbox outbox = createOutbox(1L, "test@email.com", 0);
+
+    EmailOutbox reclaimed = createOutbox(1L, "test@email.com", 0);
+    reclaimed.setStatus(EmailStatus.SENDING);
+    reclaimed.setNextAttemptAt(LocalDateTime.now().plusHours(1));
+
+    given(emailOutboxRepository.findDispatchTargets(
+        eq(DISPATCH_STATUSES), any(LocalDateTime.class), any(Pageable.class)))
+        .willReturn(List.of(outbox));
+    given(emailOutboxRepository.findAllById(any())).willReturn(List.of(reclaimed));
+
+    // when
+    emailOutboxService.dispatchPendingMails();
+
+    // then
+    assertThat(outbox.getStatus()).isEqualTo(EmailStatus.SENDING);
+    assertThat(reclaimed.getStatus()).isEqualTo(EmailStatus.SENDING);
+    assertThat(reclaimed.getAttempts()).isZero();
+  }
+
+  @Test
+  @DisplayName("아웃박스 메일 일괄 전송 - 대상이 없으면 전송, 결과 반영 없음")
+  void testDispatchPendingMails_Empty() {
+    // given
+    given(emailOutboxRepository.findDispatchTargets(
+        eq(DISPATCH_STATUSES), any(LocalDateTime.class), any(Pageable.class)))
+        .willReturn(List.of());
+
+    // when
+    emailOutboxService.dispatchPendingMails();
+
+    // then
+    verify(transactionTemplate, never()).executeWithoutResult(any());
+    assertThat(greenMail.getReceivedMessages()).isEmpty();
+  }
+
+  @Test
+  @DisplayName("아웃박스 메일 일괄 전송 - 실패 (재시도 예약)")
+  void testDispatchPendingMails_Fail_Retry() {
+    // given
+    EmailOutboxServiceImplement unreachableService =
+        createService(ServerSetupTest.SMTP.getPort() + 1);
+    EmailOutbox outbox = createOutbox(1L, "test@email.com", 0);
+    LocalDateTime before = outbox.getNextAttemptAt();
+
+    given(emailOutboxRepository.findDispatchTargets(
+        eq(DISPATCH_STATUSES), any(LocalDateTime.class), any(Pageable.class)))
+        .willReturn(List.of(outbox));
+    given(emailOutboxRepository.findAllById(any())).willReturn(List.of(outbox));
+
+    // when
+    unreachableService.dispatchPendingMails();
+
+    // then
+    assertThat(outbox.getStatus()).isEqualTo(EmailStatus.PENDING);
+    assertThat(outbox.getAttempts()).isEqualTo(1);
+    assertThat(outbox.getNextAttemptAt()).isAfter(before);
+    assertThat(outbox.getLastError()).isNotNull();
+  }
+
+  @Test
+  @DisplayName("아웃박스 메일 일괄 전송 - 실패 (최대 재시도 초과)")
+  void testDispatchPendingMails_Fail_MaxAttempts() {
+    // given
+    EmailOutboxServiceImplement unreachableService =
+        createService(ServerSetupTest.SMTP.getPort() + 1);
+    EmailOutbox outbox = createOutbox(1L, "test@email.com", 2);
+
+    given(emailOutboxRepository.findDispatchTargets(
+        eq(DISPATCH_STATUSES), any(LocalDateTime.class), any(Pageable.class)))
+        .willReturn(List.of(outbox));
+    given(emailOutboxRepository.findAllById(any())).willReturn(List.of(outbox));
+
+    // when
+    unreachableService.dispatchPendingMails();
+
+    // then
+    assertThat(outbox.getStatus()).isEqualTo(EmailStatus.FAILED);
+    assertThat(outbox.getAttempts()).isEqualTo(3);
+    assertThat(outbox.getContent()).isEmpty();
+  }
+
+  @Test
+  @DisplayName("보관 기간이 지난 메일 삭제 - 삭제 건수가 batch-size 보다 작을 때까지 반복")
+  void testPurgeCompletedMails() {
+    // given
+    given(emailOutboxRepository.deleteCompletedBefore(any(LocalDateTime.class), eq(50)))
+        .willReturn(50)
+        .willReturn(7);
+
+    // when
+    emailOutboxService.purgeCompletedMails();
+
+    // then
+    ArgumentCaptor<LocalDateTime> captor = ArgumentCaptor.forClass(LocalDateTime.class);
+    verify(emailOutboxRepository, times(2)).deleteCompletedBefore(captor.capture(), eq(50));
+    assertThat(captor.getValue()).isBefore(LocalDateTime.now().minusDays(6));
+  }
+
+  @Test
+  @DisplayName("인증메일 전송 상태 조회 - 성공")
+  void testGetCertificationMailStatus_Sent() {
+    // given
+    EmailOutbox outbox = createOutbox(1L, "test@email.com", 1);
+    outbox.setStatus(EmailStatus.SENT);
+
+    given(emailOutboxRepository.findFirstByMemberIdOrderByIdDesc("testUser"))
+        .willReturn(Optional.of(outbox));
+
+    // when
+    ResponseDto response = emailOutboxService.getCertificationMailStatus("testUser");
+
+    // then
+    assertThat(response.getCode()).isEqualTo(ResponseCode.MAIL_SEND_SUCCESS);
+  }
+
+  @Test
+  @DisplayName("인증메일 전송 상태 조회 - 실패 (요청 없음)")
+  void testGetCertificationMailStatus_NotFound() {
+    // given
+    given(emailOutboxRepository.findFirstByMemberIdOrderByIdDesc("testUser"))
+        .willReturn(Optional.empty());
+
+    // when
+    NotFoundException exception = assertThrows(NotFoundException.class,
+        () -> emailOutboxService.getCertificationMailStatus("testUser"));
+
+    // then
+    assertThat(exception.getErrorCode()).isEqualTo(ResponseCode.MAIL_REQUEST_NOT_FOUND);
+  }
+
+  private EmailOutboxServiceImplement createService(int port) {
+    JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+    mailSender.setHost("localhost");
+    mailSender.setPort(port);
+
+    EmailOutboxServiceImplement service = new EmailOutboxServiceImplement(
+        emailOutboxRepository, new EmailProvider(mailSender), transactionTemplate
+    );
+    ReflectionTestUtils.setField(service, "batchSize", 50);
+    ReflectionTestUtils.setField(service, "maxAttempts", 3);
+    ReflectionTestUtils.setField(service, "backoffBaseMs", 1000L);
+    ReflectionTestUtils.setField(service, "leaseMs", 60000L);
+    ReflectionTestUtils.setField(service, "retentionDays", 7L);
+    return service;
+  }
+
+  private void givenTransaction() {
+    lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+        invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    lenient().doAnswer(invocation -> {
+      invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+      return null;
+    }).when(transactionTemplate).executeWithoutResult(any());
+  }
+
+  private EmailOutbox createOutbox(Long id, String email, int attempts) {
+    EmailOutbox outbox = EmailOutbox.builder()
+        .memberId("testUser")
+        .email(email)
+        .subject(EmailProvider.CERTIFICATION_SUBJECT)
+        .content("<h1>123456</h1>")
+        .status(EmailStatus.PENDING)
+        .attempts(attempts)
+        .nextAttemptAt(LocalDateTime.now())
+        .build();
+    ReflectionTestUtils.setField(outbox, "id", id);
+    return outbox;
+  }
+}
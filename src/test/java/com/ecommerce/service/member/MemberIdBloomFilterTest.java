@@ -0,0 +1,130 @@
+package com.ecommerce.service.member;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.ecommerce.repository.MemberRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class MemberIdBloomFilterTest {
+
+  @Mock
+  private MemberRepository memberRepository;
+
+  @Mock
+  private TransactionTemplate transactionTemplate;
+
+  @Mock
+  private StringRedisTemplate stringRedisTemplate;
+
+  @Mock
+  private RedisMessageListenerContainer redisMessageListenerContainer;
+
+  private MemberIdBloomFilter memberIdBloomFilter;
+
+  @BeforeEach
+  void setUp() {
+    memberIdBloomFilter = new MemberIdBloomFilter(memberRepository, transactionTemplate,
+        stringRedisTemplate, redisMessageListenerContainer, new SimpleMeterRegistry());
+    ReflectionTestUtils.setField(memberIdBloomFilter, "expectedInsertions", 1000L);
+    ReflectionTestUtils.setField(memberIdBloomFilter, "falsePositiveRate", 0.001);
+    ReflectionTestUtils.setField(memberIdBloomFilter, "rebuildStaleRatio", 0.1);
+    memberIdBloomFilter.init();
+
+    willAnswer(invocation -> {
+      invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+      return null;
+    }).given(transactionTemplate).executeWithoutResult(any());
+  }
+
+  @Test
+  @DisplayName("필터 생성 - 생성 전에는 항상 존재 가능, 생성 후에는 DB 의 ID 만 존재 가능")
+  void testRebuild_Success() {
+    // given
+    given(memberRepository.streamAllMemberIds()).willReturn(Stream.of("user1", "user2"));
+    boolean beforeReady = memberIdBloomFilter.mightContain("unknownUser");
+
+    // when
+    memberIdBloomFilter.onApplicationReady();
+
+    // then
+    assertThat(beforeReady).isTrue();
+    assertThat(memberIdBloomFilter.mightContain("user1")).isTrue();
+    assertThat(memberIdBloomFilter.mightContain("user2")).isTrue();
+    assertThat(memberIdBloomFilter.mightContain("unknownUser")).isFalse();
+  }
+
+  @Test
+  @DisplayName("필터 재생성 - 재생성 중 추가된 ID 는 새 필터에 다시 반영")
+  void testRebuild_ReplayPendingIds() {
+    // given
+    given(memberRepository.streamAllMemberIds())
+        .willReturn(Stream.of("user1"))
+        .willReturn(Stream.of("user1", "user2").peek(memberId -> {
+          // DB 스트리밍 도중 가입(다른 노드의 추가 메시지)
+          if (memberId.equals("user1")) {
+            memberIdBloomFilter.onMessage(added("newUser"), null);
+          }
+        }));
+    memberIdBloomFilter.onApplicationReady();
+
+    // 삭제 비율을 넘겨 재생성 대상으로 만듦
+    memberIdBloomFilter.onMessage(removed("user1"), null);
+
+    // when
+    memberIdBloomFilter.rebuildIfStale();
+
+    // then
+    assertThat(memberIdBloomFilter.mightContain("user2")).isTrue();
+    assertThat(memberIdBloomFilter.mightContain("newUser")).isTrue();
+  }
+
+  @Test
+  @DisplayName("필터 재생성 - 삭제 비율이 설정값 이하이면 재생성하지 않음")
+  void testRebuildIfStale_NotStale() {
+    // given
+    given(memberRepository.streamAllMemberIds())
+        .willReturn(Stream.of("user1", "user2", "user3", "user4", "user5",
+            "user6", "user7", "user8", "user9", "user10", "user11"));
+    memberIdBloomFilter.onApplicationReady();
+    memberIdBloomFilter.onMessage(removed("user1"), null);
+
+    // when
+    memberIdBloomFilter.rebuildIfStale();
+
+    // then
+    // 1 / 11 < 0.1 이므로 기존 필터 유지
+    verify(memberRepository, times(1)).streamAllMemberIds();
+  }
+
+  private static DefaultMessage added(String memberId) {
+    return new DefaultMessage("member-id:added".getBytes(StandardCharsets.UTF_8),
+        memberId.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static DefaultMessage removed(String memberId) {
+    return new DefaultMessage("member-id:removed".getBytes(StandardCharsets.UTF_8),
+        memberId.getBytes(StandardCharsets.UTF_8));
+  }
+
+}
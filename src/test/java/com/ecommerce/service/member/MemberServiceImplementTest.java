@@ -13,19 +13,24 @@ import com.ecommerce.dto.member.MemberDto;
 import com.ecommerce.dto.member.UpdateMemberDto;
 import com.ecommerce.entity.Member;
 import com.ecommerce.exception.MemberException;
+import com.ecommerce.provider.PasswordHashProvider;
 import com.ecommerce.repository.MemberRepository;
+import com.ecommerce.security.MemberPrincipal;
+import com.ecommerce.security.PrincipalCache;
 import com.ecommerce.service.auth.AuthService;
 import com.ecommerce.type.LoginType;
 import com.ecommerce.type.ResponseCode;
 import com.ecommerce.type.Role;
 import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
 
 @ExtendWith(MockitoExtension.class)
 class MemberServiceImplementTest {
@@ -37,11 +42,22 @@ class MemberServiceImplementTest {
   private AuthService authService;
 
   @Mock
-  private PasswordEncoder passwordEncoder;
+  private PasswordHashProvider passwordHashProvider;
+
+  @Mock
+  private PrincipalCache principalCache;
+
+  @Mock
+  private MemberIdBloomFilter memberIdBloomFilter;
 
   @InjectMocks
   private MemberServiceImplement memberServiceImplement;
 
+  @AfterEach
+  void clearSecurityContext() {
+    SecurityContextHolder.clearContext();
+  }
+
   @Test
   @DisplayName("멤버 정보 조회 - 성공")
   void testGetMemberDetails_Success() {
@@ -148,10 +164,12 @@ class MemberServiceImplementTest {
     // then
     verify(authService, times(1))
         .equalToMemberIdFromToken(eq("testUser"), eq("token"));
-    verify(passwordEncoder, times(1))
+    verify(passwordHashProvider, times(1))
         .encode(eq("updatePassword"));
     verify(memberRepository, times(1))
         .findByMemberId(eq("testUser"));
+    verify(principalCache, times(1))
+        .evict(eq("testUser"));
 
     assertThat(updateMember.getMemberId()).isEqualTo("testUser");
     assertThat(updateMember.getMemberName()).isEqualTo("test");
@@ -240,6 +258,10 @@ class MemberServiceImplementTest {
         .findByMemberId(eq("testUser"));
     verify(memberRepository, times(1))
         .delete(eq(member));
+    verify(principalCache, times(1))
+        .evict(eq("testUser"));
+    verify(memberIdBloomFilter, times(1))
+        .remove(eq("testUser"));
 
     assertThat(responseDto.getCode()).isEqualTo(ResponseCode.MEMBER_DELETE_SUCCESS);
   }
@@ -282,4 +304,33 @@ class MemberServiceImplementTest {
     assertThat(memberException.getErrorCode()).isEqualTo(ResponseCode.MEMBER_NOT_FOUND);
   }
 
-}
\ No newline at end of file
+  @Test
+  @DisplayName("Member Id 로 멤버 조회 - 성공 (인증된 사용자여도 캐시된 인증 정보가 아닌 영속 상태의 멤버 조회)")
+  void testGetMemberByMemberId_Success_AuthenticatedMember() {
+    // given
+    Member member = Member.builder()
+        .memberId("testUser")
+        .memberName("test")
+        .email("test@email.com")
+        .password("encodedPassword")
+        .role(Role.CUSTOMER)
+        .loginType(LoginType.APP)
+        .build();
+
+    MemberPrincipal principal = new MemberPrincipal(1L, "testUser", Role.CUSTOMER, 0L);
+    SecurityContextHolder.getContext().setAuthentication(
+        new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities())
+    );
+
+    given(memberRepository.findByMemberId(eq("testUser"))).willReturn(Optional.of(member));
+
+    // when
+    Member foundMember = memberServiceImplement.getMemberByMemberId("testUser");
+
+    // then
+    verify(memberRepository, times(1)).findByMemberId(eq("testUser"));
+
+    assertThat(foundMember).isSameAs(member);
+  }
+
+}
@@ -0,0 +1,166 @@
+package com.ecommerce.service.product;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ecommerce.config.ReplicaRoutingDataSource;
+import com.ecommerce.dto.product.ProductDto;
+import com.ecommerce.event.ProductChangedEvent;
+import com.ecommerce.event.ProductsChangedEvent;
+import com.ecommerce.type.ProductStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * 상품 상세 2단계 캐시 테스트 (Docker 가 없으면 건너뜀)
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@ExtendWith(MockitoExtension.class)
+class ProductDetailCacheTest {
+
+  private static final String DETAIL_KEY = "product:detail:1";
+
+  @Container
+  private static final GenericContainer<?> REDIS =
+      new GenericContainer<>(DockerImageName.parse("redis:7.2-alpine")).withExposedPorts(6379);
+
+  @Mock
+  private RedisMessageListenerContainer redisMessageListenerContainer;
+
+  @Mock
+  private DataSource primaryDataSource;
+
+  private LettuceConnectionFactory connectionFactory;
+
+  private StringRedisTemplate stringRedisTemplate;
+
+  private ProductDetailCache productDetailCache;
+
+  // 같은 Redis 를 사용하는 다른 노드
+  private ProductDetailCache otherNode;
+
+  @BeforeEach
+  void setUp() {
+    connectionFactory = new LettuceConnectionFactory(REDIS.getHost(), REDIS.getMappedPort(6379));
+    connectionFactory.afterPropertiesSet();
+    connectionFactory.start();
+
+    stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+    stringRedisTemplate.delete(stringRedisTemplate.keys("product:detail:*"));
+
+    productDetailCache = newNode();
+    otherNode = newNode();
+  }
+
+  @AfterEach
+  void tearDown() {
+    connectionFactory.destroy();
+  }
+
+  @Test
+  @DisplayName("상품 상세 조회 - 캐시 미스는 DB 조회 후 L2 에 저장, 이후에는 DB 조회 없음")
+  void testGet_LoadOnce() {
+    // given
+    AtomicInteger loads = new AtomicInteger();
+
+    // when
+    Optional<ProductDto.Response> first = productDetailCache.get(1L, () -> {
+      loads.incrementAndGet();
+      return Optional.of(product(10));
+    });
+    Optional<ProductDto.Response> second = productDetailCache.get(1L, () -> {
+      loads.incrementAndGet();
+      return Optional.of(product(20));
+    });
+
+    // then
+    assertThat(first).map(ProductDto.Response::getStockQuantity).contains(10);
+    assertThat(second).map(ProductDto.Response::getStockQuantity).contains(10);
+    assertThat(loads).hasValue(1);
+    assertThat(stringRedisTemplate.hasKey(DETAIL_KEY)).isTrue();
+  }
+
+  @Test
+  @DisplayName("상품 상세 조회 - DB 조회 중 변경이 커밋되면 이전 값을 L2 에 저장하지 않음")
+  void testGet_InvalidatedWhileLoading() {
+    // when
+    Optional<ProductDto.Response> stale = productDetailCache.get(1L, () -> {
+      // 이전 재고를 읽은 직후 다른 노드에서 변경이 커밋되어 캐시 무효화
+      otherNode.onProductChanged(new ProductChangedEvent(1L));
+      return Optional.of(product(10));
+    });
+
+    // then
+    assertThat(stale).isPresent();
+    assertThat(stringRedisTemplate.hasKey(DETAIL_KEY)).isFalse();
+
+    // 다음 조회는 변경된 값을 DB 에서 다시 읽어 저장
+    Optional<ProductDto.Response> fresh = otherNode.get(1L, () -> Optional.of(product(3)));
+    assertThat(fresh).map(ProductDto.Response::getStockQuantity).contains(3);
+    assertThat(stringRedisTemplate.hasKey(DETAIL_KEY)).isTrue();
+  }
+
+  @Test
+  @DisplayName("상품 일괄 변경 - L2 삭제와 버전 증가를 한 번에 처리")
+  void testOnProductsChanged() {
+    // given
+    productDetailCache.get(1L, () -> Optional.of(product(10)));
+    productDetailCache.get(2L, () -> Optional.of(product(10)));
+
+    // when
+    productDetailCache.onProductsChanged(new ProductsChangedEvent(List.of(1L, 2L)));
+
+    // then
+    assertThat(stringRedisTemplate.hasKey(DETAIL_KEY)).isFalse();
+    assertThat(stringRedisTemplate.hasKey("product:detail:2")).isFalse();
+    assertThat(stringRedisTemplate.opsForValue().get("product:detail:version:1")).isEqualTo("1");
+    assertThat(stringRedisTemplate.opsForValue().get("product:detail:version:2")).isEqualTo("1");
+    assertThat(stringRedisTemplate.getExpire("product:detail:version:1")).isPositive();
+  }
+
+  private ProductDetailCache newNode() {
+    // 복제본이 없는 라우팅 (primary 조회 여부는 ReplicaRoutingDataSourceTest 에서 확인)
+    ReplicaRoutingDataSource routingDataSource =
+        new ReplicaRoutingDataSource(primaryDataSource, Map.of(), Duration.ofSeconds(1), 1);
+    ProductDetailCache node = new ProductDetailCache(stringRedisTemplate,
+        redisMessageListenerContainer, new ObjectMapper().findAndRegisterModules(),
+        new SimpleMeterRegistry(), routingDataSource);
+    ReflectionTestUtils.setField(node, "l1MaximumSize", 100L);
+    ReflectionTestUtils.setField(node, "l1TtlSeconds", 60L);
+    ReflectionTestUtils.setField(node, "l2TtlSeconds", 600L);
+    node.init();
+    return node;
+  }
+
+  private static ProductDto.Response product(int stockQuantity) {
+    return ProductDto.Response.builder()
+        .id(1L)
+        .productName("상품")
+        .stockQuantity(stockQuantity)
+        .price(BigDecimal.valueOf(1000))
+        .status(ProductStatus.IN_STOCK)
+        .build();
+  }
+
+}
@@ -0,0 +1,197 @@
+package com.ecommerce.service.product;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willDoNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.ecommerce.dto.product.ProductDto;
+import com.ecommerce.entity.Member;
+import com.ecommerce.exception.MemberException;
+import com.ecommerce.repository.product.ProductBulkRepository;
+import com.ecommerce.service.auth.AuthService;
+import com.ecommerce.service.member.MemberService;
+import com.ecommerce.type.ExportFormat;
+import com.ecommerce.type.LoginType;
+import com.ecommerce.type.ProductStatus;
+import com.ecommerce.type.ResponseCode;
+import com.ecommerce.type.Role;
+import com.ecommerce.utils.ProductImportReader;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@ExtendWith(MockitoExtension.class)
+class ProductExportServiceImplementTest {
+
+  @Mock
+  private AuthService authService;
+
+  @Mock
+  private MemberService memberService;
+
+  @Mock
+  private ProductBulkRepository productBulkRepository;
+
+  private ProductExportServiceImplement productExportService;
+
+  private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+  private Member member;
+
+  @BeforeEach
+  void setUp() {
+    productExportService = new ProductExportServiceImplement(
+        authService, memberService, productBulkRepository, objectMapper
+    );
+
+    member = Member.builder()
+        .memberId("testUser")
+        .role(Role.SELLER)
+        .loginType(LoginType.APP)
+        .build();
+    ReflectionTestUtils.setField(member, "id", 1L);
+  }
+
+  @Test
+  @DisplayName("상품 내보내기 (CSV) - 성공 (레코드는 CRLF 로 구분, 값 안의 줄바꿈은 유지)")
+  void testExportProducts_Csv_Success() throws Exception {
+    // given
+    givenProducts();
+
+    // when
+    StreamingResponseBody body =
+        productExportService.exportProducts("testUser", "token", ExportFormat.CSV);
+    String exported = write(body);
+
+    // then
+    verify(productBulkRepository, times(1)).streamBySeller(eq(1L), eq("testUser"), any());
+
+    assertThat(exported).isEqualTo(
+        "id,productName,description,stockQuantity,price,status,rating,createdAt,updatedAt\r\n"
+            + "1,무선 키보드,\"설명, \"\"특가\"\"\",3,10000.00,IN_STOCK,4.50,2024-01-01T10:00,\r\n"
+            + "2,마우스,\"줄\n바꿈\",0,5000.00,NO_STOCK,0.00,2024-01-02T10:00,\r\n"
+    );
+  }
+
+  @Test
+  @DisplayName("상품 내보내기 (CSV) - 내보낸 파일을 일괄 등록으로 다시 읽으면 설명이 그대로 유지")
+  void testExportProducts_Csv_RoundTrip() throws Exception {
+    // given
+    givenProducts();
+
+    // when
+    StreamingResponseBody body =
+        productExportService.exportProducts("testUser", "token", ExportFormat.CSV);
+    List<ProductImportReader.Row> rows = new ArrayList<>();
+    try (ProductImportReader reader = ProductImportReader.of(
+        ProductImportReader.CSV, new StringReader(write(body)), objectMapper)) {
+      ProductImportReader.Row row;
+      while ((row = reader.next()) != null) {
+        rows.add(row);
+      }
+    }
+
+    // then
+    assertThat(rows).extracting(ProductImportReader.Row::getError).containsOnlyNulls();
+    assertThat(rows).extracting(ProductImportReader.Row::getLine).containsExactly(2L, 3L);
+    assertThat(rows).extracting(row -> row.getRequest().getDescription())
+        .containsExactly("설명, \"특가\"", "줄\n바꿈");
+  }
+
+  @Test
+  @DisplayName("상품 내보내기 (NDJSON) - 성공")
+  void testExportProducts_Ndjson_Success() throws Exception {
+    // given
+    givenProducts();
+
+    // when
+    StreamingResponseBody body =
+        productExportService.exportProducts("testUser", "token", ExportFormat.NDJSON);
+    String exported = write(body);
+    String[] lines = exported.split("\n");
+
+    // then
+    assertThat(exported).doesNotContain("\r");
+    assertThat(lines).hasSize(2);
+    assertThat(lines[0]).contains("\"productName\":\"무선 키보드\"", "\"seller\":\"testUser\"");
+    assertThat(lines[1]).contains("\"id\":2", "\"status\":\"NO_STOCK\"");
+  }
+
+  @Test
+  @DisplayName("상품 내보내기 - 실패 (토큰에 있는 멤버 정보와 불일치)")
+  void testExportProducts_Fail_MemberUnMatched() {
+    // given
+    doThrow(new MemberException(ResponseCode.MEMBER_UNMATCHED))
+        .when(authService).equalToMemberIdFromToken(eq("testUser"), eq("token"));
+
+    // when
+    MemberException memberException = assertThrows(MemberException.class,
+        () -> productExportService.exportProducts("testUser", "token", ExportFormat.CSV));
+
+    // then
+    verify(productBulkRepository, times(0)).streamBySeller(any(), any(), any());
+
+    assertThat(memberException.getErrorCode()).isEqualTo(ResponseCode.MEMBER_UNMATCHED);
+  }
+
+  private void givenProducts() {
+    willDoNothing().given(authService)
+        .equalToMemberIdFromToken(eq("testUser"), eq("token"));
+    given(memberService.getMemberByMemberId(eq("testUser"))).willReturn(member);
+
+    willAnswer(invocation -> {
+      Consumer<ProductDto.Response> consumer = invocation.getArgument(2);
+      consumer.accept(ProductDto.Response.builder()
+          .id(1L)
+          .productName("무선 키보드")
+          .description("설명, \"특가\"")
+          .stockQuantity(3)
+          .price(new BigDecimal("10000.00"))
+          .status(ProductStatus.IN_STOCK)
+          .rating(new BigDecimal("4.50"))
+          .seller("testUser")
+          .createdAt(LocalDateTime.of(2024, 1, 1, 10, 0))
+          .build());
+      consumer.accept(ProductDto.Response.builder()
+          .id(2L)
+          .productName("마우스")
+          .description("줄\n바꿈")
+          .stockQuantity(0)
+          .price(new BigDecimal("5000.00"))
+          .status(ProductStatus.NO_STOCK)
+          .rating(new BigDecimal("0.00"))
+          .seller("testUser")
+          .createdAt(LocalDateTime.of(2024, 1, 2, 10, 0))
+          .build());
+      return null;
+    }).given(productBulkRepository).streamBySeller(eq(1L), eq("testUser"), any());
+  }
+
+  private static String write(StreamingResponseBody body) throws Exception {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    body.writeTo(outputStream);
+    return outputStream.toString(StandardCharsets.UTF_8);
+  }
+
+}
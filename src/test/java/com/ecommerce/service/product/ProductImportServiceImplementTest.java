@@ -0,0 +1,207 @@
+package com.ecommerce.service.product;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willDoNothing;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.ecommerce.dto.product.ProductDto;
+import com.ecommerce.dto.product.ProductImportDto;
+import com.ecommerce.entity.Member;
+import com.ecommerce.event.ProductsChangedEvent;
+import com.ecommerce.exception.ProductException;
+import com.ecommerce.repository.product.ProductBulkRepository;
+import com.ecommerce.service.auth.AuthService;
+import com.ecommerce.service.member.MemberService;
+import com.ecommerce.type.LoginType;
+import com.ecommerce.type.ProductStatus;
+import com.ecommerce.type.ResponseCode;
+import com.ecommerce.type.Role;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class ProductImportServiceImplementTest {
+
+  @Mock
+  private AuthService authService;
+
+  @Mock
+  private MemberService memberService;
+
+  @Mock
+  private ProductBulkRepository productBulkRepository;
+
+  @Mock
+  private TransactionTemplate transactionTemplate;
+
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
+  private ProductImportServiceImplement productImportService;
+
+  private Member member;
+
+  @BeforeEach
+  void setUp() {
+    productImportService = new ProductImportServiceImplement(
+        authService, memberService, productBulkRepository, transactionTemplate,
+        eventPublisher, new ObjectMapper(),
+        Validation.buildDefaultValidatorFactory().getValidator()
+    );
+    ReflectionTestUtils.setField(productImportService, "batchSize", 2);
+    ReflectionTestUtils.setField(productImportService, "maxRows", 100L);
+    ReflectionTestUtils.setField(productImportService, "maxErrors", 10);
+
+    member = Member.builder()
+        .memberId("testUser")
+        .memberName("test")
+        .email("test@email.com")
+        .password("encodedPassword")
+        .role(Role.SELLER)
+        .loginType(LoginType.APP)
+        .build();
+    ReflectionTestUtils.setField(member, "id", 1L);
+  }
+
+  @Test
+  @DisplayName("상품 일괄 등록 (NDJSON) - 성공 (잘못된 행은 오류 목록으로 반환)")
+  void testImportProducts_Ndjson_Success() {
+    // given
+    String body = """
+        {"productName":"상품1","description":"설명1","stockQuantity":3,"price":1000}
+        {"productName":"상품2","description":"설명2","stockQuantity":0,"price":2000}
+
+        {"productName":"상품3","description":"설명3","stockQuantity":5,"price":3000}
+        {"productName":"상품4",
+        {"productName":"상품5","description":"설명5","stockQuantity":1,"price":5000}
+        """;
+
+    givenAuthorized();
+    givenTransaction();
+    given(productBulkRepository.insertAll(eq(1L), anyList()))
+        .willReturn(List.of(1L, 2L))
+        .willReturn(List.of(3L));
+
+    // when
+    ProductImportDto.Response response = productImportService.importProducts(
+        "testUser", "token", "application/x-ndjson", stream(body)
+    );
+
+    // then
+    ArgumentCaptor<List<ProductDto.Request>> captor = ArgumentCaptor.forClass(List.class);
+    verify(productBulkRepository, times(2)).insertAll(eq(1L), captor.capture());
+    verify(eventPublisher, times(2)).publishEvent(any(ProductsChangedEvent.class));
+
+    assertThat(captor.getAllValues().get(0)).extracting(ProductDto.Request::getProductName)
+        .containsExactly("상품1", "상품3");
+    assertThat(captor.getAllValues().get(0).get(0).getStatus())
+        .isEqualTo(ProductStatus.IN_STOCK);
+
+    assertThat(response.getTotalRows()).isEqualTo(5);
+    assertThat(response.getImportedRows()).isEqualTo(3);
+    assertThat(response.getFailedRows()).isEqualTo(2);
+    assertThat(response.getErrors()).extracting(ProductImportDto.RowError::getLine)
+        .containsExactly(2L, 5L);
+    assertThat(response.getErrors().get(0).getMessage()).contains("stockQuantity");
+  }
+
+  @Test
+  @DisplayName("상품 일괄 등록 (CSV) - 성공 (배치 저장 실패시 행 단위로 재시도)")
+  void testImportProducts_Csv_RetryRowByRow() {
+    // given
+    String body = """
+        productName,description,stockQuantity,price,status
+        "키보드, 무선","설명 \"\"특가\"\"",3,1000,IN_STOCK
+        마우스,설명,2,abc,IN_STOCK
+        모니터,설명,1,3000,NO_STOCK
+        """;
+
+    givenAuthorized();
+    givenTransaction();
+    given(productBulkRepository.insertAll(eq(1L), anyList()))
+        .willThrow(new DataIntegrityViolationException("duplicate"))
+        .willReturn(List.of(1L))
+        .willThrow(new DataIntegrityViolationException("duplicate"));
+
+    // when
+    ProductImportDto.Response response = productImportService.importProducts(
+        "testUser", "token", "text/csv; charset=UTF-8", stream(body)
+    );
+
+    // then
+    ArgumentCaptor<List<ProductDto.Request>> captor = ArgumentCaptor.forClass(List.class);
+    verify(productBulkRepository, times(3)).insertAll(eq(1L), captor.capture());
+
+    ProductDto.Request first = captor.getAllValues().get(1).get(0);
+    assertThat(first.getProductName()).isEqualTo("키보드, 무선");
+    assertThat(first.getDescription()).isEqualTo("설명 \"특가\"");
+    assertThat(first.getPrice()).isEqualByComparingTo(BigDecimal.valueOf(1000));
+
+    assertThat(response.getTotalRows()).isEqualTo(3);
+    assertThat(response.getImportedRows()).isEqualTo(1);
+    assertThat(response.getFailedRows()).isEqualTo(2);
+    assertThat(response.getErrors()).extracting(ProductImportDto.RowError::getLine)
+        .containsExactly(3L, 4L);
+  }
+
+  @Test
+  @DisplayName("상품 일괄 등록 - 실패 (지원하지 않는 형식)")
+  void testImportProducts_Fail_UnsupportedFormat() {
+    // given
+    givenAuthorized();
+
+    // when
+    ProductException productException = assertThrows(ProductException.class,
+        () -> productImportService.importProducts(
+            "testUser", "token", "application/json", stream("[]")
+        ));
+
+    // then
+    verify(productBulkRepository, times(0)).insertAll(any(), anyList());
+
+    assertThat(productException.getErrorCode())
+        .isEqualTo(ResponseCode.PRODUCT_IMPORT_UNSUPPORTED_FORMAT);
+  }
+
+  private void givenAuthorized() {
+    willDoNothing().given(authService)
+        .equalToMemberIdFromToken(eq("testUser"), eq("token"));
+    given(memberService.getMemberByMemberId(eq("testUser"))).willReturn(member);
+  }
+
+  private void givenTransaction() {
+    willAnswer(invocation -> {
+      invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+      return null;
+    }).given(transactionTemplate).executeWithoutResult(any());
+  }
+
+  private static ByteArrayInputStream stream(String body) {
+    return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+  }
+
+}
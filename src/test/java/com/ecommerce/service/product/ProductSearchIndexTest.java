@@ -0,0 +1,135 @@
+package com.ecommerce.service.product;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+
+import com.ecommerce.dto.product.ProductSearchDto;
+import com.ecommerce.event.ProductChangedEvent;
+import com.ecommerce.event.ProductsChangedEvent;
+import com.ecommerce.repository.product.ProductRepository;
+import com.ecommerce.type.ProductStatus;
+import com.ecommerce.type.SortType;
+import com.ecommerce.utils.BitmapFilterIndex;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class ProductSearchIndexTest {
+
+  @Mock
+  private ProductRepository productRepository;
+
+  @Mock
+  private TransactionTemplate transactionTemplate;
+
+  @Mock
+  private StringRedisTemplate stringRedisTemplate;
+
+  @Mock
+  private RedisMessageListenerContainer redisMessageListenerContainer;
+
+  private ProductSearchIndex productSearchIndex;
+
+  private final Pageable pageable = PageRequest.of(0, 10);
+
+  private final BitmapFilterIndex.Condition all =
+      new BitmapFilterIndex.Condition(null, null, null, null);
+
+  @BeforeEach
+  void setUp() {
+    productSearchIndex = new ProductSearchIndex(productRepository, transactionTemplate,
+        stringRedisTemplate, redisMessageListenerContainer, new SimpleMeterRegistry());
+    ReflectionTestUtils.setField(productSearchIndex, "priceBoundaries",
+        new BigDecimal[]{BigDecimal.valueOf(10000)});
+    productSearchIndex.init();
+
+    willAnswer(invocation -> {
+      invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+      return null;
+    }).given(transactionTemplate).executeWithoutResult(any());
+    given(productRepository.streamAllSearchDto())
+        .willReturn(Stream.of(product(1L, "무선 이어폰"), product(2L, "유선 이어폰")));
+
+    productSearchIndex.rebuild();
+  }
+
+  @Test
+  @DisplayName("일괄 변경 반영 - DB 에서 조회되지 않은 상품은 색인에서 제거")
+  void testOnProductsChanged_RemoveMissing() {
+    // given
+    given(productRepository.findSearchDtosByIdIn(anyList()))
+        .willReturn(List.of(product(1L, "무선 헤드폰")));
+
+    // when
+    productSearchIndex.onProductsChanged(new ProductsChangedEvent(List.of(1L, 2L)));
+
+    // then
+    assertThat(productSearchIndex.search(
+        "이어폰", null, ProductStatus.NONE, SortType.RELEVANCE, pageable).getContent()).isEmpty();
+    assertThat(productSearchIndex.search(
+        "헤드폰", null, ProductStatus.NONE, SortType.RELEVANCE, pageable).getContent())
+        .containsExactly(1L);
+    assertThat(productSearchIndex.filter(all, SortType.LATEST, pageable).getContent())
+        .containsExactly(1L);
+  }
+
+  @Test
+  @DisplayName("단건 변경 반영 - DB 에서 조회되지 않은 상품은 색인에서 제거")
+  void testOnProductChanged_RemoveMissing() {
+    // given
+    given(productRepository.findSearchDtoById(2L)).willReturn(Optional.empty());
+
+    // when
+    productSearchIndex.onProductChanged(new ProductChangedEvent(2L));
+
+    // then
+    assertThat(productSearchIndex.search(
+        "이어폰", null, ProductStatus.NONE, SortType.RELEVANCE, pageable).getContent())
+        .containsExactly(1L);
+    assertThat(productSearchIndex.filter(all, SortType.LATEST, pageable).getTotalElements())
+        .isEqualTo(1L);
+  }
+
+  @Test
+  @DisplayName("전체 재생성 - DB 에 없는 상품은 새 색인에 포함되지 않음")
+  void testRebuild_DropMissing() {
+    // given
+    given(productRepository.streamAllSearchDto())
+        .willReturn(Stream.of(product(2L, "유선 이어폰")));
+
+    // when
+    productSearchIndex.rebuild();
+
+    // then
+    assertThat(productSearchIndex.search(
+        "이어폰", null, ProductStatus.NONE, SortType.RELEVANCE, pageable).getContent())
+        .containsExactly(2L);
+  }
+
+  private static ProductSearchDto product(Long id, String productName) {
+    return new ProductSearchDto(id, productName, "설명", ProductStatus.IN_STOCK, "seller",
+        BigDecimal.valueOf(5000), BigDecimal.ZERO, LocalDateTime.now());
+  }
+
+}
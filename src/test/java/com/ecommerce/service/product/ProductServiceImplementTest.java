@@ -3,6 +3,7 @@ package com.ecommerce.service.product;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willDoNothing;
@@ -10,14 +11,23 @@ import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import com.ecommerce.dto.CursorPageDto;
 import com.ecommerce.dto.ResponseDto;
+import com.ecommerce.dto.SliceDto;
+import com.ecommerce.dto.product.BulkUpdateProductDto;
 import com.ecommerce.dto.product.ProductDto;
+import com.ecommerce.dto.product.ProductFilterDto;
+import com.ecommerce.dto.product.ProductStateDto;
 import com.ecommerce.dto.product.UpdateProductDto;
 import com.ecommerce.entity.Member;
 import com.ecommerce.entity.Product;
+import com.ecommerce.event.ProductsChangedEvent;
+import com.ecommerce.exception.CursorException;
 import com.ecommerce.exception.MemberException;
 import com.ecommerce.exception.ProductException;
-import com.ecommerce.repository.ProductRepository;
+import com.ecommerce.exception.ServerBusyException;
+import com.ecommerce.repository.product.ProductBulkRepository;
+import com.ecommerce.repository.product.ProductRepository;
 import com.ecommerce.service.auth.AuthService;
 import com.ecommerce.service.member.MemberService;
 import com.ecommerce.type.LoginType;
@@ -25,9 +35,13 @@ import com.ecommerce.type.ProductStatus;
 import com.ecommerce.type.ResponseCode;
 import com.ecommerce.type.Role;
 import com.ecommerce.type.SortType;
+import com.ecommerce.utils.BitmapFilterIndex;
+import com.ecommerce.utils.KeysetCursor;
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Supplier;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -35,12 +49,15 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
+import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
 class ProductServiceImplementTest {
@@ -56,6 +73,24 @@ class ProductServiceImplementTest {
   @Mock
   private ProductRepository productRepository;
 
+  @Mock
+  private ProductBulkRepository productBulkRepository;
+
+  @Mock
+  private ProductSearchIndex productSearchIndex;
+
+  @Mock
+  private ProductCountCache productCountCache;
+
+  @Mock
+  private ProductDetailCache productDetailCache;
+
+  @Mock
+  private CatalogPageCache catalogPageCache;
+
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
   @InjectMocks
   private ProductServiceImplement productServiceImplement;
 
@@ -247,11 +282,13 @@ class ProductServiceImplementTest {
             .build()
     );
 
-    Page<Product> products = new PageImpl<>(mockProducts);
+    Page<ProductDto.Response> products = new PageImpl<>(
+        mockProducts.stream().map(ProductDto.Response::fromEntity).toList()
+    );
 
     given(
-        productRepository.findByProductNameContaining(
-            eq("testProductName"), eq(pageable)
+        productRepository.findResponses(
+            eq(null), eq("testProductName"), eq(ProductStatus.NONE), eq(pageable)
         )
     ).willReturn(products);
 
@@ -262,8 +299,8 @@ class ProductServiceImplementTest {
 
     // then
     verify(productRepository, times(1))
-        .findByProductNameContaining(
-            eq("testProductName"), eq(pageable)
+        .findResponses(
+            eq(null), eq("testProductName"), eq(ProductStatus.NONE), eq(pageable)
         );
 
     assertThat(productList).isNotNull();
@@ -336,11 +373,13 @@ class ProductServiceImplementTest {
             .build()
     );
 
-    Page<Product> products = new PageImpl<>(mockProducts);
+    Page<ProductDto.Response> products = new PageImpl<>(
+        mockProducts.stream().map(ProductDto.Response::fromEntity).toList()
+    );
 
     given(
-        productRepository.findByProductNameContainingAndStatus(
-            eq("testProductName"), eq(ProductStatus.NO_STOCK), eq(pageable)
+        productRepository.findResponses(
+            eq(null), eq("testProductName"), eq(ProductStatus.NO_STOCK), eq(pageable)
         )
     ).willReturn(products);
 
@@ -351,8 +390,8 @@ class ProductServiceImplementTest {
 
     // then
     verify(productRepository, times(1))
-        .findByProductNameContainingAndStatus(
-            eq("testProductName"), eq(ProductStatus.NO_STOCK), eq(pageable)
+        .findResponses(
+            eq(null), eq("testProductName"), eq(ProductStatus.NO_STOCK), eq(pageable)
         );
 
     assertThat(productList).isNotNull();
@@ -369,11 +408,13 @@ class ProductServiceImplementTest {
 
     List<Product> mockProducts = List.of();
 
-    Page<Product> products = new PageImpl<>(mockProducts);
+    Page<ProductDto.Response> products = new PageImpl<>(
+        mockProducts.stream().map(ProductDto.Response::fromEntity).toList()
+    );
 
     given(
-        productRepository.findByProductNameContainingAndStatus(
-            eq("aaa"), eq(ProductStatus.NO_STOCK), eq(pageable)
+        productRepository.findResponses(
+            eq(null), eq("aaa"), eq(ProductStatus.NO_STOCK), eq(pageable)
         )
     ).willReturn(products);
 
@@ -384,14 +425,307 @@ class ProductServiceImplementTest {
 
     // then
     verify(productRepository, times(1))
-        .findByProductNameContainingAndStatus(
-            eq("aaa"), eq(ProductStatus.NO_STOCK), eq(pageable)
+        .findResponses(
+            eq(null), eq("aaa"), eq(ProductStatus.NO_STOCK), eq(pageable)
         );
 
     assertThat(productList).isNotNull();
     assertThat(productList.getSize()).isEqualTo(0);
   }
 
+  @Test
+  @DisplayName("전체 상품 목록 조회 - 성공 (검색 색인 사용)")
+  void testGetProductList_Success_SearchIndex() {
+    // given
+    Pageable pageable = PageRequest.of(0, TEST_PRODUCT_PAGE_SIZE);
+
+    Member member = Member.builder()
+        .memberId("testUser")
+        .memberName("test")
+        .email("test@email.com")
+        .password("encodedPassword")
+        .role(Role.SELLER)
+        .loginType(LoginType.APP)
+        .build();
+
+    Product product1 = Product.builder()
+        .productName("무선 키보드")
+        .status(ProductStatus.IN_STOCK)
+        .price(BigDecimal.valueOf(10000))
+        .rating(BigDecimal.ZERO)
+        .member(member)
+        .build();
+    ReflectionTestUtils.setField(product1, "id", 1L);
+
+    Product product2 = Product.builder()
+        .productName("기계식 키보드")
+        .status(ProductStatus.IN_STOCK)
+        .price(BigDecimal.valueOf(20000))
+        .rating(BigDecimal.ZERO)
+        .member(member)
+        .build();
+    ReflectionTestUtils.setField(product2, "id", 2L);
+
+    given(productSearchIndex.isReady()).willReturn(true);
+    given(productSearchIndex.search(
+        eq("키보드"), eq(null), eq(ProductStatus.NONE), eq(SortType.RELEVANCE), eq(pageable)
+    )).willReturn(new PageImpl<>(List.of(2L, 1L), pageable, 2));
+    given(productRepository.findResponsesByIdIn(List.of(2L, 1L)))
+        .willReturn(List.of(
+            ProductDto.Response.fromEntity(product1), ProductDto.Response.fromEntity(product2)
+        ));
+
+    // when
+    Page<ProductDto.Response> productList =
+        productServiceImplement
+            .getProductList(1, "키보드", ProductStatus.NONE, SortType.RELEVANCE);
+
+    // then
+    verify(productRepository, times(0)).findResponses(any(), any(), any(), any());
+
+    assertThat(productList.getTotalElements()).isEqualTo(2);
+    assertThat(productList.getContent().get(0).getProductName()).isEqualTo("기계식 키보드");
+    assertThat(productList.getContent().get(1).getProductName()).isEqualTo("무선 키보드");
+  }
+
+  @Test
+  @DisplayName("전체 상품 목록 JSON 조회 - 성공 (카탈로그 캐시 적중)")
+  void testGetProductListJson_Success_CatalogCacheHit() {
+    // given
+    byte[] cachedPage = "{\"content\":[]}".getBytes();
+
+    given(catalogPageCache.isCacheable(1, "", SortType.LATEST)).willReturn(true);
+    given(catalogPageCache.get(eq(ProductStatus.NONE), eq(SortType.LATEST), eq(1), any()))
+        .willReturn(cachedPage);
+
+    // when
+    byte[] productList =
+        productServiceImplement.getProductListJson(1, "", ProductStatus.NONE, SortType.LATEST);
+
+    // then
+    verify(productRepository, times(0)).findResponses(any(), any(), any(), any());
+
+    assertThat(productList).isEqualTo(cachedPage);
+  }
+
+  @Test
+  @DisplayName("전체 상품 목록 JSON 조회 - 성공 (캐시 대상 아님)")
+  void testGetProductListJson_Success_NotCacheable() {
+    // given
+    Pageable pageable = PageRequest.of(0, TEST_PRODUCT_PAGE_SIZE,
+        Sort.by(Direction.ASC, "price"));
+    Page<ProductDto.Response> products = new PageImpl<>(List.of(), pageable, 0);
+    byte[] serializedPage = "{\"content\":[]}".getBytes();
+
+    given(catalogPageCache.isCacheable(1, "", SortType.LOW_PRICE)).willReturn(false);
+    given(productRepository.findResponses(
+        eq(null), eq(""), eq(ProductStatus.NONE), eq(pageable)
+    )).willReturn(products);
+    given(catalogPageCache.serialize(products)).willReturn(serializedPage);
+
+    // when
+    byte[] productList =
+        productServiceImplement.getProductListJson(1, "", ProductStatus.NONE, SortType.LOW_PRICE);
+
+    // then
+    verify(catalogPageCache, times(0)).get(any(), any(), anyInt(), any());
+
+    assertThat(productList).isEqualTo(serializedPage);
+  }
+
+  @Test
+  @DisplayName("상품 필터 조회 - 성공 (비트맵 색인 + 페이지 상품만 DB 조회)")
+  void testGetProductListByFilter_Success() {
+    // given
+    Pageable pageable = PageRequest.of(0, TEST_PRODUCT_PAGE_SIZE);
+
+    given(productSearchIndex.isReady()).willReturn(true);
+    given(productSearchIndex.filter(any(), eq(SortType.HIGH_RATING), eq(pageable)))
+        .willReturn(new PageImpl<>(List.of(7L, 3L), pageable, 2));
+    given(productSearchIndex.facets(any())).willReturn(new BitmapFilterIndex.Facets(
+        Map.of(ProductStatus.IN_STOCK, 2L, ProductStatus.NO_STOCK, 1L),
+        List.of(0L, 2L, 0L),
+        List.of(0L, 0L, 0L, 1L, 1L)
+    ));
+    given(productSearchIndex.getPriceBoundaries())
+        .willReturn(new BigDecimal[]{BigDecimal.valueOf(10000), BigDecimal.valueOf(30000)});
+    given(productRepository.findResponsesByIdIn(List.of(7L, 3L))).willReturn(List.of(
+        ProductDto.Response.builder().id(3L).productName("상품3").build(),
+        ProductDto.Response.builder().id(7L).productName("상품7").build()
+    ));
+
+    ArgumentCaptor<BitmapFilterIndex.Condition> captor =
+        ArgumentCaptor.forClass(BitmapFilterIndex.Condition.class);
+
+    // when
+    ProductFilterDto.Response response = productServiceImplement.getProductListByFilter(
+        1, List.of(ProductStatus.IN_STOCK), "", List.of(1), null, SortType.HIGH_RATING
+    );
+
+    // then
+    verify(productSearchIndex, times(1)).filter(captor.capture(), any(), any());
+    verify(productRepository, times(0)).findResponses(any(), any(), any(), any());
+
+    assertThat(captor.getValue().getSeller()).isNull();
+    assertThat(captor.getValue().getPriceBands()).containsExactly(1);
+
+    assertThat(response.getTotalElements()).isEqualTo(2);
+    assertThat(response.getContent()).extracting(ProductDto.Response::getId)
+        .containsExactly(7L, 3L);
+    assertThat(response.getFacets().getPriceBands().get(1).getFrom())
+        .isEqualTo(BigDecimal.valueOf(10000));
+    assertThat(response.getFacets().getPriceBands().get(2).getTo()).isNull();
+    assertThat(response.getFacets().getPriceBands().get(1).getCount()).isEqualTo(2L);
+    assertThat(response.getFacets().getRatingBands().get(4).getTo()).isNull();
+  }
+
+  @Test
+  @DisplayName("상품 필터 조회 - 실패 (색인 준비 전)")
+  void testGetProductListByFilter_Fail_IndexNotReady() {
+    // given
+    given(productSearchIndex.isReady()).willReturn(false);
+
+    // when
+    ServerBusyException serverBusyException = assertThrows(ServerBusyException.class,
+        () -> productServiceImplement.getProductListByFilter(
+            1, null, null, null, null, SortType.LATEST
+        ));
+
+    // then
+    verify(productSearchIndex, times(0)).filter(any(), any(), any());
+
+    assertThat(serverBusyException.getErrorCode())
+        .isEqualTo(ResponseCode.PRODUCT_INDEX_NOT_READY);
+  }
+
+  @Test
+  @DisplayName("전체 상품 목록 Slice 조회 - 성공 (캐시된 전체 개수 포함)")
+  void testGetProductSlice_Success_WithTotal() {
+    // given
+    Sort sort = Sort.by(Direction.DESC, "createdAt");
+    Pageable pageable = PageRequest.of(0, TEST_PRODUCT_PAGE_SIZE, sort);
+
+    Member member = Member.builder()
+        .memberId("testUser")
+        .memberName("test")
+        .email("test@email.com")
+        .password("encodedPassword")
+        .role(Role.SELLER)
+        .loginType(LoginType.APP)
+        .build();
+
+    Product product = Product.builder()
+        .productName("testProductName")
+        .status(ProductStatus.IN_STOCK)
+        .price(BigDecimal.valueOf(10000))
+        .rating(BigDecimal.ZERO)
+        .member(member)
+        .build();
+
+    given(productRepository.findResponseSlice(
+        eq(null), eq(""), eq(ProductStatus.NONE), eq(pageable)
+    )).willReturn(new SliceImpl<>(List.of(ProductDto.Response.fromEntity(product)), pageable, true));
+    given(productCountCache.getCount(eq(null), eq(ProductStatus.NONE), eq(""), any()))
+        .willAnswer(invocation -> invocation.<Supplier<Long>>getArgument(3).get());
+    given(productRepository.countProducts(eq(null), eq(""), eq(ProductStatus.NONE)))
+        .willReturn(42L);
+
+    // when
+    SliceDto<ProductDto.Response> productSlice = productServiceImplement
+        .getProductSlice(1, "", ProductStatus.NONE, SortType.LATEST, true);
+
+    // then
+    verify(productRepository, times(0)).findResponses(any(), any(), any(), any());
+
+    assertThat(productSlice.getContent().size()).isEqualTo(1);
+    assertThat(productSlice.getPage()).isEqualTo(1);
+    assertThat(productSlice.isHasNext()).isTrue();
+    assertThat(productSlice.getTotalElements()).isEqualTo(42L);
+  }
+
+  @Test
+  @DisplayName("전체 상품 목록 Slice 조회 - 성공 (전체 개수 조회 안함)")
+  void testGetProductSlice_Success_WithoutTotal() {
+    // given
+    Sort sort = Sort.by(Direction.ASC, "price");
+    Pageable pageable = PageRequest.of(1, TEST_PRODUCT_PAGE_SIZE, sort);
+
+    given(productRepository.findResponseSlice(
+        eq(null), eq("test"), eq(ProductStatus.IN_STOCK), eq(pageable)
+    )).willReturn(new SliceImpl<>(List.of(), pageable, false));
+
+    // when
+    SliceDto<ProductDto.Response> productSlice = productServiceImplement
+        .getProductSlice(2, " test ", ProductStatus.IN_STOCK, SortType.LOW_PRICE, false);
+
+    // then
+    verify(productCountCache, times(0)).getCount(any(), any(), any(), any());
+
+    assertThat(productSlice.getPage()).isEqualTo(2);
+    assertThat(productSlice.isHasNext()).isFalse();
+    assertThat(productSlice.getTotalElements()).isNull();
+  }
+
+  @Test
+  @DisplayName("전체 상품 목록 커서 조회 - 성공 (마지막 페이지)")
+  void testGetProductListByCursor_Success_LastPage() {
+    // given
+    String cursor = KeysetCursor.encode(SortType.LOW_PRICE, BigDecimal.valueOf(10000), 7L);
+
+    Member member = Member.builder()
+        .memberId("testUser")
+        .memberName("test")
+        .email("test@email.com")
+        .password("encodedPassword")
+        .role(Role.SELLER)
+        .loginType(LoginType.APP)
+        .build();
+
+    Product product = Product.builder()
+        .productName("testProductName")
+        .status(ProductStatus.IN_STOCK)
+        .price(BigDecimal.valueOf(20000))
+        .rating(BigDecimal.ZERO)
+        .member(member)
+        .build();
+    ReflectionTestUtils.setField(product, "id", 8L);
+
+    ArgumentCaptor<KeysetCursor> cursorCaptor = ArgumentCaptor.forClass(KeysetCursor.class);
+
+    given(productRepository.findResponsesByCursor(
+        eq(null), eq(""), eq(ProductStatus.NONE), eq(SortType.LOW_PRICE),
+        cursorCaptor.capture(), eq(TEST_PRODUCT_PAGE_SIZE + 1)
+    )).willReturn(List.of(ProductDto.Response.fromEntity(product)));
+
+    // when
+    CursorPageDto<ProductDto.Response> productList = productServiceImplement
+        .getProductListByCursor(cursor, "", ProductStatus.NONE, SortType.LOW_PRICE);
+
+    // then
+    assertThat(cursorCaptor.getValue().getId()).isEqualTo(7L);
+    assertThat(cursorCaptor.getValue().getDecimalValue())
+        .isEqualByComparingTo(BigDecimal.valueOf(10000));
+
+    assertThat(productList.getContent().size()).isEqualTo(1);
+    assertThat(productList.isHasNext()).isFalse();
+    assertThat(productList.getNextCursor()).isNull();
+  }
+
+  @Test
+  @DisplayName("전체 상품 목록 커서 조회 - 실패 (정렬 기준이 다른 커서)")
+  void testGetProductListByCursor_Fail_InvalidCursor() {
+    // given
+    String cursor = KeysetCursor.encode(SortType.LOW_PRICE, BigDecimal.valueOf(10000), 7L);
+
+    // when
+    CursorException exception = assertThrows(CursorException.class,
+        () -> productServiceImplement
+            .getProductListByCursor(cursor, "", ProductStatus.NONE, SortType.HIGH_RATING));
+
+    // then
+    assertThat(exception.getErrorCode()).isEqualTo(ResponseCode.INVALID_CURSOR);
+  }
+
   @Test
   @DisplayName("특정 판매자 상품 목록 조회 - 성공 (상품 상태 X)")
   void testGetProductListByMemberId_Success_ProductStatusIsNull() {
@@ -458,12 +792,14 @@ class ProductServiceImplementTest {
             .build()
     );
 
-    Page<Product> products = new PageImpl<>(mockProducts);
+    Page<ProductDto.Response> products = new PageImpl<>(
+        mockProducts.stream().map(ProductDto.Response::fromEntity).toList()
+    );
 
     given(memberService.getMemberByMemberId(eq("testUser"))).willReturn(member);
     given(
-        productRepository.findByMemberAndProductNameContaining(
-            eq(member), eq("testProductName"), eq(pageable)
+        productRepository.findResponses(
+            eq(member.getId()), eq("testProductName"), eq(ProductStatus.NONE), eq(pageable)
         )
     ).willReturn(products);
 
@@ -478,8 +814,8 @@ class ProductServiceImplementTest {
     verify(memberService, times(1))
         .getMemberByMemberId(eq("testUser"));
     verify(productRepository, times(1))
-        .findByMemberAndProductNameContaining(
-            eq(member), eq("testProductName"), eq(pageable)
+        .findResponses(
+            eq(member.getId()), eq("testProductName"), eq(ProductStatus.NONE), eq(pageable)
         );
 
     assertThat(productList).isNotNull();
@@ -555,12 +891,14 @@ class ProductServiceImplementTest {
             .build()
     );
 
-    Page<Product> products = new PageImpl<>(mockProducts);
+    Page<ProductDto.Response> products = new PageImpl<>(
+        mockProducts.stream().map(ProductDto.Response::fromEntity).toList()
+    );
 
     given(memberService.getMemberByMemberId(eq("testUser"))).willReturn(member);
     given(
-        productRepository.findByMemberAndProductNameContainingAndStatus(
-            eq(member), eq("testProductName"), eq(ProductStatus.NO_STOCK), eq(pageable)
+        productRepository.findResponses(
+            eq(member.getId()), eq("testProductName"), eq(ProductStatus.NO_STOCK), eq(pageable)
         )
     ).willReturn(products);
 
@@ -575,8 +913,8 @@ class ProductServiceImplementTest {
     verify(memberService, times(1))
         .getMemberByMemberId(eq("testUser"));
     verify(productRepository, times(1))
-        .findByMemberAndProductNameContainingAndStatus(
-            eq(member), eq("testProductName"), eq(ProductStatus.NO_STOCK), eq(pageable)
+        .findResponses(
+            eq(member.getId()), eq("testProductName"), eq(ProductStatus.NO_STOCK), eq(pageable)
         );
 
     assertThat(productList).isNotNull();
@@ -607,13 +945,15 @@ class ProductServiceImplementTest {
 
     List<Product> mockProducts = List.of();
 
-    Page<Product> products = new PageImpl<>(mockProducts);
+    Page<ProductDto.Response> products = new PageImpl<>(
+        mockProducts.stream().map(ProductDto.Response::fromEntity).toList()
+    );
 
     given(memberService.getMemberByMemberId(eq("testUser")))
         .willReturn(member);
     given(
-        productRepository.findByMemberAndProductNameContainingAndStatus(
-            eq(member), eq("aaa"), eq(ProductStatus.NO_STOCK), eq(pageable)
+        productRepository.findResponses(
+            eq(member.getId()), eq("aaa"), eq(ProductStatus.NO_STOCK), eq(pageable)
         )
     ).willReturn(products);
 
@@ -628,8 +968,8 @@ class ProductServiceImplementTest {
     verify(memberService, times(1))
         .getMemberByMemberId(eq("testUser"));
     verify(productRepository, times(1))
-        .findByMemberAndProductNameContainingAndStatus(
-            eq(member), eq("aaa"), eq(ProductStatus.NO_STOCK), eq(pageable)
+        .findResponses(
+            eq(member.getId()), eq("aaa"), eq(ProductStatus.NO_STOCK), eq(pageable)
         );
 
     assertThat(productList).isNotNull();
@@ -682,14 +1022,20 @@ class ProductServiceImplementTest {
         .member(member)
         .build();
 
-    given(productRepository.findById(1L)).willReturn(Optional.ofNullable(product));
+    given(productDetailCache.get(eq(1L), any()))
+        .willAnswer(invocation ->
+            invocation.<Supplier<Optional<ProductDto.Response>>>getArgument(1).get());
+    given(productRepository.findResponseById(1L))
+        .willReturn(Optional.of(ProductDto.Response.fromEntity(product)));
 
     // when
     ProductDto.Response productDetails = productServiceImplement.getProductDetails(1L);
 
     // then
     verify(productRepository, times(1))
-        .findById(eq(1L));
+        .findResponseById(eq(1L));
+    verify(productRepository, times(0))
+        .findById(any());
 
     assertThat(productDetails.getProductName()).isEqualTo("testProductName");
     assertThat(productDetails.getDescription()).isEqualTo("testProductDescription");
@@ -699,11 +1045,35 @@ class ProductServiceImplementTest {
     assertThat(productDetails.getSeller()).isEqualTo(member.getMemberId());
   }
 
+  @Test
+  @DisplayName("상품 정보 조회 - 성공 (캐시 적중)")
+  void testGetProductDetails_Success_CacheHit() {
+    // given
+    ProductDto.Response cached = ProductDto.Response.builder()
+        .id(1L)
+        .productName("testProductName")
+        .seller("testUser")
+        .build();
+
+    given(productDetailCache.get(eq(1L), any())).willReturn(Optional.of(cached));
+
+    // when
+    ProductDto.Response productDetails = productServiceImplement.getProductDetails(1L);
+
+    // then
+    verify(productRepository, times(0)).findResponseById(any());
+
+    assertThat(productDetails.getProductName()).isEqualTo("testProductName");
+  }
+
   @Test
   @DisplayName("상품 정보 조회 - 실패")
   void testGetProductDetails_Fail() {
     // given
-    given(productRepository.findById(1L)).willReturn(Optional.empty());
+    given(productDetailCache.get(eq(1L), any()))
+        .willAnswer(invocation ->
+            invocation.<Supplier<Optional<ProductDto.Response>>>getArgument(1).get());
+    given(productRepository.findResponseById(1L)).willReturn(Optional.empty());
 
     // when
     ProductException productException = assertThrows(ProductException.class,
@@ -711,7 +1081,7 @@ class ProductServiceImplementTest {
 
     // then
     verify(productRepository, times(1))
-        .findById(eq(1L));
+        .findResponseById(eq(1L));
 
     assertThat(productException.getErrorCode()).isEqualTo(ResponseCode.PRODUCT_NOT_FOUND);
   }
@@ -839,6 +1209,128 @@ class ProductServiceImplementTest {
     assertThat(memberException.getErrorCode()).isEqualTo(ResponseCode.MEMBER_UNMATCHED);
   }
 
+  @Test
+  @DisplayName("상품 일괄 수정 - 성공 (재고에 따른 상태 재계산)")
+  void testUpdateProducts_Success() {
+    // given
+    Member member = Member.builder()
+        .memberId("testUser")
+        .role(Role.SELLER)
+        .loginType(LoginType.APP)
+        .build();
+    ReflectionTestUtils.setField(member, "id", 1L);
+
+    BulkUpdateProductDto.Request request = BulkUpdateProductDto.Request.builder()
+        .items(List.of(
+            BulkUpdateProductDto.Item.builder().productId(10L).stockQuantity(0).build(),
+            BulkUpdateProductDto.Item.builder()
+                .productId(11L).price(BigDecimal.valueOf(5000)).build(),
+            BulkUpdateProductDto.Item.builder()
+                .productId(12L).stockQuantity(7).status(ProductStatus.IN_STOCK).build()
+        ))
+        .build();
+
+    willDoNothing().given(authService)
+        .equalToMemberIdFromToken(eq("testUser"), eq("token"));
+    given(memberService.getMemberByMemberId(eq("testUser"))).willReturn(member);
+    given(productRepository.findStatesForUpdate(any())).willReturn(List.of(
+        new ProductStateDto(10L, 1L, 5, ProductStatus.IN_STOCK),
+        new ProductStateDto(11L, 1L, 3, ProductStatus.DISABLE),
+        new ProductStateDto(12L, 1L, 0, ProductStatus.NO_STOCK)
+    ));
+    given(productBulkRepository.updateAll(eq(1L), any())).willReturn(3);
+
+    ArgumentCaptor<List<BulkUpdateProductDto.Item>> captor = ArgumentCaptor.forClass(List.class);
+
+    // when
+    BulkUpdateProductDto.Response response =
+        productServiceImplement.updateProducts("testUser", "token", request);
+
+    // then
+    verify(productRepository, times(1)).findStatesForUpdate(any());
+    verify(productBulkRepository, times(1)).updateAll(eq(1L), captor.capture());
+    verify(eventPublisher, times(1)).publishEvent(any(ProductsChangedEvent.class));
+
+    List<BulkUpdateProductDto.Item> changes = captor.getValue();
+    assertThat(changes).extracting(BulkUpdateProductDto.Item::getStatus).containsExactly(
+        ProductStatus.NO_STOCK, ProductStatus.DISABLE, ProductStatus.IN_STOCK
+    );
+    assertThat(changes).extracting(BulkUpdateProductDto.Item::getStockQuantity)
+        .containsExactly(0, 3, 7);
+    assertThat(response.getUpdatedCount()).isEqualTo(3);
+  }
+
+  @Test
+  @DisplayName("상품 일괄 수정 - 실패 (다른 판매자의 상품 포함)")
+  void testUpdateProducts_Fail_NotOwner() {
+    // given
+    Member member = Member.builder()
+        .memberId("testUser")
+        .role(Role.SELLER)
+        .loginType(LoginType.APP)
+        .build();
+    ReflectionTestUtils.setField(member, "id", 1L);
+
+    BulkUpdateProductDto.Request request = BulkUpdateProductDto.Request.builder()
+        .items(List.of(
+            BulkUpdateProductDto.Item.builder().productId(10L).stockQuantity(1).build(),
+            BulkUpdateProductDto.Item.builder().productId(20L).stockQuantity(1).build()
+        ))
+        .build();
+
+    willDoNothing().given(authService)
+        .equalToMemberIdFromToken(eq("testUser"), eq("token"));
+    given(memberService.getMemberByMemberId(eq("testUser"))).willReturn(member);
+    given(productRepository.findStatesForUpdate(any())).willReturn(List.of(
+        new ProductStateDto(10L, 1L, 5, ProductStatus.IN_STOCK),
+        new ProductStateDto(20L, 2L, 5, ProductStatus.IN_STOCK)
+    ));
+
+    // when
+    MemberException memberException = assertThrows(MemberException.class,
+        () -> productServiceImplement.updateProducts("testUser", "token", request));
+
+    // then
+    verify(productBulkRepository, times(0)).updateAll(any(), any());
+
+    assertThat(memberException.getErrorCode()).isEqualTo(ResponseCode.MEMBER_UNMATCHED);
+  }
+
+  @Test
+  @DisplayName("상품 일괄 수정 - 실패 (존재하지 않는 상품 포함)")
+  void testUpdateProducts_Fail_ProductNotFound() {
+    // given
+    Member member = Member.builder()
+        .memberId("testUser")
+        .role(Role.SELLER)
+        .loginType(LoginType.APP)
+        .build();
+    ReflectionTestUtils.setField(member, "id", 1L);
+
+    BulkUpdateProductDto.Request request = BulkUpdateProductDto.Request.builder()
+        .items(List.of(
+            BulkUpdateProductDto.Item.builder().productId(10L).stockQuantity(1).build(),
+            BulkUpdateProductDto.Item.builder().productId(99L).stockQuantity(1).build()
+        ))
+        .build();
+
+    willDoNothing().given(authService)
+        .equalToMemberIdFromToken(eq("testUser"), eq("token"));
+    given(memberService.getMemberByMemberId(eq("testUser"))).willReturn(member);
+    given(productRepository.findStatesForUpdate(any())).willReturn(List.of(
+        new ProductStateDto(10L, 1L, 5, ProductStatus.IN_STOCK)
+    ));
+
+    // when
+    ProductException productException = assertThrows(ProductException.class,
+        () -> productServiceImplement.updateProducts("testUser", "token", request));
+
+    // then
+    verify(productBulkRepository, times(0)).updateAll(any(), any());
+
+    assertThat(productException.getErrorCode()).isEqualTo(ResponseCode.PRODUCT_NOT_FOUND);
+  }
+
   @Test
   @DisplayName("상품 정보 삭제 - 성공")
   void testDeleteProduct_Success() {
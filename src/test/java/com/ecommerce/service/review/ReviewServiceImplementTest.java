@@ -10,6 +10,7 @@ import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import com.ecommerce.dto.CursorPageDto;
 import com.ecommerce.dto.ResponseDto;
 import com.ecommerce.dto.review.ReviewDto;
 import com.ecommerce.dto.review.ReviewDto.Response;
@@ -29,7 +30,9 @@ import com.ecommerce.type.ProductStatus;
 import com.ecommerce.type.ResponseCode;
 import com.ecommerce.type.Role;
 import com.ecommerce.type.SortType;
+import com.ecommerce.utils.KeysetCursor;
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
@@ -39,12 +42,14 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
+import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
 class ReviewServiceImplementTest {
@@ -63,6 +68,9 @@ class ReviewServiceImplementTest {
   @Mock
   private ProductService productService;
 
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
   @InjectMocks
   private ReviewServiceImplement reviewServiceImplement;
 
@@ -863,6 +871,59 @@ class ReviewServiceImplementTest {
     assertThat(reviewsByProduct.getSize()).isEqualTo(0);
   }
 
+  @Test
+  @DisplayName("특정 상품에 대한 리뷰 목록 커서 조회 - 성공 (다음 페이지 존재)")
+  void testGetReviewsByProductAndCursor_Success_HasNext() {
+    // given
+    Member member = Member.builder()
+        .memberId("testUser")
+        .memberName("test")
+        .email("test@email.com")
+        .password("encodedPassword")
+        .role(Role.CUSTOMER)
+        .loginType(LoginType.APP)
+        .build();
+
+    Product product = Product.builder()
+        .productName("testProductName")
+        .status(ProductStatus.IN_STOCK)
+        .rating(BigDecimal.ZERO)
+        .member(member)
+        .build();
+    ReflectionTestUtils.setField(product, "id", 1L);
+
+    List<Review> mockReviews = new ArrayList<>();
+    for (long id = 4; id >= 1; id--) {
+      Review review = Review.builder()
+          .member(member)
+          .product(product)
+          .content("testReviewContent" + id)
+          .rating(BigDecimal.valueOf(4))
+          .build();
+      ReflectionTestUtils.setField(review, "id", id);
+      mockReviews.add(review);
+    }
+
+    given(productService.getProductById(eq(1L)))
+        .willReturn(product);
+    given(reviewRepository.findByProductIdAndCursor(
+        eq(1L), eq(SortType.HIGH_RATING), eq(null), eq(TEST_REVIEW_PAGE_SIZE + 1)
+    )).willReturn(mockReviews);
+
+    // when
+    CursorPageDto<Response> reviewsByProduct = reviewServiceImplement
+        .getReviewsByProductAndCursor(1L, null, SortType.HIGH_RATING);
+
+    // then
+    assertThat(reviewsByProduct.getContent().size()).isEqualTo(TEST_REVIEW_PAGE_SIZE);
+    assertThat(reviewsByProduct.isHasNext()).isTrue();
+
+    KeysetCursor nextCursor =
+        KeysetCursor.decode(reviewsByProduct.getNextCursor(), SortType.HIGH_RATING);
+    assertThat(nextCursor.getId()).isEqualTo(2L);
+    assertThat(nextCursor.getDecimalValue()).isEqualByComparingTo(BigDecimal.valueOf(4));
+  }
+
   @Test
   @DisplayName("특정 회원이 작성한 리뷰 목록 조회 - 성공")
   void testGetReviewsByMember_Success() {
@@ -0,0 +1,165 @@
+package com.ecommerce.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ecommerce.type.ProductStatus;
+import com.ecommerce.utils.BitmapFilterIndex.Condition;
+import com.ecommerce.utils.BitmapFilterIndex.Facets;
+import java.math.BigDecimal;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BitmapFilterIndexTest {
+
+  // 가격대 0 = [0, 10000), 1 = [10000, 50000), 2 = [50000, ∞)
+  private static final BigDecimal[] PRICE_BOUNDARIES = {
+      BigDecimal.valueOf(10000), BigDecimal.valueOf(50000)
+  };
+
+  private BitmapFilterIndex bitmapFilterIndex;
+
+  @BeforeEach
+  void setUp() {
+    bitmapFilterIndex = new BitmapFilterIndex(PRICE_BOUNDARIES);
+
+    put(1L, ProductStatus.IN_STOCK, "seller1", 5000, "4.5");
+    put(2L, ProductStatus.IN_STOCK, "seller1", 20000, "3.0");
+    put(3L, ProductStatus.NO_STOCK, "seller2", 20000, "4.0");
+    put(4L, ProductStatus.DISABLE, "seller2", 70000, "1.0");
+    put(5L, ProductStatus.IN_STOCK, "seller3", 70000, "5.0");
+  }
+
+  @Test
+  @DisplayName("필터링 - 조건 안에서는 합집합, 조건 사이에는 교집합")
+  void testFilter_OrWithinAndAcrossConditions() {
+    // given
+    Condition condition = new Condition(
+        List.of(ProductStatus.IN_STOCK, ProductStatus.NO_STOCK), null, List.of(1, 2), null
+    );
+
+    // when
+    int[] productIds = bitmapFilterIndex.filter(condition).toArray();
+
+    // then
+    assertThat(productIds).containsExactly(2, 3, 5);
+  }
+
+  @Test
+  @DisplayName("필터링 - 조건이 없으면 전체, NONE 상태는 조건 없음")
+  void testFilter_NoCondition() {
+    // given
+    Condition condition = new Condition(List.of(ProductStatus.NONE), null, null, List.of());
+
+    // when
+    int[] productIds = bitmapFilterIndex.filter(condition).toArray();
+
+    // then
+    assertThat(productIds).containsExactly(1, 2, 3, 4, 5);
+  }
+
+  @Test
+  @DisplayName("필터링 - 선택한 구간이 모두 범위를 벗어나면 결과 없음")
+  void testFilter_OutOfRangeBands() {
+    // given
+    Condition priceCondition = new Condition(null, null, List.of(3, -1), null);
+    Condition ratingCondition = new Condition(null, null, null, List.of(5));
+    Condition partialCondition = new Condition(null, null, List.of(0, 9), null);
+
+    // when
+    int[] price = bitmapFilterIndex.filter(priceCondition).toArray();
+    int[] rating = bitmapFilterIndex.filter(ratingCondition).toArray();
+    int[] partial = bitmapFilterIndex.filter(partialCondition).toArray();
+
+    // then
+    assertThat(price).isEmpty();
+    assertThat(rating).isEmpty();
+    assertThat(partial).containsExactly(1);
+  }
+
+  @Test
+  @DisplayName("필터링 - 없는 판매자는 결과 없음")
+  void testFilter_UnknownSeller() {
+    // given
+    Condition condition = new Condition(null, "unknown", null, null);
+
+    // when
+    int[] productIds = bitmapFilterIndex.filter(condition).toArray();
+
+    // then
+    assertThat(productIds).isEmpty();
+  }
+
+  @Test
+  @DisplayName("facet 개수 - 각 항목은 자기 조건을 제외한 나머지 조건 기준")
+  void testFacets_ExcludeOwnCondition() {
+    // given
+    Condition condition = new Condition(
+        List.of(ProductStatus.IN_STOCK), null, List.of(1), null
+    );
+
+    // when
+    Facets facets = bitmapFilterIndex.facets(condition);
+
+    // then
+    // 상태 개수는 가격대 1 (2, 3) 기준
+    assertThat(facets.getStatuses().get(ProductStatus.IN_STOCK)).isEqualTo(1L);
+    assertThat(facets.getStatuses().get(ProductStatus.NO_STOCK)).isEqualTo(1L);
+    assertThat(facets.getStatuses().get(ProductStatus.DISABLE)).isEqualTo(0L);
+    assertThat(facets.getStatuses()).doesNotContainKey(ProductStatus.NONE);
+
+    // 가격대 개수는 IN_STOCK (1, 2, 5) 기준
+    assertThat(facets.getPriceBands()).containsExactly(1L, 1L, 1L);
+
+    // 평점대 개수는 IN_STOCK + 가격대 1 (2) 기준
+    assertThat(facets.getRatingBands()).containsExactly(0L, 0L, 0L, 1L, 0L);
+  }
+
+  @Test
+  @DisplayName("상품 추가 - 같은 id 는 기존 버킷에서 빠지고 새 버킷으로 이동")
+  void testPut_Rebucket() {
+    // given
+    put(1L, ProductStatus.NO_STOCK, "seller2", 60000, "2.0");
+
+    // when
+    int[] inStock = bitmapFilterIndex.filter(
+        new Condition(List.of(ProductStatus.IN_STOCK), null, null, null)).toArray();
+    int[] seller1 = bitmapFilterIndex.filter(new Condition(null, "seller1", null, null)).toArray();
+    int[] priceBand2 = bitmapFilterIndex.filter(
+        new Condition(null, null, List.of(2), null)).toArray();
+    int[] ratingBand4 = bitmapFilterIndex.filter(
+        new Condition(null, null, null, List.of(4))).toArray();
+
+    // then
+    assertThat(bitmapFilterIndex.size()).isEqualTo(5);
+    assertThat(inStock).containsExactly(2, 5);
+    assertThat(seller1).containsExactly(2);
+    assertThat(priceBand2).containsExactly(1, 4, 5);
+    assertThat(ratingBand4).containsExactly(3, 5);
+  }
+
+  @Test
+  @DisplayName("상품 삭제 - 판매자의 마지막 상품이 삭제되면 판매자 조건은 결과 없음")
+  void testRemove_LastProductOfSeller() {
+    // given
+    bitmapFilterIndex.remove(5L);
+
+    // when
+    int[] seller3 = bitmapFilterIndex.filter(new Condition(null, "seller3", null, null)).toArray();
+    int[] all = bitmapFilterIndex.filter(new Condition(null, null, null, null)).toArray();
+
+    // then
+    assertThat(seller3).isEmpty();
+    assertThat(all).containsExactly(1, 2, 3, 4);
+    assertThat(bitmapFilterIndex.facets(new Condition(null, null, null, null))
+        .getRatingBands()).containsExactly(0L, 1L, 0L, 1L, 2L);
+  }
+
+  private void put(long productId, ProductStatus status, String seller, long price,
+      String rating) {
+    bitmapFilterIndex.put(productId, status, seller, BigDecimal.valueOf(price),
+        new BigDecimal(rating));
+  }
+
+}
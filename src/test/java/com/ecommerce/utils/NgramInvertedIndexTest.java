@@ -0,0 +1,139 @@
+package com.ecommerce.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class NgramInvertedIndexTest {
+
+  private NgramInvertedIndex ngramInvertedIndex;
+
+  @BeforeEach
+  void setUp() {
+    ngramInvertedIndex = new NgramInvertedIndex();
+  }
+
+  @Test
+  @DisplayName("검색 - 띄어쓰기 없는 한글 이름의 부분 일치")
+  void testSearch_KoreanWithoutSpaces() {
+    // given
+    ngramInvertedIndex.put(1L, "무선블루투스이어폰", "생활방수 지원");
+    ngramInvertedIndex.put(2L, "유선이어폰", "3.5mm 단자");
+    ngramInvertedIndex.put(3L, "블루투스스피커", "휴대용");
+
+    // when
+    Map<Long, Double> earphones = ngramInvertedIndex.search("이어폰");
+    Map<Long, Double> bluetooth = ngramInvertedIndex.search("블루투스");
+    Map<Long, Double> single = ngramInvertedIndex.search("폰");
+
+    // then
+    assertThat(earphones).containsOnlyKeys(1L, 2L);
+    assertThat(bluetooth).containsOnlyKeys(1L, 3L);
+    assertThat(single).containsOnlyKeys(1L, 2L);
+  }
+
+  @Test
+  @DisplayName("검색 - 여러 단어는 모든 단어를 이름 또는 설명에 포함하는 문서만 조회")
+  void testSearch_AllWords() {
+    // given
+    ngramInvertedIndex.put(1L, "무선 이어폰", "블루투스 5.3 지원");
+    ngramInvertedIndex.put(2L, "무선 마우스", "블루투스 지원");
+    ngramInvertedIndex.put(3L, "유선 이어폰", "단자 연결");
+
+    // when
+    Map<Long, Double> scores = ngramInvertedIndex.search("이어폰 블루투스");
+
+    // then
+    assertThat(scores).containsOnlyKeys(1L);
+  }
+
+  @Test
+  @DisplayName("검색 - n-gram 이 모두 있어도 순서가 다르면 제외")
+  void testSearch_OutOfOrderNgrams() {
+    // given
+    // "가나" 와 "나다" 2-gram 을 모두 포함하지만 "가나다" 는 포함하지 않음
+    ngramInvertedIndex.put(1L, "나다가나", "");
+    ngramInvertedIndex.put(2L, "가나다라", "");
+
+    // when
+    Map<Long, Double> scores = ngramInvertedIndex.search("가나다");
+
+    // then
+    assertThat(scores).containsOnlyKeys(2L);
+  }
+
+  @Test
+  @DisplayName("검색 - 대소문자, 전각 문자는 정규화 후 비교")
+  void testSearch_Normalize() {
+    // given
+    ngramInvertedIndex.put(1L, "ＡＢＣ Keyboard", "");
+
+    // when
+    Map<Long, Double> scores = ngramInvertedIndex.search("abc KEYBOARD");
+
+    // then
+    assertThat(scores).containsOnlyKeys(1L);
+  }
+
+  @Test
+  @DisplayName("문서 추가 - 같은 id 는 이전 내용의 posting 을 지우고 교체")
+  void testPut_Replace() {
+    // given
+    ngramInvertedIndex.put(1L, "사과", "빨간 과일");
+
+    // when
+    ngramInvertedIndex.put(1L, "바나나", "노란 과일");
+
+    // then
+    assertThat(ngramInvertedIndex.size()).isEqualTo(1);
+    assertThat(ngramInvertedIndex.search("사과")).isEmpty();
+    assertThat(ngramInvertedIndex.search("빨간")).isEmpty();
+    assertThat(ngramInvertedIndex.search("바나나")).containsOnlyKeys(1L);
+  }
+
+  @Test
+  @DisplayName("문서 삭제 - 다른 문서가 없는 gram 은 색인에서 제거")
+  void testRemove_CleanPostings() {
+    // given
+    ngramInvertedIndex.put(1L, "사과", "");
+    ngramInvertedIndex.put(2L, "사슴", "");
+    int termCount = ngramInvertedIndex.termCount();
+
+    // when
+    ngramInvertedIndex.remove(1L);
+    ngramInvertedIndex.remove(3L);
+
+    // then
+    // "과", "사과" 는 제거되고 "사" 는 2 번 문서에 남음
+    assertThat(ngramInvertedIndex.termCount()).isEqualTo(termCount - 2);
+    assertThat(ngramInvertedIndex.size()).isEqualTo(1);
+    assertThat(ngramInvertedIndex.search("사과")).isEmpty();
+    assertThat(ngramInvertedIndex.search("사")).containsOnlyKeys(2L);
+
+    ngramInvertedIndex.remove(2L);
+    assertThat(ngramInvertedIndex.termCount()).isZero();
+  }
+
+  @Test
+  @DisplayName("점수 - 이름 일치가 설명 일치보다 높고, 검색어 전체가 이름에 있으면 가산")
+  void testSearch_Ranking() {
+    // given
+    ngramInvertedIndex.put(1L, "가죽 지갑", "소가죽");
+    ngramInvertedIndex.put(2L, "카드 케이스", "가죽 지갑 겸용");
+    ngramInvertedIndex.put(3L, "지갑 가죽", "");
+
+    // when
+    Map<Long, Double> scores = ngramInvertedIndex.search("가죽 지갑");
+
+    // then
+    assertThat(scores).containsOnlyKeys(1L, 2L, 3L);
+    // 이름 가중치
+    assertThat(scores.get(3L)).isGreaterThan(scores.get(2L));
+    // 이름에 "가죽 지갑" 이 그대로 있는 1 번만 가산
+    assertThat(scores.get(1L)).isGreaterThan(scores.get(3L) * 1.5);
+  }
+
+}
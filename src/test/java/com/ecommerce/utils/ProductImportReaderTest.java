@@ -0,0 +1,89 @@
+package com.ecommerce.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ecommerce.type.ProductStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ProductImportReaderTest {
+
+  private static final String HEADER = "productName,description,stockQuantity,price,status\n";
+
+  private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+  @Test
+  @DisplayName("CSV 읽기 - 따옴표 안의 쉼표, \"\" 이스케이프, 줄바꿈(빈 줄 포함)을 한 값으로 읽음")
+  void testNext_Csv_QuotedMultiLine() throws IOException {
+    // given
+    String body = HEADER
+        + "키보드,\"설명, \"\"특가\"\"\",3,10000,IN_STOCK\n"
+        + "마우스,\"첫 줄\n\n셋째 줄\",5,5000,NO_STOCK\n"
+        + "모니터,설명,1,300000,\n";
+
+    // when
+    List<ProductImportReader.Row> rows = readAll(body);
+
+    // then
+    assertThat(rows).extracting(ProductImportReader.Row::getError).containsOnlyNulls();
+    assertThat(rows).extracting(row -> row.getRequest().getDescription())
+        .containsExactly("설명, \"특가\"", "첫 줄\n\n셋째 줄", "설명");
+    assertThat(rows.get(1).getRequest().getStatus()).isEqualTo(ProductStatus.NO_STOCK);
+    assertThat(rows.get(1).getRequest().getPrice()).isEqualByComparingTo(BigDecimal.valueOf(5000));
+  }
+
+  @Test
+  @DisplayName("CSV 읽기 - 행 번호는 레코드가 시작된 줄 (여러 줄 레코드 다음 행도 실제 줄 번호)")
+  void testNext_Csv_LineNumber() throws IOException {
+    // given
+    String body = HEADER
+        + "마우스,\"첫 줄\n둘째 줄\",5,5000,IN_STOCK\n"
+        + "\n"
+        + "모니터,설명,abc,300000,IN_STOCK\n";
+
+    // when
+    List<ProductImportReader.Row> rows = readAll(body);
+
+    // then
+    assertThat(rows).extracting(ProductImportReader.Row::getLine).containsExactly(2L, 5L);
+    assertThat(rows.get(0).getError()).isNull();
+    assertThat(rows.get(1).getError()).isEqualTo("숫자 또는 상품 상태 값이 올바르지 않습니다.");
+  }
+
+  @Test
+  @DisplayName("CSV 읽기 - 본문 끝까지 따옴표가 닫히지 않으면 시작 줄 번호로 오류")
+  void testNext_Csv_UnclosedQuote() throws IOException {
+    // given
+    String body = HEADER
+        + "키보드,설명,3,10000,IN_STOCK\n"
+        + "마우스,\"닫히지 않은 설명\n5,5000,IN_STOCK\n";
+
+    // when
+    List<ProductImportReader.Row> rows = readAll(body);
+
+    // then
+    assertThat(rows).hasSize(2);
+    assertThat(rows.get(0).getError()).isNull();
+    assertThat(rows.get(1).getLine()).isEqualTo(3L);
+    assertThat(rows.get(1).getError()).isEqualTo("CSV 형식이 올바르지 않습니다. (닫히지 않은 따옴표)");
+  }
+
+  private List<ProductImportReader.Row> readAll(String body) throws IOException {
+    List<ProductImportReader.Row> rows = new ArrayList<>();
+    try (ProductImportReader reader = ProductImportReader.of(
+        ProductImportReader.CSV, new StringReader(body), objectMapper)) {
+      ProductImportReader.Row row;
+      while ((row = reader.next()) != null) {
+        rows.add(row);
+      }
+    }
+    return rows;
+  }
+
+}
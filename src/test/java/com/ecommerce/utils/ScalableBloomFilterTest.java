@@ -0,0 +1,100 @@
+package com.ecommerce.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ScalableBloomFilterTest {
+
+  private static final double FALSE_POSITIVE_RATE = 0.01;
+
+  private static final int PROBES = 100_000;
+
+  @Test
+  @DisplayName("조회 - 추가한 값은 모두 존재 가능으로 판단 (false negative 없음)")
+  void testMightContain_NoFalseNegative() {
+    // given
+    ScalableBloomFilter filter = new ScalableBloomFilter(1000, FALSE_POSITIVE_RATE);
+
+    // when
+    for (int i = 0; i < 20_000; i++) {
+      filter.put("member" + i);
+    }
+
+    // then
+    for (int i = 0; i < 20_000; i++) {
+      assertThat(filter.mightContain("member" + i)).isTrue();
+    }
+  }
+
+  @Test
+  @DisplayName("오탐률 - 설계 용량까지 추가했을 때 설정값 이하")
+  void testFalsePositiveRate_AtCapacity() {
+    // given
+    ScalableBloomFilter filter = new ScalableBloomFilter(10_000, FALSE_POSITIVE_RATE);
+    for (int i = 0; i < 10_000; i++) {
+      filter.put("member" + i);
+    }
+
+    // when
+    double measured = measureFalsePositiveRate(filter);
+
+    // then
+    // 첫 필터는 설정값의 절반으로 설계되므로 여유를 두어도 설정값을 넘지 않음
+    assertThat(measured).isLessThan(FALSE_POSITIVE_RATE);
+    assertThat(filter.expectedFalsePositiveRate()).isLessThan(FALSE_POSITIVE_RATE);
+    assertThat(Math.abs(measured - filter.expectedFalsePositiveRate())).isLessThan(0.003);
+  }
+
+  @Test
+  @DisplayName("확장 - 설계 용량을 넘으면 필터를 추가하고 전체 오탐률을 설정값 근처로 유지")
+  void testPut_Grow() {
+    // given
+    ScalableBloomFilter filter = new ScalableBloomFilter(100, FALSE_POSITIVE_RATE);
+    for (int i = 0; i < 100; i++) {
+      filter.put("member" + i);
+    }
+    long memoryAtCapacity = filter.memoryBytes();
+
+    // when
+    filter.put("member100");
+    long memoryAfterGrowth = filter.memoryBytes();
+    for (int i = 101; i < 10_000; i++) {
+      filter.put("member" + i);
+    }
+
+    // then
+    // 두 번째 필터는 용량 2 배, 오탐률 1/2 이므로 첫 필터보다 큼
+    assertThat(memoryAfterGrowth).isGreaterThan(memoryAtCapacity * 2);
+    assertThat(filter.memoryBytes()).isGreaterThan(memoryAfterGrowth);
+    // 이미 존재 가능으로 판단된 값(오탐)은 추가하지 않으므로 개수는 약간 적을 수 있음
+    assertThat(filter.count()).isBetween(9_900L, 10_000L);
+    assertThat(measureFalsePositiveRate(filter)).isLessThan(FALSE_POSITIVE_RATE * 1.5);
+  }
+
+  @Test
+  @DisplayName("추가 - 같은 값을 다시 추가해도 개수는 늘지 않음")
+  void testPut_Duplicate() {
+    // given
+    ScalableBloomFilter filter = new ScalableBloomFilter(100, FALSE_POSITIVE_RATE);
+
+    // when
+    filter.put("testUser");
+    filter.put("testUser");
+
+    // then
+    assertThat(filter.count()).isEqualTo(1L);
+  }
+
+  private static double measureFalsePositiveRate(ScalableBloomFilter filter) {
+    int falsePositives = 0;
+    for (int i = 0; i < PROBES; i++) {
+      if (filter.mightContain("absent" + i)) {
+        falsePositives++;
+      }
+    }
+    return (double) falsePositives / PROBES;
+  }
+
+}